@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.benchmarks.springframework.data.rx;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.springframework.data.core.Neo4jClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the overhead the {@link Neo4jClient} adds to each query, without any network involved: The driver, its
+ * sessions and results are stubbed and always return the same instances. Run with the GC profiler (which is the default
+ * when started through {@link #main(String...)}) and compare {@code gc.alloc.rate.norm}, the number of bytes allocated
+ * per query, between versions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClientBenchmarks {
+
+	private Neo4jClient neo4jClient;
+
+	@Setup
+	public void setup() {
+
+		ClassLoader classLoader = this.getClass().getClassLoader();
+		Result result = (Result) Proxy.newProxyInstance(classLoader, new Class<?>[] { Result.class },
+			(proxy, method, args) -> null);
+		Session session = (Session) Proxy.newProxyInstance(classLoader, new Class<?>[] { Session.class },
+			(proxy, method, args) -> "run".equals(method.getName()) ? result : null);
+		Driver driver = (Driver) Proxy.newProxyInstance(classLoader, new Class<?>[] { Driver.class },
+			(proxy, method, args) -> "session".equals(method.getName()) ? session : null);
+
+		this.neo4jClient = Neo4jClient.create(driver);
+	}
+
+	@Benchmark
+	public ResultSummary queryWithoutParameters() {
+		return this.neo4jClient.query("MATCH (m:Movie) RETURN m").run();
+	}
+
+	@Benchmark
+	public ResultSummary queryWithParameters() {
+		return this.neo4jClient.query("MATCH (m:Movie {title: $title}) RETURN m")
+			.bind("The Matrix").to("title")
+			.run();
+	}
+
+	public static void main(String... args) throws RunnerException, CommandLineOptionException {
+
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLineOptions)
+			.include(ClientBenchmarks.class.getSimpleName())
+			.addProfiler(GCProfiler.class);
+
+		new Runner(builder.build()).run();
+	}
+}
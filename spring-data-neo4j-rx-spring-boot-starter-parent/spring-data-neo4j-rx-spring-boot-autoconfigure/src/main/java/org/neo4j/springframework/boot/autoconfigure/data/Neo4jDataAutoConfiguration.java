@@ -24,6 +24,7 @@ import org.neo4j.driver.Driver;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.schema.Node;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -37,7 +38,8 @@ import org.springframework.context.annotation.Import;
 
 /**
  * Automatic configuration of base infrastructure that imports configuration for both imperative and reactive Neo4j
- * repositories. Depends on the configured Neo4j driver.
+ * repositories. Depends on the configured Neo4j driver. Clients, templates and repositories are instrumented when a
+ * Micrometer registry is available, query statistics are collected on demand.
  *
  * @author Michael J. Simons
  * @since 1.0
@@ -46,7 +48,10 @@ import org.springframework.context.annotation.Import;
 @ConditionalOnBean(Driver.class)
 @EnableConfigurationProperties(Neo4jDataProperties.class)
 @AutoConfigureBefore(TransactionAutoConfiguration.class)
-@Import({ Neo4jImperativeDataConfiguration.class, Neo4jReactiveDataConfiguration.class })
+@AutoConfigureAfter(name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@Import({ Neo4jMetricsConfiguration.class, Neo4jQueryStatisticsConfiguration.class, Neo4jPlanSamplingConfiguration.class,
+	Neo4jIndexConfiguration.class, Neo4jWarmUpConfiguration.class, Neo4jImperativeDataConfiguration.class,
+	Neo4jReactiveDataConfiguration.class })
 public final class Neo4jDataAutoConfiguration {
 
 	@Bean
@@ -19,6 +19,10 @@
 package org.neo4j.springframework.boot.autoconfigure.data;
 
 import org.neo4j.springframework.data.core.DatabaseSelectionProvider;
+import org.neo4j.springframework.data.core.QueryWarmUp;
+import org.neo4j.springframework.data.core.index.IndexManager;
+import org.neo4j.springframework.data.core.metrics.QueryPlanSampler;
+import org.neo4j.springframework.data.core.metrics.QueryStatisticsRegistry;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -41,6 +45,14 @@ public class Neo4jDataProperties {
 	 */
 	private String database;
 
+	private final QueryStatistics queryStatistics = new QueryStatistics();
+
+	private final PlanSampling planSampling = new PlanSampling();
+
+	private final Indexes indexes = new Indexes();
+
+	private final WarmUp warmUp = new WarmUp();
+
 	public String getDatabase() {
 		return database;
 	}
@@ -48,4 +60,216 @@ public class Neo4jDataProperties {
 	public void setDatabase(String database) {
 		this.database = database;
 	}
+
+	public QueryStatistics getQueryStatistics() {
+		return queryStatistics;
+	}
+
+	public PlanSampling getPlanSampling() {
+		return planSampling;
+	}
+
+	public Indexes getIndexes() {
+		return indexes;
+	}
+
+	public WarmUp getWarmUp() {
+		return warmUp;
+	}
+
+	/**
+	 * Configuration of the in-process query statistics.
+	 */
+	public static class QueryStatistics {
+
+		/**
+		 * Flag, whether statistics of all executed queries should be collected and exposed via the
+		 * {@literal neo4jqueries} actuator endpoint.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * The maximum number of distinct queries to keep. Least recently executed queries are evicted first.
+		 */
+		private int maxEntries = QueryStatisticsRegistry.DEFAULT_MAX_ENTRIES;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxEntries() {
+			return maxEntries;
+		}
+
+		public void setMaxEntries(int maxEntries) {
+			this.maxEntries = maxEntries;
+		}
+	}
+
+	/**
+	 * Configuration of the sampling of query plans.
+	 */
+	public static class PlanSampling {
+
+		/**
+		 * Flag, whether a fraction of the queries executed through the templates and repositories should be profiled.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * The fraction of executions to profile, between 0.0 and 1.0.
+		 */
+		private double rate = 0.01;
+
+		/**
+		 * The number of plans to keep per repository method or statement.
+		 */
+		private int historySize = QueryPlanSampler.DEFAULT_HISTORY_SIZE;
+
+		/**
+		 * The factor by which the database hits per row must grow between two samples to be logged as regression.
+		 */
+		private double regressionFactor = QueryPlanSampler.DEFAULT_REGRESSION_FACTOR;
+
+		/**
+		 * The maximum number of repository methods or statements to keep plans for. Plans of the least recently sampled
+		 * ones are evicted first.
+		 */
+		private int maxOrigins = QueryPlanSampler.DEFAULT_MAX_ORIGINS;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public double getRate() {
+			return rate;
+		}
+
+		public void setRate(double rate) {
+			this.rate = rate;
+		}
+
+		public int getHistorySize() {
+			return historySize;
+		}
+
+		public void setHistorySize(int historySize) {
+			this.historySize = historySize;
+		}
+
+		public double getRegressionFactor() {
+			return regressionFactor;
+		}
+
+		public void setRegressionFactor(double regressionFactor) {
+			this.regressionFactor = regressionFactor;
+		}
+
+		public int getMaxOrigins() {
+			return maxOrigins;
+		}
+
+		public void setMaxOrigins(int maxOrigins) {
+			this.maxOrigins = maxOrigins;
+		}
+	}
+
+	/**
+	 * Configuration of the indexes and constraints required by the mapped entities.
+	 */
+	public static class Indexes {
+
+		/**
+		 * Whether to validate or create the indexes and uniqueness constraints required by the mapped entities at
+		 * startup.
+		 */
+		private IndexManager.Mode mode = IndexManager.Mode.NONE;
+
+		private final Advisor advisor = new Advisor();
+
+		public IndexManager.Mode getMode() {
+			return mode;
+		}
+
+		public void setMode(IndexManager.Mode mode) {
+			this.mode = mode;
+		}
+
+		public Advisor getAdvisor() {
+			return advisor;
+		}
+
+		/**
+		 * Configuration of the index advisor.
+		 */
+		public static class Advisor {
+
+			/**
+			 * Flag, whether derived finder methods should be checked against the existing indexes at startup.
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * Flag, whether the queries of derived finder methods should be explained by the server.
+			 */
+			private boolean explain = false;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public boolean isExplain() {
+				return explain;
+			}
+
+			public void setExplain(boolean explain) {
+				this.explain = explain;
+			}
+		}
+	}
+
+	/**
+	 * Configuration of the warm-up of repository queries.
+	 */
+	public static class WarmUp {
+
+		/**
+		 * Flag, whether all repository statements should be explained after the application context has been
+		 * refreshed, so that their plans are cached by the server.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * The maximum number of statements explained at the same time.
+		 */
+		private int concurrency = QueryWarmUp.DEFAULT_CONCURRENCY;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getConcurrency() {
+			return concurrency;
+		}
+
+		public void setConcurrency(int concurrency) {
+			this.concurrency = concurrency;
+		}
+	}
 }
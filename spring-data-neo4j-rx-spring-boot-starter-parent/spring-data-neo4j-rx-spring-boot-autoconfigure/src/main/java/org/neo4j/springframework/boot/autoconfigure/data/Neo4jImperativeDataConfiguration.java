@@ -23,11 +23,18 @@ import static org.springframework.boot.autoconfigure.data.RepositoryType.*;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.springframework.boot.autoconfigure.Neo4jDriverAutoConfiguration;
 import org.neo4j.springframework.data.config.Neo4jDefaultCallbacksRegistrar;
+import org.neo4j.springframework.data.core.AsyncNeo4jClient;
+import org.neo4j.springframework.data.core.AsyncNeo4jOperations;
+import org.neo4j.springframework.data.core.AsyncNeo4jTemplate;
 import org.neo4j.springframework.data.core.Neo4jClient;
 import org.neo4j.springframework.data.core.DatabaseSelectionProvider;
+import org.neo4j.springframework.data.core.Neo4jLazyLoadingQueryRunner;
 import org.neo4j.springframework.data.core.Neo4jOperations;
 import org.neo4j.springframework.data.core.Neo4jTemplate;
+import org.neo4j.springframework.data.core.QueryExecutionListener;
+import org.neo4j.springframework.data.core.mapping.LazyLoadingQueryRunner;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
 import org.neo4j.springframework.data.core.transaction.Neo4jTransactionManager;
 import org.neo4j.springframework.data.repository.config.Neo4jRepositoryConfigurationExtension;
 import org.springframework.beans.factory.ObjectProvider;
@@ -77,8 +84,12 @@ class Neo4jImperativeDataConfiguration {
 
 	@Bean(Neo4jRepositoryConfigurationExtension.DEFAULT_NEO4J_CLIENT_BEAN_NAME)
 	@ConditionalOnMissingBean
-	public Neo4jClient neo4jClient(Driver driver) {
-		return Neo4jClient.create(driver);
+	public Neo4jClient neo4jClient(Driver driver, ObjectProvider<Neo4jMetrics> metrics,
+		ObjectProvider<QueryExecutionListener> queryExecutionListeners) {
+
+		Neo4jClient.Builder builder = Neo4jClient.with(driver).withMetrics(metrics.getIfUnique(() -> Neo4jMetrics.NOOP));
+		queryExecutionListeners.orderedStream().forEach(builder::withQueryExecutionListener);
+		return builder.build();
 	}
 
 	@Bean(Neo4jRepositoryConfigurationExtension.DEFAULT_NEO4J_TEMPLATE_BEAN_NAME)
@@ -90,6 +101,35 @@ class Neo4jImperativeDataConfiguration {
 			databaseNameProvider);
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	public LazyLoadingQueryRunner neo4jLazyLoadingQueryRunner(Neo4jClient neo4jClient,
+		Neo4jMappingContext neo4jMappingContext, DatabaseSelectionProvider databaseNameProvider) {
+
+		LazyLoadingQueryRunner lazyLoadingQueryRunner = new Neo4jLazyLoadingQueryRunner(neo4jClient, databaseNameProvider);
+		neo4jMappingContext.setLazyLoadingQueryRunner(lazyLoadingQueryRunner);
+		return lazyLoadingQueryRunner;
+	}
+
+	@Bean("asyncNeo4jClient")
+	@ConditionalOnMissingBean
+	public AsyncNeo4jClient asyncNeo4jClient(Driver driver, ObjectProvider<Neo4jMetrics> metrics,
+		ObjectProvider<QueryExecutionListener> queryExecutionListeners) {
+
+		AsyncNeo4jClient.Builder builder = AsyncNeo4jClient.with(driver)
+			.withMetrics(metrics.getIfUnique(() -> Neo4jMetrics.NOOP));
+		queryExecutionListeners.orderedStream().forEach(builder::withQueryExecutionListener);
+		return builder.build();
+	}
+
+	@Bean("asyncNeo4jTemplate")
+	@ConditionalOnMissingBean(AsyncNeo4jOperations.class)
+	public AsyncNeo4jTemplate asyncNeo4jTemplate(AsyncNeo4jClient asyncNeo4jClient,
+		Neo4jMappingContext neo4jMappingContext, DatabaseSelectionProvider databaseNameProvider) {
+
+		return new AsyncNeo4jTemplate(asyncNeo4jClient, neo4jMappingContext, databaseNameProvider);
+	}
+
 	@Bean(Neo4jRepositoryConfigurationExtension.DEFAULT_TRANSACTION_MANAGER_BEAN_NAME)
 	@ConditionalOnMissingBean(PlatformTransactionManager.class)
 	public Neo4jTransactionManager transactionManager(Driver driver, DatabaseSelectionProvider databaseNameProvider,
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.boot.autoconfigure.data;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.springframework.data.core.index.IndexAdvisor;
+import org.neo4j.springframework.data.core.index.IndexManager;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Internal configuration of the index manager, validating or creating the indexes required by the mapped entities
+ * after all singletons have been instantiated, and of the index advisor, checking derived finder methods against the
+ * existing indexes. Both are only active when configured explicitly.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@Configuration(proxyBeanMethods = false)
+class Neo4jIndexConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = "org.neo4j.data.indexes", name = "mode")
+	public IndexManager indexManager(Driver driver, Neo4jMappingContext neo4jMappingContext,
+		Neo4jDataProperties properties) {
+
+		return new IndexManager(driver, neo4jMappingContext, properties.getIndexes().getMode(),
+			properties.getDatabase());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = "org.neo4j.data.indexes.advisor", name = "enabled", havingValue = "true")
+	public IndexAdvisor indexAdvisor(Driver driver, Neo4jDataProperties properties) {
+
+		return new IndexAdvisor(driver, properties.getDatabase(), properties.getIndexes().getAdvisor().isExplain());
+	}
+}
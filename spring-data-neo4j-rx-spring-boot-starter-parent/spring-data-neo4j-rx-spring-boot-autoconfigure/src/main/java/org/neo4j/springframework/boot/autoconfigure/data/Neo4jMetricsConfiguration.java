@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.boot.autoconfigure.data;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.neo4j.springframework.data.core.metrics.MicrometerNeo4jMetrics;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Internal configuration of Micrometer based metrics for clients, templates and repositories. Only active when a
+ * {@link MeterRegistry} is available.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+class Neo4jMetricsConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public Neo4jMetrics neo4jMetrics(MeterRegistry meterRegistry) {
+		return new MicrometerNeo4jMetrics(meterRegistry);
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.boot.autoconfigure.data;
+
+import org.neo4j.springframework.data.core.metrics.QueryPlanSampler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Internal configuration of the query plan sampler. The sampler is picked up by the templates to decide which queries
+ * to profile and by the clients as query execution listener. Only active when explicitly enabled.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "org.neo4j.data.plan-sampling", name = "enabled", havingValue = "true")
+class Neo4jPlanSamplingConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public QueryPlanSampler queryPlanSampler(Neo4jDataProperties properties) {
+
+		Neo4jDataProperties.PlanSampling planSampling = properties.getPlanSampling();
+		return new QueryPlanSampler(planSampling.getRate(), planSampling.getHistorySize(),
+			planSampling.getRegressionFactor(), planSampling.getMaxOrigins());
+	}
+}
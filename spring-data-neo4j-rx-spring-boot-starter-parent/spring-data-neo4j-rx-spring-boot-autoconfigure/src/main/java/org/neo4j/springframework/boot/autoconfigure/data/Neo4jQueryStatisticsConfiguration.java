@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.boot.autoconfigure.data;
+
+import org.neo4j.springframework.data.core.metrics.QueryStatisticsRegistry;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Internal configuration of the in-process query statistics. The registry is picked up by the clients as query
+ * execution listener. Only active when explicitly enabled and Spring Boot actuator is on the classpath.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(Endpoint.class)
+@ConditionalOnProperty(prefix = "org.neo4j.data.query-statistics", name = "enabled", havingValue = "true")
+class Neo4jQueryStatisticsConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public QueryStatisticsRegistry queryStatisticsRegistry(Neo4jDataProperties properties) {
+		return new QueryStatisticsRegistry(properties.getQueryStatistics().getMaxEntries());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public Neo4jQueryStatisticsEndpoint neo4jQueryStatisticsEndpoint(QueryStatisticsRegistry queryStatisticsRegistry) {
+		return new Neo4jQueryStatisticsEndpoint(queryStatisticsRegistry);
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.boot.autoconfigure.data;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.metrics.QueryStatistics;
+import org.neo4j.springframework.data.core.metrics.QueryStatisticsRegistry;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint exposing the statistics of the {@link QueryStatisticsRegistry}, ordered by total time spent in a
+ * query. All times are in milliseconds. A delete request resets the statistics.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+@Endpoint(id = "neo4jqueries")
+public class Neo4jQueryStatisticsEndpoint {
+
+	private final QueryStatisticsRegistry queryStatisticsRegistry;
+
+	public Neo4jQueryStatisticsEndpoint(QueryStatisticsRegistry queryStatisticsRegistry) {
+		this.queryStatisticsRegistry = queryStatisticsRegistry;
+	}
+
+	@ReadOperation
+	public Map<String, Object> queries() {
+
+		List<Map<String, Object>> queries = queryStatisticsRegistry.getStatistics().stream()
+			.map(Neo4jQueryStatisticsEndpoint::describe)
+			.collect(Collectors.toList());
+
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("totals", describe(queryStatisticsRegistry.getTotals()));
+		result.put("queries", queries);
+		return result;
+	}
+
+	@DeleteOperation
+	public void reset() {
+		queryStatisticsRegistry.reset();
+	}
+
+	private static Map<String, Object> describe(QueryStatistics statistics) {
+
+		Map<String, Object> description = new LinkedHashMap<>();
+		description.put("query", statistics.getFingerprint());
+		description.put("calls", statistics.getCalls());
+		description.put("errors", statistics.getErrors());
+		description.put("rows", statistics.getRows());
+		description.put("totalTime", toMillis(statistics.getTotalTime().toNanos()));
+		description.put("meanTime", toMillis(statistics.getMeanTime().toNanos()));
+		description.put("maxTime", toMillis(statistics.getMaxTime().toNanos()));
+		description.put("p99Time", toMillis(statistics.getP99Time().toNanos()));
+		return description;
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
@@ -25,13 +25,16 @@ import reactor.core.publisher.Flux;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.springframework.boot.autoconfigure.Neo4jDriverAutoConfiguration;
 import org.neo4j.springframework.data.config.Neo4jDefaultReactiveCallbacksRegistrar;
+import org.neo4j.springframework.data.core.QueryExecutionListener;
 import org.neo4j.springframework.data.core.ReactiveDatabaseSelectionProvider;
 import org.neo4j.springframework.data.core.ReactiveNeo4jClient;
 import org.neo4j.springframework.data.core.ReactiveNeo4jOperations;
 import org.neo4j.springframework.data.core.ReactiveNeo4jTemplate;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
 import org.neo4j.springframework.data.core.transaction.ReactiveNeo4jTransactionManager;
 import org.neo4j.springframework.data.repository.config.ReactiveNeo4jRepositoryConfigurationExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -77,8 +80,12 @@ class Neo4jReactiveDataConfiguration {
 
 	@Bean(ReactiveNeo4jRepositoryConfigurationExtension.DEFAULT_NEO4J_CLIENT_BEAN_NAME)
 	@ConditionalOnMissingBean
-	public ReactiveNeo4jClient neo4jClient(Driver driver) {
-		return ReactiveNeo4jClient.create(driver);
+	public ReactiveNeo4jClient neo4jClient(Driver driver, ObjectProvider<Neo4jMetrics> metrics,
+		ObjectProvider<QueryExecutionListener> queryExecutionListeners) {
+
+		ReactiveNeo4jClient.Builder builder = ReactiveNeo4jClient.with(driver).withMetrics(metrics.getIfUnique(() -> Neo4jMetrics.NOOP));
+		queryExecutionListeners.orderedStream().forEach(builder::withQueryExecutionListener);
+		return builder.build();
 	}
 
 	@Bean(ReactiveNeo4jRepositoryConfigurationExtension.DEFAULT_NEO4J_TEMPLATE_BEAN_NAME)
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.boot.autoconfigure.data;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.springframework.data.core.QueryWarmUp;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Internal configuration of the query warm-up. The warm-up is picked up by the repository factories, which register
+ * all repository statements with it, and explains them after the application context has been refreshed. Only active
+ * when explicitly enabled.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "org.neo4j.data.warm-up", name = "enabled", havingValue = "true")
+class Neo4jWarmUpConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public QueryWarmUp queryWarmUp(Driver driver, Neo4jDataProperties properties) {
+
+		return new QueryWarmUp(driver, properties.getDatabase(), properties.getWarmUp().getConcurrency());
+	}
+}
@@ -21,10 +21,14 @@ package org.neo4j.springframework.boot.autoconfigure.data;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -36,8 +40,17 @@ import org.neo4j.driver.springframework.boot.autoconfigure.Neo4jDriverAutoConfig
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.*;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.index.IndexAdvisor;
+import org.neo4j.springframework.data.core.index.IndexManager;
+import org.neo4j.springframework.data.core.mapping.LazyLoadingQueryRunner;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.metrics.MicrometerNeo4jMetrics;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+import org.neo4j.springframework.data.core.metrics.QueryPlanSampler;
+import org.neo4j.springframework.data.core.metrics.QueryStatisticsRegistry;
 import org.neo4j.springframework.data.core.transaction.Neo4jTransactionManager;
 import org.neo4j.springframework.data.core.transaction.ReactiveNeo4jTransactionManager;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -159,6 +172,18 @@ class Neo4jDataAutoConfigurationTest {
 					});
 			}
 
+			@Test
+			@DisplayName("…should register the lazy loading query runner with the mapping context")
+			void shouldRegisterLazyLoadingQueryRunner() {
+				contextRunner.run(ctx -> {
+					assertThat(ctx).hasSingleBean(LazyLoadingQueryRunner.class);
+
+					Object converter = ctx.getBean(Neo4jMappingContext.class).getConverter();
+					assertThat(ReflectionTestUtils.getField(converter, "lazyLoadingQueryRunner"))
+						.isSameAs(ctx.getBean(LazyLoadingQueryRunner.class));
+				});
+			}
+
 			@Test
 			@DisplayName("…should not replace existing Neo4j Operations")
 			void shouldNotReplaceExisting() {
@@ -171,6 +196,179 @@ class Neo4jDataAutoConfigurationTest {
 			}
 		}
 
+		@Nested
+		@DisplayName("Automatic configuration…")
+		class ConfigurationOfAsyncClientAndTemplate {
+			@Test
+			@DisplayName("…should create new async Neo4j Client and Template")
+			void shouldCreateNew() {
+				contextRunner.run(ctx -> assertThat(ctx)
+					.hasSingleBean(AsyncNeo4jClient.class)
+					.hasSingleBean(AsyncNeo4jTemplate.class)
+				);
+			}
+
+			@Test
+			@DisplayName("…should not replace existing async Neo4j Client")
+			void shouldNotReplaceExisting() {
+				contextRunner
+					.withUserConfiguration(ConfigurationWithExistingAsyncClient.class)
+					.run(ctx -> assertThat(ctx)
+						.hasSingleBean(AsyncNeo4jClient.class)
+						.hasBean("myCustomAsyncClient")
+					);
+			}
+		}
+
+		@Nested
+		@DisplayName("Automatic configuration…")
+		class ConfigurationOfMetrics {
+			@Test
+			@DisplayName("…should not create metrics without a meter registry")
+			void shouldNotCreateMetricsWithoutRegistry() {
+				contextRunner.run(ctx -> assertThat(ctx).doesNotHaveBean(Neo4jMetrics.class));
+			}
+
+			@Test
+			@DisplayName("…should create metrics and use them in the client")
+			void shouldCreateMetrics() {
+				contextRunner
+					.withUserConfiguration(ConfigurationWithMeterRegistry.class)
+					.run(ctx -> {
+						assertThat(ctx).hasSingleBean(Neo4jMetrics.class);
+						assertThat(ctx.getBean(Neo4jMetrics.class)).isInstanceOf(MicrometerNeo4jMetrics.class);
+						assertThat(ReflectionTestUtils.getField(ctx.getBean(Neo4jClient.class), "metrics"))
+							.isSameAs(ctx.getBean(Neo4jMetrics.class));
+					});
+			}
+		}
+
+		@Nested
+		@DisplayName("Automatic configuration…")
+		class ConfigurationOfQueryStatistics {
+			@Test
+			@DisplayName("…should not collect query statistics by default")
+			void shouldNotCollectStatisticsByDefault() {
+				contextRunner.run(ctx -> assertThat(ctx)
+					.doesNotHaveBean(QueryStatisticsRegistry.class)
+					.doesNotHaveBean(Neo4jQueryStatisticsEndpoint.class));
+			}
+
+			@Test
+			@DisplayName("…should collect query statistics when enabled")
+			void shouldCollectStatisticsWhenEnabled() {
+				contextRunner
+					.withPropertyValues("org.neo4j.data.query-statistics.enabled=true",
+						"org.neo4j.data.query-statistics.max-entries=32")
+					.run(ctx -> {
+						assertThat(ctx).hasSingleBean(QueryStatisticsRegistry.class);
+						assertThat(ctx).hasSingleBean(Neo4jQueryStatisticsEndpoint.class);
+						assertThat((List<Object>) ReflectionTestUtils.getField(ctx.getBean(Neo4jClient.class), "listeners"))
+							.containsExactly(ctx.getBean(QueryStatisticsRegistry.class));
+					});
+			}
+
+			@Test
+			@DisplayName("…should not collect query statistics without actuator")
+			void shouldRequireActuator() {
+				contextRunner
+					.withPropertyValues("org.neo4j.data.query-statistics.enabled=true")
+					.withClassLoader(new FilteredClassLoader(Endpoint.class))
+					.run(ctx -> assertThat(ctx).doesNotHaveBean(QueryStatisticsRegistry.class));
+			}
+		}
+
+		@Nested
+		@DisplayName("Automatic configuration…")
+		class ConfigurationOfIndexManager {
+			@Test
+			@DisplayName("…should not manage indexes by default")
+			void shouldNotManageIndexesByDefault() {
+				contextRunner.run(ctx -> assertThat(ctx).doesNotHaveBean(IndexManager.class));
+			}
+
+			@Test
+			@DisplayName("…should create an index manager with the configured mode")
+			void shouldCreateIndexManager() {
+				contextRunner
+					.withPropertyValues("org.neo4j.data.indexes.mode=validate", "org.neo4j.data.database=aDatabase")
+					.run(ctx -> {
+						assertThat(ctx).hasSingleBean(IndexManager.class);
+						IndexManager indexManager = ctx.getBean(IndexManager.class);
+						assertThat(ReflectionTestUtils.getField(indexManager, "mode")).isEqualTo(IndexManager.Mode.VALIDATE);
+						assertThat(ReflectionTestUtils.getField(indexManager, "databaseName")).isEqualTo("aDatabase");
+					});
+			}
+
+			@Test
+			@DisplayName("…should not advise on indexes by default")
+			void shouldNotAdviseByDefault() {
+				contextRunner.run(ctx -> assertThat(ctx).doesNotHaveBean(IndexAdvisor.class));
+			}
+
+			@Test
+			@DisplayName("…should create an index advisor independent of the index manager")
+			void shouldCreateIndexAdvisor() {
+				contextRunner
+					.withPropertyValues("org.neo4j.data.indexes.advisor.enabled=true",
+						"org.neo4j.data.indexes.advisor.explain=true")
+					.run(ctx -> {
+						assertThat(ctx).hasSingleBean(IndexAdvisor.class).doesNotHaveBean(IndexManager.class);
+						assertThat(ReflectionTestUtils.getField(ctx.getBean(IndexAdvisor.class), "explain"))
+							.isEqualTo(true);
+					});
+			}
+		}
+
+		@Nested
+		@DisplayName("Automatic configuration…")
+		class ConfigurationOfWarmUp {
+			@Test
+			@DisplayName("…should not warm up queries by default")
+			void shouldNotWarmUpByDefault() {
+				contextRunner.run(ctx -> assertThat(ctx).doesNotHaveBean(QueryWarmUp.class));
+			}
+
+			@Test
+			@DisplayName("…should create a query warm-up with the configured concurrency")
+			void shouldCreateQueryWarmUp() {
+				contextRunner
+					.withPropertyValues("org.neo4j.data.warm-up.enabled=true", "org.neo4j.data.warm-up.concurrency=2")
+					.run(ctx -> {
+						assertThat(ctx).hasSingleBean(QueryWarmUp.class);
+						assertThat(ReflectionTestUtils.getField(ctx.getBean(QueryWarmUp.class), "concurrency"))
+							.isEqualTo(2);
+					});
+			}
+		}
+
+		@Nested
+		@DisplayName("Automatic configuration…")
+		class ConfigurationOfPlanSampling {
+			@Test
+			@DisplayName("…should not sample plans by default")
+			void shouldNotSamplePlansByDefault() {
+				contextRunner.run(ctx -> assertThat(ctx).doesNotHaveBean(QueryPlanSampler.class));
+			}
+
+			@Test
+			@DisplayName("…should sample plans in template and client when enabled")
+			void shouldSamplePlansWhenEnabled() {
+				contextRunner
+					.withPropertyValues("org.neo4j.data.plan-sampling.enabled=true",
+						"org.neo4j.data.plan-sampling.rate=0.5")
+					.run(ctx -> {
+						assertThat(ctx).hasSingleBean(QueryPlanSampler.class);
+						QueryPlanSampler planSampler = ctx.getBean(QueryPlanSampler.class);
+						assertThat(ReflectionTestUtils.getField(planSampler, "samplingRate")).isEqualTo(0.5);
+						assertThat(ReflectionTestUtils.getField(ctx.getBean(Neo4jTemplate.class), "planSampler"))
+							.isSameAs(planSampler);
+						assertThat((List<Object>) ReflectionTestUtils.getField(ctx.getBean(Neo4jClient.class), "listeners"))
+							.containsExactly(planSampler);
+					});
+			}
+		}
+
 		@Nested
 		@DisplayName("Automatic configuration…")
 		class ConfigurationOfTransactionManager {
@@ -375,6 +573,22 @@ class Neo4jDataAutoConfigurationTest {
 		}
 	}
 
+	@Configuration
+	static class ConfigurationWithMeterRegistry {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Configuration
+	static class ConfigurationWithExistingAsyncClient {
+		@Bean("myCustomAsyncClient")
+		AsyncNeo4jClient asyncNeo4jClient(Driver driver) {
+			return AsyncNeo4jClient.create(driver);
+		}
+	}
+
 	@Configuration
 	static class ConfigurationWithExistingReactiveClient {
 		@Bean("myCustomReactiveClient")
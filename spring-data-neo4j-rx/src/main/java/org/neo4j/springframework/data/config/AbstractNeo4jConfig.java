@@ -21,7 +21,9 @@ package org.neo4j.springframework.data.config;
 import org.apiguardian.api.API;
 import org.neo4j.driver.Driver;
 import org.neo4j.springframework.data.core.Neo4jClient;
+import org.neo4j.springframework.data.core.Neo4jLazyLoadingQueryRunner;
 import org.neo4j.springframework.data.core.Neo4jTemplate;
+import org.neo4j.springframework.data.core.mapping.LazyLoadingQueryRunner;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.transaction.Neo4jTransactionManager;
 import org.neo4j.springframework.data.core.DatabaseSelectionProvider;
@@ -69,6 +71,24 @@ public abstract class AbstractNeo4jConfig extends Neo4jConfigurationSupport {
 		return new Neo4jTemplate(neo4jClient, mappingContext, databaseNameProvider);
 	}
 
+	/**
+	 * Provides the query runner for lazy relationships and registers it with the mapping context.
+	 *
+	 * @param neo4jClient          The client running the queries
+	 * @param mappingContext       The mapping context to register the query runner with
+	 * @param databaseNameProvider The configured database name provider
+	 * @return The registered query runner
+	 * @since 1.1
+	 */
+	@Bean
+	public LazyLoadingQueryRunner neo4jLazyLoadingQueryRunner(Neo4jClient neo4jClient,
+		Neo4jMappingContext mappingContext, DatabaseSelectionProvider databaseNameProvider) {
+
+		LazyLoadingQueryRunner lazyLoadingQueryRunner = new Neo4jLazyLoadingQueryRunner(neo4jClient, databaseNameProvider);
+		mappingContext.setLazyLoadingQueryRunner(lazyLoadingQueryRunner);
+		return lazyLoadingQueryRunner;
+	}
+
 	/**
 	 * Provides a {@link PlatformTransactionManager} for Neo4j based on the driver resulting from {@link #driver()}.
 	 *
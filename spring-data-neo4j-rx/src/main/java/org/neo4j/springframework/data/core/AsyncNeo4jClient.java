@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.Neo4jClient.BindSpec;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Asynchronous Neo4j client based on the drivers {@link org.neo4j.driver.async.AsyncSession async session}. All
+ * operations return a {@link CompletionStage} and don't block the calling thread while waiting for the database.
+ * <p>
+ * If the calling thread participates in a Spring transaction managed by the
+ * {@link org.neo4j.springframework.data.core.transaction.Neo4jTransactionManager}, queries are executed inside that
+ * transaction. As that transaction is bound to the thread, the returned stages are already completed in that case.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = API.Status.STABLE, since = "1.1")
+public interface AsyncNeo4jClient {
+
+	/**
+	 * The default number of queries that a client created via {@link #create(Driver)} runs concurrently. It matches the
+	 * default size of the drivers connection pool.
+	 */
+	int DEFAULT_MAX_IN_FLIGHT_QUERIES = 100;
+
+	static AsyncNeo4jClient create(Driver driver) {
+
+		return create(driver, DEFAULT_MAX_IN_FLIGHT_QUERIES);
+	}
+
+	/**
+	 * Creates a new client that runs at most {@code maxInFlightQueries} queries or units of work concurrently. Further
+	 * queries are queued and started in the {@link ForkJoinPool#commonPool() common pool} as soon as a running one
+	 * completes. Queries issued through the client passed to a {@link #doInUnitOfWork(String, Function) unit of work}
+	 * are not limited. Queries inside a unit of work must use that client and not the one that started the unit of
+	 * work, as they would wait for a permit held by the unit of work otherwise.
+	 *
+	 * @param driver             The driver to use
+	 * @param maxInFlightQueries The maximum number of concurrent queries, must be greater than zero
+	 * @return A new client
+	 */
+	static AsyncNeo4jClient create(Driver driver, int maxInFlightQueries) {
+
+		return new DefaultAsyncNeo4jClient(driver, maxInFlightQueries);
+	}
+
+	/**
+	 * Starts building a client with additional configuration.
+	 *
+	 * @param driver The driver used by the new client
+	 * @return A builder for a new client
+	 */
+	static Builder with(Driver driver) {
+
+		return new Builder(driver);
+	}
+
+	/**
+	 * Builder for an {@link AsyncNeo4jClient} that needs more configuration than just a driver.
+	 */
+	@API(status = API.Status.STABLE, since = "1.1")
+	final class Builder {
+
+		private final Driver driver;
+
+		private int maxInFlightQueries = DEFAULT_MAX_IN_FLIGHT_QUERIES;
+
+		private Executor queuedQueriesExecutor = ForkJoinPool.commonPool();
+
+		private Neo4jMetrics metrics = Neo4jMetrics.NOOP;
+
+		private final List<QueryExecutionListener> listeners = new ArrayList<>();
+
+		private Builder(Driver driver) {
+
+			Assert.notNull(driver, "A driver is required.");
+			this.driver = driver;
+		}
+
+		/**
+		 * @param newMaxInFlightQueries The maximum number of concurrent queries, see {@link #create(Driver, int)}
+		 * @return This builder
+		 */
+		public Builder withMaxInFlightQueries(int newMaxInFlightQueries) {
+
+			Assert.isTrue(newMaxInFlightQueries > 0,
+				"The maximum number of in-flight queries must be greater than zero.");
+			this.maxInFlightQueries = newMaxInFlightQueries;
+			return this;
+		}
+
+		/**
+		 * Configures the executor starting queued queries when running ones complete. Running queries complete on the I/O
+		 * threads of the driver, which must not be used for starting further work. Defaults to the
+		 * {@link ForkJoinPool#commonPool() common pool}.
+		 *
+		 * @param newQueuedQueriesExecutor The executor starting queued queries
+		 * @return This builder
+		 */
+		public Builder withQueuedQueriesExecutor(Executor newQueuedQueriesExecutor) {
+
+			Assert.notNull(newQueuedQueriesExecutor, "An executor for queued queries is required.");
+			this.queuedQueriesExecutor = newQueuedQueriesExecutor;
+			return this;
+		}
+
+		/**
+		 * @param newMetrics The metrics receiving the measurements of all queries run by the new client
+		 * @return This builder
+		 */
+		public Builder withMetrics(Neo4jMetrics newMetrics) {
+
+			Assert.notNull(newMetrics, "Metrics are required, use Neo4jMetrics.NOOP to disable them.");
+			this.metrics = newMetrics;
+			return this;
+		}
+
+		/**
+		 * Adds a listener that is notified about all queries run by the new client. Listeners are called in the order they
+		 * have been added.
+		 *
+		 * @param listener The additional listener
+		 * @return This builder
+		 */
+		public Builder withQueryExecutionListener(QueryExecutionListener listener) {
+
+			Assert.notNull(listener, "The listener is required.");
+			this.listeners.add(listener);
+			return this;
+		}
+
+		public AsyncNeo4jClient build() {
+			return new DefaultAsyncNeo4jClient(driver, maxInFlightQueries, queuedQueriesExecutor, metrics,
+				Collections.unmodifiableList(new ArrayList<>(listeners)));
+		}
+	}
+
+	/**
+	 * Entrypoint for creating a new Cypher query. Doesn't matter at this point whether it's a match, merge, create or
+	 * removal of things.
+	 *
+	 * @param cypher The cypher code that shall be executed
+	 * @return A new CypherSpec
+	 */
+	RunnableSpec query(String cypher);
+
+	/**
+	 * Entrypoint for creating a new Cypher query based on a supplier. Doesn't matter at this point whether it's a match,
+	 * merge, create or removal of things. The supplier can be an arbitrary Supplier that may provide a DSL for generating
+	 * the Cypher statement.
+	 *
+	 * @param cypherSupplier A supplier of arbitrary Cypher code
+	 * @return A runnable query specification.
+	 */
+	RunnableSpec query(Supplier<String> cypherSupplier);
+
+	/**
+	 * Runs the work provided by the callback inside a unit of work: The callback receives a client whose queries all
+	 * share one session and one transaction. The transaction is committed when the stage returned by the callback
+	 * completes normally and rolled back otherwise. Queries of that client targeting another database than the unit of
+	 * work use their own session. If there's an ongoing Neo4j transaction, the callback receives this client and just
+	 * participates in that.
+	 *
+	 * @param targetDatabase selected database to use. A value of {@literal null} chooses the default database.
+	 * @param callback       A function receiving the client to use inside the unit of work
+	 * @param <T>            The type of the result being produced
+	 * @return A stage completing with the result of the callback after the transaction has been committed
+	 */
+	<T> CompletionStage<T> doInUnitOfWork(@Nullable String targetDatabase,
+		Function<AsyncNeo4jClient, ? extends CompletionStage<T>> callback);
+
+	/**
+	 * @param <T> The resulting type of this mapping
+	 */
+	interface MappingSpec<T> extends RecordFetchSpec<T> {
+
+		/**
+		 * The mapping function is responsible to turn one record into one domain object. It will receive the record
+		 * itself and in addition, the type system that the Neo4j Java-Driver used while executing the query.
+		 *
+		 * @param mappingFunction The mapping function used to create new domain objects
+		 * @return A specification how to fetch one or more records.
+		 */
+		RecordFetchSpec<T> mappedBy(BiFunction<TypeSystem, Record, T> mappingFunction);
+	}
+
+	/**
+	 * @param <T> The type to which the fetched records are eventually mapped
+	 */
+	interface RecordFetchSpec<T> {
+
+		/**
+		 * Fetches exactly one record and completes exceptionally if there are more entries.
+		 *
+		 * @return The one and only record.
+		 */
+		CompletionStage<Optional<T>> one();
+
+		/**
+		 * Fetches only the first record. Completes with an empty optional if there are no records.
+		 *
+		 * @return The first record if any.
+		 */
+		CompletionStage<Optional<T>> first();
+
+		/**
+		 * Fetches all records.
+		 *
+		 * @return All records.
+		 */
+		CompletionStage<List<T>> all();
+	}
+
+	/**
+	 * Contract for a runnable query that can be either run returning it's result, run without results or be parameterized.
+	 */
+	interface RunnableSpec extends RunnableSpecTightToDatabase {
+
+		/**
+		 * Pins the previously defined query to a specific database.
+		 *
+		 * @param targetDatabase selected database to use
+		 * @return A runnable query specification that is now tight to a given database.
+		 */
+		RunnableSpecTightToDatabase in(String targetDatabase);
+	}
+
+	/**
+	 * Contract for a runnable query inside a dedicated database.
+	 */
+	interface RunnableSpecTightToDatabase extends BindSpec<RunnableSpecTightToDatabase> {
+
+		/**
+		 * Create a mapping for each record return to a specific type.
+		 *
+		 * @param targetClass The class each record should be mapped to
+		 * @param <T>         The type of the class
+		 * @return A mapping spec that allows specifying a mapping function
+		 */
+		<T> MappingSpec<T> fetchAs(Class<T> targetClass);
+
+		/**
+		 * Fetch all records mapped into generic maps
+		 *
+		 * @return A fetch specification that maps into generic maps
+		 */
+		RecordFetchSpec<Map<String, Object>> fetch();
+
+		/**
+		 * Execute the query and discard the results. It returns the drivers result summary, including various counters
+		 * and other statistics.
+		 *
+		 * @return A stage containing the native summary of the query.
+		 */
+		CompletionStage<ResultSummary> run();
+	}
+}
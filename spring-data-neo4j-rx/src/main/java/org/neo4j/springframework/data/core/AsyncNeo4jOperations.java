@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import org.apiguardian.api.API;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
+
+/**
+ * Specifies asynchronous operations one can perform on a database, based on an <em>Domain Type</em>. All operations
+ * return a {@link CompletionStage} that completes once the database interaction has been finished.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = API.Status.STABLE, since = "1.1")
+public interface AsyncNeo4jOperations {
+
+	/**
+	 * Counts the number of entities of a given type.
+	 *
+	 * @param domainType the type of the entities to be counted.
+	 * @return the number of instances stored in the database. Guaranteed to be not {@code null}.
+	 */
+	CompletionStage<Long> count(Class<?> domainType);
+
+	/**
+	 * Counts the number of entities of a given type.
+	 *
+	 * @param statement the Cypher {@link Statement} that returns the count.
+	 * @return the number of instances stored in the database. Guaranteed to be not {@code null}.
+	 */
+	CompletionStage<Long> count(Statement statement);
+
+	/**
+	 * Counts the number of entities of a given type.
+	 *
+	 * @param statement  the Cypher {@link Statement} that returns the count.
+	 * @param parameters Map of parameters. Must not be {@code null}.
+	 * @return the number of instances stored in the database. Guaranteed to be not {@code null}.
+	 */
+	CompletionStage<Long> count(Statement statement, Map<String, Object> parameters);
+
+	/**
+	 * Counts the number of entities of a given type.
+	 *
+	 * @param cypherQuery the Cypher query that returns the count.
+	 * @return the number of instances stored in the database. Guaranteed to be not {@code null}.
+	 */
+	CompletionStage<Long> count(String cypherQuery);
+
+	/**
+	 * Counts the number of entities of a given type.
+	 *
+	 * @param cypherQuery the Cypher query that returns the count.
+	 * @param parameters  Map of parameters. Must not be {@code null}.
+	 * @return the number of instances stored in the database. Guaranteed to be not {@code null}.
+	 */
+	CompletionStage<Long> count(String cypherQuery, Map<String, Object> parameters);
+
+	/**
+	 * Load all entities of a given type.
+	 *
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 */
+	<T> CompletionStage<List<T>> findAll(Class<T> domainType);
+
+	/**
+	 * Load all entities of a given type, including only the relationships selected by the given fetch plan.
+	 *
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param fetchPlan  the fetch plan selecting the relationships to load. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 1.1
+	 */
+	<T> CompletionStage<List<T>> findAll(Class<T> domainType, FetchPlan fetchPlan);
+
+	/**
+	 * Load all entities of a given type by executing given statement.
+	 *
+	 * @param statement  Cypher {@link Statement}. Must not be {@code null}.
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 */
+	<T> CompletionStage<List<T>> findAll(Statement statement, Class<T> domainType);
+
+	/**
+	 * Load all entities of a given type by executing given statement with parameters.
+	 *
+	 * @param statement  Cypher {@link Statement}. Must not be {@code null}.
+	 * @param parameters Map of parameters. Must not be {@code null}.
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 */
+	<T> CompletionStage<List<T>> findAll(Statement statement, Map<String, Object> parameters, Class<T> domainType);
+
+	/**
+	 * Load one entity of a given type by executing given statement with parameters.
+	 *
+	 * @param statement  Cypher {@link Statement}. Must not be {@code null}.
+	 * @param parameters Map of parameters. Must not be {@code null}.
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 */
+	<T> CompletionStage<Optional<T>> findOne(Statement statement, Map<String, Object> parameters, Class<T> domainType);
+
+	/**
+	 * Load all entities of a given type by executing given statement.
+	 *
+	 * @param cypherQuery Cypher query string. Must not be {@code null}.
+	 * @param domainType  the type of the entities. Must not be {@code null}.
+	 * @param <T>         the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 */
+	<T> CompletionStage<List<T>> findAll(String cypherQuery, Class<T> domainType);
+
+	/**
+	 * Load all entities of a given type by executing given statement with parameters.
+	 *
+	 * @param cypherQuery Cypher query string. Must not be {@code null}.
+	 * @param parameters  Map of parameters. Must not be {@code null}.
+	 * @param domainType  the type of the entities. Must not be {@code null}.
+	 * @param <T>         the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 */
+	<T> CompletionStage<List<T>> findAll(String cypherQuery, Map<String, Object> parameters, Class<T> domainType);
+
+	/**
+	 * Load one entity of a given type by executing given statement with parameters.
+	 *
+	 * @param cypherQuery Cypher query string. Must not be {@code null}.
+	 * @param parameters  Map of parameters. Must not be {@code null}.
+	 * @param domainType  the type of the entities. Must not be {@code null}.
+	 * @param <T>         the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 */
+	<T> CompletionStage<Optional<T>> findOne(String cypherQuery, Map<String, Object> parameters, Class<T> domainType);
+
+	/**
+	 * Load an entity from the database.
+	 *
+	 * @param id         the id of the entity to load. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @param <T>        the type of the entity.
+	 * @return the loaded entity. Might return an empty optional.
+	 */
+	<T> CompletionStage<Optional<T>> findById(Object id, Class<T> domainType);
+
+	/**
+	 * Load an entity from the database, including only the relationships selected by the given fetch plan.
+	 *
+	 * @param id         the id of the entity to load. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @param fetchPlan  the fetch plan selecting the relationships to load. Must not be {@code null}.
+	 * @param <T>        the type of the entity.
+	 * @return the loaded entity. Might return an empty optional.
+	 * @since 1.1
+	 */
+	<T> CompletionStage<Optional<T>> findById(Object id, Class<T> domainType, FetchPlan fetchPlan);
+
+	/**
+	 * Load an entity together with the whole subgraph around it, that is all nodes reachable through at most
+	 * {@code depth} relationships of any type and direction. The subgraph is loaded with one query returning the
+	 * deduplicated lists of nodes and relationships, from which the object graph is built. Every node is mapped to one
+	 * instance and cycles in the graph become cycles in the object graph. Only relationships mapped through constructor
+	 * arguments are not followed back to an entity that is still being instantiated.
+	 *
+	 * @param id         the id of the entity to load. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @param depth      the maximum number of relationships between the entity and the related nodes to load
+	 * @param <T>        the type of the entity.
+	 * @return the loaded entity. Might return an empty optional.
+	 * @since 1.1
+	 */
+	<T> CompletionStage<Optional<T>> findSubgraph(Object id, Class<T> domainType, int depth);
+
+	/**
+	 * Load all entities of a given type that are identified by the given ids.
+	 *
+	 * @param ids        of the entities identifying the entities to load. Must not be {@code null}.
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 */
+	<T> CompletionStage<List<T>> findAllById(Iterable<?> ids, Class<T> domainType);
+
+	/**
+	 * Load all entities of a given type that are identified by the given ids, including only the relationships
+	 * selected by the given fetch plan.
+	 *
+	 * @param ids        of the entities identifying the entities to load. Must not be {@code null}.
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param fetchPlan  the fetch plan selecting the relationships to load. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 1.1
+	 */
+	<T> CompletionStage<List<T>> findAllById(Iterable<?> ids, Class<T> domainType, FetchPlan fetchPlan);
+
+	/**
+	 * Saves an instance of an entity, including all the related entities of the entity. All statements are executed in
+	 * one unit of work.
+	 *
+	 * @param instance the entity to be saved. Must not be {@code null}.
+	 * @param <T>      the type of the entity.
+	 * @return the saved instance.
+	 */
+	<T> CompletionStage<T> save(T instance);
+
+	/**
+	 * Saves several instances of an entity, including all the related entities of the entity. All statements are
+	 * executed in one unit of work.
+	 *
+	 * @param instances the instances to be saved. Must not be {@code null}.
+	 * @param <T>       the type of the entity.
+	 * @return the saved instances.
+	 */
+	<T> CompletionStage<List<T>> saveAll(Iterable<T> instances);
+
+	/**
+	 * Deletes a single entity including all entities related to that entity.
+	 *
+	 * @param id         the id of the entity to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the entity
+	 * @param <T>        the type of the entity.
+	 * @return A stage completing after the entity has been deleted
+	 */
+	<T> CompletionStage<Void> deleteById(Object id, Class<T> domainType);
+
+	/**
+	 * Deletes all entities with one of the given ids, including all entities related to that entity.
+	 *
+	 * @param ids        the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the entity
+	 * @param <T>        the type of the entity.
+	 * @return A stage completing after the entities have been deleted
+	 */
+	<T> CompletionStage<Void> deleteAllById(Iterable<?> ids, Class<T> domainType);
+
+	/**
+	 * Delete all entities of a given type.
+	 *
+	 * @param domainType type of the entities to be deleted. Must not be {@code null}.
+	 * @return A stage completing after the entities have been deleted
+	 */
+	CompletionStage<Void> deleteAll(Class<?> domainType);
+}
@@ -0,0 +1,571 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static java.util.Collections.*;
+import static java.util.stream.Collectors.*;
+import static org.neo4j.cypherdsl.core.Cypher.*;
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
+import org.neo4j.cypherdsl.core.Condition;
+import org.neo4j.cypherdsl.core.Functions;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
+import org.neo4j.springframework.data.repository.NoResultException;
+import org.neo4j.springframework.data.repository.event.BeforeBindCallback;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * The {@link CompletionStage} based variant of the {@link Neo4jTemplate}. It uses the same Cypher generator and mapping
+ * functions. Saving an entity with its relationships happens in one unit of work of the {@link AsyncNeo4jClient},
+ * the statements of that unit of work are chained one after another.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = API.Status.STABLE, since = "1.1")
+public final class AsyncNeo4jTemplate implements AsyncNeo4jOperations, BeanFactoryAware {
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(AsyncNeo4jTemplate.class));
+
+	private static final Renderer renderer = Renderer.getDefaultRenderer();
+
+	private final AsyncNeo4jClient neo4jClient;
+
+	private final Neo4jMappingContext neo4jMappingContext;
+
+	private final CypherGenerator cypherGenerator;
+
+	private final EntitySaveSupport saveSupport;
+
+	private AsyncNeo4jEvents eventSupport;
+
+	private final DatabaseSelectionProvider databaseSelectionProvider;
+
+	private Neo4jMetrics metrics = Neo4jMetrics.NOOP;
+
+	public AsyncNeo4jTemplate(AsyncNeo4jClient neo4jClient) {
+		this(neo4jClient, new Neo4jMappingContext(), DatabaseSelectionProvider.getDefaultSelectionProvider());
+	}
+
+	public AsyncNeo4jTemplate(AsyncNeo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext,
+		DatabaseSelectionProvider databaseSelectionProvider) {
+
+		Assert.notNull(neo4jClient, "The AsyncNeo4jClient is required");
+		Assert.notNull(neo4jMappingContext, "The Neo4jMappingContext is required");
+		Assert.notNull(databaseSelectionProvider, "The database selection provider is required");
+
+		this.neo4jClient = neo4jClient;
+		this.neo4jMappingContext = neo4jMappingContext;
+		this.cypherGenerator = CypherGenerator.INSTANCE;
+		this.saveSupport = new EntitySaveSupport(neo4jMappingContext, cypherGenerator, renderer);
+		this.eventSupport = new AsyncNeo4jEvents(EntityCallbacks.create());
+		this.databaseSelectionProvider = databaseSelectionProvider;
+	}
+
+	@Override
+	public CompletionStage<Long> count(Class<?> domainType) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData)
+			.returning(Functions.count(asterisk())).build();
+
+		return measure("count", domainType, () -> count(statement));
+	}
+
+	@Override
+	public CompletionStage<Long> count(Statement statement) {
+		return count(statement, emptyMap());
+	}
+
+	@Override
+	public CompletionStage<Long> count(Statement statement, Map<String, Object> parameters) {
+		return count(renderer.render(statement), parameters);
+	}
+
+	@Override
+	public CompletionStage<Long> count(String cypherQuery) {
+		return count(cypherQuery, emptyMap());
+	}
+
+	@Override
+	public CompletionStage<Long> count(String cypherQuery, Map<String, Object> parameters) {
+
+		return this.neo4jClient.query(cypherQuery)
+			.in(getDatabaseName())
+			.bindAll(parameters)
+			.fetchAs(Long.class).one()
+			.thenApply(optionalCount -> optionalCount.orElseThrow(() -> new NoResultException(1, cypherQuery)));
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAll(Class<T> domainType) {
+		return findAll(domainType, FetchPlan.all());
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAll(Class<T> domainType, FetchPlan fetchPlan) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData)
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData, fetchPlan)).build();
+		return measure("findAll", domainType, () -> createFetchSpec(domainType, statement, emptyMap()).all());
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAll(Statement statement, Class<T> domainType) {
+		return createFetchSpec(domainType, statement, emptyMap()).all();
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAll(Statement statement, Map<String, Object> parameters,
+		Class<T> domainType) {
+		return createFetchSpec(domainType, statement, parameters).all();
+	}
+
+	@Override
+	public <T> CompletionStage<Optional<T>> findOne(Statement statement, Map<String, Object> parameters,
+		Class<T> domainType) {
+		return getSingleResult(createFetchSpec(domainType, statement, parameters));
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAll(String cypherQuery, Class<T> domainType) {
+		return createFetchSpec(domainType, cypherQuery, emptyMap()).all();
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAll(String cypherQuery, Map<String, Object> parameters,
+		Class<T> domainType) {
+		return createFetchSpec(domainType, cypherQuery, parameters).all();
+	}
+
+	@Override
+	public <T> CompletionStage<Optional<T>> findOne(String cypherQuery, Map<String, Object> parameters,
+		Class<T> domainType) {
+		return getSingleResult(createFetchSpec(domainType, cypherQuery, parameters));
+	}
+
+	@Override
+	public <T> CompletionStage<Optional<T>> findById(Object id, Class<T> domainType) {
+		return findById(id, domainType, FetchPlan.all());
+	}
+
+	@Override
+	public <T> CompletionStage<Optional<T>> findById(Object id, Class<T> domainType, FetchPlan fetchPlan) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		Statement statement = cypherGenerator
+			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(NAME_OF_ID)))
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData, fetchPlan))
+			.build();
+		return measure("findById", domainType, () -> getSingleResult(
+			createFetchSpec(domainType, statement, singletonMap(NAME_OF_ID, saveSupport.convertIdValues(id)))));
+	}
+
+	@Override
+	public <T> CompletionStage<Optional<T>> findSubgraph(Object id, Class<T> domainType, int depth) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String cypherQuery = cypherGenerator.createSubgraphQuery(entityMetaData, depth);
+		return measure("findSubgraph", domainType, () -> getSingleResult(
+			createFetchSpec(domainType, cypherQuery, singletonMap(NAME_OF_ID, saveSupport.convertIdValues(id)))));
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAllById(Iterable<?> ids, Class<T> domainType) {
+		return findAllById(ids, domainType, FetchPlan.all());
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAllById(Iterable<?> ids, Class<T> domainType, FetchPlan fetchPlan) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		Statement statement = cypherGenerator
+			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().in((parameter(NAME_OF_IDS))))
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData, fetchPlan))
+			.build();
+
+		return measure("findAllById", domainType,
+			() -> createFetchSpec(domainType, statement, singletonMap(NAME_OF_IDS, saveSupport.convertIdValues(ids))).all());
+	}
+
+	@Override
+	public <T> CompletionStage<T> save(T instance) {
+
+		String databaseName = getDatabaseName();
+		return measure("save", instance.getClass(),
+			() -> neo4jClient.doInUnitOfWork(databaseName, client -> saveImpl(client, instance, databaseName)));
+	}
+
+	private <T> CompletionStage<T> saveImpl(AsyncNeo4jClient client, T instance, @Nullable String inDatabase) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(instance.getClass());
+		T entityToBeSaved = eventSupport.maybeCallBeforeBind(instance);
+
+		return determineDynamicLabels(client, entityToBeSaved, entityMetaData, inDatabase)
+			.thenCompose(dynamicLabels -> client
+				.query(() -> saveSupport.renderSaveOf(entityMetaData, dynamicLabels))
+				.in(inDatabase)
+				.bind((T) entityToBeSaved)
+				.with(neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass()))
+				.fetchAs(Long.class).one())
+			.thenCompose(optionalInternalId -> {
+				T savedEntity = saveSupport.assignInternalId(entityMetaData, entityToBeSaved, optionalInternalId);
+				return processRelations(client, entityMetaData, savedEntity, inDatabase).thenApply(v -> savedEntity);
+			});
+	}
+
+	private CompletionStage<DynamicLabels> determineDynamicLabels(AsyncNeo4jClient client,
+		Object entityToBeSaved, Neo4jPersistentEntity<?> entityMetaData, @Nullable String inDatabase
+	) {
+		return saveSupport.prepareDynamicLabelsQuery(entityToBeSaved, entityMetaData)
+			.map(query -> client.query(query.getCypher())
+				.in(inDatabase)
+				.bindAll(query.getParameters())
+				.fetch().one())
+			.orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()))
+			.thenApply(currentLabels -> saveSupport.toDynamicLabels(entityToBeSaved, entityMetaData, currentLabels));
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> saveAll(Iterable<T> instances) {
+
+		Collection<T> entities;
+		if (instances instanceof Collection) {
+			entities = (Collection<T>) instances;
+		} else {
+			entities = new ArrayList<>();
+			instances.forEach(entities::add);
+		}
+
+		if (entities.isEmpty()) {
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+
+		String databaseName = getDatabaseName();
+		Class<T> domainClass = (Class<T>) CollectionUtils.findCommonElementType(entities);
+		return measure("saveAll", domainClass == null ? Object.class : domainClass, () -> neo4jClient
+			.doInUnitOfWork(databaseName, client -> saveAllImpl(client, entities, domainClass, databaseName)));
+	}
+
+	private <T> CompletionStage<List<T>> saveAllImpl(AsyncNeo4jClient client, Collection<T> entities,
+		Class<T> domainClass, @Nullable String databaseName) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
+		if (entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()) {
+			log.debug("Saving entities using single statements.");
+
+			// All statements share one transaction, so the entities are saved one after another
+			List<T> savedEntities = new ArrayList<>(entities.size());
+			CompletionStage<Void> allSaved = CompletableFuture.completedFuture(null);
+			for (T entity : entities) {
+				allSaved = allSaved
+					.thenCompose(v -> saveImpl(client, entity, databaseName))
+					.thenAccept(savedEntities::add);
+			}
+			return allSaved.thenApply(v -> savedEntities);
+		}
+
+		List<T> entitiesToBeSaved = entities.stream()
+			.map(eventSupport::maybeCallBeforeBind)
+			.collect(toList());
+
+		// Save roots
+		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
+		List<Map<String, Object>> entityList = entitiesToBeSaved.stream()
+			.map(binderFunction).collect(toList());
+		return client
+			.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
+			.in(databaseName)
+			.bind(entityList).to(NAME_OF_ENTITY_LIST_PARAM)
+			.run()
+			.thenCompose(resultSummary -> {
+				SummaryCounters counters = resultSummary.counters();
+				log.debug(() -> String.format(
+					"Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
+					counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
+					counters.relationshipsDeleted(), counters.propertiesSet()));
+
+				// Save related
+				return runSequentially(entitiesToBeSaved.stream()
+					.map(entityToBeSaved -> (Supplier<CompletionStage<Void>>) () ->
+						processRelations(client, entityMetaData, entityToBeSaved, databaseName))
+					.collect(toList()));
+			})
+			.thenApply(v -> entitiesToBeSaved);
+	}
+
+	@Override
+	public <T> CompletionStage<Void> deleteById(Object id, Class<T> domainType) {
+
+		Assert.notNull(id, "The given id must not be null!");
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String nameOfParameter = "id";
+		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
+
+		log.debug(() -> String.format("Deleting entity with id %s ", id));
+
+		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
+		return measure("deleteById", domainType, () -> this.neo4jClient.query(renderer.render(statement))
+			.in(getDatabaseName())
+			.bind(id).to(nameOfParameter)
+			.run()
+			.thenAccept(AsyncNeo4jTemplate::logDeleteSummary));
+	}
+
+	@Override
+	public <T> CompletionStage<Void> deleteAllById(Iterable<?> ids, Class<T> domainType) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String nameOfParameter = "ids";
+		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
+
+		log.debug(() -> String.format("Deleting all entities with the following ids: %s ", ids));
+
+		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
+		return measure("deleteAllById", domainType, () -> this.neo4jClient.query(renderer.render(statement))
+			.in(getDatabaseName())
+			.bind(ids).to(nameOfParameter)
+			.run()
+			.thenAccept(AsyncNeo4jTemplate::logDeleteSummary));
+	}
+
+	@Override
+	public CompletionStage<Void> deleteAll(Class<?> domainType) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		log.debug(() -> String.format("Deleting all nodes with primary label %s", entityMetaData.getPrimaryLabel()));
+
+		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
+		return measure("deleteAll", domainType, () -> this.neo4jClient.query(renderer.render(statement))
+			.in(getDatabaseName())
+			.run()
+			.thenAccept(AsyncNeo4jTemplate::logDeleteSummary));
+	}
+
+	private static void logDeleteSummary(ResultSummary summary) {
+
+		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
+			summary.counters().relationshipsDeleted()));
+	}
+
+	private <T> AsyncNeo4jClient.RecordFetchSpec<T> createFetchSpec(Class<T> domainType, Statement statement,
+		Map<String, Object> parameters) {
+
+		return createFetchSpec(domainType, renderer.render(statement), parameters);
+	}
+
+	private <T> AsyncNeo4jClient.RecordFetchSpec<T> createFetchSpec(Class<T> domainType, String cypherQuery,
+		Map<String, Object> parameters) {
+
+		return this.neo4jClient.query(cypherQuery)
+			.in(getDatabaseName())
+			.bindAll(parameters)
+			.fetchAs(domainType)
+			.mappedBy(neo4jMappingContext.getRequiredMappingFunctionFor(domainType));
+	}
+
+	private static <T> CompletionStage<Optional<T>> getSingleResult(AsyncNeo4jClient.RecordFetchSpec<T> fetchSpec) {
+
+		return fetchSpec.one().handle((result, e) -> {
+			if (e == null) {
+				return result;
+			}
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof NoSuchRecordException) {
+				// This exception is thrown by the driver in both cases when there are 0 or 1+n records
+				// So there has been an incorrect result size, but not to few results but to many.
+				throw new IncorrectResultSizeDataAccessException(1);
+			}
+			throw cause instanceof CompletionException ? (CompletionException) cause : new CompletionException(cause);
+		});
+	}
+
+	private CompletionStage<Void> processRelations(AsyncNeo4jClient client,
+		Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject, @Nullable String inDatabase) {
+
+		AsyncRelationships relationships = new AsyncRelationships(client, inDatabase);
+		saveSupport.walkRelationships(neo4jPersistentEntity, parentObject, relationships);
+		return relationships.save();
+	}
+
+	private <Y> CompletionStage<Long> saveRelatedNode(AsyncNeo4jClient client, Object entity, Class<Y> entityType,
+		Neo4jPersistentEntity<?> targetNodeDescription, @Nullable String inDatabase) {
+
+		return determineDynamicLabels(client, entity, targetNodeDescription, inDatabase)
+			.thenCompose(dynamicLabels -> client
+				.query(() -> saveSupport.renderSaveOf(targetNodeDescription, dynamicLabels))
+				.in(inDatabase)
+				.bind((Y) entity).with(neo4jMappingContext.getRequiredBinderFunctionFor(entityType))
+				.fetchAs(Long.class).one())
+			.thenApply(optionalSavedNodeId -> saveSupport.requireNodeId(targetNodeDescription, optionalSavedNodeId));
+	}
+
+	/**
+	 * Chains the given operations, each one is started after the previous one completed.
+	 */
+	private static CompletionStage<Void> runSequentially(List<Supplier<CompletionStage<Void>>> operations) {
+
+		CompletionStage<Void> result = CompletableFuture.completedFuture(null);
+		for (Supplier<CompletionStage<Void>> operation : operations) {
+			result = result.thenCompose(v -> operation.get());
+		}
+		return result;
+	}
+
+	private String getDatabaseName() {
+
+		return this.databaseSelectionProvider.getDatabaseSelection().getValue();
+	}
+
+	/**
+	 * Records the duration of an operation if metrics are available. The operation is finished when the returned stage
+	 * completes.
+	 */
+	private <R> CompletionStage<R> measure(String operation, Class<?> entityType,
+		Supplier<CompletionStage<R>> operationCall) {
+
+		if (metrics == Neo4jMetrics.NOOP) {
+			return operationCall.get();
+		}
+
+		String databaseName = getDatabaseName();
+		long start = System.nanoTime();
+		CompletionStage<R> result;
+		try {
+			result = operationCall.get();
+		} catch (RuntimeException e) {
+			metrics.recordOperation(operation, entityType, databaseName, System.nanoTime() - start, e);
+			throw e;
+		}
+		return result.whenComplete((v, e) -> metrics.recordOperation(operation, entityType, databaseName,
+			System.nanoTime() - start, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e));
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+
+		this.eventSupport = new AsyncNeo4jEvents(EntityCallbacks.create(beanFactory));
+		this.metrics = beanFactory.getBeanProvider(Neo4jMetrics.class).getIfUnique(() -> Neo4jMetrics.NOOP);
+	}
+
+	/**
+	 * Collects the operations saving related nodes and their relationships, so that they can be executed in order.
+	 */
+	private final class AsyncRelationships implements EntitySaveSupport.RelationshipVisitor {
+
+		private final AsyncNeo4jClient client;
+
+		private final @Nullable String inDatabase;
+
+		private final List<Supplier<CompletionStage<Void>>> relationshipCreationStages = new ArrayList<>();
+
+		AsyncRelationships(AsyncNeo4jClient client, @Nullable String inDatabase) {
+			this.client = client;
+			this.inDatabase = inDatabase;
+		}
+
+		@Override
+		public void removeRelationships(EntitySaveSupport.RenderedQuery query) {
+
+			relationshipCreationStages.add(() -> client.query(query.getCypher())
+				.in(inDatabase)
+				.bindAll(query.getParameters())
+				.run().thenAccept(summary -> { }));
+		}
+
+		@Override
+		public void relatedNode(EntitySaveSupport.RelatedNode relatedNode) {
+
+			relationshipCreationStages.add(() -> {
+				Object valueToBeSaved = eventSupport.maybeCallBeforeBind(relatedNode.getValue());
+
+				return saveRelatedNode(client, valueToBeSaved, relatedNode.getAssociationTargetType(),
+					relatedNode.getNodeDescription(valueToBeSaved), inDatabase).thenCompose(relatedInternalId -> {
+
+					EntitySaveSupport.RenderedQuery relationshipCreationQuery = relatedNode
+						.link(valueToBeSaved, relatedInternalId);
+
+					return client.query(relationshipCreationQuery.getCypher())
+						.in(inDatabase)
+						.bindAll(relationshipCreationQuery.getParameters())
+						.run()
+						.thenCompose(summary -> {
+							AsyncRelationships nestedRelationships = new AsyncRelationships(client, inDatabase);
+							relatedNode.walkRelationships(valueToBeSaved, nestedRelationships);
+							return nestedRelationships.save();
+						});
+				});
+			});
+		}
+
+		CompletionStage<Void> save() {
+			return runSequentially(relationshipCreationStages);
+		}
+	}
+
+	/**
+	 * Utility class that orchestrates {@link EntityCallbacks}.
+	 * All the methods provided here check for their availability and do nothing when an event cannot be published.
+	 */
+	final class AsyncNeo4jEvents {
+
+		private final EntityCallbacks entityCallbacks;
+
+		AsyncNeo4jEvents(EntityCallbacks entityCallbacks) {
+			this.entityCallbacks = entityCallbacks;
+		}
+
+		public <T> T maybeCallBeforeBind(T object) {
+			return entityCallbacks.callback(BeforeBindCallback.class, object);
+		}
+	}
+}
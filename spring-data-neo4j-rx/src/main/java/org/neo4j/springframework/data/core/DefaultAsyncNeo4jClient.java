@@ -0,0 +1,595 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static java.util.stream.Collectors.*;
+import static org.neo4j.springframework.data.core.Neo4jClient.*;
+import static org.neo4j.springframework.data.core.transaction.Neo4jTransactionManager.*;
+import static org.neo4j.springframework.data.core.transaction.Neo4jTransactionUtils.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.QueryRunner;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.async.AsyncQueryRunner;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+import org.neo4j.springframework.data.repository.support.Neo4jPersistenceExceptionTranslator;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.converter.ConverterRegistry;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default implementation of the {@link AsyncNeo4jClient}. Every query is run either
+ * <ul>
+ * <li>in the transaction of the unit of work this client is bound to,</li>
+ * <li>in a Spring managed transaction bound to the calling thread or</li>
+ * <li>in a new async session which is closed after the query completed.</li>
+ * </ul>
+ * Queries running in their own session and units of work count against the limit of in-flight queries. Queries of
+ * a client bound to a unit of work don't count, even if they target another database and therefore need their own
+ * session: The unit of work already holds a permit and waiting for another one could dead lock.
+ * <p>
+ * All queries are measured with the configured {@link Neo4jMetrics} and reported to the configured
+ * {@link QueryExecutionListener query execution listeners}.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+class DefaultAsyncNeo4jClient implements AsyncNeo4jClient {
+
+	private final Driver driver;
+	private final TypeSystem typeSystem;
+	private final ConversionService conversionService;
+	private final Neo4jPersistenceExceptionTranslator persistenceExceptionTranslator;
+	private final InFlightLimiter inFlightLimiter;
+	private final Neo4jMetrics metrics;
+	private final List<QueryExecutionListener> listeners;
+
+	/**
+	 * The unit of work this instance is bound to, {@literal null} for the instance created by the factory methods.
+	 */
+	@Nullable private final UnitOfWork unitOfWork;
+
+	DefaultAsyncNeo4jClient(Driver driver, int maxInFlightQueries) {
+		this(driver, maxInFlightQueries, ForkJoinPool.commonPool(), Neo4jMetrics.NOOP, Collections.emptyList());
+	}
+
+	DefaultAsyncNeo4jClient(Driver driver, int maxInFlightQueries, Executor queuedQueriesExecutor,
+		Neo4jMetrics metrics, List<QueryExecutionListener> listeners) {
+
+		this.driver = driver;
+		this.typeSystem = driver.defaultTypeSystem();
+		this.conversionService = new DefaultConversionService();
+		new Neo4jConversions().registerConvertersIn((ConverterRegistry) conversionService);
+		this.persistenceExceptionTranslator = new Neo4jPersistenceExceptionTranslator();
+		this.inFlightLimiter = new InFlightLimiter(maxInFlightQueries, queuedQueriesExecutor);
+		this.metrics = metrics;
+		this.listeners = listeners;
+		this.unitOfWork = null;
+	}
+
+	private DefaultAsyncNeo4jClient(DefaultAsyncNeo4jClient source, UnitOfWork unitOfWork) {
+
+		this.driver = source.driver;
+		this.typeSystem = source.typeSystem;
+		this.conversionService = source.conversionService;
+		this.persistenceExceptionTranslator = source.persistenceExceptionTranslator;
+		this.inFlightLimiter = source.inFlightLimiter;
+		this.metrics = source.metrics;
+		this.listeners = source.listeners;
+		this.unitOfWork = unitOfWork;
+	}
+
+	/**
+	 * Executes one of the given operations depending on where the query has to be run.
+	 *
+	 * @param targetDatabase The target database
+	 * @param asyncOperation The operation used with the transaction of a unit of work or with a new session
+	 * @param blockingOperation The operation used with a Spring managed transaction
+	 * @param <T> The type of the result
+	 * @return A stage completing with the result of the chosen operation
+	 */
+	<T> CompletionStage<T> execute(@Nullable String targetDatabase,
+		Function<AsyncQueryRunner, CompletionStage<T>> asyncOperation, Function<QueryRunner, T> blockingOperation) {
+
+		CompletionStage<T> result;
+		if (unitOfWork != null && unitOfWork.isFor(targetDatabase)) {
+			result = invoke(() -> asyncOperation.apply(unitOfWork.transaction));
+		} else {
+			result = invoke(() -> {
+				Transaction transaction = retrieveTransaction(driver, targetDatabase);
+				if (transaction != null) {
+					return CompletableFuture.completedFuture(blockingOperation.apply(transaction));
+				}
+				Supplier<CompletionStage<T>> inNewSession = () -> {
+					AsyncSession session = driver.asyncSession(defaultSessionConfig(targetDatabase));
+					CompletionStage<T> operation = invoke(() -> asyncOperation.apply(session));
+					return operation
+						.handle((v, e) -> null)
+						.thenCompose(ignored -> session.closeAsync())
+						.thenCompose(ignored -> operation);
+				};
+				// The unit of work already holds a permit and would wait for itself otherwise
+				return unitOfWork == null ? inFlightLimiter.submit(inNewSession) : invoke(inNewSession);
+			});
+		}
+
+		return translateErrors(result, RuntimeException.class);
+	}
+
+	/**
+	 * Executes a query like {@link #execute(String, Function, Function)} and records a failure of the query with the
+	 * given meter. Successful queries must be recorded by the operations, as only they have access to the summary.
+	 */
+	<T> CompletionStage<T> execute(@Nullable String targetDatabase, QueryMeter queryMeter,
+		Function<AsyncQueryRunner, CompletionStage<T>> asyncOperation, Function<QueryRunner, T> blockingOperation) {
+
+		return execute(targetDatabase, asyncOperation, blockingOperation).whenComplete((v, e) -> {
+			if (e != null) {
+				queryMeter.failed(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+			}
+		});
+	}
+
+	QueryMeter newQueryMeter(@Nullable String targetDatabase) {
+		return new QueryMeter(metrics, listeners, targetDatabase);
+	}
+
+	@Override
+	public RunnableSpec query(String cypher) {
+		return query(() -> cypher);
+	}
+
+	@Override
+	public RunnableSpec query(Supplier<String> cypherSupplier) {
+		return new DefaultRunnableSpec(cypherSupplier);
+	}
+
+	@Override
+	public <T> CompletionStage<T> doInUnitOfWork(@Nullable String targetDatabase,
+		Function<AsyncNeo4jClient, ? extends CompletionStage<T>> callback) {
+
+		Assert.notNull(callback, "Callback is required.");
+
+		if (isTransactionBound(driver) || unitOfWork != null) {
+			return invoke(() -> callback.apply(this));
+		}
+
+		String databaseName = verifyDatabaseName(targetDatabase);
+		CompletionStage<T> result = inFlightLimiter.submit(() -> {
+			AsyncSession session = driver.asyncSession(defaultSessionConfig(databaseName));
+			CompletionStage<T> work = session.beginTransactionAsync().thenCompose(transaction -> {
+				CompletionStage<T> callbackResult = invoke(
+					() -> callback.apply(new DefaultAsyncNeo4jClient(this, new UnitOfWork(databaseName, transaction))));
+				return callbackResult
+					.handle((v, e) -> e == null ? transaction.commitAsync() : transaction.rollbackAsync())
+					.thenCompose(Function.identity())
+					.thenCompose(ignored -> callbackResult);
+			});
+			return work
+				.handle((v, e) -> null)
+				.thenCompose(ignored -> session.closeAsync())
+				.thenCompose(ignored -> work);
+		});
+
+		return translateErrors(result, Neo4jException.class);
+	}
+
+	/**
+	 * Calls the supplier and turns an exception thrown from it into an exceptionally completed stage.
+	 */
+	private static <T> CompletionStage<T> invoke(Supplier<? extends CompletionStage<T>> supplier) {
+
+		try {
+			return supplier.get();
+		} catch (RuntimeException e) {
+			return failedStage(e);
+		}
+	}
+
+	private static <T> CompletionStage<T> failedStage(Throwable ex) {
+
+		CompletableFuture<T> failedStage = new CompletableFuture<>();
+		failedStage.completeExceptionally(ex);
+		return failedStage;
+	}
+
+	/**
+	 * Unwraps {@link CompletionException completion exceptions} and tries to translate exceptions of the given type.
+	 *
+	 * @param stage The stage whose exceptions should be translated
+	 * @param translatableType The type of exception that should be translated
+	 * @param <T> The type of the result
+	 * @return A new stage
+	 */
+	private <T> CompletionStage<T> translateErrors(CompletionStage<T> stage,
+		Class<? extends RuntimeException> translatableType) {
+
+		return stage.handle((v, e) -> {
+			if (e == null) {
+				return CompletableFuture.completedFuture(v);
+			}
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			if (translatableType.isInstance(cause)) {
+				cause = potentiallyConvertRuntimeException((RuntimeException) cause);
+			}
+			return DefaultAsyncNeo4jClient.<T>failedStage(cause);
+		}).thenCompose(Function.identity());
+	}
+
+	/**
+	 * Tries to convert the given {@link RuntimeException} into a {@link DataAccessException} but returns the original
+	 * exception if the conversation failed. Thus allows safe re-throwing of the return value.
+	 *
+	 * @param ex the exception to translate
+	 * @return
+	 */
+	private RuntimeException potentiallyConvertRuntimeException(RuntimeException ex) {
+		RuntimeException resolved = persistenceExceptionTranslator.translateExceptionIfPossible(ex);
+		return resolved == null ? ex : resolved;
+	}
+
+	/**
+	 * The async session and its transaction shared by all queries of a client bound to one unit of work.
+	 */
+	static final class UnitOfWork {
+
+		@Nullable private final String databaseName;
+
+		private final AsyncTransaction transaction;
+
+		UnitOfWork(@Nullable String databaseName, AsyncTransaction transaction) {
+			this.databaseName = databaseName;
+			this.transaction = transaction;
+		}
+
+		boolean isFor(@Nullable String targetDatabase) {
+			return Objects.equals(this.databaseName, targetDatabase);
+		}
+	}
+
+	/**
+	 * Limits the number of concurrently running operations. Operations exceeding the limit are queued and started in
+	 * order when running ones complete. The limiter doesn't block any thread.
+	 * <p>
+	 * Operations complete on the I/O threads of the driver. Queued operations are therefore started on the given
+	 * executor and not on the thread completing a running operation. Only one thread at a time starts queued
+	 * operations, in a loop instead of recursively, so that operations completing immediately don't grow the stack.
+	 */
+	static final class InFlightLimiter {
+
+		private final int maxInFlight;
+
+		private final Executor executor;
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+		/**
+		 * The number of requests to drain the queue, only the thread raising it from zero drains.
+		 */
+		private final AtomicInteger drainRequests = new AtomicInteger();
+
+		InFlightLimiter(int maxInFlight, Executor executor) {
+
+			Assert.isTrue(maxInFlight > 0, "The maximum number of in-flight queries must be greater than zero.");
+			Assert.notNull(executor, "An executor for queued queries is required.");
+			this.maxInFlight = maxInFlight;
+			this.executor = executor;
+		}
+
+		<T> CompletionStage<T> submit(Supplier<? extends CompletionStage<T>> operation) {
+
+			CompletableFuture<T> result = new CompletableFuture<>();
+			pending.offer(() -> invoke(operation).whenComplete((v, e) -> {
+				inFlight.decrementAndGet();
+				if (e == null) {
+					result.complete(v);
+				} else {
+					result.completeExceptionally(e);
+				}
+				if (!pending.isEmpty()) {
+					executor.execute(this::drain);
+				}
+			}));
+			drain();
+			return result;
+		}
+
+		int getInFlight() {
+			return inFlight.get();
+		}
+
+		private void drain() {
+
+			if (drainRequests.getAndIncrement() != 0) {
+				return;
+			}
+
+			int missedRequests = 1;
+			do {
+				while (!pending.isEmpty()) {
+					int current = inFlight.get();
+					if (current >= maxInFlight) {
+						break;
+					}
+					if (!inFlight.compareAndSet(current, current + 1)) {
+						continue;
+					}
+					Runnable next = pending.poll();
+					if (next == null) {
+						inFlight.decrementAndGet();
+					} else {
+						next.run();
+					}
+				}
+				missedRequests = drainRequests.addAndGet(-missedRequests);
+			} while (missedRequests != 0);
+		}
+	}
+
+	/**
+	 * Holder of a cypher template supplier and a set of named parameters, able to run them either asynchronous or
+	 * blocking.
+	 */
+	class RunnableStatement {
+
+		private final Supplier<String> cypherSupplier;
+
+		private final NamedParameters parameters = new NamedParameters();
+
+		RunnableStatement(Supplier<String> cypherSupplier) {
+			this.cypherSupplier = cypherSupplier;
+		}
+
+		private String prepare() {
+
+			String statementTemplate = cypherSupplier.get();
+
+			if (cypherLog.isDebugEnabled()) {
+				cypherLog.debug(() -> String.format("Executing:%s%s", System.lineSeparator(), statementTemplate));
+
+				if (cypherLog.isTraceEnabled() && !parameters.isEmpty()) {
+					cypherLog.trace(() -> String.format("with parameters:%s%s", System.lineSeparator(), parameters));
+				}
+			}
+			return statementTemplate;
+		}
+
+		CompletionStage<ResultCursor> runWith(AsyncQueryRunner queryRunner, QueryMeter queryMeter) {
+
+			String statementTemplate = prepare();
+			queryMeter.started(statementTemplate, parameters.get());
+			return queryRunner.runAsync(statementTemplate, parameters.get());
+		}
+
+		Result runWith(QueryRunner queryRunner, QueryMeter queryMeter) {
+
+			String statementTemplate = prepare();
+			queryMeter.started(statementTemplate, parameters.get());
+			return queryRunner.run(statementTemplate, parameters.get());
+		}
+	}
+
+	class DefaultRunnableSpec implements RunnableSpec {
+
+		private final RunnableStatement runnableStatement;
+
+		@Nullable private String targetDatabase;
+
+		DefaultRunnableSpec(Supplier<String> cypherSupplier) {
+			this.runnableStatement = new RunnableStatement(cypherSupplier);
+		}
+
+		@Override
+		public RunnableSpecTightToDatabase in(@SuppressWarnings("HiddenField") String targetDatabase) {
+
+			this.targetDatabase = verifyDatabaseName(targetDatabase);
+			return this;
+		}
+
+		class DefaultOngoingBindSpec<T> implements OngoingBindSpec<T, RunnableSpecTightToDatabase> {
+
+			@Nullable
+			private final T value;
+
+			DefaultOngoingBindSpec(@Nullable T value) {
+				this.value = value;
+			}
+
+			@Override
+			public RunnableSpecTightToDatabase to(String name) {
+
+				DefaultRunnableSpec.this.runnableStatement.parameters.add(name, value);
+				return DefaultRunnableSpec.this;
+			}
+
+			@Override
+			public RunnableSpecTightToDatabase with(Function<T, Map<String, Object>> binder) {
+
+				Assert.notNull(binder, "Binder is required.");
+
+				return bindAll(binder.apply(value));
+			}
+		}
+
+		@Override
+		public OngoingBindSpec<?, RunnableSpecTightToDatabase> bind(@Nullable Object value) {
+			return new DefaultOngoingBindSpec(value);
+		}
+
+		@Override
+		public RunnableSpecTightToDatabase bindAll(Map<String, Object> newParameters) {
+			this.runnableStatement.parameters.addAll(newParameters);
+			return this;
+		}
+
+		@Override
+		public <R> MappingSpec<R> fetchAs(Class<R> targetClass) {
+
+			return new DefaultRecordFetchSpec<>(this.targetDatabase, this.runnableStatement,
+				new SingleValueMappingFunction<>(conversionService, targetClass));
+		}
+
+		@Override
+		public RecordFetchSpec<Map<String, Object>> fetch() {
+
+			return new DefaultRecordFetchSpec<>(this.targetDatabase, this.runnableStatement, (t, r) -> r.asMap());
+		}
+
+		@Override
+		public CompletionStage<ResultSummary> run() {
+
+			QueryMeter queryMeter = newQueryMeter(this.targetDatabase);
+			return execute(this.targetDatabase, queryMeter,
+				queryRunner -> runnableStatement.runWith(queryRunner, queryMeter).thenCompose(ResultCursor::consumeAsync),
+				queryRunner -> runnableStatement.runWith(queryRunner, queryMeter).consume())
+				.whenComplete((resultSummary, e) -> {
+					if (e == null) {
+						queryMeter.succeeded(resultSummary);
+					}
+				});
+		}
+	}
+
+	class DefaultRecordFetchSpec<T> implements RecordFetchSpec<T>, MappingSpec<T> {
+
+		@Nullable private final String targetDatabase;
+
+		private final RunnableStatement runnableStatement;
+
+		private BiFunction<TypeSystem, Record, T> mappingFunction;
+
+		DefaultRecordFetchSpec(@Nullable String targetDatabase, RunnableStatement runnableStatement,
+			BiFunction<TypeSystem, Record, T> mappingFunction) {
+			this.targetDatabase = targetDatabase;
+			this.runnableStatement = runnableStatement;
+			this.mappingFunction = mappingFunction;
+		}
+
+		@Override
+		public RecordFetchSpec<T> mappedBy(
+			@SuppressWarnings("HiddenField") BiFunction<TypeSystem, Record, T> mappingFunction) {
+
+			this.mappingFunction = new DelegatingMappingFunctionWithNullCheck<>(mappingFunction);
+			return this;
+		}
+
+		@Override
+		public CompletionStage<Optional<T>> one() {
+
+			QueryMeter queryMeter = newQueryMeter(this.targetDatabase);
+			Function<Record, T> mappingFunction = measuredMappingFunction(queryMeter);
+			return execute(this.targetDatabase, queryMeter,
+				queryRunner -> runnableStatement.runWith(queryRunner, queryMeter)
+					.thenCompose(cursor -> cursor.peekAsync().thenCompose(record -> record == null ?
+						CompletableFuture.completedFuture(Optional.<T>empty()) :
+						cursor.singleAsync().thenApply(mappingFunction.andThen(Optional::of)))
+						.thenCompose(result -> succeeded(cursor, queryMeter, result))),
+				queryRunner -> {
+					Result result = runnableStatement.runWith(queryRunner, queryMeter);
+					Optional<T> one = result.hasNext() ? Optional.of(mappingFunction.apply(result.single())) : Optional.empty();
+					queryMeter.succeeded(result);
+					return one;
+				});
+		}
+
+		@Override
+		public CompletionStage<Optional<T>> first() {
+
+			QueryMeter queryMeter = newQueryMeter(this.targetDatabase);
+			Function<Record, T> mappingFunction = measuredMappingFunction(queryMeter);
+			return execute(this.targetDatabase, queryMeter,
+				queryRunner -> runnableStatement.runWith(queryRunner, queryMeter)
+					.thenCompose(cursor -> cursor.nextAsync()
+						.thenApply(record -> record == null ? Optional.<T>empty() : Optional.of(mappingFunction.apply(record)))
+						.thenCompose(result -> succeeded(cursor, queryMeter, result))),
+				queryRunner -> {
+					Result result = runnableStatement.runWith(queryRunner, queryMeter);
+					Optional<T> first = result.stream().map(mappingFunction).findFirst();
+					queryMeter.succeeded(result);
+					return first;
+				});
+		}
+
+		@Override
+		public CompletionStage<List<T>> all() {
+
+			QueryMeter queryMeter = newQueryMeter(this.targetDatabase);
+			Function<Record, T> mappingFunction = measuredMappingFunction(queryMeter);
+			return execute(this.targetDatabase, queryMeter,
+				queryRunner -> runnableStatement.runWith(queryRunner, queryMeter)
+					.thenCompose(cursor -> cursor.listAsync(mappingFunction)
+						.thenCompose(result -> succeeded(cursor, queryMeter, result))),
+				queryRunner -> {
+					Result result = runnableStatement.runWith(queryRunner, queryMeter);
+					List<T> all = result.stream().map(mappingFunction).collect(toList());
+					queryMeter.succeeded(result);
+					return all;
+				});
+		}
+
+		private Function<Record, T> measuredMappingFunction(QueryMeter queryMeter) {
+			return queryMeter.measure(record -> mappingFunction.apply(typeSystem, record));
+		}
+
+		/**
+		 * Consumes the rest of the result to record its summary and completes with the already mapped result.
+		 */
+		private <R> CompletionStage<R> succeeded(ResultCursor cursor, QueryMeter queryMeter, R result) {
+
+			if (!queryMeter.isEnabled()) {
+				return CompletableFuture.completedFuture(result);
+			}
+			return cursor.consumeAsync().thenApply(resultSummary -> {
+				queryMeter.succeeded(resultSummary);
+				return result;
+			});
+		}
+	}
+}
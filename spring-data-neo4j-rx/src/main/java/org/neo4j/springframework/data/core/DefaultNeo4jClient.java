@@ -23,27 +23,32 @@ import static org.neo4j.springframework.data.core.Neo4jClient.*;
 import static org.neo4j.springframework.data.core.transaction.Neo4jTransactionManager.*;
 import static org.neo4j.springframework.data.core.transaction.Neo4jTransactionUtils.*;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Query;
 import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.Neo4jException;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
 import org.neo4j.springframework.data.repository.support.Neo4jPersistenceExceptionTranslator;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.ConverterRegistry;
@@ -55,7 +60,8 @@ import org.springframework.util.Assert;
 
 /**
  * Default implementation of {@link Neo4jClient}. Uses the Neo4j Java driver to connect to and interact with the database.
- * TODO Micrometer hooks for statement results...
+ * Queries run through the fetch and run specs and pipelines are measured when the client has been build with
+ * {@link Neo4jMetrics} and reported to the configured {@link QueryExecutionListener query execution listeners}.
  *
  * @author Gerrit Meier
  * @author Michael J. Simons
@@ -63,30 +69,64 @@ import org.springframework.util.Assert;
  */
 class DefaultNeo4jClient implements Neo4jClient {
 
+	/**
+	 * Number of records handed over to a single task when mapping in parallel.
+	 */
+	static final int PARALLEL_MAPPING_CHUNK_SIZE = 256;
+
 	private final Driver driver;
 	private final TypeSystem typeSystem;
 	private final ConversionService conversionService;
 	private final Neo4jPersistenceExceptionTranslator persistenceExceptionTranslator = new Neo4jPersistenceExceptionTranslator();
+	private final Neo4jMetrics metrics;
+	private final List<QueryExecutionListener> listeners;
+
+	/**
+	 * The unit of work bound to the current thread via {@link #doInUnitOfWork(String, Supplier)}.
+	 */
+	private final ThreadLocal<UnitOfWork> currentUnitOfWork = new ThreadLocal<>();
 
 	DefaultNeo4jClient(Driver driver) {
+		this(driver, Neo4jMetrics.NOOP, Collections.emptyList());
+	}
+
+	DefaultNeo4jClient(Driver driver, Neo4jMetrics metrics, List<QueryExecutionListener> listeners) {
 
 		this.driver = driver;
+		this.metrics = metrics;
+		this.listeners = listeners;
 		this.typeSystem = driver.defaultTypeSystem();
 
 		this.conversionService = new DefaultConversionService();
 		new Neo4jConversions().registerConvertersIn((ConverterRegistry) conversionService);
 	}
 
+	/**
+	 * Retrieves either the transaction of the current unit of work or a transaction managed by Spring. A unit of work
+	 * is only started without a bound Neo4j transaction, so its transaction must be preferred over one synchronized
+	 * with a Spring transaction scope that doesn't hold a Neo4j transaction.
+	 *
+	 * @param targetDatabase The target database
+	 * @return An ongoing transaction or {@literal null} if there is none
+	 */
+	@Nullable
+	Transaction retrieveOngoingTransaction(@Nullable final String targetDatabase) {
+
+		UnitOfWork unitOfWork = currentUnitOfWork.get();
+		if (unitOfWork != null && unitOfWork.isFor(targetDatabase)) {
+			return unitOfWork.transaction;
+		}
+		return retrieveTransaction(driver, targetDatabase);
+	}
+
 	AutoCloseableQueryRunner getQueryRunner(@Nullable final String targetDatabase) {
 
-		QueryRunner queryRunner = retrieveTransaction(driver, targetDatabase);
+		QueryRunner queryRunner = retrieveOngoingTransaction(targetDatabase);
 		if (queryRunner == null) {
 			queryRunner = driver.session(defaultSessionConfig(targetDatabase));
 		}
 
-		return (AutoCloseableQueryRunner) Proxy.newProxyInstance(this.getClass().getClassLoader(),
-			new Class<?>[] { AutoCloseableQueryRunner.class },
-			new AutoCloseableQueryRunnerHandler(queryRunner));
+		return new DelegatingQueryRunner(queryRunner);
 	}
 
 	/**
@@ -97,33 +137,48 @@ class DefaultNeo4jClient implements Neo4jClient {
 		@Override void close();
 	}
 
-	static class AutoCloseableQueryRunnerHandler implements InvocationHandler {
+	/**
+	 * Delegates all queries to a session or a transaction. Only sessions are closed, transactions are managed outside
+	 * the client.
+	 */
+	static final class DelegatingQueryRunner implements AutoCloseableQueryRunner {
 
-		private final Map<Method, MethodHandle> cachedHandles = new ConcurrentHashMap<>();
-		private final QueryRunner target;
+		private final QueryRunner delegate;
 
-		AutoCloseableQueryRunnerHandler(QueryRunner target) {
-			this.target = target;
+		DelegatingQueryRunner(QueryRunner delegate) {
+			this.delegate = delegate;
 		}
 
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		public Result run(String query, Value parameters) {
+			return delegate.run(query, parameters);
+		}
 
-			if ("close".equals(method.getName())) {
-				if (this.target instanceof Session) {
-					((Session) this.target).close();
-				}
-				return null;
-			} else {
-				return cachedHandles.computeIfAbsent(method, this::findHandleFor).invokeWithArguments(args);
-			}
+		@Override
+		public Result run(String query, Map<String, Object> parameters) {
+			return delegate.run(query, parameters);
 		}
 
-		MethodHandle findHandleFor(Method method) {
-			try {
-				return MethodHandles.publicLookup().unreflect(method).bindTo(target);
-			} catch (IllegalAccessException e) {
-				throw new RuntimeException(e);
+		@Override
+		public Result run(String query, Record parameters) {
+			return delegate.run(query, parameters);
+		}
+
+		@Override
+		public Result run(String query) {
+			return delegate.run(query);
+		}
+
+		@Override
+		public Result run(Query query) {
+			return delegate.run(query);
+		}
+
+		@Override
+		public void close() {
+
+			if (this.delegate instanceof Session) {
+				((Session) this.delegate).close();
 			}
 		}
 	}
@@ -145,6 +200,67 @@ class DefaultNeo4jClient implements Neo4jClient {
 		return new DefaultRunnableDelegation<>(callback);
 	}
 
+	@Override
+	public OngoingPipeline pipeline() {
+		return new DefaultPipeline();
+	}
+
+	@Override
+	public <T> T doInUnitOfWork(@Nullable String targetDatabase, Supplier<T> callback) {
+
+		Assert.notNull(callback, "Callback is required.");
+
+		if (isInUnitOfWork()) {
+			return callback.get();
+		}
+
+		String databaseName = verifyDatabaseName(targetDatabase);
+		try (Session session = driver.session(defaultSessionConfig(databaseName));
+			Transaction transaction = session.beginTransaction()) {
+
+			currentUnitOfWork.set(new UnitOfWork(databaseName, transaction));
+			T result;
+			try {
+				result = callback.get();
+			} finally {
+				currentUnitOfWork.remove();
+			}
+			transaction.commit();
+			return result;
+		} catch (Neo4jException e) {
+			throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+		}
+	}
+
+	/**
+	 * @return True if queries issued on the calling thread participate in an ongoing Neo4j transaction or in a
+	 * {@link #doInUnitOfWork(String, Supplier) unit of work}, hence share one transaction with other queries.
+	 */
+	boolean isInUnitOfWork() {
+
+		return isTransactionBound(driver) || currentUnitOfWork.get() != null;
+	}
+
+	/**
+	 * A session and its transaction shared by all queries on one thread. Closing the transaction without committing it
+	 * rolls it back.
+	 */
+	static final class UnitOfWork {
+
+		@Nullable private final String databaseName;
+
+		private final Transaction transaction;
+
+		UnitOfWork(@Nullable String databaseName, Transaction transaction) {
+			this.databaseName = databaseName;
+			this.transaction = transaction;
+		}
+
+		boolean isFor(@Nullable String targetDatabase) {
+			return Objects.equals(this.databaseName, targetDatabase);
+		}
+	}
+
 	/**
 	 * Basically a holder of a cypher template supplier and a set of named parameters. It's main purpose is to
 	 * orchestrate the running of things with a bit of logging.
@@ -164,7 +280,7 @@ class DefaultNeo4jClient implements Neo4jClient {
 
 		private final NamedParameters parameters;
 
-		protected final Result runWith(AutoCloseableQueryRunner statementRunner) {
+		protected final Result runWith(QueryRunner statementRunner, QueryMeter queryMeter) {
 			String statementTemplate = cypherSupplier.get();
 
 			if (cypherLog.isDebugEnabled()) {
@@ -175,10 +291,15 @@ class DefaultNeo4jClient implements Neo4jClient {
 				}
 			}
 
+			queryMeter.started(statementTemplate, parameters.get());
 			return statementRunner.run(statementTemplate, parameters.get());
 		}
 	}
 
+	QueryMeter newQueryMeter(@Nullable String targetDatabase) {
+		return new QueryMeter(metrics, listeners, targetDatabase);
+	}
+
 	/**
 	 * Tries to convert the given {@link RuntimeException} into a {@link DataAccessException} but returns the original
 	 * exception if the conversation failed. Thus allows safe re-throwing of the return value.
@@ -264,10 +385,14 @@ class DefaultNeo4jClient implements Neo4jClient {
 		@Override
 		public ResultSummary run() {
 
+			QueryMeter queryMeter = newQueryMeter(this.targetDatabase);
 			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
-				Result result = runnableStatement.runWith(statementRunner);
-				return result.consume();
+				Result result = runnableStatement.runWith(statementRunner, queryMeter);
+				ResultSummary resultSummary = result.consume();
+				queryMeter.succeeded(resultSummary);
+				return resultSummary;
 			} catch (RuntimeException e) {
+				queryMeter.failed(e);
 				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
 			}
 		}
@@ -281,6 +406,9 @@ class DefaultNeo4jClient implements Neo4jClient {
 
 		private BiFunction<TypeSystem, Record, T> mappingFunction;
 
+		@Nullable
+		private ForkJoinPool mappingPool;
+
 		DefaultRecordFetchSpec(String targetDatabase, RunnableStatement runnableStatement,
 			BiFunction<TypeSystem, Record, T> mappingFunction) {
 			this.targetDatabase = targetDatabase;
@@ -296,15 +424,27 @@ class DefaultNeo4jClient implements Neo4jClient {
 			return this;
 		}
 
+		@Override
+		public RecordFetchSpec<T> mappedInParallel(ForkJoinPool pool) {
+
+			Assert.notNull(pool, "The pool to map records in parallel is required.");
+			this.mappingPool = pool;
+			return this;
+		}
+
 		@Override
 		public Optional<T> one() {
 
+			QueryMeter queryMeter = newQueryMeter(this.targetDatabase);
 			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
-				Result result = runnableStatement.runWith(statementRunner);
-				return result.hasNext() ?
-					Optional.of(mappingFunction.apply(typeSystem, result.single())) :
+				Result result = runnableStatement.runWith(statementRunner, queryMeter);
+				Optional<T> one = result.hasNext() ?
+					Optional.of(queryMeter.measure(partialMappingFunction(typeSystem)).apply(result.single())) :
 					Optional.empty();
+				queryMeter.succeeded(result);
+				return one;
 			} catch (RuntimeException e) {
+				queryMeter.failed(e);
 				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
 			}
 		}
@@ -312,10 +452,14 @@ class DefaultNeo4jClient implements Neo4jClient {
 		@Override
 		public Optional<T> first() {
 
+			QueryMeter queryMeter = newQueryMeter(this.targetDatabase);
 			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
-				Result result = runnableStatement.runWith(statementRunner);
-				return result.stream().map(partialMappingFunction(typeSystem)).findFirst();
+				Result result = runnableStatement.runWith(statementRunner, queryMeter);
+				Optional<T> first = result.stream().map(queryMeter.measure(partialMappingFunction(typeSystem))).findFirst();
+				queryMeter.succeeded(result);
+				return first;
 			} catch (RuntimeException e) {
+				queryMeter.failed(e);
 				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
 			}
 		}
@@ -323,14 +467,54 @@ class DefaultNeo4jClient implements Neo4jClient {
 		@Override
 		public Collection<T> all() {
 
+			QueryMeter queryMeter = newQueryMeter(this.targetDatabase);
 			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
-				Result result = runnableStatement.runWith(statementRunner);
-				return result.stream().map(partialMappingFunction(typeSystem)).collect(toList());
+				Result result = runnableStatement.runWith(statementRunner, queryMeter);
+				Function<Record, T> measuredMappingFunction = queryMeter.measure(partialMappingFunction(typeSystem));
+				Collection<T> all = this.mappingPool == null
+					? result.stream().map(measuredMappingFunction).collect(toList())
+					: mapInParallel(result, measuredMappingFunction, this.mappingPool);
+				queryMeter.succeeded(result);
+				return all;
 			} catch (RuntimeException e) {
+				queryMeter.failed(e);
 				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
 			}
 		}
 
+		/**
+		 * Pulls the records of the result on the calling thread and maps them in chunks in the given pool.
+		 *
+		 * @param result          The result to map
+		 * @param mappingFunction The function mapping a single record
+		 * @param pool            The pool to map the chunks in
+		 * @return All mapped records in their original order
+		 */
+		private List<T> mapInParallel(Result result, Function<Record, T> mappingFunction, ForkJoinPool pool) {
+
+			List<ForkJoinTask<List<T>>> mappedChunks = new ArrayList<>();
+			try {
+				List<Record> chunk = new ArrayList<>(PARALLEL_MAPPING_CHUNK_SIZE);
+				while (result.hasNext()) {
+					chunk.add(result.next());
+					if (chunk.size() == PARALLEL_MAPPING_CHUNK_SIZE || !result.hasNext()) {
+						List<Record> records = chunk;
+						mappedChunks.add(pool.submit(() -> records.stream().map(mappingFunction).collect(toList())));
+						chunk = new ArrayList<>(PARALLEL_MAPPING_CHUNK_SIZE);
+					}
+				}
+
+				List<T> all = new ArrayList<>(mappedChunks.size() * PARALLEL_MAPPING_CHUNK_SIZE);
+				for (ForkJoinTask<List<T>> mappedChunk : mappedChunks) {
+					all.addAll(mappedChunk.join());
+				}
+				return all;
+			} catch (RuntimeException e) {
+				mappedChunks.forEach(mappedChunk -> mappedChunk.cancel(true));
+				throw e;
+			}
+		}
+
 		/**
 		 * @param typeSystem The actual type system
 		 * @return The partially evaluated mapping function
@@ -369,4 +553,71 @@ class DefaultNeo4jClient implements Neo4jClient {
 			}
 		}
 	}
+
+	class DefaultPipeline implements OngoingPipeline {
+
+		private final List<Result> pendingResults = new ArrayList<>();
+
+		private final List<QueryMeter> pendingQueryMeters = new ArrayList<>();
+
+		private final List<ResultSummary> summaries = new ArrayList<>();
+
+		@Nullable private String targetDatabase;
+
+		@Override
+		public Pipeline in(@Nullable @SuppressWarnings("HiddenField") String targetDatabase) {
+
+			this.targetDatabase = verifyDatabaseName(targetDatabase);
+			return this;
+		}
+
+		@Override
+		public Pipeline add(String cypher, Map<String, Object> parameters) {
+
+			NamedParameters namedParameters = new NamedParameters();
+			namedParameters.addAll(parameters);
+			RunnableStatement runnableStatement = new RunnableStatement(() -> cypher, namedParameters);
+
+			QueryMeter queryMeter = newQueryMeter(this.targetDatabase);
+			try {
+				Transaction transaction = retrieveOngoingTransaction(targetDatabase);
+				if (transaction != null) {
+					// The driver only sends the statement, the result is pulled when it's consumed
+					pendingResults.add(runnableStatement.runWith(transaction, queryMeter));
+					pendingQueryMeters.add(queryMeter);
+				} else {
+					try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
+						ResultSummary resultSummary = runnableStatement.runWith(statementRunner, queryMeter).consume();
+						queryMeter.succeeded(resultSummary);
+						summaries.add(resultSummary);
+					}
+				}
+			} catch (RuntimeException e) {
+				queryMeter.failed(e);
+				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+			}
+			return this;
+		}
+
+		@Override
+		public List<ResultSummary> sync() {
+
+			int i = 0;
+			try {
+				for (; i < pendingResults.size(); ++i) {
+					ResultSummary resultSummary = pendingResults.get(i).consume();
+					pendingQueryMeters.get(i).succeeded(resultSummary);
+					summaries.add(resultSummary);
+				}
+				return new ArrayList<>(summaries);
+			} catch (RuntimeException e) {
+				pendingQueryMeters.get(i).failed(e);
+				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+			} finally {
+				pendingResults.clear();
+				pendingQueryMeters.clear();
+				summaries.clear();
+			}
+		}
+	}
 }
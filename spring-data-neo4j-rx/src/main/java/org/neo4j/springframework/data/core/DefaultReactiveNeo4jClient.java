@@ -24,22 +24,31 @@ import static org.neo4j.springframework.data.core.transaction.ReactiveNeo4jTrans
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.Context;
 import reactor.util.function.Tuple2;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.exceptions.Neo4jException;
 import org.neo4j.driver.reactive.RxQueryRunner;
 import org.neo4j.driver.reactive.RxResult;
 import org.neo4j.driver.reactive.RxSession;
+import org.neo4j.driver.reactive.RxTransaction;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.Neo4jClient.*;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
 import org.neo4j.springframework.data.repository.support.Neo4jPersistenceExceptionTranslator;
 import org.reactivestreams.Publisher;
 import org.springframework.core.convert.ConversionService;
@@ -63,10 +72,18 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 	private final TypeSystem typeSystem;
 	private final ConversionService conversionService;
 	private final Neo4jPersistenceExceptionTranslator persistenceExceptionTranslator = new Neo4jPersistenceExceptionTranslator();
+	private final Neo4jMetrics metrics;
+	private final List<QueryExecutionListener> listeners;
 
 	DefaultReactiveNeo4jClient(Driver driver) {
+		this(driver, Neo4jMetrics.NOOP, Collections.emptyList());
+	}
+
+	DefaultReactiveNeo4jClient(Driver driver, Neo4jMetrics metrics, List<QueryExecutionListener> listeners) {
 
 		this.driver = driver;
+		this.metrics = metrics;
+		this.listeners = listeners;
 		this.typeSystem = driver.defaultTypeSystem();
 		this.conversionService = new DefaultConversionService();
 		new Neo4jConversions().registerConvertersIn((ConverterRegistry) conversionService);
@@ -74,7 +91,12 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 
 	Mono<RxStatementRunnerHolder> retrieveRxStatementRunnerHolder(String targetDatabase) {
 
-		return retrieveReactiveTransaction(driver, targetDatabase)
+		// A unit of work is only started without a bound Neo4j transaction, see DefaultNeo4jClient
+		return Mono.subscriberContext()
+			.flatMap(ctx -> Mono.justOrEmpty(ctx.<UnitOfWork>getOrEmpty(UnitOfWork.class)))
+			.filter(unitOfWork -> unitOfWork.isFor(targetDatabase))
+			.map(unitOfWork -> unitOfWork.transaction)
+			.switchIfEmpty(retrieveReactiveTransaction(driver, targetDatabase))
 			.map(rxTransaction -> new RxStatementRunnerHolder(rxTransaction, Mono.empty(), Mono.empty())) //
 			.switchIfEmpty(
 				Mono.using(() -> driver.rxSession(defaultSessionConfig(targetDatabase)),
@@ -116,6 +138,58 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		return new DefaultRunnableDelegation<>(callback);
 	}
 
+	@Override
+	public <T> Flux<T> doInUnitOfWork(@Nullable String targetDatabase, Supplier<? extends Publisher<T>> callback) {
+
+		Assert.notNull(callback, "Callback is required.");
+
+		String databaseName = verifyDatabaseName(targetDatabase);
+		return isInUnitOfWork().flatMapMany(v -> v ?
+			Flux.from(callback.get()) :
+			Flux.usingWhen(
+				Mono.fromSupplier(() -> driver.rxSession(defaultSessionConfig(databaseName))),
+				session -> Flux.usingWhen(session.beginTransaction(),
+					tx -> Flux.from(callback.get())
+						.subscriberContext(Context.of(UnitOfWork.class, new UnitOfWork(databaseName, tx))),
+					RxTransaction::commit,
+					(tx, e) -> tx.rollback(),
+					RxTransaction::rollback),
+				RxSession::close)
+		).onErrorMap(Neo4jException.class, this::potentiallyConvertRuntimeException);
+	}
+
+	/**
+	 * @return A mono emitting {@literal true} if the current subscriber participates in an ongoing Neo4j transaction
+	 * or in a {@link #doInUnitOfWork(String, Supplier) unit of work}, hence shares one transaction with other queries.
+	 */
+	Mono<Boolean> isInUnitOfWork() {
+
+		return isTransactionBound(driver)
+			.flatMap(transactionBound -> transactionBound ?
+				Mono.just(true) :
+				Mono.subscriberContext().map(ctx -> ctx.hasKey(UnitOfWork.class)));
+	}
+
+	/**
+	 * A session and its transaction shared by all queries of one reactive sequence. It is stored in the subscriber
+	 * context.
+	 */
+	static final class UnitOfWork {
+
+		@Nullable private final String databaseName;
+
+		private final RxTransaction transaction;
+
+		UnitOfWork(@Nullable String databaseName, RxTransaction transaction) {
+			this.databaseName = databaseName;
+			this.transaction = transaction;
+		}
+
+		boolean isFor(@Nullable String targetDatabase) {
+			return Objects.equals(this.databaseName, targetDatabase);
+		}
+	}
+
 	class DefaultRunnableSpec implements RunnableSpec {
 
 		private final Supplier<String> cypherSupplier;
@@ -205,6 +279,9 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 
 		private BiFunction<TypeSystem, Record, T> mappingFunction;
 
+		@Nullable
+		private Scheduler mappingScheduler;
+
 		DefaultRecordFetchSpec(String targetDatabase, Supplier<String> cypherSupplier,
 			NamedParameters parameters) {
 			this(targetDatabase, cypherSupplier, parameters, null);
@@ -226,6 +303,14 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 			return this;
 		}
 
+		@Override
+		public RecordFetchSpec<T> mappedInParallel(Scheduler scheduler) {
+
+			Assert.notNull(scheduler, "The scheduler to map records in parallel is required.");
+			this.mappingScheduler = scheduler;
+			return this;
+		}
+
 		Mono<Tuple2<String, Map<String, Object>>> prepareStatement() {
 			if (cypherLog.isDebugEnabled()) {
 				String cypher = cypherSupplier.get();
@@ -240,7 +325,42 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 
 		Flux<T> executeWith(Tuple2<String, Map<String, Object>> t, RxQueryRunner runner) {
 
-			return Flux.from(runner.run(t.getT1(), t.getT2()).records()).map(r -> mappingFunction.apply(typeSystem, r));
+			Function<Record, T> partialMappingFunction = r -> mappingFunction.apply(typeSystem, r);
+			if (!QueryMeter.isEnabled(metrics, listeners)) {
+				return map(Flux.from(runner.run(t.getT1(), t.getT2()).records()), partialMappingFunction);
+			}
+
+			return Flux.defer(() -> {
+				QueryMeter queryMeter = new QueryMeter(metrics, listeners, targetDatabase);
+				queryMeter.started(t.getT1(), t.getT2());
+				RxResult rxResult = runner.run(t.getT1(), t.getT2());
+				return map(Flux.from(rxResult.records()), queryMeter.measure(partialMappingFunction))
+					.concatWith(Mono.from(rxResult.consume()).doOnNext(queryMeter::succeeded).then(Mono.empty()))
+					.doOnError(queryMeter::failed)
+					.doOnCancel(queryMeter::stopped);
+			});
+		}
+
+		/**
+		 * Maps the records either in place or, when a scheduler has been configured, in chunks on that scheduler.
+		 * The chunks are merged in their original order.
+		 *
+		 * @param records         The records to map
+		 * @param mappingFunction The function mapping a single record
+		 * @return The mapped records
+		 */
+		private Flux<T> map(Flux<Record> records, Function<Record, T> mappingFunction) {
+
+			if (this.mappingScheduler == null) {
+				return records.map(mappingFunction);
+			}
+
+			Scheduler scheduler = this.mappingScheduler;
+			return records.buffer(DefaultNeo4jClient.PARALLEL_MAPPING_CHUNK_SIZE)
+				.flatMapSequential(chunk -> Mono
+					.fromCallable(() -> chunk.stream().map(mappingFunction).collect(Collectors.toList()))
+					.subscribeOn(scheduler))
+				.flatMapIterable(Function.identity());
 		}
 
 		@Override
@@ -275,8 +395,12 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 			return doInQueryRunnerForMono(
 				targetDatabase,
 				runner -> prepareStatement().flatMap(t -> {
+					QueryMeter queryMeter = new QueryMeter(metrics, listeners, targetDatabase);
+					queryMeter.started(t.getT1(), t.getT2());
 					RxResult rxResult = runner.run(t.getT1(), t.getT2());
-					return Flux.from(rxResult.records()).then(Mono.from(rxResult.consume()));
+					return Flux.from(rxResult.records()).then(Mono.from(rxResult.consume()))
+						.doOnNext(queryMeter::succeeded)
+						.doOnError(queryMeter::failed);
 				})
 			).onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
 		}
@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static java.util.Collections.*;
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.springframework.data.core.NestedRelationshipProcessingStateMachine.ProcessState;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.NodeDescription;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.neo4j.springframework.data.core.support.Relationships;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.util.ClassTypeInformation;
+
+/**
+ * Creates the statements needed to save an entity together with its relationships. The imperative, reactive and
+ * asynchronous templates only differ in the way they execute those statements.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+final class EntitySaveSupport {
+
+	private static final String OPTIMISTIC_LOCKING_ERROR_MESSAGE =
+		"An entity with the required version does not exist.";
+
+	private final Neo4jMappingContext neo4jMappingContext;
+
+	private final CypherGenerator cypherGenerator;
+
+	private final Renderer renderer;
+
+	EntitySaveSupport(Neo4jMappingContext neo4jMappingContext, CypherGenerator cypherGenerator, Renderer renderer) {
+
+		this.neo4jMappingContext = neo4jMappingContext;
+		this.cypherGenerator = cypherGenerator;
+		this.renderer = renderer;
+	}
+
+	/**
+	 * @param entity         The entity to be saved
+	 * @param entityMetaData Its description
+	 * @return The query retrieving the current dynamic labels of the entity, empty if the entity has none
+	 */
+	Optional<RenderedQuery> prepareDynamicLabelsQuery(Object entity, Neo4jPersistentEntity<?> entityMetaData) {
+
+		return entityMetaData.getDynamicLabelsProperty().map(p -> {
+
+			PersistentPropertyAccessor<?> propertyAccessor = entityMetaData.getPropertyAccessor(entity);
+			Map<String, Object> parameters = new HashMap<>();
+			parameters.put(NAME_OF_ID, propertyAccessor.getProperty(entityMetaData.getRequiredIdProperty()));
+			parameters.put(NAME_OF_STATIC_LABELS_PARAM, entityMetaData.getStaticLabels());
+			if (entityMetaData.hasVersionProperty()) {
+				parameters.put(NAME_OF_VERSION_PARAM,
+					(Long) propertyAccessor.getProperty(entityMetaData.getRequiredVersionProperty()) - 1);
+			}
+
+			return new RenderedQuery(
+				renderer.render(cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)), parameters);
+		});
+	}
+
+	/**
+	 * @param entity         The entity to be saved
+	 * @param entityMetaData Its description
+	 * @param result         The optional result of the {@link #prepareDynamicLabelsQuery(Object, Neo4jPersistentEntity) dynamic labels query}
+	 * @return The dynamic labels to be removed and added when saving the entity
+	 */
+	@SuppressWarnings("unchecked")
+	DynamicLabels toDynamicLabels(Object entity, Neo4jPersistentEntity<?> entityMetaData,
+		Optional<Map<String, Object>> result) {
+
+		return entityMetaData.getDynamicLabelsProperty().map(p -> new DynamicLabels(
+			result.map(r -> (Collection<String>) r.get(NAME_OF_LABELS)).orElseGet(Collections::emptyList),
+			(Collection<String>) entityMetaData.getPropertyAccessor(entity).getProperty(p)
+		)).orElse(DynamicLabels.EMPTY);
+	}
+
+	String renderSaveOf(NodeDescription<?> nodeDescription, DynamicLabels dynamicLabels) {
+
+		return renderer.render(cypherGenerator.prepareSaveOf(nodeDescription, dynamicLabels));
+	}
+
+	/**
+	 * Checks the outcome of a save statement and assigns the internal id if the entity uses internal ids.
+	 *
+	 * @param entityMetaData The description of the saved entity
+	 * @param entity         The saved entity
+	 * @param internalId     The id returned by the save statement
+	 * @param <T>            The type of the entity
+	 * @return The saved entity, might be a new instance if the id is not mutable
+	 * @throws OptimisticLockingFailureException if a versioned entity has not been found
+	 */
+	<T> T assignInternalId(Neo4jPersistentEntity<?> entityMetaData, T entity, Optional<Long> internalId) {
+
+		if (entityMetaData.hasVersionProperty() && !internalId.isPresent()) {
+			throw optimisticLockingFailure();
+		}
+		if (!entityMetaData.isUsingInternalIds()) {
+			return entity;
+		}
+
+		PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entity);
+		propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), internalId.get());
+		return propertyAccessor.getBean();
+	}
+
+	/**
+	 * @param entityMetaData The description of the saved entity
+	 * @param internalId     The id returned by the save statement
+	 * @return The internal id
+	 * @throws OptimisticLockingFailureException if a versioned entity has not been found
+	 */
+	Long requireNodeId(Neo4jPersistentEntity<?> entityMetaData, Optional<Long> internalId) {
+
+		if (entityMetaData.hasVersionProperty() && !internalId.isPresent()) {
+			throw optimisticLockingFailure();
+		}
+		return internalId.get();
+	}
+
+	/**
+	 * Captures the ids and versions of the given entities, which are assigned respectively incremented while saving them.
+	 *
+	 * @param entities The entities about to be saved
+	 * @return An action restoring the captured values, so that a failed attempt to save the entities can be repeated
+	 */
+	Runnable captureIdsAndVersions(Collection<?> entities) {
+
+		List<Runnable> restoreActions = new ArrayList<>();
+		for (Object entity : entities) {
+			Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(entity.getClass());
+			PersistentPropertyAccessor<?> propertyAccessor = entityMetaData.getPropertyAccessor(entity);
+			Stream.of(entityMetaData.getIdProperty(), entityMetaData.getVersionProperty())
+				.filter(Objects::nonNull)
+				.forEach(property -> {
+					Object capturedValue = propertyAccessor.getProperty(property);
+					// Immutable properties have not been changed on the given instance, so they are never set
+					restoreActions.add(() -> {
+						if (!Objects.equals(capturedValue, propertyAccessor.getProperty(property))) {
+							propertyAccessor.setProperty(property, capturedValue);
+						}
+					});
+				});
+		}
+		return () -> restoreActions.forEach(Runnable::run);
+	}
+
+	/**
+	 * @param entityType The type of the entities whose relationships are saved
+	 * @return True, if saving the relationships assigns neither ids nor versions to related entities, so that a failed
+	 * attempt can be repeated with the same instances
+	 */
+	boolean isSavingRelationshipsRepeatable(Class<?> entityType) {
+
+		Set<NodeDescription<?>> visited = new HashSet<>();
+		Deque<NodeDescription<?>> pending = new ArrayDeque<>();
+		pending.add(neo4jMappingContext.getRequiredPersistentEntity(entityType));
+		while (!pending.isEmpty()) {
+			for (RelationshipDescription relationship : pending.poll().getRelationships()) {
+				Neo4jPersistentEntity<?> target = (Neo4jPersistentEntity<?>) relationship.getTarget();
+				if (target.isUsingInternalIds() || target.hasVersionProperty()) {
+					return false;
+				}
+				if (visited.add(target)) {
+					pending.add(target);
+				}
+			}
+		}
+		return true;
+	}
+
+	OptimisticLockingFailureException optimisticLockingFailure() {
+		return new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+	}
+
+	Object convertIdValues(Object idValues) {
+
+		return neo4jMappingContext.getConverter()
+			.writeValueFromProperty(idValues, ClassTypeInformation.from(idValues.getClass()));
+	}
+
+	/**
+	 * Walks the relationships of the given entity and reports the statements to be executed to the visitor.
+	 *
+	 * @param entityMetaData The description of the entity
+	 * @param entity         The entity whose relationships should be saved
+	 * @param visitor        The visitor executing or collecting the statements
+	 */
+	void walkRelationships(Neo4jPersistentEntity<?> entityMetaData, Object entity, RelationshipVisitor visitor) {
+
+		walkRelationships(entityMetaData, entity, new NestedRelationshipProcessingStateMachine(), visitor);
+	}
+
+	private void walkRelationships(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
+		NestedRelationshipProcessingStateMachine stateMachine, RelationshipVisitor visitor) {
+
+		PersistentPropertyAccessor<?> propertyAccessor = neo4jPersistentEntity.getPropertyAccessor(parentObject);
+		Object fromId = propertyAccessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty());
+
+		neo4jPersistentEntity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) association -> {
+
+			// create context to bundle parameters
+			NestedRelationshipContext relationshipContext = NestedRelationshipContext
+				.of(association, propertyAccessor, neo4jPersistentEntity);
+
+			// lazy relationships that have not been loaded are left as they are
+			if (relationshipContext.isUninitializedLazyRelationship()) {
+				return;
+			}
+
+			Collection<?> relatedValuesToStore = Relationships
+				.unifyRelationshipValue(relationshipContext.getInverse(), relationshipContext.getValue());
+
+			RelationshipDescription relationshipDescription = relationshipContext.getRelationship();
+			RelationshipDescription relationshipDescriptionObverse = relationshipDescription.getRelationshipObverse();
+
+			// break recursive procession and deletion of previously created relationships
+			ProcessState processState = stateMachine
+				.getStateOf(relationshipDescriptionObverse, relatedValuesToStore);
+			if (processState == ProcessState.PROCESSED_BOTH) {
+				return;
+			}
+
+			// remove all relationships before creating all new if the entity is not new
+			// this avoids the usage of cache but might have significant impact on overall performance
+			if (!neo4jPersistentEntity.isNew(parentObject)) {
+				Neo4jPersistentEntity<?> previouslyRelatedPersistentEntity = neo4jMappingContext
+					.getPersistentEntity(relationshipContext.getAssociationTargetType());
+
+				Statement relationshipRemoveQuery = cypherGenerator.createRelationshipRemoveQuery(neo4jPersistentEntity,
+					relationshipDescription, previouslyRelatedPersistentEntity);
+
+				visitor.removeRelationships(new RenderedQuery(renderer.render(relationshipRemoveQuery),
+					singletonMap(FROM_ID_PARAMETER_NAME, convertIdValues(fromId))));
+			}
+
+			// nothing to do because there is nothing to map
+			if (relationshipContext.inverseValueIsEmpty()) {
+				return;
+			}
+
+			stateMachine.markAsProcessed(relationshipDescription, relatedValuesToStore);
+
+			for (Object relatedValueToStore : relatedValuesToStore) {
+				visitor.relatedNode(new RelatedNode(neo4jPersistentEntity, fromId, relationshipContext,
+					relatedValueToStore, processState, stateMachine));
+			}
+		});
+	}
+
+	/**
+	 * Receives the statements needed to save the relationships of an entity in the order they have to be executed.
+	 */
+	interface RelationshipVisitor {
+
+		/**
+		 * @param query The query removing the existing relationships of a relationship property
+		 */
+		void removeRelationships(RenderedQuery query);
+
+		/**
+		 * The related node has to be saved first, afterwards the relationship to it can be
+		 * {@link RelatedNode#link(Object, Long) created} and {@link RelatedNode#walkRelationships(Object, RelationshipVisitor) its relationships}
+		 * can be processed.
+		 *
+		 * @param relatedNode A node related to the entity being saved
+		 */
+		void relatedNode(RelatedNode relatedNode);
+	}
+
+	/**
+	 * A node related to the entity being saved.
+	 */
+	final class RelatedNode {
+
+		private final Neo4jPersistentEntity<?> parentDescription;
+
+		private final Object fromId;
+
+		private final NestedRelationshipContext relationshipContext;
+
+		private final Object relatedValueToStore;
+
+		private final ProcessState processState;
+
+		private final NestedRelationshipProcessingStateMachine stateMachine;
+
+		private RelatedNode(Neo4jPersistentEntity<?> parentDescription, Object fromId,
+			NestedRelationshipContext relationshipContext, Object relatedValueToStore, ProcessState processState,
+			NestedRelationshipProcessingStateMachine stateMachine) {
+
+			this.parentDescription = parentDescription;
+			this.fromId = fromId;
+			this.relationshipContext = relationshipContext;
+			this.relatedValueToStore = relatedValueToStore;
+			this.processState = processState;
+			this.stateMachine = stateMachine;
+		}
+
+		/**
+		 * @return The related node before any callback has been applied
+		 */
+		Object getValue() {
+			// here map entry is not always anymore a dynamic association
+			return relationshipContext.identifyAndExtractRelationshipValue(relatedValueToStore);
+		}
+
+		Class<?> getAssociationTargetType() {
+			return relationshipContext.getAssociationTargetType();
+		}
+
+		Neo4jPersistentEntity<?> getNodeDescription(Object valueToBeSaved) {
+			return neo4jMappingContext.getPersistentEntity(valueToBeSaved.getClass());
+		}
+
+		/**
+		 * Assigns the internal id of the saved related node, if necessary, and creates the relationship statement.
+		 *
+		 * @param valueToBeSaved    The related node that has been saved
+		 * @param relatedInternalId The internal id of the saved node
+		 * @return The query creating the relationship to the saved node
+		 */
+		RenderedQuery link(Object valueToBeSaved, Long relatedInternalId) {
+
+			// if an internal id is used this must get set to link this entity in the next iteration
+			Neo4jPersistentEntity<?> targetNodeDescription = getNodeDescription(valueToBeSaved);
+			if (targetNodeDescription.isUsingInternalIds()) {
+				PersistentPropertyAccessor<?> targetPropertyAccessor = targetNodeDescription
+					.getPropertyAccessor(valueToBeSaved);
+				targetPropertyAccessor.setProperty(targetNodeDescription.getRequiredIdProperty(), relatedInternalId);
+			}
+
+			RelationshipStatementHolder statementHolder = RelationshipStatementHolder.createStatement(
+				neo4jMappingContext, parentDescription, relationshipContext, relatedInternalId, relatedValueToStore);
+
+			// in case of no properties the statement holder just contains an empty map
+			Map<String, Object> parameters = new HashMap<>(statementHolder.getProperties());
+			parameters.put(FROM_ID_PARAMETER_NAME, convertIdValues(fromId));
+			return new RenderedQuery(renderer.render(statementHolder.getRelationshipCreationQuery()), parameters);
+		}
+
+		/**
+		 * Continues the walk with the relationships of the saved related node, unless they have already been processed.
+		 *
+		 * @param valueToBeSaved The related node that has been saved
+		 * @param visitor        The visitor for the nested relationships
+		 */
+		void walkRelationships(Object valueToBeSaved, RelationshipVisitor visitor) {
+
+			if (processState != ProcessState.PROCESSED_ALL_VALUES) {
+				EntitySaveSupport.this
+					.walkRelationships(getNodeDescription(valueToBeSaved), valueToBeSaved, stateMachine, visitor);
+			}
+		}
+	}
+
+	/**
+	 * A rendered Cypher query together with its parameters.
+	 */
+	static final class RenderedQuery {
+
+		private final String cypher;
+
+		private final Map<String, Object> parameters;
+
+		RenderedQuery(String cypher, Map<String, Object> parameters) {
+			this.cypher = cypher;
+			this.parameters = parameters;
+		}
+
+		String getCypher() {
+			return cypher;
+		}
+
+		Map<String, Object> getParameters() {
+			return parameters;
+		}
+	}
+}
@@ -27,6 +27,7 @@ import java.util.Map;
 
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Cypher;
+import org.springframework.lang.Nullable;
 
 /**
  * @author Michael J. Simons
@@ -36,7 +37,17 @@ import org.neo4j.cypherdsl.core.Cypher;
 @API(status = API.Status.INTERNAL, since = "1.0")
 final class NamedParameters {
 
-	private final Map<String, Object> parameters = new HashMap<>();
+	/**
+	 * Only created when the first parameter is added, many statements don't have any parameters.
+	 */
+	@Nullable
+	private Map<String, Object> parameters;
+
+	/**
+	 * Created together with {@link #parameters}, so that handing out the parameters doesn't allocate anything.
+	 */
+	@Nullable
+	private Map<String, Object> unmodifiableParameters;
 
 	/**
 	 * Adds all of the values contained in {@code newParameters} to this list of named parameters.
@@ -57,7 +68,10 @@ final class NamedParameters {
 	 */
 	void add(String name, Object value) {
 
-		if (this.parameters.containsKey(name)) {
+		if (this.parameters == null) {
+			this.parameters = new HashMap<>();
+			this.unmodifiableParameters = Collections.unmodifiableMap(this.parameters);
+		} else if (this.parameters.containsKey(name)) {
 			Object previousValue = this.parameters.get(name);
 			throw new IllegalArgumentException(String.format(
 				"Duplicate parameter name: '%s' already in the list of named parameters with value '%s'. New value would be '%s'",
@@ -70,19 +84,21 @@ final class NamedParameters {
 	}
 
 	/**
-	 * @return An unmodifiable copy of this lists values.
+	 * The view is passed on to the driver, which copies all values anyway, and to query execution listeners.
+	 *
+	 * @return An unmodifiable view on this lists values.
 	 */
 	Map<String, Object> get() {
-		return Collections.unmodifiableMap(parameters);
+		return unmodifiableParameters == null ? Collections.emptyMap() : unmodifiableParameters;
 	}
 
 	public boolean isEmpty() {
-		return parameters.isEmpty();
+		return parameters == null || parameters.isEmpty();
 	}
 
 	@Override
 	public String toString() {
-		return parameters
+		return get()
 			.entrySet()
 			.stream()
 			.map(e -> String.format("%s: %s", e.getKey(), formatValue(e.getValue())))
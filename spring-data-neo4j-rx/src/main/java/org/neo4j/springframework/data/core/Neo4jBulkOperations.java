@@ -0,0 +1,544 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.neo4j.driver.exceptions.TransientException;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Imports large amounts of entities through a {@link Neo4jTemplate}. The entities are pulled from a stream or an
+ * iterator on the calling thread and split into chunks, each chunk is saved by a worker in transactions of its own. Up
+ * to {@code concurrency} chunks are saved at the same time, the next chunk is started as soon as any of them is done.
+ * The nodes of a chunk are saved first, with one statement per chunk for entities with assigned ids. The relationships
+ * of the chunk are saved in a second transaction, so that the nodes of the chunk exist before they are linked. Related
+ * nodes that are not part of the import so far are created when linked, as with
+ * {@link Neo4jTemplate#saveAll(Iterable)}.
+ * <p>
+ * Saving relationships to entities using internal ids or versions assigns ids or versions to the related entities.
+ * Those relationships are therefore only saved when no nodes are saved at the same time: The import waits for all
+ * chunks in flight and saves the postponed relationships before the next chunk is started.
+ * <p>
+ * Chunks failing with a transient error, for example a deadlock between two workers, are retried. Ids and versions
+ * assigned during a failed attempt are reset before the next one. The relationships of a chunk are only retried if
+ * saving them does not assign ids or versions to related entities.
+ * <p>
+ * At most twice {@code concurrency} chunks are held in memory at any time, so the memory needed is bounded by the chunk
+ * size.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class Neo4jBulkOperations {
+
+	/**
+	 * The default number of entities saved in one transaction.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 10_000;
+
+	/**
+	 * The default number of chunks saved concurrently.
+	 */
+	public static final int DEFAULT_CONCURRENCY = 4;
+
+	/**
+	 * The default number of times a chunk is retried after a transient error.
+	 */
+	public static final int DEFAULT_MAX_RETRIES = 3;
+
+	private static final Duration INITIAL_RETRY_BACKOFF = Duration.ofMillis(100);
+
+	/**
+	 * {@code Executors#newVirtualThreadPerTaskExecutor()}, only available on JDKs providing virtual threads.
+	 */
+	@Nullable
+	private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = ReflectionUtils
+		.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(Neo4jBulkOperations.class));
+
+	private final Neo4jTemplate neo4jTemplate;
+
+	private final int batchSize;
+
+	private final int concurrency;
+
+	private final int maxRetries;
+
+	/**
+	 * Creates bulk operations with the default batch size, concurrency and retries.
+	 *
+	 * @param neo4jTemplate The template used to save the entities
+	 */
+	public Neo4jBulkOperations(Neo4jTemplate neo4jTemplate) {
+		this(neo4jTemplate, DEFAULT_BATCH_SIZE, DEFAULT_CONCURRENCY, DEFAULT_MAX_RETRIES);
+	}
+
+	/**
+	 * @param neo4jTemplate The template used to save the entities
+	 * @param batchSize     The maximum number of entities saved in one transaction
+	 * @param concurrency   The maximum number of chunks saved at the same time
+	 * @param maxRetries    The number of times a chunk is retried after a transient error
+	 */
+	public Neo4jBulkOperations(Neo4jTemplate neo4jTemplate, int batchSize, int concurrency, int maxRetries) {
+
+		Assert.notNull(neo4jTemplate, "The Neo4jTemplate is required.");
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+		Assert.isTrue(concurrency > 0, "The concurrency must be greater than 0.");
+		Assert.isTrue(maxRetries >= 0, "The number of retries must not be negative.");
+
+		this.neo4jTemplate = neo4jTemplate;
+		this.batchSize = batchSize;
+		this.concurrency = concurrency;
+		this.maxRetries = maxRetries;
+	}
+
+	/**
+	 * Imports all entities of the given stream on virtual threads where available, otherwise with a pool of
+	 * {@code concurrency} workers. The stream is not closed.
+	 *
+	 * @param entities The entities to import
+	 * @param <T>      The type of the entities
+	 * @return The progress after all entities have been imported
+	 */
+	public <T> Progress importAll(Stream<T> entities) {
+
+		return importAll(entities.iterator());
+	}
+
+	/**
+	 * Imports all entities of the given iterator on virtual threads where available, otherwise with a pool of
+	 * {@code concurrency} workers.
+	 *
+	 * @param entities The entities to import
+	 * @param <T>      The type of the entities
+	 * @return The progress after all entities have been imported
+	 */
+	public <T> Progress importAll(Iterator<T> entities) {
+
+		ExecutorService executor = newExecutor();
+		try {
+			return importAll(entities, executor, progress -> {
+			});
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Imports all entities of the given iterator on the given executor, which is not shut down afterwards. The number
+	 * of chunks in flight is still bounded by {@code concurrency}, so an executor creating a new thread per task, for
+	 * example one using virtual threads, can be used as well.
+	 *
+	 * @param entities         The entities to import
+	 * @param executor         The executor saving the chunks
+	 * @param progressListener Notified from the workers after each chunk has been saved
+	 * @param <T>              The type of the entities
+	 * @return The progress after all entities have been imported
+	 */
+	public <T> Progress importAll(Iterator<T> entities, Executor executor, Consumer<Progress> progressListener) {
+
+		Assert.notNull(entities, "The entities to import are required.");
+		Assert.notNull(executor, "An executor is required.");
+		Assert.notNull(progressListener, "A progress listener is required.");
+
+		Counters counters = new Counters(progressListener);
+		ChunkingIterator<T> chunks = new ChunkingIterator<>(entities, batchSize);
+		Queue<List<T>> postponedChunks = new ConcurrentLinkedQueue<>();
+		Window window = new Window(executor);
+		while (chunks.hasNext() && window.acquire()) {
+			if (postponedChunks.isEmpty()) {
+				List<T> chunk = chunks.next();
+				window.execute(() -> importChunk(chunk, postponedChunks, counters));
+			} else {
+				window.release();
+				savePostponedRelationships(postponedChunks, window, executor, counters);
+			}
+		}
+		savePostponedRelationships(postponedChunks, window, executor, counters);
+		window.rethrowFailure();
+
+		Progress progress = counters.snapshot();
+		log.info(() -> String.format("Imported %d entities in %d chunks within %dms, %d chunks have been retried.",
+			progress.getSavedNodes(), progress.getSavedChunks(), progress.getElapsed().toMillis(),
+			progress.getRetries()));
+		return progress;
+	}
+
+	private <T> void importChunk(List<T> chunk, Queue<List<T>> postponedChunks, Counters counters) {
+
+		// Nodes first...
+		List<T> pending = withRetries(neo4jTemplate::saveNodes, c -> true, chunk, counters);
+		counters.nodesSaved(chunk.size());
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		// ...then the relationships of the chunk, unless linking assigns ids to related entities saved concurrently
+		if (neo4jTemplate.isSavingRelationshipsRepeatable(pending)) {
+			withRetries(c -> saveRelationships(c, counters), c -> true, pending, counters);
+		} else {
+			postponedChunks.add(pending);
+		}
+	}
+
+	private <T> void savePostponedRelationships(Queue<List<T>> postponedChunks, Window window, Executor executor,
+		Counters counters) {
+
+		if (!window.awaitChunksInFlight() || postponedChunks.isEmpty()) {
+			return;
+		}
+
+		List<List<T>> chunks = new ArrayList<>(postponedChunks.size());
+		for (List<T> chunk = postponedChunks.poll(); chunk != null; chunk = postponedChunks.poll()) {
+			chunks.add(chunk);
+		}
+		runInChunks(chunks.iterator(), chunk -> saveRelationships(chunk, counters),
+			neo4jTemplate::isSavingRelationshipsRepeatable, executor, counters);
+	}
+
+	private Void saveRelationships(List<?> chunk, Counters counters) {
+
+		neo4jTemplate.saveRelationships(chunk);
+		counters.relationshipsSaved(chunk.size());
+		return null;
+	}
+
+	private <C> void runInChunks(Iterator<C> chunks, Function<C, ?> chunkOperation, Predicate<C> isRepeatable,
+		Executor executor, Counters counters) {
+
+		Window window = new Window(executor);
+		while (chunks.hasNext() && window.acquire()) {
+			C chunk = chunks.next();
+			window.execute(() -> withRetries(chunkOperation, isRepeatable, chunk, counters));
+		}
+		window.awaitChunksInFlight();
+		window.rethrowFailure();
+	}
+
+	private <C, R> R withRetries(Function<C, R> chunkOperation, Predicate<C> isRepeatable, C chunk,
+		Counters counters) {
+
+		for (int attempt = 0; ; ++attempt) {
+			try {
+				return chunkOperation.apply(chunk);
+			} catch (RuntimeException e) {
+				if (attempt >= maxRetries || !isTransient(e) || !isRepeatable.test(chunk)) {
+					throw e;
+				}
+
+				long backoff = INITIAL_RETRY_BACKOFF.toMillis() << attempt;
+				int retry = attempt + 1;
+				log.warn(() -> String.format("Retrying chunk in %dms (%d/%d): %s", backoff, retry, maxRetries,
+					e.getMessage()));
+				counters.retried();
+				try {
+					Thread.sleep(backoff);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+			}
+		}
+	}
+
+	private static boolean isTransient(RuntimeException e) {
+
+		return e instanceof TransientDataAccessException || e instanceof TransientException;
+	}
+
+	private static RuntimeException unwrap(Throwable e) {
+
+		Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		return cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+	}
+
+	private ExecutorService newExecutor() {
+
+		if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+			try {
+				return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				// Virtual threads are a preview feature on some JDKs and may not be enabled
+				log.debug(e, "Could not create an executor using virtual threads.");
+			}
+		}
+		return Executors.newFixedThreadPool(concurrency, newThreadFactory());
+	}
+
+	private static CustomizableThreadFactory newThreadFactory() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("neo4j-bulk-import-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	/**
+	 * Pulls the next chunk of entities only when asked for, so that the entities are not read ahead of the workers.
+	 */
+	private static final class ChunkingIterator<T> implements Iterator<List<T>> {
+
+		private final Iterator<T> delegate;
+
+		private final int chunkSize;
+
+		ChunkingIterator(Iterator<T> delegate, int chunkSize) {
+			this.delegate = delegate;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public List<T> next() {
+
+			List<T> chunk = new ArrayList<>(chunkSize);
+			while (chunk.size() < chunkSize && delegate.hasNext()) {
+				chunk.add(delegate.next());
+			}
+			return chunk;
+		}
+	}
+
+	/**
+	 * Runs at most {@code concurrency} chunks at the same time and starts the next one as soon as any of them is done.
+	 * The first failure stops the window from accepting further chunks.
+	 */
+	private final class Window {
+
+		private final Executor executor;
+
+		private final Semaphore permits = new Semaphore(concurrency);
+
+		private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+		Window(Executor executor) {
+			this.executor = executor;
+		}
+
+		/**
+		 * Waits until another chunk may be started. The caller must either {@link #execute(Runnable) execute} a chunk
+		 * or {@link #release()} the permit afterwards.
+		 *
+		 * @return False, if no further chunks should be started because a chunk failed
+		 */
+		boolean acquire() {
+
+			try {
+				permits.acquire();
+			} catch (InterruptedException e) {
+				interrupted(e);
+				return false;
+			}
+			if (failure.get() != null) {
+				permits.release();
+				return false;
+			}
+			return true;
+		}
+
+		void release() {
+			permits.release();
+		}
+
+		void execute(Runnable chunkOperation) {
+
+			try {
+				CompletableFuture.runAsync(chunkOperation, executor).whenComplete((v, e) -> {
+					if (e != null) {
+						failure.compareAndSet(null, unwrap(e));
+					}
+					permits.release();
+				});
+			} catch (RuntimeException e) {
+				permits.release();
+				failure.compareAndSet(null, e);
+			}
+		}
+
+		/**
+		 * @return False, if any chunk failed
+		 */
+		boolean awaitChunksInFlight() {
+
+			try {
+				permits.acquire(concurrency);
+				permits.release(concurrency);
+			} catch (InterruptedException e) {
+				interrupted(e);
+			}
+			return failure.get() == null;
+		}
+
+		void rethrowFailure() {
+
+			RuntimeException e = failure.get();
+			if (e != null) {
+				throw e;
+			}
+		}
+
+		private void interrupted(InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			failure.compareAndSet(null, new IllegalStateException("Interrupted while importing entities.", e));
+		}
+	}
+
+	private static final class Counters {
+
+		private final long start = System.nanoTime();
+
+		private final AtomicLong savedChunks = new AtomicLong();
+
+		private final AtomicLong savedNodes = new AtomicLong();
+
+		private final AtomicLong savedRelationships = new AtomicLong();
+
+		private final AtomicLong retries = new AtomicLong();
+
+		private final Consumer<Progress> progressListener;
+
+		Counters(Consumer<Progress> progressListener) {
+			this.progressListener = progressListener;
+		}
+
+		void nodesSaved(int count) {
+
+			savedChunks.incrementAndGet();
+			savedNodes.addAndGet(count);
+			progressListener.accept(snapshot());
+		}
+
+		void relationshipsSaved(int count) {
+
+			savedChunks.incrementAndGet();
+			savedRelationships.addAndGet(count);
+			progressListener.accept(snapshot());
+		}
+
+		void retried() {
+			retries.incrementAndGet();
+		}
+
+		Progress snapshot() {
+			return new Progress(savedChunks.get(), savedNodes.get(), savedRelationships.get(), retries.get(),
+				Duration.ofNanos(System.nanoTime() - start));
+		}
+	}
+
+	/**
+	 * A snapshot of the progress of an import.
+	 */
+	public static final class Progress {
+
+		private final long savedChunks;
+
+		private final long savedNodes;
+
+		private final long savedRelationships;
+
+		private final long retries;
+
+		private final Duration elapsed;
+
+		Progress(long savedChunks, long savedNodes, long savedRelationships, long retries, Duration elapsed) {
+			this.savedChunks = savedChunks;
+			this.savedNodes = savedNodes;
+			this.savedRelationships = savedRelationships;
+			this.retries = retries;
+			this.elapsed = elapsed;
+		}
+
+		/**
+		 * @return The number of chunks saved in both phases
+		 */
+		public long getSavedChunks() {
+			return savedChunks;
+		}
+
+		/**
+		 * @return The number of entities whose nodes have been saved
+		 */
+		public long getSavedNodes() {
+			return savedNodes;
+		}
+
+		/**
+		 * @return The number of entities whose relationships have been saved in the second phase
+		 */
+		public long getSavedRelationships() {
+			return savedRelationships;
+		}
+
+		/**
+		 * @return The number of times a chunk has been retried
+		 */
+		public long getRetries() {
+			return retries;
+		}
+
+		public Duration getElapsed() {
+			return elapsed;
+		}
+
+		@Override
+		public String toString() {
+			return "Progress{" +
+				"savedChunks=" + savedChunks +
+				", savedNodes=" + savedNodes +
+				", savedRelationships=" + savedRelationships +
+				", retries=" + retries +
+				", elapsed=" + elapsed +
+				'}';
+		}
+	}
+}
@@ -18,9 +18,13 @@
  */
 package org.neo4j.springframework.data.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -32,8 +36,10 @@ import org.neo4j.driver.Record;
 import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Definition of a modern Neo4j client.
@@ -51,7 +57,69 @@ public interface Neo4jClient {
 
 	static Neo4jClient create(Driver driver) {
 
-		return new DefaultNeo4jClient(driver);
+		return new DefaultNeo4jClient(driver, Neo4jMetrics.NOOP, Collections.emptyList());
+	}
+
+	/**
+	 * Starts building a client with additional configuration.
+	 *
+	 * @param driver The driver used by the new client
+	 * @return A builder for a new client
+	 * @since 1.1
+	 */
+	static Builder with(Driver driver) {
+
+		return new Builder(driver);
+	}
+
+	/**
+	 * Builder for a {@link Neo4jClient} that needs more configuration than just a driver.
+	 *
+	 * @since 1.1
+	 */
+	@API(status = API.Status.STABLE, since = "1.1")
+	final class Builder {
+
+		private final Driver driver;
+
+		private Neo4jMetrics metrics = Neo4jMetrics.NOOP;
+
+		private final List<QueryExecutionListener> listeners = new ArrayList<>();
+
+		private Builder(Driver driver) {
+
+			Assert.notNull(driver, "A driver is required.");
+			this.driver = driver;
+		}
+
+		/**
+		 * @param newMetrics The metrics receiving the measurements of all queries run by the new client
+		 * @return This builder
+		 */
+		public Builder withMetrics(Neo4jMetrics newMetrics) {
+
+			Assert.notNull(newMetrics, "Metrics are required, use Neo4jMetrics.NOOP to disable them.");
+			this.metrics = newMetrics;
+			return this;
+		}
+
+		/**
+		 * Adds a listener that is notified about all queries run by the new client. Listeners are called in the order they
+		 * have been added.
+		 *
+		 * @param listener The additional listener
+		 * @return This builder
+		 */
+		public Builder withQueryExecutionListener(QueryExecutionListener listener) {
+
+			Assert.notNull(listener, "The listener is required.");
+			this.listeners.add(listener);
+			return this;
+		}
+
+		public Neo4jClient build() {
+			return new DefaultNeo4jClient(driver, metrics, Collections.unmodifiableList(new ArrayList<>(listeners)));
+		}
 	}
 
 	/**
@@ -82,6 +150,29 @@ public interface Neo4jClient {
 	 */
 	<T> OngoingDelegation<T> delegateTo(Function<QueryRunner, Optional<T>> callback);
 
+	/**
+	 * Opens a new pipeline for statements that are independent of each others results. Inside an ongoing transaction,
+	 * those statements are sent back-to-back without waiting for the result of the previous statement.
+	 *
+	 * @return An ongoing pipeline
+	 * @since 1.1
+	 */
+	OngoingPipeline pipeline();
+
+	/**
+	 * Runs the given callback inside a unit of work: All queries issued through this client on the calling thread while
+	 * the callback is running share one session and one transaction. The transaction is committed when the callback
+	 * returns and rolled back when it throws. Queries targeting another database than the unit of work use their own
+	 * session. If there's an ongoing Neo4j transaction, the callback just participates in that.
+	 *
+	 * @param targetDatabase selected database to use. A value of {@literal null} chooses the default database.
+	 * @param callback       The callback to run
+	 * @param <T>            The type of the result being produced
+	 * @return The result of the callback
+	 * @since 1.1
+	 */
+	<T> T doInUnitOfWork(@Nullable String targetDatabase, Supplier<T> callback);
+
 	/**
 	 * Contract for a runnable query that can be either run returning it's result, run without results or be parameterized.
 	 * @since 1.0
@@ -214,6 +305,29 @@ public interface Neo4jClient {
 		 * @return All records.
 		 */
 		Collection<T> all();
+
+		/**
+		 * Maps the records fetched by {@link #all()} concurrently in the common {@link ForkJoinPool}.
+		 *
+		 * @return This specification
+		 * @see #mappedInParallel(ForkJoinPool)
+		 * @since 1.1
+		 */
+		default RecordFetchSpec<T> mappedInParallel() {
+			return mappedInParallel(ForkJoinPool.commonPool());
+		}
+
+		/**
+		 * Maps the records fetched by {@link #all()} concurrently in the given pool. The calling thread keeps pulling
+		 * records from the driver and hands them over in chunks to the pool, the order of the records is preserved. This
+		 * pays off for large results mapped to complex entities. The mapping function must be thread safe, which all
+		 * mapping functions provided by SDN/RX are.
+		 *
+		 * @param pool The pool used to map the records
+		 * @return This specification
+		 * @since 1.1
+		 */
+		RecordFetchSpec<T> mappedInParallel(ForkJoinPool pool);
 	}
 
 	/**
@@ -249,6 +363,49 @@ public interface Neo4jClient {
 		Optional<T> run();
 	}
 
+	/**
+	 * A pipeline of statements whose results are not needed to run the next statement. Inside an ongoing transaction, all
+	 * statements are run directly and their results are collected when {@link #sync() synchronizing} the pipeline. The
+	 * first error is raised the latest at that point. Without an ongoing transaction, each statement is run and
+	 * consumed immediately.
+	 *
+	 * @since 1.1
+	 */
+	interface Pipeline {
+
+		/**
+		 * Adds a statement to the pipeline.
+		 *
+		 * @param cypher     The cypher code that shall be executed
+		 * @param parameters The parameters of the statement
+		 * @return The pipeline itself for adding more statements.
+		 */
+		Pipeline add(String cypher, Map<String, Object> parameters);
+
+		/**
+		 * Waits for all outstanding statements to complete.
+		 *
+		 * @return The summaries of all statements added since the last synchronization, in order of addition.
+		 */
+		List<ResultSummary> sync();
+	}
+
+	/**
+	 * An ongoing pipeline that can be pinned to a specific database.
+	 *
+	 * @since 1.1
+	 */
+	interface OngoingPipeline extends Pipeline {
+
+		/**
+		 * Runs all statements of this pipeline in the given target database.
+		 *
+		 * @param targetDatabase selected database to use
+		 * @return A pipeline that is now tight to a given database.
+		 */
+		Pipeline in(@Nullable String targetDatabase);
+	}
+
 	/**
 	 * This is a utility method to verify and sanitize a database name.
 	 *
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.Record;
+import org.neo4j.springframework.data.core.mapping.LazyLoadingQueryRunner;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Runs the queries of {@link org.neo4j.springframework.data.core.schema.Relationship.Fetch#LAZY lazy relationships}
+ * through an imperative {@link Neo4jClient}. Those are only loaded inside an ongoing transaction, so that they see the
+ * same state of the database as their owners. An instance must be registered once per mapping context, which the
+ * configuration of the imperative infrastructure takes care of.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = API.Status.INTERNAL, since = "1.1")
+public final class Neo4jLazyLoadingQueryRunner implements LazyLoadingQueryRunner {
+
+	private final Neo4jClient neo4jClient;
+
+	private final DatabaseSelectionProvider databaseSelectionProvider;
+
+	public Neo4jLazyLoadingQueryRunner(Neo4jClient neo4jClient, DatabaseSelectionProvider databaseSelectionProvider) {
+
+		Assert.notNull(neo4jClient, "The Neo4jClient is required");
+		Assert.notNull(databaseSelectionProvider, "The database name provider is required");
+
+		this.neo4jClient = neo4jClient;
+		this.databaseSelectionProvider = databaseSelectionProvider;
+	}
+
+	@Override
+	public Collection<Record> fetch(String cypherQuery, Map<String, Object> parameters) {
+
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new IllegalStateException(
+				"Lazy relationships can only be loaded inside the transaction that loaded their owners.");
+		}
+
+		return neo4jClient.query(cypherQuery)
+			.in(databaseSelectionProvider.getDatabaseSelection().getValue())
+			.bindAll(parameters)
+			.fetchAs(Record.class).mappedBy((typeSystem, record) -> record)
+			.all();
+	}
+}
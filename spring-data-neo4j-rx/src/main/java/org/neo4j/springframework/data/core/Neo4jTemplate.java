@@ -23,6 +23,7 @@ import static java.util.stream.Collectors.*;
 import static org.neo4j.cypherdsl.core.Cypher.*;
 import static org.neo4j.springframework.data.core.schema.Constants.*;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -30,9 +31,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
@@ -40,15 +43,12 @@ import org.neo4j.cypherdsl.core.Condition;
 import org.neo4j.cypherdsl.core.Functions;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
-import org.neo4j.springframework.data.core.Neo4jClient.RunnableSpecTightToDatabase;
-import org.neo4j.springframework.data.core.NestedRelationshipProcessingStateMachine.ProcessState;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
-import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+import org.neo4j.springframework.data.core.metrics.QueryPlanSampler;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
-import org.neo4j.springframework.data.core.schema.NodeDescription;
-import org.neo4j.springframework.data.core.schema.RelationshipDescription;
-import org.neo4j.springframework.data.core.support.Relationships;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
 import org.neo4j.springframework.data.repository.NoResultException;
 import org.neo4j.springframework.data.repository.event.BeforeBindCallback;
 import org.springframework.beans.BeansException;
@@ -56,11 +56,7 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.data.mapping.AssociationHandler;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
-import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -76,8 +72,6 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(Neo4jTemplate.class));
 
-	private static final String OPTIMISTIC_LOCKING_ERROR_MESSAGE = "An entity with the required version does not exist.";
-
 	private static final Renderer renderer = Renderer.getDefaultRenderer();
 
 	private final Neo4jClient neo4jClient;
@@ -86,10 +80,16 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 	private final CypherGenerator cypherGenerator;
 
+	private final EntitySaveSupport saveSupport;
+
 	private Neo4jEvents eventSupport;
 
 	private final DatabaseSelectionProvider databaseSelectionProvider;
 
+	private Neo4jMetrics metrics = Neo4jMetrics.NOOP;
+
+	private @Nullable QueryPlanSampler planSampler;
+
 	public Neo4jTemplate(Neo4jClient neo4jClient) {
 		this(neo4jClient, new Neo4jMappingContext(), DatabaseSelectionProvider.getDefaultSelectionProvider());
 	}
@@ -103,11 +103,22 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		this.neo4jClient = neo4jClient;
 		this.neo4jMappingContext = neo4jMappingContext;
 		this.cypherGenerator = CypherGenerator.INSTANCE;
+		this.saveSupport = new EntitySaveSupport(neo4jMappingContext, cypherGenerator, renderer);
 		this.eventSupport = new Neo4jEvents(EntityCallbacks.create());
 
 		this.databaseSelectionProvider = databaseSelectionProvider;
 	}
 
+	private Collection<Record> fetchRecords(String cypherQuery, Map<String, Object> parameters) {
+
+		PreparedQuery<Record> preparedQuery = PreparedQuery.queryFor(Record.class)
+			.withCypherQuery(cypherQuery)
+			.withParameters(parameters)
+			.usingMappingFunction((typeSystem, record) -> record)
+			.build();
+		return toExecutableQuery(preparedQuery).getResults();
+	}
+
 	@Override
 	public long count(Class<?> domainType) {
 
@@ -115,7 +126,7 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData)
 			.returning(Functions.count(asterisk())).build();
 
-		return count(statement);
+		return measure("count", domainType, () -> count(statement));
 	}
 
 	@Override
@@ -145,136 +156,261 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType) {
+		return findAll(domainType, FetchPlan.all());
+	}
+
+	@Override
+	public <T> List<T> findAll(Class<T> domainType, FetchPlan fetchPlan) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData)
-			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)).build();
-		return createExecutableQuery(domainType, statement).getResults();
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData, projectedBy(fetchPlan))).build();
+		return measure("findAll", domainType,
+			() -> executeWithFetchPlan(domainType, statement, Collections.emptyMap(), fetchPlan));
 	}
 
 	@Override
 	public <T> List<T> findAll(Statement statement, Class<T> domainType) {
-		return createExecutableQuery(domainType, statement).getResults();
+		return measure("findAll", domainType, () -> createExecutableQuery(domainType, statement).getResults());
 	}
 
 	@Override
 	public <T> List<T> findAll(Statement statement, Map<String, Object> parameters, Class<T> domainType) {
-		return createExecutableQuery(domainType, statement, parameters).getResults();
+		return measure("findAll", domainType,
+			() -> createExecutableQuery(domainType, statement, parameters).getResults());
 	}
 
 	@Override
 	public <T> Optional<T> findOne(Statement statement, Map<String, Object> parameters, Class<T> domainType) {
-		return createExecutableQuery(domainType, statement, parameters).getSingleResult();
+		return measure("findOne", domainType,
+			() -> createExecutableQuery(domainType, statement, parameters).getSingleResult());
 	}
 
 	@Override
 	public <T> List<T> findAll(String cypherQuery, Class<T> domainType) {
-		return createExecutableQuery(domainType, cypherQuery).getResults();
+		return measure("findAll", domainType, () -> createExecutableQuery(domainType, cypherQuery).getResults());
 	}
 
 	@Override
 	public <T> List<T> findAll(String cypherQuery, Map<String, Object> parameters, Class<T> domainType) {
-		return createExecutableQuery(domainType, cypherQuery, parameters).getResults();
+		return measure("findAll", domainType,
+			() -> createExecutableQuery(domainType, cypherQuery, parameters).getResults());
 	}
 
 	@Override
 	public <T> Optional<T> findOne(String cypherQuery, Map<String, Object> parameters, Class<T> domainType) {
-		return createExecutableQuery(domainType, cypherQuery, parameters).getSingleResult();
+		return measure("findOne", domainType,
+			() -> createExecutableQuery(domainType, cypherQuery, parameters).getSingleResult());
 	}
 
 	@Override
 	public <T> Optional<T> findById(Object id, Class<T> domainType) {
+		return findById(id, domainType, FetchPlan.all());
+	}
+
+	@Override
+	public <T> Optional<T> findById(Object id, Class<T> domainType, FetchPlan fetchPlan) {
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		Statement statement = cypherGenerator
 			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(NAME_OF_ID)))
-			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData, projectedBy(fetchPlan)))
 			.build();
-		return createExecutableQuery(domainType, statement, singletonMap(NAME_OF_ID, convertIdValues(id))).getSingleResult();
+		Map<String, Object> parameters = singletonMap(NAME_OF_ID, saveSupport.convertIdValues(id));
+
+		if (!fetchPlan.usesSplitQueries()) {
+			return measure("findById", domainType,
+				() -> createExecutableQuery(domainType, statement, parameters).getSingleResult());
+		}
+		return measure("findById", domainType, () -> {
+			List<T> results = executeWithFetchPlan(domainType, statement, parameters, fetchPlan);
+			if (results.size() > 1) {
+				throw new IncorrectResultSizeDataAccessException(1, results.size());
+			}
+			return results.stream().findFirst();
+		});
+	}
+
+	@Override
+	public <T> Optional<T> findSubgraph(Object id, Class<T> domainType, int depth) {
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String cypherQuery = cypherGenerator.createSubgraphQuery(entityMetaData, depth);
+
+		return measure("findSubgraph", domainType, () -> createExecutableQuery(domainType, cypherQuery,
+			singletonMap(NAME_OF_ID, saveSupport.convertIdValues(id))).getSingleResult());
 	}
 
 	@Override
 	public <T> List<T> findAllById(Iterable<?> ids, Class<T> domainType) {
+		return findAllById(ids, domainType, FetchPlan.all());
+	}
+
+	@Override
+	public <T> List<T> findAllById(Iterable<?> ids, Class<T> domainType, FetchPlan fetchPlan) {
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		Statement statement = cypherGenerator
 			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().in((parameter(NAME_OF_IDS))))
-			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData, projectedBy(fetchPlan)))
 			.build();
 
-		return createExecutableQuery(domainType, statement, singletonMap(NAME_OF_IDS, convertIdValues(ids))).getResults();
+		Map<String, Object> parameters = singletonMap(NAME_OF_IDS, saveSupport.convertIdValues(ids));
+
+		return measure("findAllById", domainType,
+			() -> executeWithFetchPlan(domainType, statement, parameters, fetchPlan));
 	}
 
-	private Object convertIdValues(Object idValues) {
+	/**
+	 * @return The fetch plan for the projection of the generated query. When using split queries, the generated query
+	 * returns only the root nodes.
+	 */
+	private static FetchPlan projectedBy(FetchPlan fetchPlan) {
+		return fetchPlan.usesSplitQueries() ? FetchPlan.rootOnly() : fetchPlan;
+	}
+
+	/**
+	 * Executes a statement generated for the given fetch plan. When the fetch plan uses split queries, the relationships
+	 * of the returned root nodes are loaded with additional queries.
+	 */
+	private <T> List<T> executeWithFetchPlan(Class<T> domainType, Statement statement, Map<String, Object> parameters,
+		FetchPlan fetchPlan) {
 
-		return neo4jMappingContext.getConverter()
-			.writeValueFromProperty(idValues, ClassTypeInformation.from(idValues.getClass()));
+		if (!fetchPlan.usesSplitQueries()) {
+			return createExecutableQuery(domainType, statement, parameters).getResults();
+		}
+
+		Collection<Record> rootRecords = fetchRecords(renderer.render(statement), parameters);
+		return neo4jMappingContext.readWithSplitQueries(domainType, rootRecords, fetchPlan, Collections.emptyList(),
+			this::fetchRecords);
 	}
 
 	@Override
 	public <T> T save(T instance) {
 
-		return saveImpl(instance, getDatabaseName());
+		String databaseName = getDatabaseName();
+		return measure("save", instance.getClass(),
+			() -> neo4jClient.doInUnitOfWork(databaseName, () -> saveImpl(instance, databaseName)));
 	}
 
 	private <T> T saveImpl(T instance, @Nullable String inDatabase) {
 
+		return saveImpl(instance, inDatabase, true);
+	}
+
+	private <T> T saveImpl(T instance, @Nullable String inDatabase, boolean withRelationships) {
+
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(instance.getClass());
 		T entityToBeSaved = eventSupport.maybeCallBeforeBind(instance);
 
 		DynamicLabels dynamicLabels = determineDynamicLabels(entityToBeSaved, entityMetaData, inDatabase);
 
 		Optional<Long> optionalInternalId = neo4jClient
-			.query(() -> renderer.render(cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels)))
+			.query(() -> saveSupport.renderSaveOf(entityMetaData, dynamicLabels))
 			.in(inDatabase)
 			.bind((T) entityToBeSaved)
 			.with(neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass()))
 			.fetchAs(Long.class).one();
 
-		if (entityMetaData.hasVersionProperty() && !optionalInternalId.isPresent()) {
-			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+		T savedEntity = saveSupport.assignInternalId(entityMetaData, entityToBeSaved, optionalInternalId);
+		if (withRelationships) {
+			processRelations(entityMetaData, savedEntity, inDatabase);
 		}
+		return savedEntity;
+	}
 
-		PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
-		if (!entityMetaData.isUsingInternalIds()) {
-			processRelations(entityMetaData, entityToBeSaved, inDatabase);
-			return entityToBeSaved;
-		} else {
-			propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), optionalInternalId.get());
-			processRelations(entityMetaData, entityToBeSaved, inDatabase);
+	private DynamicLabels determineDynamicLabels(
+		Object entityToBeSaved, Neo4jPersistentEntity<?> entityMetaData, @Nullable String inDatabase
+	) {
+		Optional<Map<String, Object>> currentLabels = saveSupport
+			.prepareDynamicLabelsQuery(entityToBeSaved, entityMetaData)
+			.flatMap(query -> neo4jClient.query(query.getCypher())
+				.in(inDatabase)
+				.bindAll(query.getParameters())
+				.fetch().one());
+		return saveSupport.toDynamicLabels(entityToBeSaved, entityMetaData, currentLabels);
+	}
 
-			return propertyAccessor.getBean();
-		}
+	@Override
+	public <T> List<T> saveAll(Iterable<T> instances) {
+
+		String databaseName = getDatabaseName();
+		return measure("saveAll", () -> commonElementTypeOf(instances),
+			() -> neo4jClient.doInUnitOfWork(databaseName, () -> saveAllImpl(instances, databaseName, true)));
 	}
 
-	private <T> DynamicLabels determineDynamicLabels(
-		T entityToBeSaved, Neo4jPersistentEntity<?> entityMetaData, @Nullable String inDatabase
-	) {
-		return entityMetaData.getDynamicLabelsProperty().map(p -> {
+	/**
+	 * Determines the type used to tag the metrics of a bulk operation. The iterable is not iterated, as it might be
+	 * iterable only once.
+	 *
+	 * @param instances The instances of a bulk operation
+	 * @return Their common type or {@link Object} if there is none or it cannot be determined without iterating
+	 */
+	private static Class<?> commonElementTypeOf(Iterable<?> instances) {
 
-			PersistentPropertyAccessor propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
-			RunnableSpecTightToDatabase runnableQuery = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
-				.in(inDatabase)
-				.bind(propertyAccessor.getProperty(entityMetaData.getRequiredIdProperty())).to(NAME_OF_ID)
-				.bind(entityMetaData.getStaticLabels()).to(NAME_OF_STATIC_LABELS_PARAM);
+		Class<?> commonElementType = instances instanceof Collection ?
+			CollectionUtils.findCommonElementType((Collection<?>) instances) :
+			null;
+		return commonElementType == null ? Object.class : commonElementType;
+	}
 
-			if (entityMetaData.hasVersionProperty()) {
-				runnableQuery = runnableQuery
-					.bind((Long) propertyAccessor.getProperty(entityMetaData.getRequiredVersionProperty()) - 1)
-					.to(NAME_OF_VERSION_PARAM);
-			}
+	/**
+	 * Saves the nodes of the given entities in one unit of work, but not their relationships. The ids and versions
+	 * assigned to the given instances are restored when saving fails, so that the instances can be saved again.
+	 *
+	 * @param instances The instances to save
+	 * @param <T>       The type of the entities
+	 * @return The saved entities whose relationships still need to be saved via {@link #saveRelationships(List)}
+	 */
+	<T> List<T> saveNodes(List<T> instances) {
 
-			Optional<Map<String, Object>> optionalResult = runnableQuery.fetch().one();
-			return new DynamicLabels(
-				optionalResult.map(r -> (Collection<String>) r.get(NAME_OF_LABELS)).orElseGet(Collections::emptyList),
-				(Collection<String>) propertyAccessor.getProperty(p)
-			);
-		}).orElse(DynamicLabels.EMPTY);
+		if (instances.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		String databaseName = getDatabaseName();
+		Class<?> entityType = instances.get(0).getClass();
+		Runnable restoreIdsAndVersions = saveSupport.captureIdsAndVersions(instances);
+		try {
+			return measure("saveNodes", entityType,
+				() -> neo4jClient.doInUnitOfWork(databaseName, () -> {
+					List<T> savedEntities = saveAllImpl(instances, databaseName, false);
+					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(entityType);
+					return entityMetaData.getRelationships().isEmpty() ? Collections.<T>emptyList() : savedEntities;
+				}));
+		} catch (RuntimeException e) {
+			restoreIdsAndVersions.run();
+			throw e;
+		}
 	}
 
-	@Override
-	public <T> List<T> saveAll(Iterable<T> instances) {
+	/**
+	 * @param instances The instances whose relationships should be saved
+	 * @return True, if a failed attempt of {@link #saveRelationships(List)} can be repeated with the same instances
+	 */
+	boolean isSavingRelationshipsRepeatable(List<?> instances) {
+
+		return instances.isEmpty() || saveSupport.isSavingRelationshipsRepeatable(instances.get(0).getClass());
+	}
+
+	/**
+	 * Saves the relationships of entities whose nodes have been saved by {@link #saveNodes(List)} in one unit of work.
+	 *
+	 * @param instances The instances whose relationships should be saved
+	 */
+	void saveRelationships(List<?> instances) {
+
+		if (instances.isEmpty()) {
+			return;
+		}
 
 		String databaseName = getDatabaseName();
+		Class<?> entityType = instances.get(0).getClass();
+		measure("saveRelationships", entityType, () -> neo4jClient.doInUnitOfWork(databaseName, () -> {
+			Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(entityType);
+			instances.forEach(instance -> processRelations(entityMetaData, instance, databaseName));
+			return null;
+		}));
+	}
+
+	private <T> List<T> saveAllImpl(Iterable<T> instances, @Nullable String databaseName, boolean withRelationships) {
 
 		Collection<T> entities;
 		if (instances instanceof Collection) {
@@ -294,7 +430,7 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 			log.debug("Saving entities using single statements.");
 
 			return entities.stream()
-				.map(e -> saveImpl(e, databaseName))
+				.map(e -> saveImpl(e, databaseName, withRelationships))
 				.collect(toList());
 		}
 
@@ -313,7 +449,9 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 			.run();
 
 		// Save related
-		entitiesToBeSaved.forEach(entityToBeSaved -> processRelations(entityMetaData, entityToBeSaved, databaseName));
+		if (withRelationships) {
+			entitiesToBeSaved.forEach(entityToBeSaved -> processRelations(entityMetaData, entityToBeSaved, databaseName));
+		}
 
 		SummaryCounters counters = resultSummary.counters();
 		log.debug(() -> String
@@ -334,10 +472,10 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		log.debug(() -> String.format("Deleting entity with id %s ", id));
 
 		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement))
+		ResultSummary summary = measure("deleteById", domainType, () -> this.neo4jClient.query(renderer.render(statement))
 			.in(getDatabaseName())
 			.bind(id).to(nameOfParameter)
-			.run();
+			.run());
 
 		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 			summary.counters().relationshipsDeleted()));
@@ -353,10 +491,10 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		log.debug(() -> String.format("Deleting all entities with the following ids: %s ", ids));
 
 		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement))
+		ResultSummary summary = measure("deleteAllById", domainType, () -> this.neo4jClient.query(renderer.render(statement))
 			.in(getDatabaseName())
 			.bind(ids).to(nameOfParameter)
-			.run();
+			.run());
 
 		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 			summary.counters().relationshipsDeleted()));
@@ -369,12 +507,53 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		log.debug(() -> String.format("Deleting all nodes with primary label %s", entityMetaData.getPrimaryLabel()));
 
 		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement)).in(getDatabaseName()).run();
+		ResultSummary summary = measure("deleteAll", domainType,
+			() -> this.neo4jClient.query(renderer.render(statement)).in(getDatabaseName()).run());
 
 		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 			summary.counters().relationshipsDeleted()));
 	}
 
+	@Override
+	public long deleteAll(Class<?> domainType, int batchSize, Duration pauseBetweenBatches) {
+
+		Assert.notNull(pauseBetweenBatches, "The pause between batches is required.");
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String cypher = renderer.render(cypherGenerator.prepareBatchedDeleteOf(entityMetaData, batchSize));
+		String databaseName = getDatabaseName();
+		// Inside an ongoing transaction all batches are committed together, pausing would only hold their locks longer
+		boolean pauseAfterBatch = !(pauseBetweenBatches.isZero() || isInUnitOfWork());
+		// Otherwise each batch gets its own unit of work, also when only a transaction synchronization is active
+		Supplier<ResultSummary> deleteBatch = () -> neo4jClient.doInUnitOfWork(databaseName,
+			() -> this.neo4jClient.query(cypher).in(databaseName).run());
+
+		long deletedNodes = 0;
+		int deletedNodesInBatch;
+		do {
+			ResultSummary summary = measure("deleteAll", domainType, deleteBatch);
+			deletedNodesInBatch = summary.counters().nodesDeleted();
+			deletedNodes += deletedNodesInBatch;
+
+			long deletedNodesSoFar = deletedNodes;
+			log.debug(() -> String.format("Deleted %d nodes with primary label %s so far.", deletedNodesSoFar,
+				entityMetaData.getPrimaryLabel()));
+
+			if (deletedNodesInBatch == batchSize && pauseAfterBatch) {
+				try {
+					Thread.sleep(pauseBetweenBatches.toMillis());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException(String.format(
+						"Interrupted after deleting %d nodes with primary label %s.", deletedNodes,
+						entityMetaData.getPrimaryLabel()), e);
+				}
+			}
+		} while (deletedNodesInBatch == batchSize);
+
+		return deletedNodes;
+	}
+
 	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType, Statement statement) {
 		return createExecutableQuery(domainType, statement, Collections.emptyMap());
 	}
@@ -403,126 +582,107 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	private void processRelations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
 		@Nullable String inDatabase) {
 
-		processNestedRelations(neo4jPersistentEntity, parentObject, inDatabase, new NestedRelationshipProcessingStateMachine());
+		// Removing and creating relationships doesn't depend on any results, so those statements are pipelined
+		Neo4jClient.Pipeline pipeline = neo4jClient.pipeline().in(inDatabase);
+		saveSupport.walkRelationships(neo4jPersistentEntity, parentObject, new PipelinedRelationships(pipeline, inDatabase));
+		pipeline.sync();
 	}
 
-	private void processNestedRelations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
-		@Nullable String inDatabase, NestedRelationshipProcessingStateMachine stateMachine) {
-
-		PersistentPropertyAccessor<?> propertyAccessor = neo4jPersistentEntity.getPropertyAccessor(parentObject);
-		Object fromId = propertyAccessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty());
-
-		neo4jPersistentEntity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) association -> {
-
-			// create context to bundle parameters
-			NestedRelationshipContext relationshipContext = NestedRelationshipContext
-				.of(association, propertyAccessor, neo4jPersistentEntity);
-
-			Collection<?> relatedValuesToStore = Relationships
-				.unifyRelationshipValue(relationshipContext.getInverse(), relationshipContext.getValue());
-
-			RelationshipDescription relationshipDescription = relationshipContext.getRelationship();
-			RelationshipDescription relationshipDescriptionObverse = relationshipDescription.getRelationshipObverse();
-
-			// break recursive procession and deletion of previously created relationships
-			ProcessState processState = stateMachine
-				.getStateOf(relationshipDescriptionObverse, relatedValuesToStore);
-			if (processState == ProcessState.PROCESSED_BOTH) {
-				return;
-			}
-
-			// remove all relationships before creating all new if the entity is not new
-			// this avoids the usage of cache but might have significant impact on overall performance
-			if (!neo4jPersistentEntity.isNew(parentObject)) {
-				Neo4jPersistentEntity<?> previouslyRelatedPersistentEntity = neo4jMappingContext
-					.getPersistentEntity(relationshipContext.getAssociationTargetType());
-
-				Statement relationshipRemoveQuery = cypherGenerator.createRelationshipRemoveQuery(neo4jPersistentEntity,
-					relationshipDescription, previouslyRelatedPersistentEntity);
-
-				neo4jClient.query(renderer.render(relationshipRemoveQuery))
-					.in(inDatabase)
-					.bind(convertIdValues(fromId)).to(FROM_ID_PARAMETER_NAME).run();
-			}
-
-			// nothing to do because there is nothing to map
-			if (relationshipContext.inverseValueIsEmpty()) {
-				return;
-			}
+	private <Y> Long saveRelatedNode(Object entity, Class<Y> entityType, Neo4jPersistentEntity<?> targetNodeDescription,
+		@Nullable String inDatabase) {
 
-			stateMachine.markAsProcessed(relationshipDescription, relatedValuesToStore);
+		DynamicLabels dynamicLabels = determineDynamicLabels(entity, targetNodeDescription, inDatabase);
+		Optional<Long> optionalSavedNodeId = neo4jClient
+			.query(() -> saveSupport.renderSaveOf(targetNodeDescription, dynamicLabels))
+			.in(inDatabase)
+			.bind((Y) entity).with(neo4jMappingContext.getRequiredBinderFunctionFor(entityType))
+			.fetchAs(Long.class).one();
 
-			for (Object relatedValueToStore : relatedValuesToStore) {
+		return saveSupport.requireNodeId(targetNodeDescription, optionalSavedNodeId);
+	}
 
-				// here map entry is not always anymore a dynamic association
-				Object valueToBeSavedPreEvt = relationshipContext
-					.identifyAndExtractRelationshipValue(relatedValueToStore);
-				valueToBeSavedPreEvt = eventSupport.maybeCallBeforeBind(valueToBeSavedPreEvt);
+	/**
+	 * @return True if the queries of this template participate in an ongoing Neo4j transaction
+	 */
+	private boolean isInUnitOfWork() {
 
-				Neo4jPersistentEntity<?> targetNodeDescription = neo4jMappingContext
-					.getPersistentEntity(valueToBeSavedPreEvt.getClass());
+		return neo4jClient instanceof DefaultNeo4jClient && ((DefaultNeo4jClient) neo4jClient).isInUnitOfWork();
+	}
 
-				Long relatedInternalId = saveRelatedNode(valueToBeSavedPreEvt,
-					relationshipContext.getAssociationTargetType(),
-					targetNodeDescription, inDatabase);
+	private String getDatabaseName() {
 
-				RelationshipStatementHolder statementHolder = RelationshipStatementHolder.createStatement(
-					neo4jMappingContext, neo4jPersistentEntity, relationshipContext, relatedInternalId,
-					relatedValueToStore);
+		return this.databaseSelectionProvider.getDatabaseSelection().getValue();
+	}
 
-				neo4jClient.query(renderer.render(statementHolder.getRelationshipCreationQuery()))
-					.in(inDatabase)
-					.bind(convertIdValues(fromId)).to(FROM_ID_PARAMETER_NAME)
-					.bindAll(statementHolder.getProperties())
-					.run();
+	/**
+	 * Records the duration of an operation if metrics are available.
+	 *
+	 * @param operation     The name of the operation
+	 * @param entityType    The domain type the operation works with
+	 * @param operationCall The actual operation
+	 * @param <R>           The type of the result
+	 * @return The result of the operation
+	 */
+	private <R> R measure(String operation, Class<?> entityType, Supplier<R> operationCall) {
 
-				// if an internal id is used this must get set to link this entity in the next iteration
-				if (targetNodeDescription.isUsingInternalIds()) {
-					PersistentPropertyAccessor<?> targetPropertyAccessor = targetNodeDescription
-						.getPropertyAccessor(valueToBeSavedPreEvt);
-					targetPropertyAccessor
-						.setProperty(targetNodeDescription.getRequiredIdProperty(), relatedInternalId);
-				}
-				if (processState != ProcessState.PROCESSED_ALL_VALUES) {
-					processNestedRelations(targetNodeDescription, valueToBeSavedPreEvt, inDatabase, stateMachine);
-				}
-			}
-		});
+		return measure(operation, () -> entityType, operationCall);
 	}
 
-	private <Y> Long saveRelatedNode(Object entity, Class<Y> entityType, NodeDescription targetNodeDescription, @Nullable String inDatabase) {
-
-		DynamicLabels dynamicLabels = determineDynamicLabels(entity, (Neo4jPersistentEntity) targetNodeDescription, inDatabase);
-		Optional<Long> optionalSavedNodeId = neo4jClient
-			.query(() -> renderer
-				.render(cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels)))
-			.in(inDatabase)
-			.bind((Y) entity).with(neo4jMappingContext.getRequiredBinderFunctionFor(entityType))
-			.fetchAs(Long.class).one();
+	/**
+	 * Records the duration of an operation if metrics are available. The domain type is only determined when the
+	 * duration is actually recorded.
+	 *
+	 * @param operation          The name of the operation
+	 * @param entityTypeSupplier Supplier of the domain type the operation works with
+	 * @param operationCall      The actual operation
+	 * @param <R>                The type of the result
+	 * @return The result of the operation
+	 */
+	private <R> R measure(String operation, Supplier<Class<?>> entityTypeSupplier, Supplier<R> operationCall) {
 
-		if (((Neo4jPersistentEntity) targetNodeDescription).hasVersionProperty() && !optionalSavedNodeId.isPresent()) {
-			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+		if (metrics == Neo4jMetrics.NOOP) {
+			return operationCall.get();
 		}
 
-		return optionalSavedNodeId.get();
-	}
-
-	private String getDatabaseName() {
-
-		return this.databaseSelectionProvider.getDatabaseSelection().getValue();
+		Class<?> entityType = entityTypeSupplier.get();
+		String databaseName = getDatabaseName();
+		long start = System.nanoTime();
+		Throwable error = null;
+		try {
+			return operationCall.get();
+		} catch (RuntimeException e) {
+			error = e;
+			throw e;
+		} finally {
+			metrics.recordOperation(operation, entityType, databaseName, System.nanoTime() - start, error);
+		}
 	}
 
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
 		this.eventSupport = new Neo4jEvents(EntityCallbacks.create(beanFactory));
+		this.metrics = beanFactory.getBeanProvider(Neo4jMetrics.class).getIfUnique(() -> Neo4jMetrics.NOOP);
+		this.planSampler = beanFactory.getBeanProvider(QueryPlanSampler.class).getIfUnique();
+	}
+
+	/**
+	 * Prefixes the query with {@code PROFILE} if a query plan sampler is available and decides to sample this execution.
+	 */
+	private String sample(PreparedQuery<?> preparedQuery) {
+
+		String cypherQuery = preparedQuery.getCypherQuery();
+		if (planSampler == null) {
+			return cypherQuery;
+		}
+		return planSampler.sample(preparedQuery.getOptionalOrigin().orElse(null), cypherQuery);
 	}
 
 	@Override
 	public <T> ExecutableQuery<T> toExecutableQuery(PreparedQuery<T> preparedQuery) {
 
 		Neo4jClient.MappingSpec<T> mappingSpec = this
-			.neo4jClient.query(preparedQuery.getCypherQuery())
+			.neo4jClient.query(sample(preparedQuery))
 			.in(getDatabaseName())
 			.bindAll(preparedQuery.getParameters())
 			.fetchAs(preparedQuery.getResultType());
@@ -564,6 +724,38 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		}
 	}
 
+	/**
+	 * Saves related nodes right away and adds the statements for their relationships to a pipeline.
+	 */
+	private final class PipelinedRelationships implements EntitySaveSupport.RelationshipVisitor {
+
+		private final Neo4jClient.Pipeline pipeline;
+
+		private final @Nullable String inDatabase;
+
+		PipelinedRelationships(Neo4jClient.Pipeline pipeline, @Nullable String inDatabase) {
+			this.pipeline = pipeline;
+			this.inDatabase = inDatabase;
+		}
+
+		@Override
+		public void removeRelationships(EntitySaveSupport.RenderedQuery query) {
+			pipeline.add(query.getCypher(), query.getParameters());
+		}
+
+		@Override
+		public void relatedNode(EntitySaveSupport.RelatedNode relatedNode) {
+
+			Object valueToBeSaved = eventSupport.maybeCallBeforeBind(relatedNode.getValue());
+			Long relatedInternalId = saveRelatedNode(valueToBeSaved, relatedNode.getAssociationTargetType(),
+				relatedNode.getNodeDescription(valueToBeSaved), inDatabase);
+
+			EntitySaveSupport.RenderedQuery relationshipCreationQuery = relatedNode.link(valueToBeSaved, relatedInternalId);
+			pipeline.add(relationshipCreationQuery.getCypher(), relationshipCreationQuery.getParameters());
+			relatedNode.walkRelationships(valueToBeSaved, this);
+		}
+	}
+
 	/**
 	 * Utility class that orchestrates {@link EntityCallbacks}.
 	 * All the methods provided here check for their availability and do nothing when an event cannot be published.
@@ -20,6 +20,7 @@ package org.neo4j.springframework.data.core;
 
 import java.util.Map;
 
+import org.neo4j.springframework.data.core.mapping.LazyRelationships;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
@@ -45,13 +46,17 @@ final class NestedRelationshipContext {
 
 	private final boolean inverseValueIsEmpty;
 
+	private final boolean uninitializedLazyRelationship;
+
 	private NestedRelationshipContext(Neo4jPersistentProperty inverse, @Nullable Object value,
-		RelationshipDescription relationship, Class<?> associationTargetType, boolean inverseValueIsEmpty) {
+		RelationshipDescription relationship, Class<?> associationTargetType, boolean inverseValueIsEmpty,
+		boolean uninitializedLazyRelationship) {
 		this.inverse = inverse;
 		this.value = value;
 		this.relationship = relationship;
 		this.associationTargetType = associationTargetType;
 		this.inverseValueIsEmpty = inverseValueIsEmpty;
+		this.uninitializedLazyRelationship = uninitializedLazyRelationship;
 	}
 
 	Neo4jPersistentProperty getInverse() {
@@ -75,6 +80,13 @@ final class NestedRelationshipContext {
 		return inverseValueIsEmpty;
 	}
 
+	/**
+	 * @return True, if the value is a lazy relationship that has not been loaded yet.
+	 */
+	boolean isUninitializedLazyRelationship() {
+		return uninitializedLazyRelationship;
+	}
+
 	boolean hasRelationshipWithProperties() {
 		return this.relationship.hasRelationshipProperties();
 	}
@@ -103,6 +115,12 @@ final class NestedRelationshipContext {
 		boolean inverseValueIsEmpty = propertyAccessor.getProperty(inverse) == null;
 		Object value = propertyAccessor.getProperty(inverse);
 
+		// loaded lazy relationships are replaced by their targets, so that the proxies never hit the mapping context
+		boolean uninitializedLazyRelationship = !LazyRelationships.isInitialized(value);
+		if (!uninitializedLazyRelationship) {
+			value = LazyRelationships.unwrap(value);
+		}
+
 		RelationshipDescription relationship = neo4jPersistentEntity
 			.getRelationships().stream()
 			.filter(r -> r.getFieldName().equals(inverse.getName()))
@@ -114,6 +132,6 @@ final class NestedRelationshipContext {
 			: inverse.getAssociationTargetType();
 
 		return new NestedRelationshipContext(inverse, value, relationship, associationTargetType,
-			inverseValueIsEmpty);
+			inverseValueIsEmpty, uninitializedLazyRelationship);
 	}
 }
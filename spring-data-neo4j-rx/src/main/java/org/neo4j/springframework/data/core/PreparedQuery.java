@@ -54,12 +54,34 @@ public final class PreparedQuery<T> {
 	private final String cypherQuery;
 	private final Map<String, Object> parameters;
 	private final @Nullable BiFunction<TypeSystem, Record, T> mappingFunction;
+	private final @Nullable String origin;
 
 	private PreparedQuery(OptionalBuildSteps<T> optionalBuildSteps) {
 		this.resultType = optionalBuildSteps.resultType;
 		this.mappingFunction = (BiFunction<TypeSystem, Record, T>) optionalBuildSteps.mappingFunction;
 		this.cypherQuery = optionalBuildSteps.cypherQuery;
 		this.parameters = optionalBuildSteps.parameters;
+		this.origin = null;
+	}
+
+	private PreparedQuery(PreparedQuery<T> source, String origin) {
+		this.resultType = source.resultType;
+		this.mappingFunction = source.mappingFunction;
+		this.cypherQuery = source.cypherQuery;
+		this.parameters = source.parameters;
+		this.origin = origin;
+	}
+
+	/**
+	 * Creates a copy of this query that is marked with the place it originates from, for example a repository method.
+	 * The origin is used to group samples of query plans.
+	 *
+	 * @param newOrigin A description of the origin of this query
+	 * @return A new prepared query
+	 * @since 1.1
+	 */
+	public PreparedQuery<T> withOrigin(String newOrigin) {
+		return new PreparedQuery<>(this, newOrigin);
 	}
 
 	public Class<T> getResultType() {
@@ -78,6 +100,14 @@ public final class PreparedQuery<T> {
 		return this.parameters;
 	}
 
+	/**
+	 * @return The origin of this query if known
+	 * @since 1.1
+	 */
+	public Optional<String> getOptionalOrigin() {
+		return Optional.ofNullable(origin);
+	}
+
 	/**
 	 * @param <CT> The concrete type of this build step.
 	 * @since 1.0
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.springframework.lang.Nullable;
+
+/**
+ * Information about a single query passed to {@link QueryExecutionListener query execution listeners}. The same
+ * instance is passed to all callbacks of a query, so listeners can use {@link #setAttribute(String, Object) attributes}
+ * to keep state between the callbacks, for example a tracing span.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class QueryExecutionContext {
+
+	private final String cypher;
+
+	private final Map<String, Object> parameters;
+
+	@Nullable private final String databaseName;
+
+	private final long start;
+
+	private volatile long elapsedNanos = -1L;
+
+	private volatile long rows;
+
+	private final Map<String, Object> attributes = Collections.synchronizedMap(new HashMap<>());
+
+	QueryExecutionContext(String cypher, Map<String, Object> parameters, @Nullable String databaseName, long start) {
+
+		this.cypher = cypher;
+		this.parameters = Collections.unmodifiableMap(parameters);
+		this.databaseName = databaseName;
+		this.start = start;
+	}
+
+	/**
+	 * @return The Cypher statement as send to the database
+	 */
+	public String getCypher() {
+		return cypher;
+	}
+
+	/**
+	 * @return The parameters of the statement, never {@literal null}
+	 */
+	public Map<String, Object> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * @return The target database, {@literal null} for the default database
+	 */
+	@Nullable
+	public String getDatabaseName() {
+		return databaseName;
+	}
+
+	/**
+	 * @return The time elapsed on the client between retrieving a session or transaction and the end of the query in
+	 * nanoseconds or {@literal -1} before the query finished
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return The number of records that have been mapped
+	 */
+	public long getRows() {
+		return rows;
+	}
+
+	/**
+	 * Stores an arbitrary attribute for use in a later callback.
+	 *
+	 * @param name  The name of the attribute
+	 * @param value The value, {@literal null} removes the attribute
+	 */
+	public void setAttribute(String name, @Nullable Object value) {
+
+		if (value == null) {
+			attributes.remove(name);
+		} else {
+			attributes.put(name, value);
+		}
+	}
+
+	/**
+	 * @param name The name of the attribute
+	 * @return The value of the attribute or {@literal null} if there is no such attribute
+	 */
+	@Nullable
+	public Object getAttribute(String name) {
+		return attributes.get(name);
+	}
+
+	void finished(long rowCount) {
+
+		this.rows = rowCount;
+		this.elapsedNanos = System.nanoTime() - start;
+	}
+}
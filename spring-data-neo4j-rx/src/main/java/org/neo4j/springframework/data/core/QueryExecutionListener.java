@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.apiguardian.api.API.Status.*;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.ResultSummary;
+import org.springframework.lang.Nullable;
+
+/**
+ * Callback for queries run through {@link Neo4jClient} or {@link ReactiveNeo4jClient}. Listeners are registered with
+ * the clients builders. Each query run through a fetch or run specification is reported with exactly one call to
+ * {@link #beforeExecute(QueryExecutionContext)}, followed by exactly one call to either
+ * {@link #afterExecute(QueryExecutionContext, ResultSummary)} or {@link #onError(QueryExecutionContext, Throwable)}.
+ * Queries run through delegations are not reported, as the client has no access to them.
+ * <p>
+ * Listeners are called on the thread running the query and must be thread safe. Exceptions thrown by listeners are
+ * logged and otherwise ignored.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public interface QueryExecutionListener {
+
+	/**
+	 * Called right before the query is handed to the driver.
+	 *
+	 * @param context The context of the query, including the statement, parameters and the target database
+	 */
+	default void beforeExecute(QueryExecutionContext context) {
+	}
+
+	/**
+	 * Called after the query has been run and its records have been consumed. The summary gives access to the server
+	 * timing ({@link ResultSummary#resultAvailableAfter(java.util.concurrent.TimeUnit)} and
+	 * {@link ResultSummary#resultConsumedAfter(java.util.concurrent.TimeUnit)}), counters, notifications and plans.
+	 *
+	 * @param context       The context of the query
+	 * @param resultSummary The summary of the query, {@literal null} if a reactive consumer cancelled the query before
+	 *                      the summary was available
+	 */
+	default void afterExecute(QueryExecutionContext context, @Nullable ResultSummary resultSummary) {
+	}
+
+	/**
+	 * Called when the query failed.
+	 *
+	 * @param context The context of the query
+	 * @param error   The original error, before any translation
+	 */
+	default void onError(QueryExecutionContext context, Throwable error) {
+	}
+}
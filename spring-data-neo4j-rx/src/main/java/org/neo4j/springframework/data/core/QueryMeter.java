@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.commons.logging.LogFactory;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.springframework.data.core.metrics.Neo4jFlightRecorder;
+import org.neo4j.springframework.data.core.metrics.Neo4jFlightRecorder.MappingRecording;
+import org.neo4j.springframework.data.core.metrics.Neo4jFlightRecorder.Recording;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
+
+/**
+ * Measures a single query run by one of the clients and notifies the {@link QueryExecutionListener query execution
+ * listeners}. Driver time is the total time minus the time spent in the mapping function. Also emits JFR query and
+ * mapping events when enabled in a running recording. All methods are no-ops when neither metrics, listeners nor JFR events
+ * are enabled. An instance must not be shared between queries and records at most
+ * once.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+final class QueryMeter {
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(QueryMeter.class));
+
+	private final Neo4jMetrics metrics;
+
+	private final List<QueryExecutionListener> listeners;
+
+	@Nullable private final String targetDatabase;
+
+	private final boolean enabled;
+
+	private final long start;
+
+	@Nullable private QueryExecutionContext context;
+
+	private Recording recording = Recording.NONE;
+
+	/**
+	 * Records may be mapped concurrently, see {@link Neo4jClient.RecordFetchSpec#mappedInParallel()}.
+	 */
+	private final LongAdder mappingNanos = new LongAdder();
+
+	private final LongAdder rows = new LongAdder();
+
+	private boolean recorded;
+
+	QueryMeter(Neo4jMetrics metrics, List<QueryExecutionListener> listeners, @Nullable String targetDatabase) {
+
+		this.metrics = metrics;
+		this.listeners = listeners;
+		this.targetDatabase = targetDatabase;
+		this.enabled = isEnabled(metrics, listeners);
+		this.start = enabled ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * @param metrics   The configured metrics
+	 * @param listeners The configured listeners
+	 * @return True if queries need to be observed at all
+	 */
+	static boolean isEnabled(Neo4jMetrics metrics, List<QueryExecutionListener> listeners) {
+		return metrics != Neo4jMetrics.NOOP || !listeners.isEmpty() || Neo4jFlightRecorder.isQueryRecordingEnabled()
+			|| Neo4jFlightRecorder.isMappingRecordingEnabled();
+	}
+
+	boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Notifies the listeners that the query is about to be run and starts the JFR recording.
+	 *
+	 * @param cypher     The final Cypher statement
+	 * @param parameters The parameters of the statement
+	 */
+	void started(String cypher, Map<String, Object> parameters) {
+
+		if (!enabled) {
+			return;
+		}
+
+		this.recording = Neo4jFlightRecorder.startQuery(cypher, targetDatabase);
+		if (listeners.isEmpty()) {
+			return;
+		}
+
+		this.context = new QueryExecutionContext(cypher, parameters, targetDatabase, start);
+		notifyListeners(listener -> listener.beforeExecute(context));
+	}
+
+	<T> Function<Record, T> measure(Function<Record, T> mappingFunction) {
+
+		if (!enabled) {
+			return mappingFunction;
+		}
+
+		return record -> {
+			MappingRecording mappingRecording = Neo4jFlightRecorder.startMapping();
+			long mappingStart = System.nanoTime();
+			T mapped = null;
+			RuntimeException error = null;
+			try {
+				mapped = mappingFunction.apply(record);
+				return mapped;
+			} catch (RuntimeException e) {
+				error = e;
+				throw e;
+			} finally {
+				mappingNanos.add(System.nanoTime() - mappingStart);
+				rows.increment();
+				if (mappingRecording != MappingRecording.NONE) {
+					mappingRecording.end(mapped == null ? null : mapped.getClass(), record.size(), error);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Records a successful query. The result is consumed to retrieve its summary, so this must be called after all
+	 * records needed have been mapped.
+	 *
+	 * @param result The result of the query
+	 */
+	void succeeded(Result result) {
+
+		if (enabled) {
+			succeeded(result.consume());
+		}
+	}
+
+	void succeeded(ResultSummary resultSummary) {
+		record(resultSummary, null);
+	}
+
+	/**
+	 * Records a query that has been stopped before its summary was available, for example by a subscriber cancelling
+	 * after the first record.
+	 */
+	void stopped() {
+		record(null, null);
+	}
+
+	void failed(Throwable error) {
+		record(null, error);
+	}
+
+	private void record(@Nullable ResultSummary resultSummary, @Nullable Throwable error) {
+
+		if (!enabled || recorded) {
+			return;
+		}
+
+		recorded = true;
+		long total = System.nanoTime() - start;
+		// When mapped in parallel, the mapping time is the sum over all threads and may exceed the elapsed time
+		long totalMappingNanos = mappingNanos.sum();
+		long totalRows = rows.sum();
+		metrics.recordQuery(targetDatabase, Math.max(0, total - totalMappingNanos), totalMappingNanos, totalRows,
+			resultSummary, error);
+		recording.end(totalRows, error);
+
+		QueryExecutionContext finishedContext = this.context;
+		if (finishedContext != null) {
+			finishedContext.finished(totalRows);
+			if (error == null) {
+				notifyListeners(listener -> listener.afterExecute(finishedContext, resultSummary));
+			} else {
+				notifyListeners(listener -> listener.onError(finishedContext, error));
+			}
+		}
+	}
+
+	private void notifyListeners(Consumer<QueryExecutionListener> callback) {
+
+		for (QueryExecutionListener listener : listeners) {
+			try {
+				callback.accept(listener);
+			} catch (RuntimeException e) {
+				log.warn(e, () -> String.format("Query execution listener %s failed.", listener));
+			}
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.springframework.data.core.transaction.Neo4jTransactionUtils;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Warms up the plan caches of the server. The repository factories render the statements of all CRUD operations as
+ * well as of all derived and string based queries while the repositories are created and register them here. After
+ * the application context has been refreshed, each distinct statement is sent to the server prefixed with
+ * {@code EXPLAIN}, so that it is planned but not executed. Statements are explained in parallel, with at most the
+ * configured number of statements in flight. Failures and timings are logged and returned.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class QueryWarmUp implements ApplicationListener<ContextRefreshedEvent> {
+
+	/**
+	 * The default number of statements explained concurrently.
+	 */
+	public static final int DEFAULT_CONCURRENCY = 4;
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(QueryWarmUp.class));
+
+	private final Driver driver;
+
+	@Nullable private final String databaseName;
+
+	private final int concurrency;
+
+	private final ConcurrentMap<String, Statement> statements = new ConcurrentHashMap<>();
+
+	private final AtomicBoolean warmedUp = new AtomicBoolean(false);
+
+	/**
+	 * @param driver       The driver used to explain the statements
+	 * @param databaseName The database in which the statements will be executed
+	 * @param concurrency  The maximum number of statements explained at the same time
+	 */
+	public QueryWarmUp(Driver driver, @Nullable String databaseName, int concurrency) {
+
+		Assert.notNull(driver, "A driver is required.");
+		Assert.isTrue(concurrency > 0, "The concurrency must be greater than 0.");
+
+		this.driver = driver;
+		this.databaseName = databaseName;
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Registers a statement to be warmed up. Statements already registered by another origin are ignored.
+	 *
+	 * @param origin     The origin of the statement, for example the repository method
+	 * @param cypher     The rendered statement
+	 * @param parameters Parameters for explaining the statement, may be incomplete
+	 */
+	public void register(String origin, String cypher, Map<String, Object> parameters) {
+
+		this.statements.putIfAbsent(cypher, new Statement(origin, cypher, parameters));
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+
+		if (warmedUp.compareAndSet(false, true)) {
+			warmUp();
+		}
+	}
+
+	/**
+	 * Explains all registered statements.
+	 *
+	 * @return The outcome of explaining each statement
+	 */
+	public List<Result> warmUp() {
+
+		if (statements.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Statement> statementsToExplain = new ArrayList<>(statements.values());
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, statementsToExplain.size()),
+			newThreadFactory());
+		long start = System.nanoTime();
+		try {
+			List<CompletableFuture<Result>> futures = statementsToExplain.stream()
+				.map(statement -> CompletableFuture.supplyAsync(() -> explain(statement), executor))
+				.collect(Collectors.toList());
+			List<Result> results = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+
+			Duration total = Duration.ofNanos(System.nanoTime() - start);
+			long failures = results.stream().filter(result -> !result.isSuccessful()).count();
+			log.info(() -> String.format("Warmed up %d of %d statements in %dms.", results.size() - failures,
+				results.size(), total.toMillis()));
+			return results;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private Result explain(Statement statement) {
+
+		long start = System.nanoTime();
+		try (Session session = driver.session(Neo4jTransactionUtils.defaultSessionConfig(databaseName))) {
+			session.run("EXPLAIN " + statement.cypher, statement.parameters).consume();
+
+			Result result = new Result(statement.origin, statement.cypher, Duration.ofNanos(System.nanoTime() - start),
+				null);
+			log.debug(() -> String.format("Explained %s in %dms.", result.origin, result.duration.toMillis()));
+			return result;
+		} catch (RuntimeException e) {
+			log.warn(() -> String.format("Could not warm up %s: %s", statement.origin, e.getMessage()));
+			return new Result(statement.origin, statement.cypher, Duration.ofNanos(System.nanoTime() - start), e);
+		}
+	}
+
+	private static CustomizableThreadFactory newThreadFactory() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("neo4j-warm-up-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	private static final class Statement {
+
+		private final String origin;
+
+		private final String cypher;
+
+		private final Map<String, Object> parameters;
+
+		Statement(String origin, String cypher, Map<String, Object> parameters) {
+			this.origin = origin;
+			this.cypher = cypher;
+			this.parameters = parameters;
+		}
+	}
+
+	/**
+	 * The outcome of warming up a single statement.
+	 */
+	public static final class Result {
+
+		private final String origin;
+
+		private final String cypher;
+
+		private final Duration duration;
+
+		@Nullable private final RuntimeException failure;
+
+		Result(String origin, String cypher, Duration duration, @Nullable RuntimeException failure) {
+			this.origin = origin;
+			this.cypher = cypher;
+			this.duration = duration;
+			this.failure = failure;
+		}
+
+		/**
+		 * @return The origin of the statement, for example the repository method
+		 */
+		public String getOrigin() {
+			return origin;
+		}
+
+		public String getCypher() {
+			return cypher;
+		}
+
+		/**
+		 * @return The time it took the server to explain the statement
+		 */
+		public Duration getDuration() {
+			return duration;
+		}
+
+		public boolean isSuccessful() {
+			return failure == null;
+		}
+
+		public Optional<RuntimeException> getFailure() {
+			return Optional.ofNullable(failure);
+		}
+
+		@Override
+		public String toString() {
+			return "Result{" +
+				"origin='" + origin + '\'' +
+				", duration=" + duration +
+				", successful=" + isSuccessful() +
+				'}';
+		}
+	}
+}
@@ -20,7 +20,12 @@ package org.neo4j.springframework.data.core;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -34,7 +39,11 @@ import org.neo4j.driver.reactive.RxQueryRunner;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.Neo4jClient.BindSpec;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+import org.reactivestreams.Publisher;
 import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Reactive Neo4j client. The main difference to the {@link Neo4jClient imperative Neo4j client} is the fact that all
@@ -51,7 +60,70 @@ public interface ReactiveNeo4jClient {
 
 	static ReactiveNeo4jClient create(Driver driver) {
 
-		return new DefaultReactiveNeo4jClient(driver);
+		return new DefaultReactiveNeo4jClient(driver, Neo4jMetrics.NOOP, Collections.emptyList());
+	}
+
+	/**
+	 * Starts building a client with additional configuration.
+	 *
+	 * @param driver The driver used by the new client
+	 * @return A builder for a new client
+	 * @since 1.1
+	 */
+	static Builder with(Driver driver) {
+
+		return new Builder(driver);
+	}
+
+	/**
+	 * Builder for a {@link ReactiveNeo4jClient} that needs more configuration than just a driver.
+	 *
+	 * @since 1.1
+	 */
+	@API(status = API.Status.STABLE, since = "1.1")
+	final class Builder {
+
+		private final Driver driver;
+
+		private Neo4jMetrics metrics = Neo4jMetrics.NOOP;
+
+		private final List<QueryExecutionListener> listeners = new ArrayList<>();
+
+		private Builder(Driver driver) {
+
+			Assert.notNull(driver, "A driver is required.");
+			this.driver = driver;
+		}
+
+		/**
+		 * @param newMetrics The metrics receiving the measurements of all queries run by the new client
+		 * @return This builder
+		 */
+		public Builder withMetrics(Neo4jMetrics newMetrics) {
+
+			Assert.notNull(newMetrics, "Metrics are required, use Neo4jMetrics.NOOP to disable them.");
+			this.metrics = newMetrics;
+			return this;
+		}
+
+		/**
+		 * Adds a listener that is notified about all queries run by the new client. Listeners are called in the order they
+		 * have been added.
+		 *
+		 * @param listener The additional listener
+		 * @return This builder
+		 */
+		public Builder withQueryExecutionListener(QueryExecutionListener listener) {
+
+			Assert.notNull(listener, "The listener is required.");
+			this.listeners.add(listener);
+			return this;
+		}
+
+		public ReactiveNeo4jClient build() {
+			return new DefaultReactiveNeo4jClient(driver, metrics,
+				Collections.unmodifiableList(new ArrayList<>(listeners)));
+		}
 	}
 
 	/**
@@ -82,6 +154,20 @@ public interface ReactiveNeo4jClient {
 	 */
 	<T> OngoingDelegation<T> delegateTo(Function<RxQueryRunner, Mono<T>> callback);
 
+	/**
+	 * Runs the publisher provided by the callback inside a unit of work: All queries issued through this client from
+	 * within that publisher share one session and one transaction. The transaction is committed when the publisher
+	 * completes and rolled back on error or cancellation. Queries targeting another database than the unit of work use
+	 * their own session. If there's an ongoing Neo4j transaction, the publisher just participates in that.
+	 *
+	 * @param targetDatabase selected database to use. A value of {@literal null} chooses the default database.
+	 * @param callback       A supplier of the publisher to run
+	 * @param <T>            The type of the result being produced
+	 * @return A publisher emitting the elements of the supplied publisher
+	 * @since 1.1
+	 */
+	<T> Flux<T> doInUnitOfWork(@Nullable String targetDatabase, Supplier<? extends Publisher<T>> callback);
+
 	/**
 	 * @param <T> The resulting type of this mapping
 	 * @since 1.0
@@ -124,6 +210,28 @@ public interface ReactiveNeo4jClient {
 		 * @return All records.
 		 */
 		Flux<T> all();
+
+		/**
+		 * Maps the records fetched by {@link #all()} concurrently on the {@link Schedulers#parallel() parallel scheduler}.
+		 *
+		 * @return This specification
+		 * @see #mappedInParallel(Scheduler)
+		 * @since 1.1
+		 */
+		default RecordFetchSpec<T> mappedInParallel() {
+			return mappedInParallel(Schedulers.parallel());
+		}
+
+		/**
+		 * Maps the records fetched by {@link #all()} concurrently on the given scheduler. The records are mapped in
+		 * chunks and emitted in their original order. The mapping function must be thread safe, which all mapping
+		 * functions provided by SDN/RX are.
+		 *
+		 * @param scheduler The scheduler used to map the records, should be bounded
+		 * @return This specification
+		 * @since 1.1
+		 */
+		RecordFetchSpec<T> mappedInParallel(Scheduler scheduler);
 	}
 
 	/**
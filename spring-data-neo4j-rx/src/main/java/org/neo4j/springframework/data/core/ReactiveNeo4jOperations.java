@@ -21,10 +21,13 @@ package org.neo4j.springframework.data.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Map;
 
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
+import org.reactivestreams.Publisher;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 
 /**
@@ -87,6 +90,17 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Flux<T> findAll(Class<T> domainType);
 
+	/**
+	 * Load all entities of a given type, including only the relationships selected by the given fetch plan.
+	 *
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param fetchPlan  the fetch plan selecting the relationships to load. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 1.1
+	 */
+	<T> Flux<T> findAll(Class<T> domainType, FetchPlan fetchPlan);
+
 	/**
 	 * Load all entities of a given type by executing given statement.
 	 *
@@ -161,6 +175,34 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Mono<T> findById(Object id, Class<T> domainType);
 
+	/**
+	 * Load an entity from the database, including only the relationships selected by the given fetch plan.
+	 *
+	 * @param id         the id of the entity to load. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @param fetchPlan  the fetch plan selecting the relationships to load. Must not be {@code null}.
+	 * @param <T>        the type of the entity.
+	 * @return the loaded entity. Might return an empty optional.
+	 * @since 1.1
+	 */
+	<T> Mono<T> findById(Object id, Class<T> domainType, FetchPlan fetchPlan);
+
+	/**
+	 * Load an entity together with the whole subgraph around it, that is all nodes reachable through at most
+	 * {@code depth} relationships of any type and direction. The subgraph is loaded with one query returning the
+	 * deduplicated lists of nodes and relationships, from which the object graph is built. Every node is mapped to one
+	 * instance and cycles in the graph become cycles in the object graph. Only relationships mapped through constructor
+	 * arguments are not followed back to an entity that is still being instantiated.
+	 *
+	 * @param id         the id of the entity to load. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @param depth      the maximum number of relationships between the entity and the related nodes to load
+	 * @param <T>        the type of the entity.
+	 * @return the loaded entity. Might return an empty mono.
+	 * @since 1.1
+	 */
+	<T> Mono<T> findSubgraph(Object id, Class<T> domainType, int depth);
+
 	/**
 	 * Load all entities of a given type that are identified by the given ids.
 	 *
@@ -171,6 +213,19 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Flux<T> findAllById(Iterable<?> ids, Class<T> domainType);
 
+	/**
+	 * Load all entities of a given type that are identified by the given ids, including only the relationships
+	 * selected by the given fetch plan.
+	 *
+	 * @param ids        of the entities identifying the entities to load. Must not be {@code null}.
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param fetchPlan  the fetch plan selecting the relationships to load. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 1.1
+	 */
+	<T> Flux<T> findAllById(Iterable<?> ids, Class<T> domainType, FetchPlan fetchPlan);
+
 	/**
 	 * Saves an instance of an entity, including all the related entities of the entity.
 	 *
@@ -189,6 +244,25 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Flux<T> saveAll(Iterable<T> instances);
 
+	/**
+	 * Saves a possibly infinite stream of instances of an entity in batches. The stream is split into batches of at
+	 * most {@code batchSize} instances, a batch is closed early after {@code maxWaitTime} so that slow streams don't
+	 * hold back instances. Each batch is saved like {@link #saveAll(Iterable)} does, with one statement per batch for
+	 * entities with assigned ids. Up to {@code concurrency} batches are saved at the same time, each in its own
+	 * transaction, and no more instances than the pending batches can hold are requested from the stream. When
+	 * called within an ongoing transaction, all batches participate in that transaction and are saved one after
+	 * another.
+	 *
+	 * @param instances   the instances to be saved. Must not be {@code null}.
+	 * @param batchSize   the maximum number of instances saved in one batch
+	 * @param maxWaitTime the maximum time to wait for a batch to be filled
+	 * @param concurrency the maximum number of batches saved concurrently
+	 * @param <T>         the type of the entity.
+	 * @return the saved instances, in the order of the batches.
+	 * @since 1.1
+	 */
+	<T> Flux<T> saveAll(Publisher<T> instances, int batchSize, Duration maxWaitTime, int concurrency);
+
 	/**
 	 * Deletes a single entity including all entities related to that entity.
 	 *
@@ -214,6 +288,21 @@ public interface ReactiveNeo4jOperations {
 	 */
 	Mono<Void> deleteAll(Class<?> domainType);
 
+	/**
+	 * Deletes all entities of a given type in batches. Each batch is deleted in its own transaction, unless there's an
+	 * ongoing Neo4j transaction, until no entities remain. Use this for types with too many entities to be deleted in
+	 * one transaction. There's no pause between the batches of an ongoing Neo4j transaction, as they are committed
+	 * together. An active transaction synchronization without a Neo4j transaction, for example under
+	 * {@code Propagation.NOT_SUPPORTED}, doesn't prevent committing each batch on its own.
+	 *
+	 * @param domainType          type of the entities to be deleted. Must not be {@code null}.
+	 * @param batchSize           the maximum number of entities deleted in one batch
+	 * @param pauseBetweenBatches the time to wait between two batches, may be {@link Duration#ZERO}
+	 * @return the number of deleted entities
+	 * @since 1.1
+	 */
+	Mono<Long> deleteAll(Class<?> domainType, int batchSize, Duration pauseBetweenBatches);
+
 	/**
 	 * Takes a prepared query, containing all the information about the cypher template to be used, needed parameters and
 	 * an optional mapping function, and turns it into an executable query.
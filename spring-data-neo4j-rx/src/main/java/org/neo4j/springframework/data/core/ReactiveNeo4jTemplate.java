@@ -24,46 +24,46 @@ import static org.neo4j.cypherdsl.core.Cypher.*;
 import static org.neo4j.springframework.data.core.DatabaseSelection.*;
 import static org.neo4j.springframework.data.core.schema.Constants.*;
 
+import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
-import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
 import org.neo4j.cypherdsl.core.Condition;
 import org.neo4j.cypherdsl.core.Functions;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
-import org.neo4j.springframework.data.core.NestedRelationshipProcessingStateMachine.ProcessState;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
-import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+import org.neo4j.springframework.data.core.metrics.QueryPlanSampler;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
-import org.neo4j.springframework.data.core.schema.NodeDescription;
-import org.neo4j.springframework.data.core.schema.RelationshipDescription;
-import org.neo4j.springframework.data.core.support.Relationships;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
 import org.neo4j.springframework.data.repository.event.ReactiveBeforeBindCallback;
+import org.reactivestreams.Publisher;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.data.mapping.AssociationHandler;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
-import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -79,8 +79,6 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(ReactiveNeo4jTemplate.class));
 
-	private static final String OPTIMISTIC_LOCKING_ERROR_MESSAGE = "An entity with the required version does not exist.";
-
 	private static final Renderer renderer = Renderer.getDefaultRenderer();
 
 	private final ReactiveNeo4jClient neo4jClient;
@@ -89,10 +87,16 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 	private final CypherGenerator cypherGenerator;
 
+	private final EntitySaveSupport saveSupport;
+
 	private ReactiveNeo4jEvents eventSupport;
 
 	private final ReactiveDatabaseSelectionProvider databaseSelectionProvider;
 
+	private Neo4jMetrics metrics = Neo4jMetrics.NOOP;
+
+	private @Nullable QueryPlanSampler planSampler;
+
 	public ReactiveNeo4jTemplate(ReactiveNeo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext,
 		ReactiveDatabaseSelectionProvider databaseSelectionProvider) {
 
@@ -103,6 +107,7 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		this.neo4jClient = neo4jClient;
 		this.neo4jMappingContext = neo4jMappingContext;
 		this.cypherGenerator = CypherGenerator.INSTANCE;
+		this.saveSupport = new EntitySaveSupport(neo4jMappingContext, cypherGenerator, renderer);
 		this.eventSupport = new ReactiveNeo4jEvents(ReactiveEntityCallbacks.create());
 		this.databaseSelectionProvider = databaseSelectionProvider;
 	}
@@ -114,7 +119,7 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData)
 			.returning(Functions.count(asterisk())).build();
 
-		return count(statement);
+		return measure("count", domainType, count(statement));
 	}
 
 	@Override
@@ -143,81 +148,111 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 	@Override
 	public <T> Flux<T> findAll(Class<T> domainType) {
+		return findAll(domainType, FetchPlan.all());
+	}
+
+	@Override
+	public <T> Flux<T> findAll(Class<T> domainType, FetchPlan fetchPlan) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData)
-			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)).build();
-		return createExecutableQuery(domainType, statement).flatMapMany(ExecutableQuery::getResults);
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData, fetchPlan)).build();
+		return measure("findAll", domainType,
+			createExecutableQuery(domainType, statement).flatMapMany(ExecutableQuery::getResults));
 	}
 
 	@Override
 	public <T> Flux<T> findAll(Statement statement, Class<T> domainType) {
 
-		return createExecutableQuery(domainType, statement).flatMapMany(ExecutableQuery::getResults);
+		return measure("findAll", domainType,
+			createExecutableQuery(domainType, statement).flatMapMany(ExecutableQuery::getResults));
 	}
 
 	@Override public <T> Flux<T> findAll(Statement statement, Map<String, Object> parameters, Class<T> domainType) {
 
-		return createExecutableQuery(domainType, statement, parameters).flatMapMany(ExecutableQuery::getResults);
+		return measure("findAll", domainType,
+			createExecutableQuery(domainType, statement, parameters).flatMapMany(ExecutableQuery::getResults));
 	}
 
 	@Override
 	public <T> Mono<T> findOne(Statement statement, Map<String, Object> parameters, Class<T> domainType) {
 
-		return createExecutableQuery(domainType, statement, parameters).flatMap(ExecutableQuery::getSingleResult);
+		return measure("findOne", domainType,
+			createExecutableQuery(domainType, statement, parameters).flatMap(ExecutableQuery::getSingleResult));
 	}
 
 	@Override
 	public <T> Flux<T> findAll(String cypherQuery, Class<T> domainType) {
-		return createExecutableQuery(domainType, cypherQuery).flatMapMany(ExecutableQuery::getResults);
+		return measure("findAll", domainType,
+			createExecutableQuery(domainType, cypherQuery).flatMapMany(ExecutableQuery::getResults));
 	}
 
 	@Override
 	public <T> Flux<T> findAll(String cypherQuery, Map<String, Object> parameters, Class<T> domainType) {
-		return createExecutableQuery(domainType, cypherQuery, parameters).flatMapMany(ExecutableQuery::getResults);
+		return measure("findAll", domainType,
+			createExecutableQuery(domainType, cypherQuery, parameters).flatMapMany(ExecutableQuery::getResults));
 	}
 
 	@Override
 	public <T> Mono<T> findOne(String cypherQuery, Map<String, Object> parameters, Class<T> domainType) {
-		return createExecutableQuery(domainType, cypherQuery, parameters).flatMap(ExecutableQuery::getSingleResult);
+		return measure("findOne", domainType,
+			createExecutableQuery(domainType, cypherQuery, parameters).flatMap(ExecutableQuery::getSingleResult));
 	}
 
 	@Override
 	public <T> Mono<T> findById(Object id, Class<T> domainType) {
+		return findById(id, domainType, FetchPlan.all());
+	}
+
+	@Override
+	public <T> Mono<T> findById(Object id, Class<T> domainType, FetchPlan fetchPlan) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		Statement statement = cypherGenerator
 			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(NAME_OF_ID)))
-			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData, fetchPlan))
 			.build();
 
-		return createExecutableQuery(domainType, statement, singletonMap(NAME_OF_ID, convertIdValues(id)))
-			.flatMap(ExecutableQuery::getSingleResult);
+		return measure("findById", domainType,
+			createExecutableQuery(domainType, statement, singletonMap(NAME_OF_ID, saveSupport.convertIdValues(id)))
+				.flatMap(ExecutableQuery::getSingleResult));
+	}
+
+	@Override
+	public <T> Mono<T> findSubgraph(Object id, Class<T> domainType, int depth) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String cypherQuery = cypherGenerator.createSubgraphQuery(entityMetaData, depth);
+
+		return measure("findSubgraph", domainType,
+			createExecutableQuery(domainType, cypherQuery, singletonMap(NAME_OF_ID, saveSupport.convertIdValues(id)))
+				.flatMap(ExecutableQuery::getSingleResult));
 	}
 
 	@Override
 	public <T> Flux<T> findAllById(Iterable<?> ids, Class<T> domainType) {
+		return findAllById(ids, domainType, FetchPlan.all());
+	}
+
+	@Override
+	public <T> Flux<T> findAllById(Iterable<?> ids, Class<T> domainType, FetchPlan fetchPlan) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		Statement statement = cypherGenerator
 			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().in((parameter(NAME_OF_IDS))))
-			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData, fetchPlan))
 			.build();
 
-		return createExecutableQuery(domainType, statement, singletonMap(NAME_OF_IDS, convertIdValues(ids)))
-			.flatMapMany(ExecutableQuery::getResults);
-	}
-
-	private Object convertIdValues(Object idValues) {
-
-		return neo4jMappingContext.getConverter()
-			.writeValueFromProperty(idValues, ClassTypeInformation.from(idValues.getClass()));
+		return measure("findAllById", domainType,
+			createExecutableQuery(domainType, statement, singletonMap(NAME_OF_IDS, saveSupport.convertIdValues(ids)))
+				.flatMapMany(ExecutableQuery::getResults));
 	}
 
 	@Override
 	public <T> Mono<T> save(T instance) {
 
-		return getDatabaseName().flatMap(databaseName -> saveImpl(instance, databaseName.getValue()));
+		return measure("save", instance.getClass(), getDatabaseName().flatMap(databaseName -> neo4jClient
+			.doInUnitOfWork(databaseName.getValue(), () -> saveImpl(instance, databaseName.getValue())).single()));
 	}
 
 	private <T> Mono<T> saveImpl(T instance, @Nullable String inDatabase) {
@@ -230,61 +265,34 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 				T entity = t.getT1();
 				DynamicLabels dynamicLabels = t.getT2();
 
-				Statement saveStatement = cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels);
-
-				Mono<Long> idMono =
-					this.neo4jClient.query(() -> renderer.render(saveStatement))
-						.in(inDatabase)
-						.bind((T) entity)
-						.with(neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entity.getClass()))
-						.fetchAs(Long.class).one()
-						.switchIfEmpty(Mono.defer(() -> {
-							if (entityMetaData.hasVersionProperty()) {
-								return Mono.error(
-									() -> new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE));
-							}
-							return Mono.empty();
-						}));
-
-
-				if (!entityMetaData.isUsingInternalIds()) {
-					return idMono.then(processRelations(entityMetaData, entity, inDatabase)).thenReturn(entity);
-				} else {
-					return idMono.map(internalId -> {
-						PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entity);
-						propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), internalId);
-
-						return propertyAccessor.getBean();
-					}).flatMap(savedEntity -> processRelations(entityMetaData, savedEntity, inDatabase)
+				return this.neo4jClient.query(() -> saveSupport.renderSaveOf(entityMetaData, dynamicLabels))
+					.in(inDatabase)
+					.bind((T) entity)
+					.with(neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entity.getClass()))
+					.fetchAs(Long.class).one()
+					.map(Optional::of)
+					.defaultIfEmpty(Optional.empty())
+					.map(optionalInternalId -> saveSupport.assignInternalId(entityMetaData, entity, optionalInternalId))
+					.flatMap(savedEntity -> processRelations(entityMetaData, savedEntity, inDatabase)
 						.thenReturn(savedEntity));
-				}
 			});
 	}
 
 	private <T> Mono<Tuple2<T, DynamicLabels>> determineDynamicLabels(
 		T entityToBeSaved, Neo4jPersistentEntity<?> entityMetaData, @Nullable String inDatabase
 	) {
-		return entityMetaData.getDynamicLabelsProperty().map(p -> {
-
-			PersistentPropertyAccessor propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
-			ReactiveNeo4jClient.RunnableSpecTightToDatabase runnableQuery = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
+		Mono<Optional<Map<String, Object>>> currentLabels = saveSupport
+			.prepareDynamicLabelsQuery(entityToBeSaved, entityMetaData)
+			.map(query -> neo4jClient.query(query.getCypher())
 				.in(inDatabase)
-				.bind(propertyAccessor.getProperty(entityMetaData.getRequiredIdProperty())).to(NAME_OF_ID)
-				.bind(entityMetaData.getStaticLabels()).to(NAME_OF_STATIC_LABELS_PARAM);
-
-			if (entityMetaData.hasVersionProperty()) {
-				runnableQuery = runnableQuery
-					.bind((Long) propertyAccessor.getProperty(entityMetaData.getRequiredVersionProperty()) - 1)
-					.to(NAME_OF_VERSION_PARAM);
-			}
+				.bindAll(query.getParameters())
+				.fetch().one()
+				.map(Optional::of)
+				.defaultIfEmpty(Optional.empty()))
+			.orElseGet(() -> Mono.just(Optional.empty()));
 
-			return runnableQuery.fetch().one()
-				.map(m -> (Collection<String>) m.get(NAME_OF_LABELS))
-				.switchIfEmpty(Mono.just(Collections.emptyList()))
-				.zipWith(Mono.just((Collection<String>) propertyAccessor.getProperty(p)))
-				.map(t -> Tuples.of(entityToBeSaved, new DynamicLabels(t.getT1(), t.getT2())));
-		}).orElse(Mono.just(Tuples.of(entityToBeSaved, DynamicLabels.EMPTY)));
+		return currentLabels.map(labels -> Tuples
+			.of(entityToBeSaved, saveSupport.toDynamicLabels(entityToBeSaved, entityMetaData, labels)));
 	}
 
 	@Override
@@ -308,12 +316,14 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		if (entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()) {
 			log.debug("Saving entities using single statements.");
 
-			return getDatabaseName().flatMapMany(databaseName ->
-				Flux.fromIterable(entities).flatMap(e -> this.saveImpl(e, databaseName.getValue())));
+			// All statements share one transaction, so the entities are saved one after another
+			return measure("saveAll", domainClass, getDatabaseName().flatMapMany(databaseName -> neo4jClient
+				.doInUnitOfWork(databaseName.getValue(),
+					() -> Flux.fromIterable(entities).concatMap(e -> this.saveImpl(e, databaseName.getValue())))));
 		}
 
 		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
-		return getDatabaseName().flatMapMany(databaseName ->
+		return measure("saveAll", domainClass, getDatabaseName().flatMapMany(databaseName -> neo4jClient.doInUnitOfWork(databaseName.getValue(), () ->
 			Flux.fromIterable(entities)
 				.flatMap(eventSupport::maybeCallBeforeBind)
 				.collectList()
@@ -337,8 +347,87 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 								counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
 								counters.relationshipsDeleted(), counters.propertiesSet()));
 						})
-						.thenMany(Flux.fromIterable(entitiesToBeSaved))
-				));
+						.thenMany(Flux.fromIterable(entitiesToBeSaved)
+							.concatMap(entityToBeSaved -> processRelations(entityMetaData, entityToBeSaved,
+								databaseName.getValue()).thenReturn(entityToBeSaved)))
+				))));
+	}
+
+	@Override
+	public <T> Flux<T> saveAll(Publisher<T> instances, int batchSize, Duration maxWaitTime, int concurrency) {
+
+		Assert.notNull(instances, "The instances to save are required.");
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+		Assert.notNull(maxWaitTime, "The maximum time to wait for a batch is required.");
+		Assert.isTrue(concurrency > 0, "The concurrency must be greater than 0.");
+
+		// Batches sharing one transaction must not run their statements concurrently
+		return isInUnitOfWork().flatMapMany(inUnitOfWork ->
+			batch(instances, batchSize, maxWaitTime)
+				.flatMapSequential(this::saveAll, inUnitOfWork ? 1 : concurrency));
+	}
+
+	/**
+	 * Splits the instances into batches of at most {@code batchSize} elements. A batch is closed early when
+	 * {@code maxWaitTime} passes after its first instance without it being filled. Other than
+	 * {@link Flux#bufferTimeout(int, Duration)} and {@link Flux#windowTimeout(int, Duration)}, this honours the demand of
+	 * the subscriber: Instances are only requested while batches are requested, and a timeout without demand is dropped
+	 * instead of failing with an overflow.
+	 */
+	private static <T> Flux<List<T>> batch(Publisher<T> instances, int batchSize, Duration maxWaitTime) {
+
+		Object end = new Object();
+
+		return Flux.defer(() -> {
+			AtomicInteger sizeOfCurrentBatch = new AtomicInteger();
+			AtomicLong currentBatch = new AtomicLong();
+			// The timer of a batch starts with its first instance and is cancelled when the next batch starts
+			DirectProcessor<Long> startedBatches = DirectProcessor.create();
+			Flux<Object> timeouts = startedBatches
+				.switchMap(batch -> Mono.delay(maxWaitTime).map(tick -> new BatchTimeout(batch)))
+				.onBackpressureDrop()
+				.cast(Object.class);
+			// The timeouts are subscribed first, otherwise batches started by synchronous sources would have no timer
+			return Flux.merge(timeouts, Flux.from(instances).cast(Object.class).concatWith(Mono.just(end)))
+				.takeUntil(element -> element == end)
+				// Timeouts of batches that have already been filled must not close the next batch
+				.filter(element -> !(element instanceof BatchTimeout)
+					|| ((BatchTimeout) element).batch == currentBatch.get() && sizeOfCurrentBatch.get() > 0)
+				.bufferUntil(element -> {
+					if (element instanceof BatchTimeout || element == end) {
+						return sizeOfCurrentBatch.getAndSet(0) > 0;
+					}
+					int size = sizeOfCurrentBatch.incrementAndGet();
+					if (size == batchSize) {
+						sizeOfCurrentBatch.set(0);
+						return true;
+					}
+					if (size == 1) {
+						startedBatches.onNext(currentBatch.incrementAndGet());
+					}
+					return false;
+				})
+				.map(elements -> {
+					@SuppressWarnings("unchecked")
+					List<T> batch = (List<T>) elements.stream()
+						.filter(element -> !(element instanceof BatchTimeout) && element != end)
+						.collect(toList());
+					return batch;
+				})
+				.filter(batch -> !batch.isEmpty());
+		});
+	}
+
+	/**
+	 * Signals that the maximum wait time of a batch has passed.
+	 */
+	private static final class BatchTimeout {
+
+		private final long batch;
+
+		BatchTimeout(long batch) {
+			this.batch = batch;
+		}
 	}
 
 	@Override
@@ -349,10 +438,10 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
 
 		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		return getDatabaseName().flatMap(databaseName ->
+		return measure("deleteAllById", domainType, getDatabaseName().flatMap(databaseName ->
 			this.neo4jClient.query(() -> renderer.render(statement))
 				.in(databaseName.getValue())
-				.bind(ids).to(nameOfParameter).run().then());
+				.bind(ids).to(nameOfParameter).run().then()));
 	}
 
 	@Override
@@ -365,10 +454,10 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
 
 		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		return getDatabaseName().flatMap(databaseName ->
+		return measure("deleteById", domainType, getDatabaseName().flatMap(databaseName ->
 			this.neo4jClient.query(() -> renderer.render(statement))
 				.in(databaseName.getValue())
-				.bind(id).to(nameOfParameter).run().then());
+				.bind(id).to(nameOfParameter).run().then()));
 	}
 
 	@Override
@@ -376,9 +465,37 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
-		return getDatabaseName().flatMap(databaseName ->
+		return measure("deleteAll", domainType, getDatabaseName().flatMap(databaseName ->
 			this.neo4jClient.query(() -> renderer.render(statement))
-				.in(databaseName.getValue()).run().then());
+				.in(databaseName.getValue()).run().then()));
+	}
+
+	@Override
+	public Mono<Long> deleteAll(Class<?> domainType, int batchSize, Duration pauseBetweenBatches) {
+
+		Assert.notNull(pauseBetweenBatches, "The pause between batches is required.");
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		Statement statement = cypherGenerator.prepareBatchedDeleteOf(entityMetaData, batchSize);
+		return getDatabaseName().flatMap(databaseName -> {
+			// Each batch gets its own unit of work, unless there's an ongoing transaction
+			Mono<Integer> deleteBatch = measure("deleteAll", domainType,
+				this.neo4jClient.doInUnitOfWork(databaseName.getValue(), () -> this.neo4jClient
+					.query(() -> renderer.render(statement))
+					.in(databaseName.getValue()).run()).single().map(summary -> summary.counters().nodesDeleted()));
+
+			AtomicLong deletedNodes = new AtomicLong();
+			// Inside an ongoing transaction all batches are committed together, pausing would only hold their locks longer
+			return isInUnitOfWork().flatMap(inUnitOfWork -> deleteBatch
+				.expand(deletedNodesInBatch -> deletedNodesInBatch < batchSize ?
+					Mono.empty() :
+					inUnitOfWork ? deleteBatch : deleteBatch.delaySubscription(pauseBetweenBatches))
+				.map(deletedNodes::addAndGet)
+				.doOnNext(deletedNodesSoFar -> log.debug(() -> String.format(
+					"Deleted %d nodes with primary label %s so far.", deletedNodesSoFar,
+					entityMetaData.getPrimaryLabel())))
+				.then(Mono.fromSupplier(deletedNodes::get)));
+		});
 	}
 
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, Statement statement) {
@@ -408,148 +525,136 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 	private Mono<Void> processRelations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject, @Nullable String inDatabase) {
 
-		return processNestedRelations(neo4jPersistentEntity, parentObject, inDatabase, new NestedRelationshipProcessingStateMachine());
-	}
-
-	private Mono<Void> processNestedRelations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
-		@Nullable String inDatabase, NestedRelationshipProcessingStateMachine stateMachine) {
-
 		return Mono.defer(() -> {
-			PersistentPropertyAccessor<?> propertyAccessor = neo4jPersistentEntity.getPropertyAccessor(parentObject);
-			Object fromId = propertyAccessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty());
-			List<Mono<Void>> relationshipCreationMonos = new ArrayList<>();
-
-			neo4jPersistentEntity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) association -> {
-
-				// create context to bundle parameters
-				NestedRelationshipContext relationshipContext = NestedRelationshipContext
-					.of(association, propertyAccessor, neo4jPersistentEntity);
-
-				Collection<?> relatedValuesToStore = Relationships
-					.unifyRelationshipValue(relationshipContext.getInverse(), relationshipContext.getValue());
-
-				RelationshipDescription relationshipDescription = relationshipContext.getRelationship();
-				RelationshipDescription relationshipDescriptionObverse = relationshipDescription
-					.getRelationshipObverse();
-
-				// break recursive procession and deletion of previously created relationships
-				ProcessState processState = stateMachine
-					.getStateOf(relationshipDescriptionObverse, relatedValuesToStore);
-				if (processState == ProcessState.PROCESSED_BOTH) {
-					return;
-				}
-
-				// remove all relationships before creating all new if the entity is not new
-				// this avoids the usage of cache but might have significant impact on overall performance
-				if (!neo4jPersistentEntity.isNew(parentObject)) {
-					Neo4jPersistentEntity<?> previouslyRelatedPersistentEntity = neo4jMappingContext
-						.getPersistentEntity(relationshipContext.getAssociationTargetType());
-
-					Statement relationshipRemoveQuery = cypherGenerator
-						.createRelationshipRemoveQuery(neo4jPersistentEntity, relationshipDescription,
-							previouslyRelatedPersistentEntity);
-					relationshipCreationMonos.add(
-						neo4jClient.query(renderer.render(relationshipRemoveQuery))
-							.in(inDatabase)
-							.bind(convertIdValues(fromId)).to(FROM_ID_PARAMETER_NAME)
-							.run().checkpoint("delete relationships").then());
-				}
-
-				// nothing to do because there is nothing to map
-				if (relationshipContext.inverseValueIsEmpty()) {
-					return;
-				}
-
-				stateMachine.markAsProcessed(relationshipDescription, relatedValuesToStore);
-
-				for (Object relatedValueToStore : relatedValuesToStore) {
-
-					Object valueToBeSavedPreEvt = relationshipContext
-						.identifyAndExtractRelationshipValue(relatedValueToStore);
-
-					Mono<Void> createRelationship = eventSupport
-						.maybeCallBeforeBind(valueToBeSavedPreEvt)
-						.flatMap(valueToBeSaved -> {
-							Neo4jPersistentEntity<?> targetNodeDescription = neo4jMappingContext
-								.getPersistentEntity(valueToBeSavedPreEvt.getClass());
-							return saveRelatedNode(valueToBeSaved, relationshipContext.getAssociationTargetType(),
-								targetNodeDescription, inDatabase)
-								.flatMap(relatedInternalId -> {
-
-									// if an internal id is used this must get set to link this entity in the next iteration
-									if (targetNodeDescription.isUsingInternalIds()) {
-										PersistentPropertyAccessor<?> targetPropertyAccessor = targetNodeDescription
-											.getPropertyAccessor(valueToBeSaved);
-										targetPropertyAccessor
-											.setProperty(targetNodeDescription.getRequiredIdProperty(),
-												relatedInternalId);
-									}
-
-									RelationshipStatementHolder statementHolder = RelationshipStatementHolder
-										.createStatement(
-											neo4jMappingContext, neo4jPersistentEntity, relationshipContext,
-											relatedInternalId, relatedValueToStore);
-
-									// in case of no properties the bind will just return an empty map
-									Mono<ResultSummary> relationshipCreationMonoNested = neo4jClient
-										.query(renderer.render(statementHolder.getRelationshipCreationQuery()))
-										.in(inDatabase)
-										.bind(convertIdValues(fromId)).to(FROM_ID_PARAMETER_NAME)
-										.bindAll(statementHolder.getProperties())
-										.run();
-
-									if (processState != ProcessState.PROCESSED_ALL_VALUES) {
-										return relationshipCreationMonoNested.checkpoint()
-											.then(processNestedRelations(targetNodeDescription, valueToBeSaved,
-												inDatabase, stateMachine));
-									} else {
-										return relationshipCreationMonoNested.checkpoint().then();
-									}
-								}).checkpoint();
-						});
-					relationshipCreationMonos.add(createRelationship);
-				}
-			});
-
-			return Flux.concat(relationshipCreationMonos).checkpoint().then();
+			ReactiveRelationships relationships = new ReactiveRelationships(inDatabase);
+			saveSupport.walkRelationships(neo4jPersistentEntity, parentObject, relationships);
+			return relationships.save();
 		});
 	}
 
-	private <Y> Mono<Long> saveRelatedNode(Object relatedNode, Class<Y> entityType, NodeDescription targetNodeDescription,
-		@Nullable String inDatabase) {
+	private <Y> Mono<Long> saveRelatedNode(Object relatedNode, Class<Y> entityType,
+		Neo4jPersistentEntity<?> targetNodeDescription, @Nullable String inDatabase) {
 
-		return determineDynamicLabels((Y) relatedNode, (Neo4jPersistentEntity<?>) targetNodeDescription, inDatabase)
+		return determineDynamicLabels((Y) relatedNode, targetNodeDescription, inDatabase)
 			.flatMap(t -> {
 				Y entity = t.getT1();
 				DynamicLabels dynamicLabels = t.getT2();
 
-				return neo4jClient.query(() -> renderer.render(
-					cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels)))
+				return neo4jClient.query(() -> saveSupport.renderSaveOf(targetNodeDescription, dynamicLabels))
 					.in(inDatabase)
 					.bind((Y) entity)
 					.with(neo4jMappingContext.getRequiredBinderFunctionFor(entityType))
 					.fetchAs(Long.class).one();
 			})
 			.switchIfEmpty(Mono.defer(() -> {
-				if (((Neo4jPersistentEntity) targetNodeDescription).hasVersionProperty()) {
-					return Mono.error(() -> new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE));
+				if (targetNodeDescription.hasVersionProperty()) {
+					return Mono.error(saveSupport::optimisticLockingFailure);
 				}
 				return Mono.empty();
 			}));
 	}
 
+	/**
+	 * @return A mono emitting {@literal true} if the queries of this template participate in an ongoing Neo4j
+	 * transaction
+	 */
+	private Mono<Boolean> isInUnitOfWork() {
+
+		return neo4jClient instanceof DefaultReactiveNeo4jClient ?
+			((DefaultReactiveNeo4jClient) neo4jClient).isInUnitOfWork() :
+			Mono.just(false);
+	}
+
 	private Mono<DatabaseSelection> getDatabaseName() {
 
 		return this.databaseSelectionProvider.getDatabaseSelection().switchIfEmpty(Mono.just(undecided()));
 	}
 
+	/**
+	 * Records the duration of an operation from subscription until termination or cancellation if metrics are available.
+	 *
+	 * @param operation     The name of the operation
+	 * @param entityType    The domain type the operation works with
+	 * @param operationCall The actual operation
+	 * @param <R>           The type of the result
+	 * @return The measured operation
+	 */
+	private <R> Flux<R> measure(String operation, Class<?> entityType, Flux<R> operationCall) {
+
+		if (metrics == Neo4jMetrics.NOOP) {
+			return operationCall;
+		}
+
+		return getDatabaseName().flatMapMany(databaseName -> Flux.defer(() -> {
+			OperationTimer timer = new OperationTimer(operation, entityType, databaseName.getValue());
+			return operationCall.doOnComplete(timer::stop).doOnError(timer::failed).doOnCancel(timer::stop);
+		}));
+	}
+
+	private <R> Mono<R> measure(String operation, Class<?> entityType, Mono<R> operationCall) {
+
+		if (metrics == Neo4jMetrics.NOOP) {
+			return operationCall;
+		}
+
+		return getDatabaseName().flatMap(databaseName -> Mono.defer(() -> {
+			OperationTimer timer = new OperationTimer(operation, entityType, databaseName.getValue());
+			return operationCall.doOnSuccess(v -> timer.stop()).doOnError(timer::failed).doOnCancel(timer::stop);
+		}));
+	}
+
+	/**
+	 * Measures one subscription to an operation. Only the first terminal signal is recorded.
+	 */
+	final class OperationTimer {
+
+		private final String operation;
+		private final Class<?> entityType;
+		@Nullable private final String databaseName;
+		private final long start = System.nanoTime();
+		private final AtomicBoolean recorded = new AtomicBoolean();
+
+		OperationTimer(String operation, Class<?> entityType, @Nullable String databaseName) {
+			this.operation = operation;
+			this.entityType = entityType;
+			this.databaseName = databaseName;
+		}
+
+		void stop() {
+			record(null);
+		}
+
+		void failed(Throwable error) {
+			record(error);
+		}
+
+		private void record(@Nullable Throwable error) {
+
+			if (recorded.compareAndSet(false, true)) {
+				metrics.recordOperation(operation, entityType, databaseName, System.nanoTime() - start, error);
+			}
+		}
+	}
+
+	/**
+	 * Prefixes the query with {@code PROFILE} if a query plan sampler is available and decides to sample this execution.
+	 */
+	private String sample(PreparedQuery<?> preparedQuery) {
+
+		String cypherQuery = preparedQuery.getCypherQuery();
+		if (planSampler == null) {
+			return cypherQuery;
+		}
+		return planSampler.sample(preparedQuery.getOptionalOrigin().orElse(null), cypherQuery);
+	}
+
 	@Override
 	public <T> Mono<ExecutableQuery<T>> toExecutableQuery(PreparedQuery<T> preparedQuery) {
 
 		return getDatabaseName().map(databaseName -> {
 			Class<T> resultType = preparedQuery.getResultType();
 			ReactiveNeo4jClient.MappingSpec<T> mappingSpec = this
-				.neo4jClient.query(preparedQuery.getCypherQuery())
+				.neo4jClient.query(sample(preparedQuery))
 				.in(databaseName.getValue())
 				.bindAll(preparedQuery.getParameters())
 				.fetchAs(resultType);
@@ -567,6 +672,8 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
 		this.eventSupport = new ReactiveNeo4jEvents(ReactiveEntityCallbacks.create(beanFactory));
+		this.metrics = beanFactory.getBeanProvider(Neo4jMetrics.class).getIfUnique(() -> Neo4jMetrics.NOOP);
+		this.planSampler = beanFactory.getBeanProvider(QueryPlanSampler.class).getIfUnique();
 	}
 
 	final class DefaultReactiveExecutableQuery<T> implements ExecutableQuery<T> {
@@ -599,6 +706,58 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		}
 	}
 
+	/**
+	 * Collects the operations saving related nodes and their relationships, so that they can be executed in order.
+	 */
+	private final class ReactiveRelationships implements EntitySaveSupport.RelationshipVisitor {
+
+		private final @Nullable String inDatabase;
+
+		private final List<Mono<Void>> relationshipCreationMonos = new ArrayList<>();
+
+		ReactiveRelationships(@Nullable String inDatabase) {
+			this.inDatabase = inDatabase;
+		}
+
+		@Override
+		public void removeRelationships(EntitySaveSupport.RenderedQuery query) {
+
+			relationshipCreationMonos.add(neo4jClient.query(query.getCypher())
+				.in(inDatabase)
+				.bindAll(query.getParameters())
+				.run().checkpoint("delete relationships").then());
+		}
+
+		@Override
+		public void relatedNode(EntitySaveSupport.RelatedNode relatedNode) {
+
+			Mono<Void> createRelationship = eventSupport
+				.maybeCallBeforeBind(relatedNode.getValue())
+				.flatMap(valueToBeSaved -> saveRelatedNode(valueToBeSaved, relatedNode.getAssociationTargetType(),
+					relatedNode.getNodeDescription(valueToBeSaved), inDatabase)
+					.flatMap(relatedInternalId -> {
+
+						EntitySaveSupport.RenderedQuery relationshipCreationQuery = relatedNode
+							.link(valueToBeSaved, relatedInternalId);
+
+						return neo4jClient.query(relationshipCreationQuery.getCypher())
+							.in(inDatabase)
+							.bindAll(relationshipCreationQuery.getParameters())
+							.run().checkpoint()
+							.then(Mono.defer(() -> {
+								ReactiveRelationships nestedRelationships = new ReactiveRelationships(inDatabase);
+								relatedNode.walkRelationships(valueToBeSaved, nestedRelationships);
+								return nestedRelationships.save();
+							}));
+					}).checkpoint());
+			relationshipCreationMonos.add(createRelationship);
+		}
+
+		Mono<Void> save() {
+			return Flux.concat(relationshipCreationMonos).checkpoint().then();
+		}
+	}
+
 	/**
 	 * Utility class that orchestrates {@link ReactiveEntityCallbacks}.
 	 * All the methods provided here check for their availability and do nothing when an event cannot be published.
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.convert;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.types.MapAccessor;
+
+/**
+ * A reader and writer for exactly one mapped type that works without reflection, for example generated by an
+ * annotation processor at build time. Mappers are registered in {@code META-INF/spring.factories} under the key
+ * {@code org.neo4j.springframework.data.core.convert.Neo4jEntityMapper} and are picked up by the
+ * {@link org.neo4j.springframework.data.core.mapping.Neo4jMappingContext mapping context}, which then prefers them
+ * over its reflective mapping.
+ * <p>
+ * Mappers are used for reading {@link org.neo4j.springframework.data.core.schema.Node nodes} without relationships
+ * and {@link org.neo4j.springframework.data.core.schema.RelationshipProperties relationship properties}. Entities
+ * with relationships or {@link org.neo4j.springframework.data.core.schema.DynamicLabels dynamic labels} are always
+ * read by the mapping context. Writing covers only the properties of an entity, so
+ * a mapper is used for writing any entity it has been registered for.
+ *
+ * @param <T> The type of the mapped entity
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public interface Neo4jEntityMapper<T> {
+
+	/**
+	 * @return The exact type this mapper reads and writes. Subclasses are not covered.
+	 */
+	Class<T> getEntityType();
+
+	/**
+	 * Creates a new instance of the entity.
+	 *
+	 * @param source    The node, relationship or map representing the entity
+	 * @param converter The converter to use for reading the values of properties
+	 * @return A new instance
+	 */
+	T read(MapAccessor source, Neo4jConverter converter);
+
+	/**
+	 * Adds the parameters needed to store the entity. The properties of the entity are expected as map under
+	 * {@link org.neo4j.springframework.data.core.schema.Constants#NAME_OF_PROPERTIES_PARAM}, the id under
+	 * {@link org.neo4j.springframework.data.core.schema.Constants#NAME_OF_ID} and the expected version, if any, under
+	 * {@link org.neo4j.springframework.data.core.schema.Constants#NAME_OF_VERSION_PARAM}.
+	 *
+	 * @param source     The entity to write
+	 * @param parameters The parameters to add the values of the entity to
+	 * @param converter  The converter to use for writing the values of properties
+	 */
+	void write(T source, Map<String, Object> parameters, Neo4jConverter converter);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.index;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.springframework.lang.Nullable;
+
+/**
+ * The result of analysing one query against the existing indexes.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class IndexAdvice {
+
+	private final String origin;
+
+	private final String label;
+
+	private final boolean labelScan;
+
+	private final List<IndexDescription> suggestedIndexes;
+
+	@Nullable private final String plan;
+
+	IndexAdvice(String origin, String label, boolean labelScan, List<IndexDescription> suggestedIndexes,
+		@Nullable String plan) {
+
+		this.origin = origin;
+		this.label = label;
+		this.labelScan = labelScan;
+		this.suggestedIndexes = Collections.unmodifiableList(suggestedIndexes);
+		this.plan = plan;
+	}
+
+	/**
+	 * @return The origin of the query, for example the repository method
+	 */
+	public String getOrigin() {
+		return origin;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	/**
+	 * @return True if the query will scan all nodes with the label
+	 */
+	public boolean isLabelScan() {
+		return labelScan;
+	}
+
+	/**
+	 * @return Indexes that would prevent the label scan, may be empty even for a label scan when no predicate can
+	 * use an index
+	 */
+	public List<IndexDescription> getSuggestedIndexes() {
+		return suggestedIndexes;
+	}
+
+	/**
+	 * @return The shape of the plan chosen by the server, if the query has been explained
+	 */
+	public Optional<String> getPlan() {
+		return Optional.ofNullable(plan);
+	}
+
+	@Override
+	public String toString() {
+		return "IndexAdvice{" +
+			"origin='" + origin + '\'' +
+			", label='" + label + '\'' +
+			", labelScan=" + labelScan +
+			", suggestedIndexes=" + suggestedIndexes +
+			", plan='" + plan + '\'' +
+			'}';
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.index;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.springframework.data.core.metrics.QueryPlanSampler;
+import org.neo4j.springframework.data.core.transaction.Neo4jTransactionUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Analyses the predicates of derived finder methods against the indexes existing in the database. Queries are
+ * registered by the repository factories while the repositories are created. After all singletons have been
+ * instantiated, the advisor reports all queries that will run as label scans and suggests indexes, composite indexes
+ * for conjunctions of equality predicates on more than one property.
+ * <p>
+ * Optionally, each query is sent to the server prefixed with {@code EXPLAIN}. The plan picked by the server is logged
+ * and takes precedence over the analysis of the predicates.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class IndexAdvisor implements SmartInitializingSingleton {
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(IndexAdvisor.class));
+
+	private final Driver driver;
+
+	@Nullable private final String databaseName;
+
+	private final boolean explain;
+
+	private final Queue<QueryDescription> queries = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * @param driver       The driver used to retrieve the existing indexes
+	 * @param databaseName The database in which the entities are stored
+	 * @param explain      True if every query should be explained
+	 */
+	public IndexAdvisor(Driver driver, @Nullable String databaseName, boolean explain) {
+
+		Assert.notNull(driver, "A driver is required.");
+
+		this.driver = driver;
+		this.databaseName = databaseName;
+		this.explain = explain;
+	}
+
+	/**
+	 * Registers a query for analysis.
+	 *
+	 * @param query The description of the query
+	 */
+	public void register(QueryDescription query) {
+		this.queries.add(query);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		advise();
+	}
+
+	/**
+	 * Analyses all registered queries and logs queries running as label scans.
+	 *
+	 * @return The advice for all registered queries
+	 */
+	public List<IndexAdvice> advise() {
+
+		if (queries.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		List<IndexDescription> existingIndexes = IndexManager.readExistingIndexes(driver, databaseName);
+		List<IndexAdvice> advice = queries.stream().map(query -> advise(query, existingIndexes))
+			.collect(Collectors.toList());
+
+		for (IndexAdvice item : advice) {
+			item.getPlan().ifPresent(plan -> log.info(() -> String.format("Plan of %s: %s", item.getOrigin(), plan)));
+			if (item.isLabelScan()) {
+				log.warn(() -> String.format("%s will run as a label scan on :%s%s", item.getOrigin(), item.getLabel(),
+					item.getSuggestedIndexes().isEmpty() ? "." : ", consider " + item.getSuggestedIndexes().stream()
+						.map(IndexDescription::toCreateStatement).collect(Collectors.joining(" and "))));
+			}
+		}
+		return advice;
+	}
+
+	IndexAdvice advise(QueryDescription query, List<IndexDescription> existingIndexes) {
+
+		String label = query.getLabel();
+		boolean labelScan = false;
+		Set<IndexDescription> suggestedIndexes = new LinkedHashSet<>();
+
+		for (List<PropertyPredicate> conjunction : query.getPredicates()) {
+			List<PropertyPredicate> indexablePredicates = conjunction.stream().filter(PropertyPredicate::isIndexable)
+				.collect(Collectors.toList());
+			Set<String> indexableProperties = indexablePredicates.stream().map(PropertyPredicate::getProperty)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+
+			boolean servedByIndex = existingIndexes.stream().anyMatch(
+				index -> index.getLabel().equals(label) && indexableProperties.containsAll(index.getProperties()));
+			if (servedByIndex) {
+				continue;
+			}
+
+			labelScan = true;
+			if (indexablePredicates.isEmpty()) {
+				continue;
+			}
+
+			String[] equalityProperties = indexablePredicates.stream().filter(PropertyPredicate::isEquality)
+				.map(PropertyPredicate::getProperty).distinct().toArray(String[]::new);
+			if (equalityProperties.length > 1) {
+				suggestedIndexes.add(IndexDescription.indexOn(label, equalityProperties));
+			} else {
+				suggestedIndexes.add(IndexDescription.indexOn(label, indexablePredicates.get(0).getProperty()));
+			}
+		}
+
+		String plan = null;
+		if (explain && query.getOptionalCypher().isPresent()) {
+			plan = explain(query);
+			if (plan != null) {
+				labelScan = plan.contains("NodeByLabelScan") || plan.contains("AllNodesScan");
+			}
+		}
+
+		List<IndexDescription> suggestions = labelScan ? new ArrayList<>(suggestedIndexes) : new ArrayList<>();
+		return new IndexAdvice(query.getOrigin(), label, labelScan, suggestions, plan);
+	}
+
+	@Nullable
+	private String explain(QueryDescription query) {
+
+		try (Session session = driver.session(Neo4jTransactionUtils.defaultSessionConfig(databaseName))) {
+			ResultSummary summary = session.run("EXPLAIN " + query.getOptionalCypher().get(), query.getParameters())
+				.consume();
+			return summary.hasPlan() ? QueryPlanSampler.shapeOf(summary.plan()) : null;
+		} catch (Neo4jException e) {
+			log.warn(e, () -> String.format("Could not explain %s", query.getOrigin()));
+			return null;
+		}
+	}
+}
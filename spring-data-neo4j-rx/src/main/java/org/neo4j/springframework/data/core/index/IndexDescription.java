@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.index;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.apiguardian.api.API;
+import org.springframework.util.Assert;
+
+/**
+ * Describes an index on one or more properties of nodes with a given label. A unique index is the index backing a
+ * uniqueness constraint.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class IndexDescription {
+
+	private final String label;
+
+	private final List<String> properties;
+
+	private final boolean unique;
+
+	/**
+	 * @param label    The label of the nodes
+	 * @param property The unique property
+	 * @return The description of a uniqueness constraint
+	 */
+	public static IndexDescription uniqueConstraintOn(String label, String property) {
+		return new IndexDescription(label, Collections.singletonList(property), true);
+	}
+
+	/**
+	 * @param label      The label of the nodes
+	 * @param properties The indexed properties, more than one for a composite index
+	 * @return The description of an index
+	 */
+	public static IndexDescription indexOn(String label, String... properties) {
+		return new IndexDescription(label, Arrays.asList(properties), false);
+	}
+
+	IndexDescription(String label, List<String> properties, boolean unique) {
+
+		Assert.hasText(label, "A label is required.");
+		Assert.notEmpty(properties, "At least one property is required.");
+
+		this.label = label;
+		this.properties = Collections.unmodifiableList(properties);
+		this.unique = unique;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	public List<String> getProperties() {
+		return properties;
+	}
+
+	public boolean isUnique() {
+		return unique;
+	}
+
+	/**
+	 * An existing index satisfies this description when it is defined on the same label and properties. A uniqueness
+	 * constraint can only be satisfied by a unique index, a plain index by any index.
+	 *
+	 * @param existingIndex An index that exists in the database
+	 * @return True if the existing index satisfies this description
+	 */
+	public boolean isSatisfiedBy(IndexDescription existingIndex) {
+		return label.equals(existingIndex.label) && properties.equals(existingIndex.properties)
+			&& (!unique || existingIndex.unique);
+	}
+
+	/**
+	 * @return The statement creating the described index or constraint. The syntax is supported by Neo4j 3.5 and 4.x.
+	 */
+	public String toCreateStatement() {
+
+		String escapedLabel = escape(label);
+		if (unique) {
+			return String.format("CREATE CONSTRAINT ON (n:%s) ASSERT n.%s IS UNIQUE", escapedLabel,
+				escape(properties.get(0)));
+		}
+		return String.format("CREATE INDEX ON :%s(%s)", escapedLabel,
+			properties.stream().map(IndexDescription::escape).collect(Collectors.joining(", ")));
+	}
+
+	private static String escape(String name) {
+		return "`" + name.replace("`", "``") + "`";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		IndexDescription that = (IndexDescription) o;
+		return unique == that.unique && label.equals(that.label) && properties.equals(that.properties);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(label, properties, unique);
+	}
+
+	@Override
+	public String toString() {
+		return (unique ? "UNIQUE " : "") + ":" + label + "(" + String.join(", ", properties) + ")";
+	}
+}
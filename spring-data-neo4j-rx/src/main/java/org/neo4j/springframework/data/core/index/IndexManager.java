@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.index;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.schema.IdDescription;
+import org.neo4j.springframework.data.core.schema.Node;
+import org.neo4j.springframework.data.core.transaction.Neo4jTransactionUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Derives the indexes and constraints required by the mapped entities and compares them with the ones existing in the
+ * database. Saving an entity with an assigned or externally generated id merges on the id property, as does loading it
+ * by id. Without a uniqueness constraint on the primary label and the id property those operations are label scans.
+ * <p>
+ * Depending on the {@link Mode} the index manager creates the missing indexes or fails fast when it is used as a bean
+ * and all singletons have been instantiated. Uniqueness constraints are backed by unique indexes, so the indexes
+ * returned by {@code db.indexes()} describe the constraints as well.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class IndexManager implements SmartInitializingSingleton {
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(IndexManager.class));
+
+	/**
+	 * What to do with missing indexes.
+	 */
+	public enum Mode {
+		/**
+		 * Don't check the indexes.
+		 */
+		NONE,
+		/**
+		 * Fail when indexes are missing.
+		 */
+		VALIDATE,
+		/**
+		 * Create missing indexes and wait for them to come online.
+		 */
+		CREATE
+	}
+
+	private final Driver driver;
+
+	private final Neo4jMappingContext mappingContext;
+
+	private final Mode mode;
+
+	@Nullable private final String databaseName;
+
+	private final Set<IndexDescription> additionalIndexes = new LinkedHashSet<>();
+
+	public IndexManager(Driver driver, Neo4jMappingContext mappingContext, Mode mode) {
+		this(driver, mappingContext, mode, null);
+	}
+
+	public IndexManager(Driver driver, Neo4jMappingContext mappingContext, Mode mode, @Nullable String databaseName) {
+
+		Assert.notNull(driver, "A driver is required.");
+		Assert.notNull(mappingContext, "A mapping context is required.");
+		Assert.notNull(mode, "A mode is required.");
+
+		this.driver = driver;
+		this.mappingContext = mappingContext;
+		this.mode = mode;
+		this.databaseName = databaseName;
+	}
+
+	/**
+	 * Registers indexes that are required in addition to the ones derived from the mapping.
+	 *
+	 * @param indexes The additional indexes
+	 */
+	public void addRequiredIndexes(Collection<IndexDescription> indexes) {
+		this.additionalIndexes.addAll(indexes);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		apply();
+	}
+
+	/**
+	 * Checks the indexes according to the configured mode.
+	 *
+	 * @return The indexes that have been missing
+	 * @throws IllegalStateException in {@link Mode#VALIDATE} when indexes are missing
+	 */
+	public List<IndexDescription> apply() {
+
+		if (mode == Mode.NONE) {
+			return new ArrayList<>();
+		}
+
+		List<IndexDescription> missingIndexes = getMissingIndexes();
+		if (missingIndexes.isEmpty()) {
+			log.debug("All required indexes exist.");
+			return missingIndexes;
+		}
+
+		if (mode == Mode.VALIDATE) {
+			throw new IllegalStateException("Missing indexes: " + missingIndexes.stream()
+				.map(IndexDescription::toCreateStatement).collect(Collectors.joining("; ")));
+		}
+
+		createIndexes(missingIndexes);
+		return missingIndexes;
+	}
+
+	/**
+	 * @return The indexes required by all known entities ordered by label, followed by indexes registered in addition
+	 */
+	public List<IndexDescription> getRequiredIndexes() {
+
+		Set<IndexDescription> requiredIndexes = new LinkedHashSet<>();
+		List<Neo4jPersistentEntity<?>> entities = new ArrayList<>(mappingContext.getPersistentEntities());
+		entities.sort(Comparator.comparing(Neo4jPersistentEntity::getPrimaryLabel));
+		for (Neo4jPersistentEntity<?> entity : entities) {
+			IdDescription idDescription = entity.getIdDescription();
+			if (!entity.isAnnotationPresent(Node.class) || idDescription == null
+				|| idDescription.isInternallyGeneratedId()) {
+				continue;
+			}
+			idDescription.getOptionalGraphPropertyName().ifPresent(
+				property -> requiredIndexes.add(IndexDescription.uniqueConstraintOn(entity.getPrimaryLabel(), property)));
+		}
+		requiredIndexes.addAll(additionalIndexes);
+		return new ArrayList<>(requiredIndexes);
+	}
+
+	/**
+	 * @return The indexes required but not existing in the database
+	 */
+	public List<IndexDescription> getMissingIndexes() {
+
+		List<IndexDescription> requiredIndexes = getRequiredIndexes();
+		if (requiredIndexes.isEmpty()) {
+			return requiredIndexes;
+		}
+
+		List<IndexDescription> existingIndexes = getExistingIndexes();
+		return requiredIndexes.stream()
+			.filter(required -> existingIndexes.stream().noneMatch(required::isSatisfiedBy))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * @return All single label node indexes existing in the database
+	 */
+	public List<IndexDescription> getExistingIndexes() {
+		return readExistingIndexes(driver, databaseName);
+	}
+
+	static List<IndexDescription> readExistingIndexes(Driver driver, @Nullable String databaseName) {
+
+		try (Session session = driver.session(Neo4jTransactionUtils.defaultSessionConfig(databaseName))) {
+			return session.run("CALL db.indexes()").list(IndexManager::toIndexDescription).stream()
+				.filter(index -> index != null)
+				.collect(Collectors.toList());
+		}
+	}
+
+	private void createIndexes(List<IndexDescription> missingIndexes) {
+
+		try (Session session = driver.session(Neo4jTransactionUtils.defaultSessionConfig(databaseName))) {
+			for (IndexDescription index : missingIndexes) {
+				String statement = index.toCreateStatement();
+				log.info(() -> String.format("Creating %s", index));
+				try {
+					session.run(statement).consume();
+				} catch (ClientException e) {
+					if (!e.code().contains("AlreadyExists")) {
+						throw e;
+					}
+					log.debug(() -> String.format("%s has been created concurrently", index));
+				}
+			}
+			session.run("CALL db.awaitIndexes()").consume();
+		}
+	}
+
+	/**
+	 * Reads an index from the result of {@code db.indexes()}, which differs between 3.5 and 4.x.
+	 */
+	@Nullable
+	static IndexDescription toIndexDescription(Record record) {
+
+		if (record.containsKey("entityType") && !"NODE".equals(record.get("entityType").asString())) {
+			return null;
+		}
+		if (record.containsKey("type") && record.get("type").asString("").toLowerCase().contains("fulltext")) {
+			return null;
+		}
+
+		Value labels = record.containsKey("labelsOrTypes") ? record.get("labelsOrTypes") : record.get("tokenNames");
+		Value properties = record.get("properties");
+		if (labels.isNull() || labels.size() != 1 || properties.isNull() || properties.size() == 0) {
+			return null;
+		}
+
+		boolean unique;
+		if (record.containsKey("uniqueness")) {
+			unique = "UNIQUE".equals(record.get("uniqueness").asString());
+		} else {
+			unique = record.get("type").asString("").toLowerCase().contains("unique");
+		}
+		return new IndexDescription(labels.get(0).asString(), properties.asList(Value::asString), unique);
+	}
+}
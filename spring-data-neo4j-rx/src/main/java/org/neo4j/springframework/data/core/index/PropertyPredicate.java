@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.index;
+
+import static org.apiguardian.api.API.Status.*;
+
+import org.apiguardian.api.API;
+
+/**
+ * A predicate on a single property of a node as used by a query.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = INTERNAL, since = "1.1")
+public final class PropertyPredicate {
+
+	private final String property;
+
+	private final String type;
+
+	private final boolean equality;
+
+	private final boolean indexable;
+
+	/**
+	 * @param property  The name of the property in the graph
+	 * @param type      The type of the predicate, for example {@literal SIMPLE_PROPERTY} or {@literal STARTING_WITH}
+	 * @param equality  True if the predicate compares the property for equality
+	 * @param indexable True if the predicate can be served by a schema index
+	 */
+	public PropertyPredicate(String property, String type, boolean equality, boolean indexable) {
+		this.property = property;
+		this.type = type;
+		this.equality = equality;
+		this.indexable = indexable;
+	}
+
+	public String getProperty() {
+		return property;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public boolean isEquality() {
+		return equality;
+	}
+
+	public boolean isIndexable() {
+		return indexable;
+	}
+
+	@Override
+	public String toString() {
+		return property + " " + type;
+	}
+}
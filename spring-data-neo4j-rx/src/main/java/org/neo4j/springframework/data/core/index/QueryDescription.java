@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.index;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.springframework.lang.Nullable;
+
+/**
+ * Describes the predicates of a query on nodes with a given label, usually derived from the name of a repository method.
+ * The predicates are a disjunction of conjunctions.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = INTERNAL, since = "1.1")
+public final class QueryDescription {
+
+	private final String origin;
+
+	private final String label;
+
+	private final List<List<PropertyPredicate>> predicates;
+
+	@Nullable private final String cypher;
+
+	private final Map<String, Object> parameters;
+
+	/**
+	 * @param origin     The origin of the query, for example the repository method
+	 * @param label      The label of the nodes queried
+	 * @param predicates The predicates, each list being one branch of a disjunction
+	 * @param cypher     The rendered query if available
+	 * @param parameters Parameters for {@code EXPLAIN}ing the query
+	 */
+	public QueryDescription(String origin, String label, List<List<PropertyPredicate>> predicates,
+		@Nullable String cypher, Map<String, Object> parameters) {
+
+		this.origin = origin;
+		this.label = label;
+		this.predicates = Collections.unmodifiableList(predicates);
+		this.cypher = cypher;
+		this.parameters = Collections.unmodifiableMap(parameters);
+	}
+
+	public String getOrigin() {
+		return origin;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	public List<List<PropertyPredicate>> getPredicates() {
+		return predicates;
+	}
+
+	public Optional<String> getOptionalCypher() {
+		return Optional.ofNullable(cypher);
+	}
+
+	public Map<String, Object> getParameters() {
+		return parameters;
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * Derivation, validation and creation of the indexes and constraints required by the mapped entities.
+ */
+@NonNullApi
+package org.neo4j.springframework.data.core.index;
+
+import org.springframework.lang.NonNullApi;
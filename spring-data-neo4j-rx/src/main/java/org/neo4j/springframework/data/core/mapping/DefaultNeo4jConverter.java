@@ -25,6 +25,7 @@ import static org.springframework.core.CollectionFactory.*;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -40,6 +41,8 @@ import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
 import org.apache.commons.logging.LogFactory;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
@@ -49,10 +52,14 @@ import org.neo4j.driver.types.Relationship;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
 import org.neo4j.springframework.data.core.convert.Neo4jConverter;
+import org.neo4j.springframework.data.core.convert.Neo4jEntityMapper;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.TypeMismatchDataAccessException;
 import org.springframework.data.convert.EntityInstantiators;
@@ -87,10 +94,19 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 	private final NodeDescriptionStore nodeDescriptionStore;
 	private final ConversionService conversionService;
+	private final Map<Class<?>, Neo4jEntityMapper<?>> entityMappers;
 
 	private TypeSystem typeSystem;
 
+	@Nullable
+	private LazyLoadingQueryRunner lazyLoadingQueryRunner;
+
 	DefaultNeo4jConverter(Neo4jConversions neo4jConversions, NodeDescriptionStore nodeDescriptionStore) {
+		this(neo4jConversions, nodeDescriptionStore, loadEntityMappers());
+	}
+
+	DefaultNeo4jConverter(Neo4jConversions neo4jConversions, NodeDescriptionStore nodeDescriptionStore,
+		List<Neo4jEntityMapper<?>> entityMappers) {
 
 		Assert.notNull(neo4jConversions, "Neo4jConversions must not be null!");
 
@@ -99,15 +115,55 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 		this.conversionService = configurableConversionService;
 		this.nodeDescriptionStore = nodeDescriptionStore;
+		this.entityMappers = entityMappers.stream()
+			.collect(toMap(Neo4jEntityMapper::getEntityType, Function.identity(), (m1, m2) -> {
+				throw new MappingException(String.format("Found more than one entity mapper for %s: %s and %s",
+					m1.getEntityType().getName(), m1.getClass().getName(), m2.getClass().getName()));
+			}));
+	}
+
+	/**
+	 * @return All entity mappers registered in {@code META-INF/spring.factories}
+	 */
+	private static List<Neo4jEntityMapper<?>> loadEntityMappers() {
+
+		List<Neo4jEntityMapper<?>> entityMappers = new ArrayList<>();
+		SpringFactoriesLoader.loadFactories(Neo4jEntityMapper.class, DefaultNeo4jConverter.class.getClassLoader())
+			.forEach(entityMappers::add);
+		if (!entityMappers.isEmpty()) {
+			log.debug(() -> String.format("Using entity mappers for %s", entityMappers.stream()
+				.map(entityMapper -> entityMapper.getEntityType().getName()).collect(joining(", "))));
+		}
+		return entityMappers;
 	}
 
 	@Override
 	public <R> R read(Class<R> targetType, Record record) {
+		return read(targetType, record, new LazyLoadingBatches());
+	}
+
+	/**
+	 * Reads a record, collecting the lazy relationships of the mapped entities in the given batches.
+	 *
+	 * @param targetType         The type to map the record to
+	 * @param record             The record to map
+	 * @param lazyLoadingBatches The batches of lazy relationships, shared by all records of a query
+	 * @param <R>                The type to map the record to
+	 * @return The mapped record
+	 */
+	<R> R read(Class<R> targetType, Record record, LazyLoadingBatches lazyLoadingBatches) {
 
 		Neo4jPersistentEntity<R> rootNodeDescription =
 			(Neo4jPersistentEntity) nodeDescriptionStore.getNodeDescription(targetType);
 
 		try {
+			if (Subgraph.isContainedIn(record)) {
+				Subgraph subgraph = new Subgraph(record);
+				Node rootNode = record.get(NAME_OF_ROOT_NODE.getValue()).asNode();
+				subgraph.startMapping(rootNode.id());
+				return map(rootNode, rootNodeDescription, new KnownObjects(lazyLoadingBatches, subgraph));
+			}
+
 			List<Value> recordValues = record.values();
 			String nodeLabel = rootNodeDescription.getPrimaryLabel();
 			MapAccessor queryRoot = null;
@@ -135,13 +191,35 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 					rootNodeDescription));
 				return null; // todo should not be null because of the @nonnullapi annotation in the EntityReader. Fail?
 			} else {
-				return map(queryRoot, rootNodeDescription, new KnownObjects());
+				return map(queryRoot, rootNodeDescription, new KnownObjects(lazyLoadingBatches));
 			}
 		} catch (Exception e) {
 			throw new MappingException("Error mapping " + record.toString(), e);
 		}
 	}
 
+	/**
+	 * Reads the projection of a root node that has been assembled outside a record, for example from the results of
+	 * split queries.
+	 *
+	 * @param targetType         The type to map the projection to
+	 * @param queryRoot          The projection of the root node
+	 * @param lazyLoadingBatches The batches of lazy relationships, shared by all root nodes of a query
+	 * @param <R>                The type to map the projection to
+	 * @return The mapped projection
+	 */
+	<R> R read(Class<R> targetType, MapAccessor queryRoot, LazyLoadingBatches lazyLoadingBatches) {
+
+		Neo4jPersistentEntity<R> rootNodeDescription =
+			(Neo4jPersistentEntity) nodeDescriptionStore.getNodeDescription(targetType);
+
+		try {
+			return map(queryRoot, rootNodeDescription, new KnownObjects(lazyLoadingBatches));
+		} catch (Exception e) {
+			throw new MappingException("Error mapping " + queryRoot.toString(), e);
+		}
+	}
+
 	@Override
 	@Nullable
 	public Object readValueForProperty(@Nullable Value value, TypeInformation<?> type) {
@@ -174,6 +252,13 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 	@Override
 	public void write(Object source, Map<String, Object> parameters) {
+
+		Neo4jEntityMapper<Object> entityMapper = (Neo4jEntityMapper<Object>) entityMappers.get(source.getClass());
+		if (entityMapper != null) {
+			entityMapper.write(source, parameters, this);
+			return;
+		}
+
 		Map<String, Object> properties = new HashMap<>();
 
 		Neo4jPersistentEntity<?> nodeDescription =
@@ -233,6 +318,14 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 		this.typeSystem = typeSystem;
 	}
 
+	void setLazyLoadingQueryRunner(LazyLoadingQueryRunner lazyLoadingQueryRunner) {
+
+		LazyLoadingQueryRunner registeredQueryRunner = this.lazyLoadingQueryRunner;
+		Assert.state(registeredQueryRunner == null || registeredQueryRunner == lazyLoadingQueryRunner,
+			"A lazy loading query runner has already been registered with this mapping context.");
+		this.lazyLoadingQueryRunner = lazyLoadingQueryRunner;
+	}
+
 	/**
 	 * Merges the root node of a query and the remaining record into one map, adding the internal ID of the node, too.
 	 * Merge happens only when the record contains additional values.
@@ -270,8 +363,24 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 		Collection<RelationshipDescription> relationships = concreteNodeDescription.getRelationships();
 
-		ET instance = instantiate(concreteNodeDescription, queryResult, knownObjects, relationships,
-			nodeDescriptionAndLabels.getDynamicLabels());
+		// Mappers don't know which labels of a node are dynamic, so entities with dynamic labels are always read here
+		Neo4jEntityMapper<ET> entityMapper = (Neo4jEntityMapper<ET>) entityMappers.get(concreteNodeDescription.getType());
+		boolean readWithEntityMapper = entityMapper != null && relationships.isEmpty()
+			&& !concreteNodeDescription.getDynamicLabelsProperty().isPresent();
+
+		ET instance = readWithEntityMapper ? entityMapper.read(queryResult, this) :
+			instantiate(concreteNodeDescription, queryResult, knownObjects, relationships,
+				nodeDescriptionAndLabels.getDynamicLabels());
+
+		// Nodes of a subgraph are known before their associations are populated, so that relationships pointing back
+		// to them resolve to this instance
+		if (knownObjects.getSubgraph() != null && queryResult instanceof Node) {
+			knownObjects.put(((Node) queryResult).id(), instance);
+		}
+
+		if (readWithEntityMapper) {
+			return instance;
+		}
 
 		PersistentPropertyAccessor<ET> propertyAccessor = concreteNodeDescription.getPropertyAccessor(instance);
 
@@ -427,8 +536,53 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 		Map<Object, Object> relationshipsAndProperties = new HashMap<>();
 
-		// if the list is null the mapping is based on a custom query
-		if (list == Values.NULL) {
+		Subgraph subgraph = knownObjects.getSubgraph();
+
+		// if the list is null the mapping is based on a custom query or the relationship has been excluded by a fetch plan.
+		// In the latter case no matching nodes are found and the property is left unset.
+		if (list == Values.NULL && subgraph != null && values instanceof Node) {
+
+			// the related nodes are looked up in the indexed subgraph. Relationships pointing back to nodes that are
+			// currently instantiated are not followed, so that cycles in the graph don't lead to infinite recursion.
+			boolean outgoing = relationshipDescription.isOutgoing();
+			for (Relationship relationship : subgraph.getRelationships(((Node) values).id(), outgoing)) {
+				if (!(relationshipDescription.isDynamic() || relationship.type().equals(relationshipType))) {
+					continue;
+				}
+
+				long targetId = outgoing ? relationship.endNodeId() : relationship.startNodeId();
+				Node targetNode = subgraph.getNode(targetId);
+				if (targetNode == null || !targetNode.hasLabel(targetLabel)) {
+					continue;
+				}
+
+				Object mappedObject = knownObjects.get(targetId);
+				if (mappedObject == null) {
+					if (subgraph.isBeingMapped(targetId)) {
+						continue;
+					}
+					mappedObject = knownObjects.computeIfAbsent(targetId, () -> {
+						subgraph.startMapping(targetId);
+						try {
+							return map(targetNode, genericTargetNodeDescription, knownObjects);
+						} finally {
+							subgraph.endMapping(targetId);
+						}
+					});
+				}
+				if (relationshipDescription.hasRelationshipProperties()) {
+
+					Class<?> propertiesClass = relationshipDescription.getRelationshipPropertiesClass();
+
+					Object relationshipProperties = map(relationship,
+						(Neo4jPersistentEntity) nodeDescriptionStore.getNodeDescription(propertiesClass),
+						knownObjects);
+					relationshipsAndProperties.put(mappedObject, relationshipProperties);
+				} else {
+					mappedObjectHandler.accept(relationship.type(), mappedObject);
+				}
+			}
+		} else if (list == Values.NULL) {
 
 			Predicate<Value> isList = entry -> entry instanceof Value && typeSystem.LIST().isTypeOf(entry);
 
@@ -456,7 +610,7 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 				.collect(toList());
 
 			if (allNodesWithMatchingLabelInResult.isEmpty() && allMatchingTypeRelationshipsInResult.isEmpty()) {
-				return Optional.empty();
+				return createLazyRelationship(persistentProperty, relationshipDescription, values, knownObjects);
 			}
 
 			Function<Relationship, Long> targetIdSelector = relationshipDescription.isOutgoing() ? Relationship::endNodeId : Relationship::startNodeId;
@@ -529,6 +683,72 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 	}
 
+	/**
+	 * Creates a proxy for a lazy relationship that is not part of the query result. The proxy loads the related nodes
+	 * on first access, together with the related nodes of all other owners of the relationship mapped from the same query.
+	 */
+	private Optional<Object> createLazyRelationship(Neo4jPersistentProperty persistentProperty,
+		RelationshipDescription relationshipDescription, MapAccessor values, KnownObjects knownObjects) {
+
+		if (!relationshipDescription.isLazy()) {
+			return Optional.empty();
+		}
+
+		Neo4jPersistentEntity<?> sourceDescription = (Neo4jPersistentEntity<?>) relationshipDescription.getSource();
+		Value sourceIdValue = extractValueOf(sourceDescription.getRequiredIdProperty(), values);
+		if (sourceIdValue.isNull()) {
+			return Optional.empty();
+		}
+
+		// Only to-many relationships declared as List, Set or Collection can be lazy, see DefaultNeo4jPersistentEntity
+		Class<?> type = persistentProperty.getType();
+		Object sourceId = sourceIdValue.asObject();
+		Supplier<Object> targetSupplier;
+
+		LazyLoadingQueryRunner queryRunner = this.lazyLoadingQueryRunner;
+		if (queryRunner == null) {
+			// Fail on first access instead of leaving the relationship silently empty
+			targetSupplier = () -> {
+				throw new IllegalStateException(String.format(
+					"Cannot load the lazy relationship %s of %s with id %s: No lazy loading query runner is registered, "
+						+ "lazy relationships require the imperative infrastructure.",
+					persistentProperty.getFieldName(), sourceDescription.getUnderlyingClass().getName(), sourceId));
+			};
+		} else {
+			LazyLoadingBatches lazyLoadingBatches = knownObjects.getLazyLoadingBatches();
+			LazyLoadingBatches.Batch batch = lazyLoadingBatches.register(relationshipDescription, sourceId,
+				sourceIds -> loadRelatedEntities(queryRunner, relationshipDescription, sourceIds, lazyLoadingBatches));
+			targetSupplier = () -> {
+				List<Object> relatedEntities = batch.getRelatedEntities(sourceId);
+				return Set.class.equals(type) ? new HashSet<>(relatedEntities) : relatedEntities;
+			};
+		}
+
+		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.setTargetSource(new LazyRelationshipTargetSource(type, targetSupplier));
+		proxyFactory.addInterface(type);
+		return Optional.of(proxyFactory.getProxy(persistentProperty.getOwner().getType().getClassLoader()));
+	}
+
+	private Map<Object, List<Object>> loadRelatedEntities(LazyLoadingQueryRunner queryRunner,
+		RelationshipDescription relationshipDescription, List<Object> sourceIds,
+		LazyLoadingBatches lazyLoadingBatches) {
+
+		Statement statement = CypherGenerator.INSTANCE.prepareMatchOfRelatedNodes(relationshipDescription);
+		Neo4jPersistentEntity<?> targetDescription = (Neo4jPersistentEntity<?>) relationshipDescription.getTarget();
+		KnownObjects knownObjects = new KnownObjects(lazyLoadingBatches);
+
+		Map<Object, List<Object>> relatedEntities = new HashMap<>();
+		Collection<Record> records = queryRunner.fetch(Renderer.getDefaultRenderer().render(statement),
+			Collections.singletonMap(NAME_OF_IDS, sourceIds));
+		for (Record record : records) {
+			Object relatedEntity = map(record.get(NAME_OF_ROOT_NODE.getValue()), targetDescription, knownObjects);
+			relatedEntities.computeIfAbsent(record.get(NAME_OF_SOURCE_ID).asObject(), id -> new ArrayList<>())
+				.add(relatedEntity);
+		}
+		return relatedEntities;
+	}
+
 	private static Value extractValueOf(Neo4jPersistentProperty property, MapAccessor propertyContainer) {
 		if (property.isInternalIdProperty()) {
 			return propertyContainer instanceof Node ?
@@ -548,6 +768,48 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 		private Map<Object, Object> store = new HashMap<>();
 
+		private final LazyLoadingBatches lazyLoadingBatches;
+
+		@Nullable
+		private final Subgraph subgraph;
+
+		KnownObjects(LazyLoadingBatches lazyLoadingBatches) {
+			this(lazyLoadingBatches, null);
+		}
+
+		KnownObjects(LazyLoadingBatches lazyLoadingBatches, @Nullable Subgraph subgraph) {
+			this.lazyLoadingBatches = lazyLoadingBatches;
+			this.subgraph = subgraph;
+		}
+
+		LazyLoadingBatches getLazyLoadingBatches() {
+			return lazyLoadingBatches;
+		}
+
+		@Nullable
+		Subgraph getSubgraph() {
+			return subgraph;
+		}
+
+		@Nullable
+		Object get(Object key) {
+			try {
+				read.lock();
+				return store.get(key);
+			} finally {
+				read.unlock();
+			}
+		}
+
+		void put(Object key, Object entity) {
+			try {
+				write.lock();
+				store.put(key, entity);
+			} finally {
+				write.unlock();
+			}
+		}
+
 		Object computeIfAbsent(Object key, Supplier<Object> entitySupplier) {
 			try {
 
@@ -28,6 +28,7 @@ import java.util.stream.Stream;
 import org.neo4j.springframework.data.core.schema.*;
 import org.neo4j.springframework.data.core.schema.GeneratedValue.InternalIdGenerator;
 import org.neo4j.springframework.data.core.schema.GeneratedValue.UUIDGenerator;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
@@ -50,6 +51,9 @@ class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo4jPers
 	private static final Set<Class<?>> VALID_GENERATED_ID_TYPES = Collections.unmodifiableSet(new HashSet<>(
 		Arrays.asList(Long.class, long.class)));
 
+	private static final List<Class<?>> LAZY_COLLECTION_TYPES = Collections.unmodifiableList(
+		Arrays.asList(List.class, Set.class, Collection.class));
+
 	/**
 	 * If an entity is annotated with {@link Node}, we consider this as an explicit entity
 	 * that should get validated more strictly.
@@ -77,6 +81,8 @@ class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo4jPers
 
 	private final Lazy<Neo4jPersistentProperty> dynamicLabelsProperty;
 
+	private final Lazy<Map<String, FetchPlan>> fetchPlans;
+
 	DefaultNeo4jPersistentEntity(TypeInformation<T> information) {
 		super(information);
 
@@ -87,6 +93,7 @@ class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo4jPers
 		this.dynamicLabelsProperty = Lazy
 			.of(() -> getGraphProperties().stream().map(Neo4jPersistentProperty.class::cast)
 				.filter(Neo4jPersistentProperty::isDynamicLabels).findFirst().orElse(null));
+		this.fetchPlans = Lazy.of(this::computeFetchPlans);
 	}
 
 	/*
@@ -145,6 +152,11 @@ class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo4jPers
 		return this.dynamicLabelsProperty.getOptional();
 	}
 
+	@Override
+	public Optional<FetchPlan> getFetchPlan(String name) {
+		return Optional.ofNullable(this.fetchPlans.get().get(name));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see BasicPersistentEntity#getFallbackIsNewStrategy()
@@ -164,6 +176,14 @@ class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo4jPers
 		verifyNoDuplicatedGraphProperties();
 		verifyDynamicAssociations();
 		verifyDynamicLabels();
+		verifyLazyAssociations();
+		verifyFetchPlans();
+	}
+
+	private void verifyFetchPlans() {
+
+		// Computing the fetch plans eagerly fails early on duplicate names.
+		this.fetchPlans.get();
 	}
 
 	private void verifyNoDuplicatedGraphProperties() {
@@ -206,6 +226,25 @@ class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo4jPers
 		});
 	}
 
+	private void verifyLazyAssociations() {
+
+		this.doWithAssociations((Association<Neo4jPersistentProperty> association) -> {
+			Neo4jPersistentProperty inverse = association.getInverse();
+			Relationship relationship = inverse.findAnnotation(Relationship.class);
+			if (relationship == null || relationship.fetch() != Relationship.Fetch.LAZY) {
+				return;
+			}
+
+			String location = " in " + this.getUnderlyingClass() + " on field " + inverse.getFieldName() + ".";
+			Assert.state(!inverse.isDynamicAssociation(), () -> "Dynamic relationships cannot be lazy" + location);
+			Assert.state(!inverse.isMap(), () -> "Relationships with properties cannot be lazy" + location);
+			// A proxy cannot represent a missing related node, so only to-many relationships can be lazy
+			Assert.state(inverse.isCollectionLike(), () -> "Only to-many relationships can be lazy" + location);
+			Assert.state(LAZY_COLLECTION_TYPES.contains(inverse.getType()),
+				() -> "Lazy to-many relationships must be declared as List, Set or Collection" + location);
+		});
+	}
+
 	private void verifyDynamicLabels() {
 
 		Set<String> namesOfPropertiesWithDynamicLabels = new HashSet<>();
@@ -345,6 +384,19 @@ class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo4jPers
 		return IdDescription.forExternallyGeneratedIds(idGeneratorClass, idGeneratorRef, propertyName);
 	}
 
+	private Map<String, FetchPlan> computeFetchPlans() {
+
+		Map<String, FetchPlan> computedFetchPlans = new HashMap<>();
+		for (NamedFetchPlan namedFetchPlan : AnnotatedElementUtils
+			.findMergedRepeatableAnnotations(getType(), NamedFetchPlan.class)) {
+			FetchPlan previous = computedFetchPlans.put(namedFetchPlan.name(),
+				FetchPlan.of(namedFetchPlan.depth(), namedFetchPlan.include()).withStrategy(namedFetchPlan.strategy()));
+			Assert.state(previous == null, () -> String.format("Duplicate definition of fetch plan %s in entity %s.",
+				namedFetchPlan.name(), getUnderlyingClass()));
+		}
+		return computedFetchPlans;
+	}
+
 	@Override
 	public Collection<RelationshipDescription> getRelationships() {
 
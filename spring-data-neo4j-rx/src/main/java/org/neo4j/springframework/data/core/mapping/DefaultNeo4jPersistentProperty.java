@@ -92,8 +92,10 @@ class DefaultNeo4jPersistentProperty extends AnnotationBasedPersistentProperty<N
 		}
 
 		Relationship.Direction direction = Relationship.Direction.OUTGOING;
+		boolean lazy = false;
 		if (outgoingRelationship != null) {
 			direction = outgoingRelationship.direction();
+			lazy = outgoingRelationship.fetch() == Relationship.Fetch.LAZY;
 		}
 
 		boolean dynamicAssociation = this.isDynamicAssociation();
@@ -110,7 +112,7 @@ class DefaultNeo4jPersistentProperty extends AnnotationBasedPersistentProperty<N
 
 		DefaultRelationshipDescription relationshipDescription = new DefaultRelationshipDescription(this,
 			obverseRelationshipDescription.orElse(null), type, dynamicAssociation, (NodeDescription<?>) getOwner(),
-			this.getName(), obverseOwner, direction, relationshipPropertiesClass);
+			this.getName(), obverseOwner, direction, relationshipPropertiesClass, lazy);
 
 		// Update the previous found, if any, relationship with the newly created one as its counterpart.
 		obverseRelationshipDescription
@@ -45,6 +45,8 @@ class DefaultRelationshipDescription extends Association<Neo4jPersistentProperty
 
 	private final Relationship.Direction direction;
 
+	private final boolean lazy;
+
 	private Class<?> relationshipPropertiesClass;
 
 	private RelationshipDescription relationshipObverse;
@@ -52,7 +54,7 @@ class DefaultRelationshipDescription extends Association<Neo4jPersistentProperty
 	DefaultRelationshipDescription(Neo4jPersistentProperty inverse,
 		@Nullable RelationshipDescription relationshipObverse,
 		String type, boolean dynamic, NodeDescription<?> source, String fieldName, NodeDescription<?> target,
-		Relationship.Direction direction, @Nullable Class<?> relationshipPropertiesClass) {
+		Relationship.Direction direction, @Nullable Class<?> relationshipPropertiesClass, boolean lazy) {
 
 		// the immutable obverse association-wise is always null because we cannot determine them on both sides
 		// if we consider to support bidirectional relationships.
@@ -66,6 +68,7 @@ class DefaultRelationshipDescription extends Association<Neo4jPersistentProperty
 		this.target = target;
 		this.direction = direction;
 		this.relationshipPropertiesClass = relationshipPropertiesClass;
+		this.lazy = lazy;
 	}
 
 	@Override
@@ -108,6 +111,11 @@ class DefaultRelationshipDescription extends Association<Neo4jPersistentProperty
 		return getRelationshipPropertiesClass() != null;
 	}
 
+	@Override
+	public boolean isLazy() {
+		return lazy;
+	}
+
 	@Override
 	public void setRelationshipObverse(RelationshipDescription relationshipObverse) {
 		this.relationshipObverse = relationshipObverse;
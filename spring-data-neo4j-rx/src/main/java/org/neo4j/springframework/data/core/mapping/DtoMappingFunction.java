@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.convert.Neo4jConverter;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Maps records consisting of scalar columns to constructor based DTOs. The constructor is resolved once and invoked
+ * through a {@link MethodHandle}. The names of the constructor parameters are resolved to column indexes with the first
+ * record of a result, so that all further records of the same result are mapped by index.
+ * <p>
+ * Records containing nodes, relationships or paths and records without any column matching a constructor parameter are
+ * delegated to the fallback mapping function. Only DTOs whose constructor populates all properties can
+ * be mapped this way, see {@link #canMap(Neo4jPersistentEntity)}.
+ *
+ * @author Michael J. Simons
+ * @param <T> The type of the DTO
+ * @since 1.1
+ */
+final class DtoMappingFunction<T> implements BiFunction<TypeSystem, Record, T> {
+
+	private final Class<T> dtoClass;
+
+	private final Neo4jConverter converter;
+
+	private final BiFunction<TypeSystem, Record, T> fallback;
+
+	private final String[] parameterNames;
+
+	private final TypeInformation<?>[] parameterTypes;
+
+	/**
+	 * The constructor of the DTO, adapted to take an array of arguments.
+	 */
+	private final MethodHandle constructor;
+
+	/**
+	 * The column indexes resolved for the last result.
+	 */
+	@Nullable
+	private volatile Binding binding;
+
+	DtoMappingFunction(Neo4jPersistentEntity<T> dtoEntity, Neo4jConverter converter,
+		BiFunction<TypeSystem, Record, T> fallback) {
+
+		this.dtoClass = dtoEntity.getType();
+		PreferredConstructor<T, ?> preferredConstructor = dtoEntity.getPersistenceConstructor();
+		if (preferredConstructor == null) {
+			throw new MappingException("No usable constructor found on " + dtoClass.getName());
+		}
+
+		List<? extends PreferredConstructor.Parameter<Object, ?>> parameters = preferredConstructor.getParameters();
+		this.parameterNames = new String[parameters.size()];
+		this.parameterTypes = new TypeInformation<?>[parameters.size()];
+		for (int i = 0; i < parameters.size(); ++i) {
+			PreferredConstructor.Parameter<Object, ?> parameter = parameters.get(i);
+			if (parameter.getName() == null) {
+				throw new MappingException(String.format(
+					"The name of parameter %d of the constructor of %s is unknown. Compile with -parameters.", i,
+					dtoClass.getName()));
+			}
+			this.parameterNames[i] = parameter.getName();
+			this.parameterTypes[i] = parameter.getType();
+		}
+
+		this.converter = converter;
+		this.fallback = fallback;
+		this.constructor = adapt(preferredConstructor.getConstructor());
+	}
+
+	/**
+	 * Checks whether instances of the given DTO can be created by its constructor alone. This is the case when the
+	 * constructor has a parameter for every property, all properties are stored under their own name and none of them
+	 * is a relationship or an internal id. Everything else needs the regular mapping, which populates the remaining
+	 * properties through setters or fields and honours renamed properties.
+	 *
+	 * @param dtoEntity The entity describing the DTO
+	 * @return True, if the DTO can be mapped by this function
+	 */
+	static boolean canMap(Neo4jPersistentEntity<?> dtoEntity) {
+
+		PreferredConstructor<?, Neo4jPersistentProperty> preferredConstructor = dtoEntity.getPersistenceConstructor();
+		if (preferredConstructor == null) {
+			return false;
+		}
+
+		for (Neo4jPersistentProperty property : dtoEntity) {
+			if (property.isAssociation() || property.isInternalIdProperty()
+				|| !preferredConstructor.isConstructorParameter(property)
+				|| !property.getName().equals(property.getPropertyName())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static MethodHandle adapt(Constructor<?> constructor) {
+
+		ReflectionUtils.makeAccessible(constructor);
+		try {
+			MethodHandle methodHandle = MethodHandles.lookup().unreflectConstructor(constructor);
+			return methodHandle.asType(methodHandle.type().generic())
+				.asSpreader(Object[].class, constructor.getParameterCount());
+		} catch (IllegalAccessException e) {
+			throw new MappingException("Cannot access the constructor of " + constructor.getDeclaringClass(), e);
+		}
+	}
+
+	@Override
+	public T apply(TypeSystem typeSystem, Record record) {
+
+		Binding currentBinding = this.binding;
+		List<String> keys = record.keys();
+		// Records of the same result share their keys, so this is usually an identity check
+		if (currentBinding == null || !(currentBinding.keys == keys || currentBinding.keys.equals(keys))) {
+			currentBinding = bind(typeSystem, record);
+			this.binding = currentBinding;
+		}
+
+		if (currentBinding.delegateToFallback) {
+			return fallback.apply(typeSystem, record);
+		}
+
+		Object[] arguments = new Object[parameterNames.length];
+		for (int i = 0; i < arguments.length; ++i) {
+			int columnIndex = currentBinding.columnIndexes[i];
+			arguments[i] = converter
+				.readValueForProperty(columnIndex < 0 ? null : record.get(columnIndex), parameterTypes[i]);
+		}
+
+		try {
+			return dtoClass.cast((Object) constructor.invokeExact(arguments));
+		} catch (RuntimeException e) {
+			throw new MappingException("Error mapping " + record + " to " + dtoClass.getName(), e);
+		} catch (Throwable e) {
+			throw new MappingException("Could not instantiate " + dtoClass.getName(), e);
+		}
+	}
+
+	private Binding bind(TypeSystem typeSystem, Record record) {
+
+		boolean anyColumnMatches = false;
+		int[] columnIndexes = new int[parameterNames.length];
+		for (int i = 0; i < parameterNames.length; ++i) {
+			columnIndexes[i] = record.containsKey(parameterNames[i]) ? record.index(parameterNames[i]) : -1;
+			anyColumnMatches |= columnIndexes[i] >= 0;
+		}
+
+		if (!anyColumnMatches || containsGraphElements(typeSystem, record)) {
+			return new Binding(record.keys(), null);
+		}
+		return new Binding(record.keys(), columnIndexes);
+	}
+
+	static boolean containsGraphElements(TypeSystem typeSystem, Record record) {
+
+		for (Value value : record.values()) {
+			if (value.hasType(typeSystem.NODE()) || value.hasType(typeSystem.RELATIONSHIP())
+				|| value.hasType(typeSystem.PATH())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final class Binding {
+
+		private final List<String> keys;
+
+		/**
+		 * The column index per constructor parameter, {@literal -1} for parameters without column.
+		 */
+		private final int[] columnIndexes;
+
+		private final boolean delegateToFallback;
+
+		Binding(List<String> keys, @Nullable int[] columnIndexes) {
+			this.keys = keys;
+			this.columnIndexes = columnIndexes;
+			this.delegateToFallback = columnIndexes == null;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+
+/**
+ * Collects the ids of the owners of lazy relationships while the records of one query are mapped. The first access to
+ * one lazy relationship loads the related nodes of all owners collected so far in one query.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+final class LazyLoadingBatches {
+
+	private final Map<RelationshipDescription, Batch> batches = Collections.synchronizedMap(new IdentityHashMap<>());
+
+	/**
+	 * Registers the owner of a lazy relationship.
+	 *
+	 * @param relationshipDescription The lazy relationship
+	 * @param sourceId                The id of the owner
+	 * @param loader                  Loads the related entities of a list of owners, keyed by the ids of the owners
+	 * @return The batch the owner has been registered with
+	 */
+	Batch register(RelationshipDescription relationshipDescription, Object sourceId,
+		Function<List<Object>, Map<Object, List<Object>>> loader) {
+
+		Batch batch = batches.computeIfAbsent(relationshipDescription, key -> new Batch(loader));
+		batch.register(sourceId);
+		return batch;
+	}
+
+	static final class Batch {
+
+		private final Function<List<Object>, Map<Object, List<Object>>> loader;
+
+		private final Set<Object> pendingSourceIds = new LinkedHashSet<>();
+
+		private final Map<Object, List<Object>> relatedEntities = new HashMap<>();
+
+		private Batch(Function<List<Object>, Map<Object, List<Object>>> loader) {
+			this.loader = loader;
+		}
+
+		synchronized void register(Object sourceId) {
+			if (!relatedEntities.containsKey(sourceId)) {
+				pendingSourceIds.add(sourceId);
+			}
+		}
+
+		/**
+		 * @param sourceId The id of an owner
+		 * @return The related entities of the owner, loaded together with the related entities of all pending owners
+		 */
+		synchronized List<Object> getRelatedEntities(Object sourceId) {
+
+			if (!relatedEntities.containsKey(sourceId)) {
+				pendingSourceIds.add(sourceId);
+
+				List<Object> sourceIds = new ArrayList<>(pendingSourceIds);
+				Map<Object, List<Object>> loadedEntities = loader.apply(sourceIds);
+				sourceIds.forEach(id -> relatedEntities.put(id, loadedEntities.getOrDefault(id, new ArrayList<>())));
+				pendingSourceIds.clear();
+			}
+			return relatedEntities.get(sourceId);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.Record;
+
+/**
+ * Runs the queries loading {@link org.neo4j.springframework.data.core.schema.Relationship.Fetch#LAZY lazy relationships}
+ * on first access. One implementation is registered with each {@link Neo4jMappingContext} by the configuration of the
+ * imperative infrastructure. Reading a lazy relationship fails when there is none.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = API.Status.INTERNAL, since = "1.1")
+@FunctionalInterface
+public interface LazyLoadingQueryRunner {
+
+	/**
+	 * Runs the given query and returns all records.
+	 *
+	 * @param cypherQuery The query to run
+	 * @param parameters  The parameters of the query
+	 * @return All records of the query
+	 * @throws IllegalStateException when there is no session in which the query can be run
+	 */
+	Collection<Record> fetch(String cypherQuery, Map<String, Object> parameters);
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.util.function.Supplier;
+
+import org.springframework.aop.TargetSource;
+import org.springframework.lang.Nullable;
+
+/**
+ * The target source of a proxy representing a lazy relationship. The target is loaded on first access and kept
+ * afterwards.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+final class LazyRelationshipTargetSource implements TargetSource {
+
+	private final Class<?> targetClass;
+
+	private final Supplier<Object> targetSupplier;
+
+	private volatile boolean initialized;
+
+	@Nullable
+	private volatile Object target;
+
+	LazyRelationshipTargetSource(Class<?> targetClass, Supplier<Object> targetSupplier) {
+		this.targetClass = targetClass;
+		this.targetSupplier = targetSupplier;
+	}
+
+	@Override
+	public Class<?> getTargetClass() {
+		return targetClass;
+	}
+
+	@Override
+	public boolean isStatic() {
+		return false;
+	}
+
+	@Override
+	public Object getTarget() {
+
+		if (!this.initialized) {
+			synchronized (this) {
+				if (!this.initialized) {
+					this.target = this.targetSupplier.get();
+					this.initialized = true;
+				}
+			}
+		}
+		return this.target;
+	}
+
+	@Override
+	public void releaseTarget(Object releasedTarget) {
+	}
+
+	boolean isInitialized() {
+		return initialized;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import org.apiguardian.api.API;
+import org.springframework.aop.TargetSource;
+import org.springframework.aop.framework.Advised;
+import org.springframework.lang.Nullable;
+
+/**
+ * Utilities for working with {@link org.neo4j.springframework.data.core.schema.Relationship.Fetch#LAZY lazy relationships}.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = API.Status.STABLE, since = "1.1")
+public final class LazyRelationships {
+
+	/**
+	 * @param value The value of a relationship
+	 * @return True, if the value is not a lazy relationship or a lazy relationship that has already been loaded
+	 */
+	public static boolean isInitialized(@Nullable Object value) {
+
+		LazyRelationshipTargetSource targetSource = getLazyRelationshipTargetSource(value);
+		return targetSource == null || targetSource.isInitialized();
+	}
+
+	/**
+	 * Returns the loaded value of a lazy relationship. The relationship is loaded if necessary. Other values are
+	 * returned as they are.
+	 *
+	 * @param value The value of a relationship
+	 * @return The loaded value
+	 */
+	@Nullable
+	public static Object unwrap(@Nullable Object value) {
+
+		LazyRelationshipTargetSource targetSource = getLazyRelationshipTargetSource(value);
+		return targetSource == null ? value : targetSource.getTarget();
+	}
+
+	@Nullable
+	private static LazyRelationshipTargetSource getLazyRelationshipTargetSource(@Nullable Object value) {
+
+		if (!(value instanceof Advised)) {
+			return null;
+		}
+
+		TargetSource targetSource = ((Advised) value).getTargetSource();
+		return targetSource instanceof LazyRelationshipTargetSource ? (LazyRelationshipTargetSource) targetSource : null;
+	}
+
+	private LazyRelationships() {
+	}
+}
@@ -19,21 +19,32 @@
 package org.neo4j.springframework.data.core.mapping;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
 import org.neo4j.springframework.data.core.convert.Neo4jConverter;
 import org.neo4j.springframework.data.core.convert.Neo4jSimpleTypes;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
 import org.neo4j.springframework.data.core.schema.IdGenerator;
 import org.neo4j.springframework.data.core.schema.Node;
 import org.neo4j.springframework.data.core.schema.NodeDescription;
 import org.neo4j.springframework.data.core.schema.Schema;
+import org.neo4j.springframework.data.core.schema.UnknownEntityException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -45,6 +56,7 @@ import org.springframework.data.mapping.model.Property;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * An implementation of both a {@link Schema} as well as a Neo4j version of Spring Data's
@@ -94,6 +106,104 @@ public final class Neo4jMappingContext
 		return converter;
 	}
 
+	/**
+	 * Registers the query runner used to load {@link org.neo4j.springframework.data.core.schema.Relationship.Fetch#LAZY lazy relationships}.
+	 * A query runner can only be registered once per mapping context. Reading a lazy relationship fails when no query
+	 * runner is registered.
+	 *
+	 * @param lazyLoadingQueryRunner The query runner to use
+	 * @throws IllegalStateException if another query runner has already been registered
+	 * @since 1.1
+	 */
+	public void setLazyLoadingQueryRunner(LazyLoadingQueryRunner lazyLoadingQueryRunner) {
+
+		Assert.notNull(lazyLoadingQueryRunner, "The lazy loading query runner is required.");
+		((DefaultNeo4jConverter) this.converter).setLazyLoadingQueryRunner(lazyLoadingQueryRunner);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see Schema#getRequiredMappingFunctionFor(Class)
+	 */
+	@Override
+	public <T> BiFunction<TypeSystem, Record, T> getRequiredMappingFunctionFor(Class<T> targetClass) {
+
+		if (getNodeDescription(targetClass) == null) {
+			throw new UnknownEntityException(targetClass);
+		}
+
+		// All records mapped by one function, usually the records of one query, share the batches of lazy relationships.
+		LazyLoadingBatches lazyLoadingBatches = new LazyLoadingBatches();
+		return (typeSystem, record) -> ((DefaultNeo4jConverter) this.converter)
+			.read(targetClass, record, lazyLoadingBatches);
+	}
+
+	/**
+	 * Retrieves a mapping function for constructor based DTOs, that is built for large results of scalar columns. The
+	 * names of the constructor parameters are matched with the column names of the first record of a result, all
+	 * following records of that result are mapped by column index. The constructor is invoked without reflection.
+	 * <p>
+	 * This applies only to DTOs whose constructor has a parameter for every property stored under the name of that
+	 * property. The scalar columns of all other DTOs are mapped like the properties of a node, so that setters, fields
+	 * and renamed properties are taken into account. Records containing nodes, relationships or paths are mapped with
+	 * the {@link #getRequiredMappingFunctionFor(Class) regular mapping function}.
+	 *
+	 * @param dtoClass The class of the DTO
+	 * @param <T>      The type of the DTO
+	 * @return A mapping function for the given DTO
+	 * @since 1.1
+	 */
+	public <T> BiFunction<TypeSystem, Record, T> getDtoMappingFunctionFor(Class<T> dtoClass) {
+
+		@SuppressWarnings("unchecked")
+		Neo4jPersistentEntity<T> dtoEntity = (Neo4jPersistentEntity<T>) getRequiredPersistentEntity(dtoClass);
+		BiFunction<TypeSystem, Record, T> regularMappingFunction = getRequiredMappingFunctionFor(dtoClass);
+		if (!DtoMappingFunction.canMap(dtoEntity)) {
+			LazyLoadingBatches lazyLoadingBatches = new LazyLoadingBatches();
+			return (typeSystem, record) -> DtoMappingFunction.containsGraphElements(typeSystem, record)
+				? regularMappingFunction.apply(typeSystem, record)
+				: ((DefaultNeo4jConverter) this.converter)
+					.read(dtoClass, Values.value(record.asMap(Function.identity())), lazyLoadingBatches);
+		}
+		return new DtoMappingFunction<>(dtoEntity, this.converter, regularMappingFunction);
+	}
+
+	/**
+	 * Maps the root nodes of a query using {@link FetchPlan.Strategy#SPLIT_QUERIES split queries}. The records of the
+	 * root nodes must contain only the projections of the root nodes without any relationships. The relationships are
+	 * loaded with one additional query per relationship and level and stitched together with the root nodes before
+	 * those are mapped.
+	 *
+	 * @param targetClass        The type to map the root nodes to
+	 * @param rootRecords        The records containing the projections of the root nodes
+	 * @param fetchPlan          The fetch plan selecting the relationships to be loaded
+	 * @param includedProperties The paths of the properties to be included, all properties when empty
+	 * @param queryRunner        Runs the additional queries with the given parameters
+	 * @param <T>                The type to map the root nodes to
+	 * @return The mapped root nodes
+	 * @since 1.1
+	 */
+	public <T> List<T> readWithSplitQueries(Class<T> targetClass, Collection<Record> rootRecords, FetchPlan fetchPlan,
+		List<String> includedProperties, BiFunction<String, Map<String, Object>, Collection<Record>> queryRunner) {
+
+		NodeDescription<?> nodeDescription = getNodeDescription(targetClass);
+		if (nodeDescription == null) {
+			throw new UnknownEntityException(targetClass);
+		}
+
+		List<Map<String, Object>> rootNodes = new ArrayList<>(rootRecords.size());
+		rootRecords.forEach(record -> rootNodes.add(SplitQueryLoader.toMutableMap(record.get(0))));
+
+		new SplitQueryLoader(queryRunner).loadRelationships(nodeDescription, rootNodes,
+			CypherGenerator.includesPath(includedProperties), fetchPlan);
+
+		LazyLoadingBatches lazyLoadingBatches = new LazyLoadingBatches();
+		List<T> result = new ArrayList<>(rootNodes.size());
+		rootNodes.forEach(rootNode -> result.add(((DefaultNeo4jConverter) this.converter)
+			.read(targetClass, Values.value(rootNode), lazyLoadingBatches)));
+		return result;
+	}
+
 	boolean hasCustomWriteTarget(Class<?> targetType) {
 		return neo4jConversions.hasCustomWriteTarget(targetType);
 	}
@@ -21,6 +21,7 @@ package org.neo4j.springframework.data.core.mapping;
 import java.util.Optional;
 
 import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
 import org.neo4j.springframework.data.core.schema.NodeDescription;
 import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.PropertyHandler;
@@ -45,4 +46,11 @@ public interface Neo4jPersistentEntity<T>
 	 * @return An optional property pointing to a {@link java.util.Collection Collection&lt;String&gt;} containing dynamic "runtime managed" labels.
 	 */
 	Optional<Neo4jPersistentProperty> getDynamicLabelsProperty();
+
+	/**
+	 * @param name The name of a fetch plan declared via {@link org.neo4j.springframework.data.core.schema.NamedFetchPlan}
+	 * @return An optional fetch plan with the given name
+	 * @since 1.1
+	 */
+	Optional<FetchPlan> getFetchPlan(String name);
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
+import org.neo4j.springframework.data.core.schema.NodeDescription;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+
+/**
+ * Loads the relationships of a list of nodes with one query per relationship and level. The queries return flat rows
+ * of the id of a source node and the projection of a related node. Those rows are stitched into the projections of
+ * the source nodes, so that the result looks the same as the nested projection of a single query.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+final class SplitQueryLoader {
+
+	private static final Renderer renderer = Renderer.getDefaultRenderer();
+
+	private final BiFunction<String, Map<String, Object>, Collection<Record>> queryRunner;
+
+	SplitQueryLoader(BiFunction<String, Map<String, Object>, Collection<Record>> queryRunner) {
+		this.queryRunner = queryRunner;
+	}
+
+	/**
+	 * Loads the relationships of the given root nodes and adds them to their projections.
+	 *
+	 * @param nodeDescription The description of the root nodes
+	 * @param rootNodes       The mutable projections of the root nodes
+	 * @param includeField    A predicate on the paths of the relationships to be loaded
+	 * @param fetchPlan       The fetch plan selecting the relationships to be loaded
+	 */
+	void loadRelationships(NodeDescription<?> nodeDescription, List<Map<String, Object>> rootNodes,
+		Predicate<String> includeField, FetchPlan fetchPlan) {
+
+		loadRelationships(nodeDescription, rootNodes, true, includeField, fetchPlan, "", new ArrayList<>());
+	}
+
+	private void loadRelationships(NodeDescription<?> nodeDescription, List<Map<String, Object>> nodes, boolean isRoot,
+		Predicate<String> includeField, FetchPlan fetchPlan, String path,
+		List<RelationshipDescription> processedRelationships) {
+
+		// Without an id, the related nodes cannot be assigned to their source nodes
+		Neo4jPersistentProperty idProperty = ((Neo4jPersistentEntity<?>) nodeDescription).getIdProperty();
+		if (nodes.isEmpty() || idProperty == null) {
+			return;
+		}
+
+		List<RelationshipDescription> relationships = CypherGenerator.INSTANCE.selectRelationships(
+			nodeDescription.getRelationships(), isRoot, includeField, fetchPlan, path, processedRelationships);
+		if (relationships.isEmpty()) {
+			return;
+		}
+
+		Map<Object, List<Map<String, Object>>> nodesById = groupById(idProperty, nodes);
+		Map<String, Object> parameters = Collections.singletonMap(NAME_OF_IDS, new ArrayList<>(nodesById.keySet()));
+
+		for (RelationshipDescription relationshipDescription : relationships) {
+
+			String collectionName = relationshipDescription.generateRelatedNodesCollectionName();
+			// An empty list marks the relationship as loaded, even if there are no related nodes
+			nodes.forEach(node -> node.put(collectionName, new ArrayList<>()));
+
+			String cypherQuery = renderer.render(
+				CypherGenerator.INSTANCE.prepareMatchOfRelatedNodes(relationshipDescription, FetchPlan.rootOnly()));
+
+			List<Map<String, Object>> relatedNodes = new ArrayList<>();
+			for (Record record : queryRunner.apply(cypherQuery, parameters)) {
+				Map<String, Object> relatedNode = toMutableMap(record.get(NAME_OF_ROOT_NODE.getValue()));
+				relatedNodes.add(relatedNode);
+
+				Object sourceId = record.get(NAME_OF_SOURCE_ID).asObject();
+				for (Map<String, Object> sourceNode : nodesById.getOrDefault(sourceId, Collections.emptyList())) {
+					getRelatedNodes(sourceNode, collectionName).add(relatedNode);
+				}
+			}
+
+			processedRelationships.add(relationshipDescription);
+			loadRelationships(relationshipDescription.getTarget(), relatedNodes, false, includeField, fetchPlan,
+				CypherGenerator.pathTo(path, relationshipDescription.getFieldName()),
+				new ArrayList<>(processedRelationships));
+		}
+	}
+
+	static Map<String, Object> toMutableMap(Value projection) {
+		return new LinkedHashMap<>(projection.asMap(Function.identity()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> getRelatedNodes(Map<String, Object> sourceNode, String collectionName) {
+		return (List<Object>) sourceNode.get(collectionName);
+	}
+
+	/**
+	 * The same node may be reached through different paths on one level, so there can be more than one projection
+	 * per id.
+	 */
+	private static Map<Object, List<Map<String, Object>>> groupById(Neo4jPersistentProperty idProperty,
+		List<Map<String, Object>> nodes) {
+
+		String nameOfId = idProperty.isInternalIdProperty() ? NAME_OF_INTERNAL_ID : idProperty.getPropertyName();
+
+		Map<Object, List<Map<String, Object>>> nodesById = new HashMap<>();
+		for (Map<String, Object> node : nodes) {
+			Object id = node.get(nameOfId);
+			if (id instanceof Value && !((Value) id).isNull()) {
+				nodesById.computeIfAbsent(((Value) id).asObject(), key -> new ArrayList<>()).add(node);
+			}
+		}
+		return nodesById;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.Relationship;
+import org.springframework.lang.Nullable;
+
+/**
+ * The nodes and relationships of a subgraph returned by one record, indexed by their ids, so that an object graph
+ * can be built from the lists of nodes and relationships in linear time.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+final class Subgraph {
+
+	private final Map<Long, Node> nodes = new HashMap<>();
+	private final Map<Long, List<Relationship>> relationshipsByStartNode = new HashMap<>();
+	private final Map<Long, List<Relationship>> relationshipsByEndNode = new HashMap<>();
+
+	/**
+	 * Nodes that are currently mapped. Relationships pointing back to those nodes are not followed while the nodes are
+	 * instantiated.
+	 */
+	private final Set<Long> nodesInProgress = new HashSet<>();
+
+	/**
+	 * @param record The record to check
+	 * @return True, if the record contains the lists of nodes and relationships of a subgraph
+	 */
+	static boolean isContainedIn(Record record) {
+		return record.containsKey(NAME_OF_SUBGRAPH_NODES) && record.containsKey(NAME_OF_SUBGRAPH_RELATIONSHIPS);
+	}
+
+	Subgraph(Record record) {
+
+		for (Value node : record.get(NAME_OF_SUBGRAPH_NODES).values()) {
+			Node actualNode = node.asNode();
+			nodes.put(actualNode.id(), actualNode);
+		}
+		for (Value relationship : record.get(NAME_OF_SUBGRAPH_RELATIONSHIPS).values()) {
+			Relationship actualRelationship = relationship.asRelationship();
+			relationshipsByStartNode.computeIfAbsent(actualRelationship.startNodeId(), id -> new ArrayList<>())
+				.add(actualRelationship);
+			relationshipsByEndNode.computeIfAbsent(actualRelationship.endNodeId(), id -> new ArrayList<>())
+				.add(actualRelationship);
+		}
+	}
+
+	@Nullable
+	Node getNode(long id) {
+		return nodes.get(id);
+	}
+
+	/**
+	 * @param nodeId   The id of a node
+	 * @param outgoing True to retrieve the relationships starting at the given node, false for the relationships
+	 *                 ending there
+	 * @return The relationships of the given node in the requested direction
+	 */
+	List<Relationship> getRelationships(long nodeId, boolean outgoing) {
+		return (outgoing ? relationshipsByStartNode : relationshipsByEndNode)
+			.getOrDefault(nodeId, Collections.emptyList());
+	}
+
+	void startMapping(long nodeId) {
+		nodesInProgress.add(nodeId);
+	}
+
+	void endMapping(long nodeId) {
+		nodesInProgress.remove(nodeId);
+	}
+
+	boolean isBeingMapped(long nodeId) {
+		return nodesInProgress.contains(nodeId);
+	}
+}
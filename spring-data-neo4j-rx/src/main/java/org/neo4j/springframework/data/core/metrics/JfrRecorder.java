@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.neo4j.springframework.data.core.metrics.Neo4jFlightRecorder.MappingRecording;
+import org.neo4j.springframework.data.core.metrics.Neo4jFlightRecorder.Recorder;
+import org.neo4j.springframework.data.core.metrics.Neo4jFlightRecorder.Recording;
+import org.springframework.lang.Nullable;
+
+/**
+ * JFR based recorder. This is the only class referring to the {@literal jdk.jfr} API and must only be loaded when it is
+ * available.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+final class JfrRecorder implements Recorder {
+
+	private static final String DEFAULT_DATABASE_NAME = "default";
+
+	private final EventType queryEventType = EventType.getEventType(QueryEvent.class);
+
+	private final EventType mappingEventType = EventType.getEventType(MappingEvent.class);
+
+	@Override
+	public boolean isQueryRecordingEnabled() {
+		return queryEventType.isEnabled();
+	}
+
+	@Override
+	public boolean isMappingRecordingEnabled() {
+		return mappingEventType.isEnabled();
+	}
+
+	@Override
+	public Recording startQuery(String cypher, @Nullable String databaseName) {
+
+		QueryEvent event = new QueryEvent();
+		if (!event.isEnabled()) {
+			return Recording.NONE;
+		}
+
+		event.begin();
+		return (rows, error) -> {
+			event.end();
+			if (event.shouldCommit()) {
+				event.cypher = cypher;
+				event.database = databaseName == null ? DEFAULT_DATABASE_NAME : databaseName;
+				event.rows = rows;
+				event.exception = error == null ? null : error.getClass().getName();
+				event.commit();
+			}
+		};
+	}
+
+	@Override
+	public MappingRecording startMapping() {
+
+		MappingEvent event = new MappingEvent();
+		if (!event.isEnabled()) {
+			return MappingRecording.NONE;
+		}
+
+		event.begin();
+		return (entityType, values, error) -> {
+			event.end();
+			if (event.shouldCommit()) {
+				event.entityType = entityType;
+				event.values = values;
+				event.exception = error == null ? null : error.getClass().getName();
+				event.commit();
+			}
+		};
+	}
+
+	@Override
+	public Recording startTransaction(String operation, @Nullable String databaseName) {
+
+		TransactionEvent event = new TransactionEvent();
+		if (!event.isEnabled()) {
+			return Recording.NONE;
+		}
+
+		event.begin();
+		return (count, error) -> {
+			event.end();
+			if (event.shouldCommit()) {
+				event.operation = operation;
+				event.database = databaseName == null ? DEFAULT_DATABASE_NAME : databaseName;
+				event.exception = error == null ? null : error.getClass().getName();
+				event.commit();
+			}
+		};
+	}
+
+	@Name("org.neo4j.springframework.data.Query")
+	@Label("Query")
+	@Category({ "Neo4j", "SDN/RX" })
+	@Description("Execution of a Cypher statement, including the mapping of all records")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class QueryEvent extends Event {
+
+		@Label("Cypher")
+		String cypher;
+
+		@Label("Database")
+		String database;
+
+		@Label("Rows")
+		long rows;
+
+		@Label("Exception")
+		String exception;
+	}
+
+	@Name("org.neo4j.springframework.data.Mapping")
+	@Label("Mapping")
+	@Category({ "Neo4j", "SDN/RX" })
+	@Description("Mapping of one record")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class MappingEvent extends Event {
+
+		@Label("Entity Type")
+		Class<?> entityType;
+
+		@Label("Values")
+		long values;
+
+		@Label("Exception")
+		String exception;
+	}
+
+	@Name("org.neo4j.springframework.data.Transaction")
+	@Label("Transaction")
+	@Category({ "Neo4j", "SDN/RX" })
+	@Description("Begin, commit or rollback of a transaction")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class TransactionEvent extends Event {
+
+		@Label("Operation")
+		String operation;
+
+		@Label("Database")
+		String database;
+
+		@Label("Exception")
+		String exception;
+	}
+}
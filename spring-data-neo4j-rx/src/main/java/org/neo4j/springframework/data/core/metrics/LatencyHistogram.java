@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock free histogram of latencies with logarithmic buckets. Each power of two is split into eight linear sub
+ * buckets, so that percentiles are reported with a relative error of at most 12.5%. Latencies above roughly 18 minutes
+ * are recorded in the last bucket. Histograms can be merged, which makes them suitable for aggregation.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 40;
+	private static final int NUMBER_OF_BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(NUMBER_OF_BUCKETS);
+
+	void record(long nanos) {
+		buckets.incrementAndGet(indexOf(nanos));
+	}
+
+	/**
+	 * Adds all values of another histogram to this histogram.
+	 *
+	 * @param other The histogram to add
+	 */
+	void merge(LatencyHistogram other) {
+
+		for (int i = 0; i < NUMBER_OF_BUCKETS; ++i) {
+			long count = other.buckets.get(i);
+			if (count != 0) {
+				buckets.addAndGet(i, count);
+			}
+		}
+	}
+
+	/**
+	 * @param percentile A value between 0.0 and 1.0
+	 * @return The upper bound of the bucket containing the requested percentile in nanoseconds, 0 for an empty histogram
+	 */
+	long valueAtPercentile(double percentile) {
+
+		long[] counts = new long[NUMBER_OF_BUCKETS];
+		long total = 0;
+		for (int i = 0; i < NUMBER_OF_BUCKETS; ++i) {
+			counts[i] = buckets.get(i);
+			total += counts[i];
+		}
+		if (total == 0) {
+			return 0L;
+		}
+
+		long rank = Math.max(1L, (long) Math.ceil(percentile * total));
+		long seen = 0;
+		for (int i = 0; i < NUMBER_OF_BUCKETS; ++i) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return upperBoundOf(i);
+			}
+		}
+		return upperBoundOf(NUMBER_OF_BUCKETS - 1);
+	}
+
+	static int indexOf(long nanos) {
+
+		if (nanos < SUB_BUCKETS) {
+			return (int) Math.max(0L, nanos);
+		}
+
+		int exponent = Math.min(63 - Long.numberOfLeadingZeros(nanos), MAX_EXPONENT);
+		if (exponent == MAX_EXPONENT && nanos >= (1L << (MAX_EXPONENT + 1))) {
+			return NUMBER_OF_BUCKETS - 1;
+		}
+		int subBucket = (int) ((nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long upperBoundOf(int index) {
+
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+
+		int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		int subBucket = index % SUB_BUCKETS;
+		return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+	}
+}
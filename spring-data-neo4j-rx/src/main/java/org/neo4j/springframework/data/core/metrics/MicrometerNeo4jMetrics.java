@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import static org.apiguardian.api.API.Status.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Neo4jMetrics} backed by a Micrometer {@link MeterRegistry}. The following meters are registered:
+ * <ul>
+ * <li>{@literal neo4j.client.queries}: Time spent in the driver per query, tagged by database and exception</li>
+ * <li>{@literal neo4j.client.mapping}: Time spent mapping the records of a query, tagged by database</li>
+ * <li>{@literal neo4j.client.rows}: Number of records mapped per query, tagged by database</li>
+ * <li>{@literal neo4j.client.updates}: Counters of the updates reported in the result summaries, tagged by database and type</li>
+ * <li>{@literal neo4j.template.operations}: Duration of template operations, tagged by operation, entity, database and exception</li>
+ * <li>{@literal neo4j.repository.invocations}: Duration of repository invocations, tagged by repository, method and exception</li>
+ * </ul>
+ * The meters are registered once per combination of tags and cached afterwards, so that recording doesn't go through
+ * the registry.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class MicrometerNeo4jMetrics implements Neo4jMetrics {
+
+	private static final String DEFAULT_DATABASE_TAG_VALUE = "default";
+	private static final String NO_EXCEPTION_TAG_VALUE = "none";
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<MeterKey, Timer> queryTimers = new ConcurrentHashMap<>();
+	private final Map<MeterKey, Timer> mappingTimers = new ConcurrentHashMap<>();
+	private final Map<MeterKey, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+	private final Map<MeterKey, Counter> updateCounters = new ConcurrentHashMap<>();
+	private final Map<MeterKey, Timer> operationTimers = new ConcurrentHashMap<>();
+	private final Map<MeterKey, Timer> invocationTimers = new ConcurrentHashMap<>();
+
+	public MicrometerNeo4jMetrics(MeterRegistry meterRegistry) {
+
+		Assert.notNull(meterRegistry, "A meter registry is required.");
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void recordQuery(@Nullable String databaseName, long driverNanos, long mappingNanos, long rows,
+		@Nullable ResultSummary resultSummary, @Nullable Throwable error) {
+
+		getOrRegister(queryTimers, new MeterKey(databaseName, errorType(error)), key -> Timer
+			.builder("neo4j.client.queries")
+			.description("Time spent in the driver per query.")
+			.tags(Tags.of(databaseTag(databaseName), exceptionTag(error)))
+			.register(meterRegistry))
+			.record(driverNanos, TimeUnit.NANOSECONDS);
+
+		if (error != null) {
+			return;
+		}
+
+		MeterKey databaseKey = new MeterKey(databaseName);
+
+		getOrRegister(mappingTimers, databaseKey, key -> Timer
+			.builder("neo4j.client.mapping")
+			.description("Time spent mapping the records of a query.")
+			.tags(Tags.of(databaseTag(databaseName)))
+			.register(meterRegistry))
+			.record(mappingNanos, TimeUnit.NANOSECONDS);
+
+		getOrRegister(rowSummaries, databaseKey, key -> DistributionSummary
+			.builder("neo4j.client.rows")
+			.description("Number of records mapped per query.")
+			.tags(Tags.of(databaseTag(databaseName)))
+			.register(meterRegistry))
+			.record(rows);
+
+		if (resultSummary != null && resultSummary.counters().containsUpdates()) {
+			SummaryCounters counters = resultSummary.counters();
+			incrementUpdates(databaseName, "nodes.created", counters.nodesCreated());
+			incrementUpdates(databaseName, "nodes.deleted", counters.nodesDeleted());
+			incrementUpdates(databaseName, "relationships.created", counters.relationshipsCreated());
+			incrementUpdates(databaseName, "relationships.deleted", counters.relationshipsDeleted());
+			incrementUpdates(databaseName, "properties.set", counters.propertiesSet());
+		}
+	}
+
+	private void incrementUpdates(@Nullable String databaseName, String type, int amount) {
+
+		if (amount == 0) {
+			return;
+		}
+
+		getOrRegister(updateCounters, new MeterKey(databaseName, type), key -> Counter
+			.builder("neo4j.client.updates")
+			.description("Updates reported in the result summaries.")
+			.tags(Tags.of(databaseTag(databaseName), Tag.of("type", type)))
+			.register(meterRegistry))
+			.increment(amount);
+	}
+
+	@Override
+	public void recordOperation(String operation, Class<?> entityType, @Nullable String databaseName, long nanos,
+		@Nullable Throwable error) {
+
+		getOrRegister(operationTimers, new MeterKey(operation, entityType, databaseName, errorType(error)), key -> Timer
+			.builder("neo4j.template.operations")
+			.description("Duration of template operations.")
+			.tags(Tags.of(
+				Tag.of("operation", operation),
+				Tag.of("entity", entityType.getSimpleName()),
+				databaseTag(databaseName),
+				exceptionTag(error)))
+			.register(meterRegistry))
+			.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordRepositoryInvocation(Class<?> repositoryInterface, Method method, long nanos,
+		@Nullable Throwable error) {
+
+		getOrRegister(invocationTimers, new MeterKey(repositoryInterface, method, errorType(error)), key -> Timer
+			.builder("neo4j.repository.invocations")
+			.description("Duration of repository invocations.")
+			.tags(Tags.of(
+				Tag.of("repository", repositoryInterface.getSimpleName()),
+				Tag.of("method", method.getName()),
+				exceptionTag(error)))
+			.register(meterRegistry))
+			.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Looks the meter up before computing it, as {@link ConcurrentHashMap#computeIfAbsent(Object, Function)} locks even
+	 * when the meter is already present on Java 8.
+	 */
+	private static <M> M getOrRegister(Map<MeterKey, M> meters, MeterKey key, Function<MeterKey, M> registration) {
+
+		M meter = meters.get(key);
+		return meter == null ? meters.computeIfAbsent(key, registration) : meter;
+	}
+
+	private static Tag databaseTag(@Nullable String databaseName) {
+		return Tag.of("database", databaseName == null ? DEFAULT_DATABASE_TAG_VALUE : databaseName);
+	}
+
+	private static Tag exceptionTag(@Nullable Throwable error) {
+		return Tag.of("exception", error == null ? NO_EXCEPTION_TAG_VALUE : error.getClass().getSimpleName());
+	}
+
+	@Nullable
+	private static Class<?> errorType(@Nullable Throwable error) {
+		return error == null ? null : error.getClass();
+	}
+
+	/**
+	 * The raw values a meter is tagged with, cheaper to create than the tags themselves.
+	 */
+	private static final class MeterKey {
+
+		private final Object[] values;
+
+		MeterKey(@Nullable Object... values) {
+			this.values = values;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			return Arrays.equals(values, ((MeterKey) o).values);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(values);
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import static org.apiguardian.api.API.Status.*;
+
+import org.apiguardian.api.API;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Entry point for emitting Java Flight Recorder events for query execution, mapping and transactions. The events are
+ * disabled by default and must be enabled in the settings of a recording, for example through a custom
+ * {@literal .jfc} file enabling all events in the {@literal org.neo4j.springframework.data} namespace.
+ * <p>
+ * When the JDK doesn't provide JFR, all recordings are no-ops. The JFR API is only touched when it is present, so this
+ * class is safe to use on every JDK.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = INTERNAL, since = "1.1")
+public final class Neo4jFlightRecorder {
+
+	private static final Recorder RECORDER = ClassUtils.isPresent("jdk.jfr.Event",
+		Neo4jFlightRecorder.class.getClassLoader()) ? new JfrRecorder() : new NoopRecorder();
+
+	/**
+	 * @return True if query events are enabled in any running recording
+	 */
+	public static boolean isQueryRecordingEnabled() {
+		return RECORDER.isQueryRecordingEnabled();
+	}
+
+	/**
+	 * @return True if mapping events are enabled in any running recording
+	 */
+	public static boolean isMappingRecordingEnabled() {
+		return RECORDER.isMappingRecordingEnabled();
+	}
+
+	/**
+	 * Starts recording the execution of a query. The returned recording must be ended with the number of rows.
+	 *
+	 * @param cypher       The Cypher statement
+	 * @param databaseName The target database
+	 * @return An ongoing recording
+	 */
+	public static Recording startQuery(String cypher, @Nullable String databaseName) {
+		return RECORDER.startQuery(cypher, databaseName);
+	}
+
+	/**
+	 * Starts recording the mapping of one record. The returned recording must be ended with the type of the mapped
+	 * object and the number of values of the record.
+	 *
+	 * @return An ongoing recording
+	 */
+	public static MappingRecording startMapping() {
+		return RECORDER.startMapping();
+	}
+
+	/**
+	 * Starts recording a transaction operation.
+	 *
+	 * @param operation    One of {@literal begin}, {@literal commit} or {@literal rollback}
+	 * @param databaseName The target database
+	 * @return An ongoing recording
+	 */
+	public static Recording startTransaction(String operation, @Nullable String databaseName) {
+		return RECORDER.startTransaction(operation, databaseName);
+	}
+
+	/**
+	 * An ongoing recording of an event.
+	 */
+	@FunctionalInterface
+	public interface Recording {
+
+		/**
+		 * A recording that doesn't record anything.
+		 */
+		Recording NONE = (count, error) -> {
+		};
+
+		default void end() {
+			end(0L, null);
+		}
+
+		default void end(@Nullable Throwable error) {
+			end(0L, error);
+		}
+
+		/**
+		 * Ends the recording and commits the event if it passes the thresholds of the recording.
+		 *
+		 * @param count The number of rows or values processed
+		 * @param error An optional error
+		 */
+		void end(long count, @Nullable Throwable error);
+	}
+
+	/**
+	 * An ongoing recording of mapping one record. The type of the mapped object is only known after the mapping.
+	 */
+	@FunctionalInterface
+	public interface MappingRecording {
+
+		/**
+		 * A recording that doesn't record anything.
+		 */
+		MappingRecording NONE = (entityType, values, error) -> {
+		};
+
+		/**
+		 * Ends the recording and commits the event if it passes the thresholds of the recording.
+		 *
+		 * @param entityType The type of the mapped object, {@literal null} if the record has been mapped to {@literal null}
+		 * @param values     The number of values of the record
+		 * @param error      An optional error
+		 */
+		void end(@Nullable Class<?> entityType, long values, @Nullable Throwable error);
+	}
+
+	/**
+	 * Abstraction over the availability of JFR.
+	 */
+	interface Recorder {
+
+		boolean isQueryRecordingEnabled();
+
+		boolean isMappingRecordingEnabled();
+
+		Recording startQuery(String cypher, @Nullable String databaseName);
+
+		MappingRecording startMapping();
+
+		Recording startTransaction(String operation, @Nullable String databaseName);
+	}
+
+	static final class NoopRecorder implements Recorder {
+
+		@Override
+		public boolean isQueryRecordingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isMappingRecordingEnabled() {
+			return false;
+		}
+
+		@Override
+		public Recording startQuery(String cypher, @Nullable String databaseName) {
+			return Recording.NONE;
+		}
+
+		@Override
+		public MappingRecording startMapping() {
+			return MappingRecording.NONE;
+		}
+
+		@Override
+		public Recording startTransaction(String operation, @Nullable String databaseName) {
+			return Recording.NONE;
+		}
+	}
+
+	private Neo4jFlightRecorder() {
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.lang.reflect.Method;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.ResultSummary;
+import org.springframework.lang.Nullable;
+
+/**
+ * Receives measurements from the Neo4j clients, templates and repositories. All methods have empty defaults, so that
+ * implementations only need to care about the measurements they are interested in. Implementations must be thread
+ * safe and should return fast, as they are called on the thread executing the query.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public interface Neo4jMetrics {
+
+	/**
+	 * An instance that records nothing. Clients, templates and repositories skip all measurements when configured with
+	 * this instance.
+	 */
+	Neo4jMetrics NOOP = new Neo4jMetrics() {
+	};
+
+	/**
+	 * Called once per query executed through a client.
+	 *
+	 * @param databaseName  The database the query has been run against, {@literal null} for the default database
+	 * @param driverNanos   Time spent in the driver, that is running the query and pulling records
+	 * @param mappingNanos  Time spent in the mapping function
+	 * @param rows          Number of records that have been mapped
+	 * @param resultSummary The summary of the query, {@literal null} if the query failed or no summary is available
+	 * @param error         The error that occurred, if any
+	 */
+	default void recordQuery(@Nullable String databaseName, long driverNanos, long mappingNanos, long rows,
+		@Nullable ResultSummary resultSummary, @Nullable Throwable error) {
+	}
+
+	/**
+	 * Called once per entity operation of a template.
+	 *
+	 * @param operation    The name of the operation, for example {@literal save} or {@literal findAll}
+	 * @param entityType   The domain type the operation works with
+	 * @param databaseName The target database, {@literal null} for the default database
+	 * @param nanos        Total duration of the operation
+	 * @param error        The error that occurred, if any
+	 */
+	default void recordOperation(String operation, Class<?> entityType, @Nullable String databaseName, long nanos,
+		@Nullable Throwable error) {
+	}
+
+	/**
+	 * Called once per invocation of a repository method.
+	 *
+	 * @param repositoryInterface The repository interface
+	 * @param method              The invoked method
+	 * @param nanos               Total duration of the invocation, including the consumption of reactive results
+	 * @param error               The error that occurred, if any
+	 */
+	default void recordRepositoryInvocation(Class<?> repositoryInterface, Method method, long nanos,
+		@Nullable Throwable error) {
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.ProfiledPlan;
+import org.springframework.lang.Nullable;
+
+/**
+ * One profiled execution of a query as sampled by the {@link QueryPlanSampler}.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class PlanSample {
+
+	private final Instant timestamp;
+
+	private final ProfiledPlan plan;
+
+	private final String shape;
+
+	private final long dbHits;
+
+	private final long rows;
+
+	private final @Nullable String regression;
+
+	PlanSample(Instant timestamp, ProfiledPlan plan, String shape, long dbHits, long rows,
+		@Nullable String regression) {
+
+		this.timestamp = timestamp;
+		this.plan = plan;
+		this.shape = shape;
+		this.dbHits = dbHits;
+		this.rows = rows;
+		this.regression = regression;
+	}
+
+	public Instant getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * @return The complete operator tree as returned by the server
+	 */
+	public ProfiledPlan getPlan() {
+		return plan;
+	}
+
+	/**
+	 * @return The operator tree without arguments and estimates, for example
+	 * {@literal ProduceResults(Filter(NodeByLabelScan))}
+	 */
+	public String getShape() {
+		return shape;
+	}
+
+	/**
+	 * @return The database hits of all operators
+	 */
+	public long getDbHits() {
+		return dbHits;
+	}
+
+	/**
+	 * @return The number of rows produced by the root operator
+	 */
+	public long getRows() {
+		return rows;
+	}
+
+	public double getDbHitsPerRow() {
+		return dbHits / (double) Math.max(1L, rows);
+	}
+
+	/**
+	 * @return A description of the regression compared to the previous sample, if any
+	 */
+	public Optional<String> getRegression() {
+		return Optional.ofNullable(regression);
+	}
+
+	@Override
+	public String toString() {
+		return "PlanSample{" +
+			"timestamp=" + timestamp +
+			", shape='" + shape + '\'' +
+			", dbHits=" + dbHits +
+			", rows=" + rows +
+			", regression='" + regression + '\'' +
+			'}';
+	}
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.Plan;
+import org.neo4j.driver.summary.ProfiledPlan;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.springframework.data.core.QueryExecutionContext;
+import org.neo4j.springframework.data.core.QueryExecutionListener;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Samples a configurable fraction of query executions by prefixing them with {@code PROFILE}. The profiled plans are
+ * kept per origin of the query, usually a repository method, and compared with the previous sample: A change of the
+ * operators used (for example an index seek turning into a label scan after a schema change) or a significant
+ * increase of database hits per row is logged as a warning and marked on the sample.
+ * <p>
+ * The sampler has two roles: The templates ask it which queries to profile via {@link #sample(String, String)}, and it
+ * must be registered as {@link QueryExecutionListener} with the clients to receive the profiled plans. Profiling does
+ * not change the records returned by a query.
+ * <p>
+ * Plans are kept for a limited number of origins. When that limit is reached, the history of the least recently
+ * sampled origin is evicted, so that statements without an origin cannot grow the history without bounds.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class QueryPlanSampler implements QueryExecutionListener {
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(QueryPlanSampler.class));
+
+	public static final int DEFAULT_HISTORY_SIZE = 10;
+
+	public static final double DEFAULT_REGRESSION_FACTOR = 2.0;
+
+	public static final int DEFAULT_MAX_ORIGINS = QueryStatisticsRegistry.DEFAULT_MAX_ENTRIES;
+
+	/**
+	 * Increases of database hits per row are ignored when the total number of hits is below this threshold.
+	 */
+	private static final long MINIMUM_DB_HITS_FOR_REGRESSION = 100L;
+
+	private static final String MARKER_START = "PROFILE /* sampled";
+
+	private static final String MARKER_END = " */ ";
+
+	private final double samplingRate;
+
+	private final int historySize;
+
+	private final double regressionFactor;
+
+	/**
+	 * Sampled plans per origin in access order. Guarded by itself, the samples of one origin are guarded by their deque.
+	 */
+	private final Map<String, Deque<PlanSample>> history;
+
+	/**
+	 * @param samplingRate The fraction of executions to profile, between {@literal 0.0} and {@literal 1.0}
+	 */
+	public QueryPlanSampler(double samplingRate) {
+		this(samplingRate, DEFAULT_HISTORY_SIZE, DEFAULT_REGRESSION_FACTOR);
+	}
+
+	/**
+	 * @param samplingRate     The fraction of executions to profile, between {@literal 0.0} and {@literal 1.0}
+	 * @param historySize      The number of plans to keep per origin
+	 * @param regressionFactor The factor by which the database hits per row must grow to be considered a regression
+	 */
+	public QueryPlanSampler(double samplingRate, int historySize, double regressionFactor) {
+		this(samplingRate, historySize, regressionFactor, DEFAULT_MAX_ORIGINS);
+	}
+
+	/**
+	 * @param samplingRate     The fraction of executions to profile, between {@literal 0.0} and {@literal 1.0}
+	 * @param historySize      The number of plans to keep per origin
+	 * @param regressionFactor The factor by which the database hits per row must grow to be considered a regression
+	 * @param maxOrigins       The maximum number of origins to keep plans for, least recently sampled ones are evicted
+	 */
+	public QueryPlanSampler(double samplingRate, int historySize, double regressionFactor, int maxOrigins) {
+
+		Assert.isTrue(samplingRate >= 0.0 && samplingRate <= 1.0, "The sampling rate must be between 0.0 and 1.0.");
+		Assert.isTrue(historySize > 0, "The history size must be positive.");
+		Assert.isTrue(regressionFactor > 1.0, "The regression factor must be greater than 1.0.");
+		Assert.isTrue(maxOrigins > 0, "The maximum number of origins must be positive.");
+
+		this.samplingRate = samplingRate;
+		this.historySize = historySize;
+		this.regressionFactor = regressionFactor;
+		this.history = new LinkedHashMap<String, Deque<PlanSample>>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Deque<PlanSample>> eldest) {
+				return size() > maxOrigins;
+			}
+		};
+	}
+
+	/**
+	 * Decides whether to profile the given statement.
+	 *
+	 * @param origin The origin of the statement, may be {@literal null} in which case the statement itself is the origin
+	 * @param cypher The statement to execute
+	 * @return Either the unchanged statement or the statement prefixed with {@code PROFILE}
+	 */
+	public String sample(@Nullable String origin, String cypher) {
+
+		if (samplingRate == 0.0 || ThreadLocalRandom.current().nextDouble() >= samplingRate || !canBeProfiled(cypher)) {
+			return cypher;
+		}
+		return profile(origin, cypher);
+	}
+
+	@Override
+	public void afterExecute(QueryExecutionContext context, @Nullable ResultSummary resultSummary) {
+
+		String cypher = context.getCypher();
+		if (resultSummary == null || !resultSummary.hasProfile() || !cypher.startsWith(MARKER_START)) {
+			return;
+		}
+
+		int endOfMarker = cypher.indexOf(MARKER_END);
+		String origin = cypher.substring(MARKER_START.length(), endOfMarker);
+		if (origin.startsWith(": ")) {
+			origin = origin.substring(2);
+		} else {
+			origin = cypher.substring(endOfMarker + MARKER_END.length());
+		}
+		record(origin, resultSummary.profile());
+	}
+
+	/**
+	 * Records a profiled plan and compares it with the previous sample of the same origin.
+	 *
+	 * @param origin The origin of the query
+	 * @param plan   The profiled plan
+	 * @return The new sample
+	 */
+	public PlanSample record(String origin, ProfiledPlan plan) {
+
+		String shape = shapeOf(plan);
+		long dbHits = dbHitsOf(plan);
+		long rows = plan.records();
+
+		Deque<PlanSample> samples;
+		synchronized (history) {
+			samples = history.computeIfAbsent(origin, k -> new ArrayDeque<>());
+		}
+		synchronized (samples) {
+			PlanSample previous = samples.peekLast();
+			String regression = previous == null ? null : detectRegression(previous, shape, dbHits, rows);
+			PlanSample sample = new PlanSample(Instant.now(), plan, shape, dbHits, rows, regression);
+			if (regression != null) {
+				log.warn(() -> String.format("Plan of `%s` regressed: %s", origin, regression));
+			}
+
+			samples.addLast(sample);
+			while (samples.size() > historySize) {
+				samples.removeFirst();
+			}
+			return sample;
+		}
+	}
+
+	/**
+	 * @return All origins for which plans have been sampled
+	 */
+	public Set<String> getOrigins() {
+		synchronized (history) {
+			return Collections.unmodifiableSet(new TreeSet<>(history.keySet()));
+		}
+	}
+
+	/**
+	 * @param origin The origin of a query
+	 * @return The sampled plans of the given origin, oldest first
+	 */
+	public List<PlanSample> getPlanHistory(String origin) {
+
+		Deque<PlanSample> samples;
+		synchronized (history) {
+			samples = history.get(origin);
+		}
+		if (samples == null) {
+			return Collections.emptyList();
+		}
+		synchronized (samples) {
+			return Collections.unmodifiableList(new ArrayList<>(samples));
+		}
+	}
+
+	/**
+	 * Removes all samples.
+	 */
+	public void reset() {
+		synchronized (history) {
+			history.clear();
+		}
+	}
+
+	@Nullable
+	private String detectRegression(PlanSample previous, String shape, long dbHits, long rows) {
+
+		if (!previous.getShape().equals(shape)) {
+			return String.format("Plan changed from %s to %s", previous.getShape(), shape);
+		}
+
+		double dbHitsPerRow = dbHits / (double) Math.max(1L, rows);
+		if (dbHits >= MINIMUM_DB_HITS_FOR_REGRESSION && dbHitsPerRow > previous.getDbHitsPerRow() * regressionFactor) {
+			return String.format("Database hits per row increased from %.2f to %.2f", previous.getDbHitsPerRow(),
+				dbHitsPerRow);
+		}
+		return null;
+	}
+
+	static String profile(@Nullable String origin, String cypher) {
+
+		StringBuilder profiledCypher = new StringBuilder(MARKER_START);
+		if (origin != null) {
+			profiledCypher.append(": ").append(origin.replace("*/", "* /"));
+		}
+		return profiledCypher.append(MARKER_END).append(cypher).toString();
+	}
+
+	/**
+	 * Removes the marker added by the sampler.
+	 *
+	 * @param cypher A statement that might have been sampled
+	 * @return The original statement
+	 */
+	static String unwrap(String cypher) {
+
+		if (!cypher.startsWith(MARKER_START)) {
+			return cypher;
+		}
+		return cypher.substring(cypher.indexOf(MARKER_END) + MARKER_END.length());
+	}
+
+	private static boolean canBeProfiled(String cypher) {
+
+		String statement = cypher.trim().toUpperCase();
+		return !(statement.startsWith("PROFILE") || statement.startsWith("EXPLAIN") || statement.startsWith("CYPHER")
+			|| statement.startsWith(":"));
+	}
+
+	/**
+	 * Computes the shape of a plan, that is the tree of operators without arguments and estimates, for example
+	 * {@literal ProduceResults(Filter(NodeByLabelScan))}.
+	 *
+	 * @param plan A plan or a profiled plan
+	 * @return The shape of the plan
+	 */
+	public static String shapeOf(Plan plan) {
+
+		StringBuilder shape = new StringBuilder();
+		String operatorType = plan.operatorType();
+		int indexOfPlanner = operatorType.indexOf('@');
+		shape.append(indexOfPlanner < 0 ? operatorType : operatorType.substring(0, indexOfPlanner));
+
+		List<? extends Plan> children = plan.children();
+		if (!children.isEmpty()) {
+			shape.append('(');
+			for (int i = 0; i < children.size(); ++i) {
+				if (i > 0) {
+					shape.append(", ");
+				}
+				shape.append(shapeOf(children.get(i)));
+			}
+			shape.append(')');
+		}
+		return shape.toString();
+	}
+
+	private static long dbHitsOf(ProfiledPlan plan) {
+
+		long dbHits = plan.dbHits();
+		for (ProfiledPlan child : plan.children()) {
+			dbHits += dbHitsOf(child);
+		}
+		return dbHits;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.time.Duration;
+
+import org.apiguardian.api.API;
+
+/**
+ * An immutable snapshot of the statistics of one query fingerprint as collected by the
+ * {@link QueryStatisticsRegistry}.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class QueryStatistics {
+
+	private final String fingerprint;
+
+	private final long calls;
+
+	private final long errors;
+
+	private final long rows;
+
+	private final Duration totalTime;
+
+	private final Duration maxTime;
+
+	private final Duration p99Time;
+
+	QueryStatistics(String fingerprint, long calls, long errors, long rows, long totalNanos, long maxNanos,
+		long p99Nanos) {
+
+		this.fingerprint = fingerprint;
+		this.calls = calls;
+		this.errors = errors;
+		this.rows = rows;
+		this.totalTime = Duration.ofNanos(totalNanos);
+		this.maxTime = Duration.ofNanos(maxNanos);
+		this.p99Time = Duration.ofNanos(p99Nanos);
+	}
+
+	/**
+	 * @return The normalized Cypher statement, with literals replaced by {@literal ?}
+	 */
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	public long getCalls() {
+		return calls;
+	}
+
+	public long getErrors() {
+		return errors;
+	}
+
+	/**
+	 * @return The total number of records mapped over all calls
+	 */
+	public long getRows() {
+		return rows;
+	}
+
+	public Duration getTotalTime() {
+		return totalTime;
+	}
+
+	public Duration getMeanTime() {
+		return calls == 0 ? Duration.ZERO : totalTime.dividedBy(calls);
+	}
+
+	public Duration getMaxTime() {
+		return maxTime;
+	}
+
+	/**
+	 * @return The 99th percentile of the latency, accurate to 12.5%
+	 */
+	public Duration getP99Time() {
+		return p99Time;
+	}
+
+	@Override
+	public String toString() {
+		return "QueryStatistics{" +
+			"fingerprint='" + fingerprint + '\'' +
+			", calls=" + calls +
+			", errors=" + errors +
+			", rows=" + rows +
+			", totalTime=" + totalTime +
+			", maxTime=" + maxTime +
+			", p99Time=" + p99Time +
+			'}';
+	}
+}
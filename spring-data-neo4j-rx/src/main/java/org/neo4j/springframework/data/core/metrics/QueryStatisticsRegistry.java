@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.springframework.data.core.QueryExecutionContext;
+import org.neo4j.springframework.data.core.QueryExecutionListener;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An in-memory registry of query statistics, aggregated by a fingerprint of the Cypher statement. The fingerprint is the
+ * statement with all string and number literals replaced by {@literal ?} and whitespace collapsed, so that statements
+ * only differing in inlined values are aggregated together. Statements generated by SDN/RX or declared via
+ * {@literal @Query} use parameters and are their own fingerprint.
+ * <p>
+ * The registry is a {@link QueryExecutionListener} and must be registered with the clients. It keeps at most
+ * {@code maxEntries} fingerprints in a fixed number of lock striped segments. Each segment evicts its least recently
+ * used fingerprint when it is full. Recording a query takes the lock of one segment only for looking up the entry,
+ * the counters themselves are lock free.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = STABLE, since = "1.1")
+public final class QueryStatisticsRegistry implements QueryExecutionListener {
+
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	private static final int NUMBER_OF_SEGMENTS = 16;
+
+	private final Segment[] segments;
+
+	public QueryStatisticsRegistry() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * @param maxEntries The maximum number of fingerprints to keep
+	 */
+	public QueryStatisticsRegistry(int maxEntries) {
+
+		Assert.isTrue(maxEntries >= NUMBER_OF_SEGMENTS,
+			() -> "The registry must be able to keep at least " + NUMBER_OF_SEGMENTS + " entries.");
+
+		int maxEntriesPerSegment = (maxEntries + NUMBER_OF_SEGMENTS - 1) / NUMBER_OF_SEGMENTS;
+		this.segments = new Segment[NUMBER_OF_SEGMENTS];
+		for (int i = 0; i < NUMBER_OF_SEGMENTS; ++i) {
+			this.segments[i] = new Segment(maxEntriesPerSegment);
+		}
+	}
+
+	@Override
+	public void afterExecute(QueryExecutionContext context, @Nullable ResultSummary resultSummary) {
+		record(context.getCypher(), context.getElapsedNanos(), context.getRows(), false);
+	}
+
+	@Override
+	public void onError(QueryExecutionContext context, Throwable error) {
+		record(context.getCypher(), context.getElapsedNanos(), context.getRows(), true);
+	}
+
+	/**
+	 * Records one execution of a statement.
+	 *
+	 * @param cypher The Cypher statement, will be fingerprinted
+	 * @param nanos  The duration of the execution
+	 * @param rows   The number of records returned
+	 * @param failed True if the execution failed
+	 */
+	public void record(String cypher, long nanos, long rows, boolean failed) {
+
+		String fingerprint = fingerprint(QueryPlanSampler.unwrap(cypher));
+		Entry entry = segmentFor(fingerprint).get(fingerprint);
+		entry.record(Math.max(0L, nanos), rows, failed);
+	}
+
+	/**
+	 * @return A snapshot of the statistics of all fingerprints, ordered by descending total time
+	 */
+	public List<QueryStatistics> getStatistics() {
+
+		List<QueryStatistics> statistics = new ArrayList<>();
+		for (Segment segment : segments) {
+			for (Map.Entry<String, Entry> entry : segment.entries()) {
+				statistics.add(entry.getValue().snapshot(entry.getKey()));
+			}
+		}
+		statistics.sort(Comparator.comparing(QueryStatistics::getTotalTime).reversed());
+		return statistics;
+	}
+
+	/**
+	 * @return The statistics over all fingerprints currently in the registry, with {@literal *} as fingerprint
+	 */
+	public QueryStatistics getTotals() {
+
+		Entry totals = new Entry();
+		for (Segment segment : segments) {
+			for (Map.Entry<String, Entry> entry : segment.entries()) {
+				totals.merge(entry.getValue());
+			}
+		}
+		return totals.snapshot("*");
+	}
+
+	/**
+	 * Removes all statistics.
+	 */
+	public void reset() {
+
+		for (Segment segment : segments) {
+			segment.clear();
+		}
+	}
+
+	private Segment segmentFor(String fingerprint) {
+
+		int hash = fingerprint.hashCode();
+		return segments[(hash ^ (hash >>> 16)) & (NUMBER_OF_SEGMENTS - 1)];
+	}
+
+	/**
+	 * Replaces string and number literals with {@literal ?} and collapses whitespace outside of literals and quoted
+	 * identifiers.
+	 *
+	 * @param cypher The statement to normalize
+	 * @return The fingerprint of the statement
+	 */
+	static String fingerprint(String cypher) {
+
+		StringBuilder fingerprint = new StringBuilder(cypher.length());
+		int length = cypher.length();
+		int i = 0;
+		while (i < length) {
+			char c = cypher.charAt(i);
+			if (c == '\'' || c == '"') {
+				i = skipQuoted(cypher, i, c);
+				fingerprint.append('?');
+			} else if (c == '`') {
+				int end = skipQuoted(cypher, i, c);
+				fingerprint.append(cypher, i, end);
+				i = end;
+			} else if (Character.isDigit(c) && !isPartOfIdentifier(fingerprint)) {
+				while (i < length && (Character.isLetterOrDigit(cypher.charAt(i)) || cypher.charAt(i) == '.'
+					|| cypher.charAt(i) == '_')) {
+					++i;
+				}
+				fingerprint.append('?');
+			} else if (Character.isWhitespace(c)) {
+				while (i < length && Character.isWhitespace(cypher.charAt(i))) {
+					++i;
+				}
+				if (fingerprint.length() > 0 && i < length) {
+					fingerprint.append(' ');
+				}
+			} else {
+				fingerprint.append(c);
+				++i;
+			}
+		}
+		return fingerprint.toString();
+	}
+
+	private static int skipQuoted(String cypher, int start, char quote) {
+
+		int i = start + 1;
+		while (i < cypher.length()) {
+			char c = cypher.charAt(i);
+			if (c == '\\' && quote != '`') {
+				i += 2;
+			} else if (c == quote) {
+				return i + 1;
+			} else {
+				++i;
+			}
+		}
+		return cypher.length();
+	}
+
+	private static boolean isPartOfIdentifier(StringBuilder fingerprint) {
+
+		if (fingerprint.length() == 0) {
+			return false;
+		}
+		char previous = fingerprint.charAt(fingerprint.length() - 1);
+		return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+	}
+
+	/**
+	 * A segment of the registry, guarded by its own lock.
+	 */
+	private static final class Segment {
+
+		private final Map<String, Entry> entries;
+
+		Segment(int maxEntries) {
+			this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+					return size() > maxEntries;
+				}
+			};
+		}
+
+		synchronized Entry get(String fingerprint) {
+			return entries.computeIfAbsent(fingerprint, k -> new Entry());
+		}
+
+		synchronized List<Map.Entry<String, Entry>> entries() {
+			return new ArrayList<>(entries.entrySet());
+		}
+
+		synchronized void clear() {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Statistics of one fingerprint.
+	 */
+	private static final class Entry {
+
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder rows = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+		private final LatencyHistogram histogram = new LatencyHistogram();
+
+		void record(long nanos, long rowCount, boolean failed) {
+
+			calls.increment();
+			if (failed) {
+				errors.increment();
+			}
+			rows.add(rowCount);
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+			histogram.record(nanos);
+		}
+
+		void merge(Entry other) {
+
+			calls.add(other.calls.sum());
+			errors.add(other.errors.sum());
+			rows.add(other.rows.sum());
+			totalNanos.add(other.totalNanos.sum());
+			maxNanos.accumulate(other.maxNanos.get());
+			histogram.merge(other.histogram);
+		}
+
+		QueryStatistics snapshot(String fingerprint) {
+			return new QueryStatistics(fingerprint, calls.sum(), errors.sum(), rows.sum(), totalNanos.sum(),
+				maxNanos.get(), histogram.valueAtPercentile(0.99));
+		}
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * Optional instrumentation of clients, templates and repositories.
+ */
+@NonNullApi
+package org.neo4j.springframework.data.core.metrics;
+
+import org.springframework.lang.NonNullApi;
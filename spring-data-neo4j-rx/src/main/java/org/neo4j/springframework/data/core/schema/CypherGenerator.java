@@ -144,6 +144,24 @@ public enum CypherGenerator {
 		return match(rootNode).where(conditionOrNoCondition(condition)).detachDelete(rootNode).build();
 	}
 
+	/**
+	 * Creates a statement deleting at most {@code batchSize} nodes of the given description. Running it repeatedly
+	 * until less nodes than the batch size have been deleted removes all of them without building up one huge
+	 * transaction.
+	 *
+	 * @param nodeDescription The description of the nodes to delete
+	 * @param batchSize       The maximum number of nodes to delete
+	 * @return A statement deleting one batch of nodes
+	 */
+	public Statement prepareBatchedDeleteOf(NodeDescription<?> nodeDescription, int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+			.named(NAME_OF_ROOT_NODE);
+		return match(rootNode).with(rootNode).limit(batchSize).detachDelete(rootNode).build();
+	}
+
 	public Statement prepareSaveOf(NodeDescription<?> nodeDescription, UnaryOperator<OngoingMatchAndUpdate> updateDecorator) {
 
 		String primaryLabel = nodeDescription.getPrimaryLabel();
@@ -338,8 +356,121 @@ public enum CypherGenerator {
 			.delete(relationship.getSymbolicName().get()).build();
 	}
 
+	/**
+	 * Creates a statement matching the nodes related to a list of source nodes through the given relationship. The
+	 * source nodes are identified by a list parameter named {@link Constants#NAME_OF_IDS}. Each record contains the id
+	 * of the source node as {@link Constants#NAME_OF_SOURCE_ID} and the projection of a related node as {@code n}.
+	 *
+	 * @param relationshipDescription The relationship to the nodes to match
+	 * @return A statement matching the related nodes of a list of source nodes
+	 * @since 1.1
+	 */
+	public Statement prepareMatchOfRelatedNodes(RelationshipDescription relationshipDescription) {
+		return prepareMatchOfRelatedNodes(relationshipDescription, FetchPlan.all());
+	}
+
+	/**
+	 * Creates a statement matching the nodes related to a list of source nodes through the given relationship. The
+	 * projection of the related nodes contains the relationship itself if it has properties respectively its type if
+	 * it is dynamic, in the same way as the projection created by {@link #createReturnStatementForMatch}.
+	 *
+	 * @param relationshipDescription The relationship to the nodes to match
+	 * @param fetchPlan               The fetch plan selecting the relationships of the related nodes to be included
+	 * @return A statement matching the related nodes of a list of source nodes
+	 * @see #prepareMatchOfRelatedNodes(RelationshipDescription)
+	 * @since 1.1
+	 */
+	public Statement prepareMatchOfRelatedNodes(RelationshipDescription relationshipDescription, FetchPlan fetchPlan) {
+
+		NodeDescription<?> sourceDescription = relationshipDescription.getSource();
+		NodeDescription<?> targetDescription = relationshipDescription.getTarget();
+
+		Node sourceNode = node(sourceDescription.getPrimaryLabel(), sourceDescription.getAdditionalLabels())
+			.named("source");
+		Node targetNode = node(targetDescription.getPrimaryLabel(), targetDescription.getAdditionalLabels())
+			.named(NAME_OF_ROOT_NODE);
+		Relationship relationship;
+		if (relationshipDescription.isDynamic()) {
+			relationship = relationshipDescription.isOutgoing()
+				? sourceNode.relationshipTo(targetNode)
+				: sourceNode.relationshipFrom(targetNode);
+		} else {
+			relationship = relationshipDescription.isOutgoing()
+				? sourceNode.relationshipTo(targetNode, relationshipDescription.getType())
+				: sourceNode.relationshipFrom(targetNode, relationshipDescription.getType());
+		}
+		relationship = relationship.named(NAME_OF_RELATIONSHIP);
+
+		MapProjection projection = projectAllPropertiesAndRelationships(targetDescription, NAME_OF_ROOT_NODE, fetchPlan,
+			"", new ArrayList<>());
+		if (relationshipDescription.isDynamic()) {
+			projection = projection.and(NAME_OF_RELATIONSHIP_TYPE, Functions.type(relationship));
+		} else if (relationshipDescription.hasRelationshipProperties()) {
+			projection = projection.and(relationship);
+		}
+
+		IdDescription idDescription = sourceDescription.getIdDescription();
+		Expression sourceId = idDescription.isInternallyGeneratedId()
+			? Functions.id(sourceNode)
+			: sourceNode.property(idDescription.getOptionalGraphPropertyName().get());
+
+		return match(relationship)
+			.where(sourceId.in(parameter(NAME_OF_IDS)))
+			.returning(sourceId.as(NAME_OF_SOURCE_ID), projection.as(NAME_OF_ROOT_NODE.getValue()))
+			.build();
+	}
+
+	/**
+	 * Creates a query loading the subgraph around a node identified by a parameter named {@link Constants#NAME_OF_ID}.
+	 * The query returns exactly one record per matching root node: The root node as {@code n}, the deduplicated
+	 * list of all nodes reachable through at most {@code depth} relationships, regardless of their type and
+	 * direction, as {@link Constants#NAME_OF_SUBGRAPH_NODES} and the deduplicated list of all relationships traversed
+	 * on the way as {@link Constants#NAME_OF_SUBGRAPH_RELATIONSHIPS}. The root node is the first element of the
+	 * list of nodes.
+	 * <p>
+	 * The query is returned as a string, as the Cypher-DSL is not yet able to render {@code collect(DISTINCT ...)}.
+	 *
+	 * @param nodeDescription The node description of the root node
+	 * @param depth           The maximum number of relationships between the root node and the nodes to load
+	 * @return A query loading a whole subgraph
+	 * @since 1.1
+	 */
+	public String createSubgraphQuery(NodeDescription<?> nodeDescription, int depth) {
+
+		Assert.isTrue(depth >= 0, "The depth of a subgraph must not be negative.");
+
+		String rootNode = NAME_OF_ROOT_NODE.getValue();
+		StringBuilder labels = new StringBuilder(escape(nodeDescription.getPrimaryLabel()));
+		nodeDescription.getAdditionalLabels().forEach(label -> labels.append(":").append(escape(label)));
+
+		IdDescription idDescription = nodeDescription.getIdDescription();
+		String rootNodeId = idDescription.isInternallyGeneratedId()
+			? "id(" + rootNode + ")"
+			: rootNode + "." + escape(idDescription.getOptionalGraphPropertyName().get());
+
+		StringBuilder query = new StringBuilder()
+			.append(String.format("MATCH (%s:%s) WHERE %s = $%s ", rootNode, labels, rootNodeId, NAME_OF_ID));
+		if (depth == 0) {
+			return query
+				.append(String.format("RETURN %1$s, [%1$s] AS %2$s, [] AS %3$s",
+					rootNode, NAME_OF_SUBGRAPH_NODES, NAME_OF_SUBGRAPH_RELATIONSHIPS))
+				.toString();
+		}
+		return query
+			.append(String.format("OPTIONAL MATCH (%s)-[*0..%d]-()-[__r__]-(__m__) ", rootNode, depth - 1))
+			.append(String.format("WITH %s, collect(DISTINCT __r__) AS %s, collect(DISTINCT __m__) AS __ms__ ",
+				rootNode, NAME_OF_SUBGRAPH_RELATIONSHIPS))
+			.append(String.format("RETURN %1$s, [%1$s] + [__m__ IN __ms__ WHERE __m__ <> %1$s] AS %2$s, %3$s",
+				rootNode, NAME_OF_SUBGRAPH_NODES, NAME_OF_SUBGRAPH_RELATIONSHIPS))
+			.toString();
+	}
+
+	private static String escape(String name) {
+		return "`" + name.replace("`", "``") + "`";
+	}
+
 	public Expression createReturnStatementForMatch(NodeDescription<?> nodeDescription) {
-		return createReturnStatementForMatch(nodeDescription, null);
+		return createReturnStatementForMatch(nodeDescription, FetchPlan.all());
 	}
 
 	/**
@@ -350,33 +481,77 @@ public enum CypherGenerator {
 	 */
 	public Expression createReturnStatementForMatch(NodeDescription<?> nodeDescription,
 		@Nullable List<String> inputProperties) {
+		return createReturnStatementForMatch(nodeDescription, inputProperties, FetchPlan.all());
+	}
 
-		Predicate<String> includeField = s -> inputProperties == null || inputProperties.isEmpty()
-			|| inputProperties.contains(s);
+	/**
+	 * @param nodeDescription Description of the root node
+	 * @param fetchPlan       The fetch plan selecting the relationships to be included
+	 * @return An expresion to be returned by a Cypher statement
+	 * @since 1.1
+	 */
+	public Expression createReturnStatementForMatch(NodeDescription<?> nodeDescription, FetchPlan fetchPlan) {
+		return createReturnStatementForMatch(nodeDescription, null, fetchPlan);
+	}
+
+	/**
+	 * @param nodeDescription Description of the root node
+	 * @param inputProperties A list of Java properties of the domain to be included.
+	 *                        Those properties are compared with the field names of graph properties respectively relationships.
+	 *                        Properties of related nodes are given as paths, for example {@code actors.name}.
+	 * @param fetchPlan       The fetch plan selecting the relationships to be included
+	 * @return An expresion to be returned by a Cypher statement
+	 * @see #includesPath(Collection)
+	 * @since 1.1
+	 */
+	public Expression createReturnStatementForMatch(NodeDescription<?> nodeDescription,
+		@Nullable List<String> inputProperties, FetchPlan fetchPlan) {
+
+		Predicate<String> includeField = includesPath(inputProperties);
 
 		List<RelationshipDescription> processedRelationships = new ArrayList<>();
 
-		return projectPropertiesAndRelationships(nodeDescription, NAME_OF_ROOT_NODE, includeField,
+		return projectPropertiesAndRelationships(nodeDescription, NAME_OF_ROOT_NODE, includeField, fetchPlan, "",
 			processedRelationships);
 	}
 
+	/**
+	 * Creates a predicate on the paths of properties, starting at the root node, for example {@code title} or
+	 * {@code actors.name}. A path is included if it is one of the input properties, leads to one of them or lies below
+	 * one of them. All paths are included when there are no input properties.
+	 *
+	 * @param inputProperties The paths of the properties to be included, all properties when {@literal null} or empty
+	 * @return A predicate on the paths of properties
+	 * @since 1.1
+	 */
+	public static Predicate<String> includesPath(@Nullable Collection<String> inputProperties) {
+
+		if (inputProperties == null || inputProperties.isEmpty()) {
+			return path -> true;
+		}
+		return path -> inputProperties.stream().anyMatch(inputProperty -> inputProperty.equals(path)
+			|| inputProperty.startsWith(path + ".") || path.startsWith(inputProperty + "."));
+	}
+
 	private MapProjection projectAllPropertiesAndRelationships(NodeDescription<?> nodeDescription,
-		SymbolicName nodeName,
+		SymbolicName nodeName, FetchPlan fetchPlan, String path,
 		List<RelationshipDescription> processedRelationships) {
 
 		Predicate<String> includeAllFields = (field) -> true;
-		return projectPropertiesAndRelationships(nodeDescription, nodeName, includeAllFields, processedRelationships);
+		return projectPropertiesAndRelationships(nodeDescription, nodeName, includeAllFields, fetchPlan, path,
+			processedRelationships);
 	}
 
 	private MapProjection projectPropertiesAndRelationships(NodeDescription<?> nodeDescription,
 		SymbolicName nodeName,
-		Predicate<String> includeProperty,
+		Predicate<String> includeProperty, FetchPlan fetchPlan, String path,
 		List<RelationshipDescription> processedRelationships) {
 
 		List<Object> contentOfProjection = new ArrayList<>();
-		contentOfProjection.addAll(projectNodeProperties(nodeDescription, nodeName, includeProperty));
+		contentOfProjection.addAll(projectNodeProperties(nodeDescription, nodeName, includeProperty, path));
 		contentOfProjection.addAll(
-			generateListsFor(nodeDescription.getRelationships(), nodeName, includeProperty, processedRelationships)
+			generateListsFor(nodeDescription.getRelationships(), nodeName, includeProperty, fetchPlan, path,
+				processedRelationships)
 		);
 
 		return Cypher.anyNode(nodeName).project(contentOfProjection);
@@ -386,14 +561,16 @@ public enum CypherGenerator {
 	 * Creates a list of objects that represents a very basic of {@code MapEntry<String, Object>} with the exception that
 	 * this list can also contain two "keys" in a row. The {@link MapProjection} will take care to handle them as
 	 * self-reflecting fields. Example with self-reflection and explicit value: {@code n {.id, name: n.name}}.
+	 * The ids of related nodes are always included, as they are required to identify the related entities.
 	 */
 	private List<Object> projectNodeProperties(NodeDescription<?> nodeDescription, SymbolicName nodeName,
-		Predicate<String> includeField) {
+		Predicate<String> includeField, String path) {
 
 		List<Object> nodePropertiesProjection = new ArrayList<>();
 		Node node = anyNode(nodeName);
 		for (GraphPropertyDescription property : nodeDescription.getGraphPropertiesInHierarchy()) {
-			if (!includeField.test(property.getFieldName())) {
+			boolean isIdOfRelatedNode = !path.isEmpty() && property.isIdProperty();
+			if (!(isIdOfRelatedNode || includeField.test(pathTo(path, property.getFieldName())))) {
 				continue;
 			}
 
@@ -415,36 +592,84 @@ public enum CypherGenerator {
 	 * @see org.neo4j.springframework.data.core.schema.CypherGenerator#projectNodeProperties
 	 */
 	private List<Object> generateListsFor(Collection<RelationshipDescription> relationships,
-		SymbolicName nodeName, Predicate<String> includeField,
+		SymbolicName nodeName, Predicate<String> includeField, FetchPlan fetchPlan, String path,
 		List<RelationshipDescription> processedRelationships) {
 
 		List<Object> mapProjectionLists = new ArrayList<>();
 
-		for (RelationshipDescription relationshipDescription : relationships) {
+		for (RelationshipDescription relationshipDescription : selectRelationships(relationships,
+			nodeName.equals(NAME_OF_ROOT_NODE), includeField, fetchPlan, path, processedRelationships)) {
 
 			String fieldName = relationshipDescription.getFieldName();
-			if (!includeField.test(fieldName)) {
+			generateListFor(relationshipDescription, nodeName, includeField, fetchPlan, pathTo(path, fieldName),
+				processedRelationships, fieldName, mapProjectionLists);
+		}
+
+		return mapProjectionLists;
+	}
+
+	/**
+	 * Selects the relationships of a node that are part of the projections created by this generator. The selection
+	 * considers the fetch plan, lazy relationships and stops at cycles between the relationships already processed.
+	 *
+	 * @param relationships          The relationships of a node
+	 * @param isRoot                 True, if the node is the root node of the projection
+	 * @param includeField           A predicate on the paths of the relationships
+	 * @param fetchPlan              The fetch plan selecting the relationships to be included
+	 * @param path                   The path from the root node to the node, empty for the root node
+	 * @param processedRelationships The relationships processed on the way from the root node to the node
+	 * @return The selected relationships
+	 * @since 1.1
+	 */
+	public List<RelationshipDescription> selectRelationships(Collection<RelationshipDescription> relationships,
+		boolean isRoot, Predicate<String> includeField, FetchPlan fetchPlan, String path,
+		List<RelationshipDescription> processedRelationships) {
+
+		List<RelationshipDescription> selectedRelationships = new ArrayList<>();
+		// the selected relationships count as processed for their siblings, too
+		List<RelationshipDescription> processedSiblings = new ArrayList<>(processedRelationships);
+
+		for (RelationshipDescription relationshipDescription : relationships) {
+
+			String pathToRelationship = pathTo(path, relationshipDescription.getFieldName());
+			if (!includeField.test(pathToRelationship) || !fetchPlan.includes(pathToRelationship)) {
+				continue;
+			}
+
+			if (relationshipDescription.isLazy() && !fetchPlan.namesExplicitly(pathToRelationship)) {
 				continue;
 			}
 
 			// if we already processed the other way before, do not try to jump in the infinite loop
 			// unless it is a root node relationship
-			if (!nodeName.equals(NAME_OF_ROOT_NODE) && relationshipDescription.hasRelationshipObverse()
-				&& processedRelationships.contains(relationshipDescription.getRelationshipObverse())) {
+			if (!isRoot && relationshipDescription.hasRelationshipObverse()
+				&& processedSiblings.contains(relationshipDescription.getRelationshipObverse())) {
 				continue;
 			}
 
-			if (Collections.frequency(processedRelationships, relationshipDescription) > RELATIONSHIP_DEPTH_LIMIT) {
-				return mapProjectionLists;
+			if (Collections.frequency(processedSiblings, relationshipDescription) > RELATIONSHIP_DEPTH_LIMIT) {
+				return selectedRelationships;
 			}
 
-			generateListFor(relationshipDescription, nodeName, processedRelationships, fieldName, mapProjectionLists);
+			selectedRelationships.add(relationshipDescription);
+			processedSiblings.add(relationshipDescription);
 		}
 
-		return mapProjectionLists;
+		return selectedRelationships;
+	}
+
+	/**
+	 * @param path      The path to a node, empty for the root node
+	 * @param fieldName The field name of a relationship of that node
+	 * @return The path to the relationship
+	 * @since 1.1
+	 */
+	public static String pathTo(String path, String fieldName) {
+		return path.isEmpty() ? fieldName : path + "." + fieldName;
 	}
 
 	private void generateListFor(RelationshipDescription relationshipDescription, SymbolicName nodeName,
+		Predicate<String> includeField, FetchPlan fetchPlan, String path,
 		List<RelationshipDescription> processedRelationships, String fieldName, List<Object> mapProjectionLists) {
 
 		String relationshipType = relationshipDescription.getType();
@@ -469,8 +694,8 @@ public enum CypherGenerator {
 			addMapProjection(relationshipTargetName,
 				listBasedOn(relationship)
 					.returning(
-						projectAllPropertiesAndRelationships(endNodeDescription,
-							relationshipFieldName, new ArrayList<>(processedRelationships))
+						projectPropertiesAndRelationships(endNodeDescription,
+							relationshipFieldName, includeField, fetchPlan, path, new ArrayList<>(processedRelationships))
 							.and(NAME_OF_RELATIONSHIP_TYPE, Functions.type(relationship))),
 				mapProjectionLists);
 
@@ -479,8 +704,8 @@ public enum CypherGenerator {
 				? startNode.relationshipTo(endNode, relationshipType)
 				: startNode.relationshipFrom(endNode, relationshipType);
 
-			MapProjection mapProjection = projectAllPropertiesAndRelationships(endNodeDescription,
-				relationshipFieldName, new ArrayList<>(processedRelationships));
+			MapProjection mapProjection = projectPropertiesAndRelationships(endNodeDescription,
+				relationshipFieldName, includeField, fetchPlan, path, new ArrayList<>(processedRelationships));
 
 			if (relationshipDescription.hasRelationshipProperties()) {
 				relationship = relationship.named(RelationshipDescription.NAME_OF_RELATIONSHIP);
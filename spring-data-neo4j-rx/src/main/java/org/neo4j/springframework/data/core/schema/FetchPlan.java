@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.schema;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A fetch plan describes which associations of an entity are loaded together with the entity and up to which depth.
+ * Associations are addressed by their path, starting at the root entity, i.e. {@code actors} or {@code actors.movies}.
+ * The depth of an association is the number of segments of its path.
+ * <p>
+ * A fetch plan without explicit included associations loads all associations up to the given depth. A fetch plan
+ * with included associations loads the named associations, the associations needed to reach them and everything
+ * below them, each up to the given depth. Associations not covered by a fetch plan are not part of the generated query
+ * and are left unset on the mapped entities.
+ * <p>
+ * {@link Relationship.Fetch#LAZY Lazy relationships} are only loaded together with their owner when a fetch plan names
+ * them explicitly, either directly or as part of a longer path.
+ * <p>
+ * The {@link Strategy strategy} of a fetch plan decides whether the associations are loaded together with their owners
+ * in one single statement or with one additional statement per association and level.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = API.Status.STABLE, since = "1.1")
+public final class FetchPlan {
+
+	/**
+	 * The strategies of loading the associations of a fetch plan.
+	 */
+	public enum Strategy {
+
+		/**
+		 * Loads all associations together with the root entities in one statement, using nested pattern
+		 * comprehensions.
+		 */
+		SINGLE_QUERY,
+
+		/**
+		 * Loads the root entities first and then each association with one additional statement per level. The
+		 * statements return flat rows that are stitched together on the client. This keeps the records small for large
+		 * aggregates: Nodes shared by many owners are still returned once per owner, but without their own associations.
+		 * Split queries are supported by the imperative template and repositories only. The reactive and asynchronous
+		 * templates always use a single query.
+		 */
+		SPLIT_QUERIES
+	}
+
+	private static final FetchPlan ALL = new FetchPlan(Integer.MAX_VALUE, Collections.emptySet(),
+		Strategy.SINGLE_QUERY);
+
+	private static final FetchPlan ROOT_ONLY = new FetchPlan(0, Collections.emptySet(), Strategy.SINGLE_QUERY);
+
+	/**
+	 * @return A fetch plan loading all associations, limited only by the generator's recursion guard.
+	 */
+	public static FetchPlan all() {
+		return ALL;
+	}
+
+	/**
+	 * @return A fetch plan loading only the properties of the root entity.
+	 */
+	public static FetchPlan rootOnly() {
+		return ROOT_ONLY;
+	}
+
+	/**
+	 * Creates a new fetch plan.
+	 *
+	 * @param depth                The maximum depth of associations to load, {@literal 0} loads the root entity only
+	 * @param includedAssociations Paths to associations to load, all associations up to {@code depth} when empty
+	 * @return A new fetch plan
+	 */
+	public static FetchPlan of(int depth, String... includedAssociations) {
+
+		Assert.isTrue(depth >= 0, "The depth of a fetch plan must not be negative.");
+		Assert.noNullElements(includedAssociations, "Included associations must not be null.");
+
+		return new FetchPlan(depth, new LinkedHashSet<>(Arrays.asList(includedAssociations)), Strategy.SINGLE_QUERY);
+	}
+
+	private final int depth;
+
+	private final Set<String> includedAssociations;
+
+	private final Strategy strategy;
+
+	private FetchPlan(int depth, Set<String> includedAssociations, Strategy strategy) {
+		this.depth = depth;
+		this.includedAssociations = Collections.unmodifiableSet(includedAssociations);
+		this.strategy = strategy;
+	}
+
+	/**
+	 * @param newStrategy The strategy of loading the associations
+	 * @return A new fetch plan loading the same associations with the given strategy
+	 */
+	public FetchPlan withStrategy(Strategy newStrategy) {
+
+		Assert.notNull(newStrategy, "The strategy of a fetch plan is required.");
+
+		return this.strategy == newStrategy ? this : new FetchPlan(depth, includedAssociations, newStrategy);
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public Set<String> getIncludedAssociations() {
+		return includedAssociations;
+	}
+
+	public Strategy getStrategy() {
+		return strategy;
+	}
+
+	/**
+	 * @return True, if the associations are loaded with one additional statement per association and level
+	 */
+	public boolean usesSplitQueries() {
+		return strategy == Strategy.SPLIT_QUERIES;
+	}
+
+	/**
+	 * @param path The path of an association, starting at the root entity
+	 * @return True, if the association with the given path is loaded by this plan
+	 */
+	public boolean includes(String path) {
+
+		Assert.hasText(path, "The path of an association is required.");
+
+		if (StringUtils.countOccurrencesOf(path, ".") + 1 > depth) {
+			return false;
+		}
+
+		if (includedAssociations.isEmpty()) {
+			return true;
+		}
+
+		for (String includedAssociation : includedAssociations) {
+			if (includedAssociation.equals(path) || includedAssociation.startsWith(path + ".") || path
+				.startsWith(includedAssociation + ".")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param path The path of an association, starting at the root entity
+	 * @return True, if the association with the given path is loaded by this plan and named explicitly
+	 */
+	boolean namesExplicitly(String path) {
+
+		if (!includes(path)) {
+			return false;
+		}
+
+		for (String includedAssociation : includedAssociations) {
+			if (includedAssociation.equals(path) || includedAssociation.startsWith(path + ".")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		FetchPlan fetchPlan = (FetchPlan) o;
+		return depth == fetchPlan.depth && includedAssociations.equals(fetchPlan.includedAssociations)
+			&& strategy == fetchPlan.strategy;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(depth, includedAssociations, strategy);
+	}
+
+	@Override
+	public String toString() {
+		return "FetchPlan{" +
+			"depth=" + depth +
+			", includedAssociations=" + includedAssociations +
+			", strategy=" + strategy +
+			'}';
+	}
+}
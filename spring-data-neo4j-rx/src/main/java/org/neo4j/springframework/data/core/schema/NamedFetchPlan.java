@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.schema;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * Declares a named {@link FetchPlan} on a {@link Node node entity}. The fetch plan can be selected by its name on
+ * repository methods via {@code @UseFetchPlan}.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+@Repeatable(NamedFetchPlans.class)
+@API(status = API.Status.STABLE, since = "1.1")
+public @interface NamedFetchPlan {
+
+	/**
+	 * @return The name of the fetch plan, unique per entity.
+	 */
+	String name();
+
+	/**
+	 * @return The maximum depth of associations to load, {@literal 0} loads the root entity only.
+	 */
+	int depth() default 1;
+
+	/**
+	 * @return Paths to the associations to load, all associations up to {@link #depth()} when empty.
+	 */
+	String[] include() default {};
+
+	/**
+	 * @return The strategy of loading the associations.
+	 */
+	FetchPlan.Strategy strategy() default FetchPlan.Strategy.SINGLE_QUERY;
+}
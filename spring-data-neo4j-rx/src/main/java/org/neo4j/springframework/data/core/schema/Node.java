@@ -26,9 +26,14 @@ import java.lang.annotation.Target;
 
 import org.apiguardian.api.API;
 import org.springframework.core.annotation.AliasFor;
+import org.springframework.stereotype.Indexed;
 
 /**
  * The annotation to configure the mapping from a node with a given set of labels to a class and vice versa.
+ * <p>
+ * The annotation is an {@link Indexed indexed} stereotype: When {@code spring-context-indexer} is used as annotation
+ * processor, all annotated classes are listed in {@code META-INF/spring.components} at compile time and the scan for
+ * entities at startup reads that index instead of the classpath.
  *
  * @author Michael J. Simons
  * @since 1.0
@@ -37,6 +42,7 @@ import org.springframework.core.annotation.AliasFor;
 @Target(ElementType.TYPE)
 @Documented
 @org.springframework.data.annotation.Persistent
+@Indexed
 @API(status = API.Status.STABLE, since = "1.0")
 public @interface Node {
 
@@ -58,6 +58,25 @@ public @interface Relationship {
 		INCOMING
 	}
 
+	/**
+	 * Enumeration of the strategies to load a relationship.
+	 * @since 1.1
+	 */
+	enum Fetch {
+
+		/**
+		 * The related nodes are loaded together with the node owning the relationship.
+		 */
+		EAGER,
+
+		/**
+		 * The related nodes are loaded on first access of the relationship. Lazy relationships are represented by
+		 * proxies: A to-many relationship must be declared as {@link java.util.List}, {@link java.util.Set} or
+		 * {@link java.util.Collection}, the type of a to-one relationship must not be final.
+		 */
+		LAZY
+	}
+
 	/**
 	 * @return See {@link #type()}.
 	 */
@@ -80,4 +99,10 @@ public @interface Relationship {
 	 * @return The direction of the relationship.
 	 */
 	Direction direction() default Direction.OUTGOING;
+
+	/**
+	 * @return The strategy to load the relationship.
+	 * @since 1.1
+	 */
+	Fetch fetch() default Fetch.EAGER;
 }
@@ -99,6 +99,14 @@ public interface RelationshipDescription {
 	 */
 	boolean hasRelationshipProperties();
 
+	/**
+	 * A lazy relationship is not loaded together with its source but on first access.
+	 *
+	 * @return {@literal true} if this relationship is loaded lazily, otherwise {@literal false}
+	 * @since 1.1
+	 */
+	boolean isLazy();
+
 	default boolean isOutgoing() {
 		return Direction.OUTGOING.equals(this.getDirection());
 	}
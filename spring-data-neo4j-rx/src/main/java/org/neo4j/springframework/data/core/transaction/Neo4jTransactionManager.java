@@ -27,6 +27,8 @@ import org.neo4j.driver.Session;
 import org.neo4j.driver.Transaction;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.springframework.data.core.DatabaseSelectionProvider;
+import org.neo4j.springframework.data.core.metrics.Neo4jFlightRecorder;
+import org.neo4j.springframework.data.core.metrics.Neo4jFlightRecorder.Recording;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionException;
@@ -72,6 +74,20 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 		this.bookmarkManager = new Neo4jBookmarkManager();
 	}
 
+	/**
+	 * Other than an active transaction synchronization, which is also available under propagations like
+	 * {@link TransactionDefinition#PROPAGATION_SUPPORTS} or with foreign transaction managers, this checks whether there
+	 * actually is a native Neo4j transaction bound to the current thread.
+	 *
+	 * @param driver The driver that has been used as a synchronization object.
+	 * @return True if a Neo4j transaction of the given driver is bound to the current thread
+	 * @since 1.1
+	 */
+	public static boolean isTransactionBound(Driver driver) {
+
+		return TransactionSynchronizationManager.getResource(driver) instanceof Neo4jTransactionHolder;
+	}
+
 	/**
 	 * This methods provides a native Neo4j transaction to be used from within a {@link org.neo4j.springframework.data.core.Neo4jClient}.
 	 * In most cases this the native transaction will be controlled from the Neo4j specific
@@ -165,9 +181,17 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 			);
 
 			// Configure and open session together with a native transaction
+			Recording recording = Neo4jFlightRecorder.startTransaction("begin", context.getDatabaseName());
 			Session session = this.driver
 				.session(sessionConfig(readOnly, context.getBookmarks(), context.getDatabaseName()));
-			Transaction nativeTransaction = session.beginTransaction(transactionConfig);
+			Transaction nativeTransaction;
+			try {
+				nativeTransaction = session.beginTransaction(transactionConfig);
+				recording.end();
+			} catch (RuntimeException e) {
+				recording.end(e);
+				throw e;
+			}
 
 			// Synchronize on that
 			Neo4jTransactionHolder transactionHolder = new Neo4jTransactionHolder(context, session, nativeTransaction);
@@ -203,7 +227,15 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 
 		Neo4jTransactionObject transactionObject = extractNeo4jTransaction(status);
 		Neo4jTransactionHolder transactionHolder = transactionObject.getRequiredResourceHolder();
-		Bookmark lastBookmark = transactionHolder.commit();
+		Recording recording = Neo4jFlightRecorder.startTransaction("commit", transactionHolder.getDatabaseName());
+		Bookmark lastBookmark;
+		try {
+			lastBookmark = transactionHolder.commit();
+			recording.end();
+		} catch (RuntimeException e) {
+			recording.end(e);
+			throw e;
+		}
 		this.bookmarkManager.updateBookmarks(transactionHolder.getBookmarks(), lastBookmark);
 	}
 
@@ -211,7 +243,15 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 	protected void doRollback(DefaultTransactionStatus status) throws TransactionException {
 
 		Neo4jTransactionObject transactionObject = extractNeo4jTransaction(status);
-		transactionObject.getRequiredResourceHolder().rollback();
+		Neo4jTransactionHolder transactionHolder = transactionObject.getRequiredResourceHolder();
+		Recording recording = Neo4jFlightRecorder.startTransaction("rollback", transactionHolder.getDatabaseName());
+		try {
+			transactionHolder.rollback();
+			recording.end();
+		} catch (RuntimeException e) {
+			recording.end(e);
+			throw e;
+		}
 	}
 
 	@Override
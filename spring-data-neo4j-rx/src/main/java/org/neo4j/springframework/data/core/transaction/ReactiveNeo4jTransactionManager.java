@@ -30,6 +30,8 @@ import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.driver.reactive.RxTransaction;
 import org.neo4j.springframework.data.core.DatabaseSelection;
 import org.neo4j.springframework.data.core.ReactiveDatabaseSelectionProvider;
+import org.neo4j.springframework.data.core.metrics.Neo4jFlightRecorder;
+import org.neo4j.springframework.data.core.metrics.Neo4jFlightRecorder.Recording;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.NoTransactionException;
 import org.springframework.transaction.TransactionDefinition;
@@ -72,6 +74,22 @@ public class ReactiveNeo4jTransactionManager extends AbstractReactiveTransaction
 		this.bookmarkManager = new Neo4jBookmarkManager();
 	}
 
+	/**
+	 * Other than an active transaction synchronization, which is also available under propagations like
+	 * {@link TransactionDefinition#PROPAGATION_SUPPORTS} or with foreign transaction managers, this checks whether there
+	 * actually is a native Neo4j transaction bound to the current transaction context.
+	 *
+	 * @param driver The driver that has been used as a synchronization object.
+	 * @return A mono emitting {@literal true} if a Neo4j transaction of the given driver is bound
+	 * @since 1.1
+	 */
+	public static Mono<Boolean> isTransactionBound(Driver driver) {
+
+		return TransactionSynchronizationManager.forCurrentTransaction()
+			.map(tsm -> tsm.getResource(driver) instanceof ReactiveNeo4jTransactionHolder)
+			.onErrorResume(NoTransactionException.class, e -> Mono.just(false));
+	}
+
 	public static Mono<RxTransaction> retrieveReactiveTransaction(final Driver driver, final String targetDatabase) {
 
 		return TransactionSynchronizationManager.forCurrentTransaction() // Do we have a Transaction context?
@@ -165,8 +183,8 @@ public class ReactiveNeo4jTransactionManager extends AbstractReactiveTransaction
 				.switchIfEmpty(Mono.just(DatabaseSelection.undecided()))
 				.map(databaseName -> new Neo4jTransactionContext(databaseName.getValue(), bookmarkManager.getBookmarks()))
 				.map(context -> Tuples.of(context, this.driver.rxSession(sessionConfig(readOnly, context.getBookmarks(), context.getDatabaseName()))))
-				.flatMap(contextAndSession -> Mono
-						.from(contextAndSession.getT2().beginTransaction(transactionConfig))
+				.flatMap(contextAndSession -> recorded("begin", contextAndSession.getT1().getDatabaseName(),
+						Mono.from(contextAndSession.getT2().beginTransaction(transactionConfig)))
 						.map(nativeTransaction -> new ReactiveNeo4jTransactionHolder(contextAndSession.getT1(), contextAndSession.getT2(), nativeTransaction))
 				)
 				.doOnNext(transactionHolder -> {
@@ -199,7 +217,7 @@ public class ReactiveNeo4jTransactionManager extends AbstractReactiveTransaction
 
 		ReactiveNeo4jTransactionHolder holder = extractNeo4jTransaction(genericReactiveTransaction)
 			.getRequiredResourceHolder();
-		return holder.commit()
+		return recorded("commit", holder.getDatabaseName(), holder.commit())
 			.doOnNext(bookmark -> bookmarkManager.updateBookmarks(holder.getBookmarks(), bookmark))
 			.then();
 	}
@@ -210,7 +228,18 @@ public class ReactiveNeo4jTransactionManager extends AbstractReactiveTransaction
 
 		ReactiveNeo4jTransactionHolder holder = extractNeo4jTransaction(genericReactiveTransaction)
 			.getRequiredResourceHolder();
-		return holder.rollback();
+		return recorded("rollback", holder.getDatabaseName(), holder.rollback());
+	}
+
+	/**
+	 * Records the transaction operation as a JFR event when subscribed to.
+	 */
+	private static <T> Mono<T> recorded(String operation, @Nullable String databaseName, Mono<T> source) {
+
+		return Mono.defer(() -> {
+			Recording recording = Neo4jFlightRecorder.startTransaction(operation, databaseName);
+			return source.doOnSuccess(v -> recording.end()).doOnError(recording::end);
+		});
 	}
 
 	@Override
@@ -19,11 +19,13 @@
 package org.neo4j.springframework.data.repository.config;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
 import org.apiguardian.api.API;
 import org.neo4j.springframework.data.core.schema.Node;
+import org.neo4j.springframework.data.repository.CoroutineNeo4jRepository;
 import org.neo4j.springframework.data.repository.ReactiveNeo4jRepository;
 import org.neo4j.springframework.data.repository.support.ReactiveNeo4jRepositoryFactoryBean;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
@@ -31,6 +33,7 @@ import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.util.ClassUtils;
 
 /**
  * This dedicated Neo4j repository extension will be registered via {@link Neo4jRepositoriesRegistrar} and then provide
@@ -61,6 +64,9 @@ public final class ReactiveNeo4jRepositoryConfigurationExtension extends Reposit
 	 */
 	static final String DEFAULT_MAPPING_CONTEXT_BEAN_NAME = "neo4jMappingContext";
 
+	private static final boolean KOTLIN_COROUTINES_PRESENT = ClassUtils.isPresent("kotlinx.coroutines.flow.Flow",
+		ReactiveNeo4jRepositoryConfigurationExtension.class.getClassLoader());
+
 	public ReactiveNeo4jRepositoryConfigurationExtension() {
 
 		new StartupLogger(StartupLogger.Mode.REACTIVE).logStarting();
@@ -91,7 +97,9 @@ public final class ReactiveNeo4jRepositoryConfigurationExtension extends Reposit
 
 	@Override
 	protected Collection<Class<?>> getIdentifyingTypes() {
-		return Collections.singleton(ReactiveNeo4jRepository.class);
+		return KOTLIN_COROUTINES_PRESENT ?
+			Arrays.asList(ReactiveNeo4jRepository.class, CoroutineNeo4jRepository.class) :
+			Collections.singleton(ReactiveNeo4jRepository.class);
 	}
 
 	@Override
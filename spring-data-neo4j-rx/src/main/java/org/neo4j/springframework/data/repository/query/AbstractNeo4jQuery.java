@@ -18,21 +18,22 @@
  */
 package org.neo4j.springframework.data.repository.query;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.Map;
 
 import org.neo4j.driver.Record;
-import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.Neo4jOperations;
 import org.neo4j.springframework.data.core.PreparedQuery;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.repository.query.Neo4jQueryExecution.DefaultQueryExecution;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.support.PageableExecutionUtils;
-import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -66,11 +67,20 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 		Neo4jParameterAccessor parameterAccessor = getParameterAccessor(parameters);
 		ResultProcessor resultProcessor = queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor);
 
-		PreparedQuery<?> preparedQuery = prepareQuery(resultProcessor.getReturnedType().getReturnedType(),
-			getInputProperties(resultProcessor), parameterAccessor, null, getMappingFunction(resultProcessor));
+		Class<?> mappedType = getMappedType(resultProcessor);
+		boolean asCollectionQuery = queryMethod.isCollectionLikeQuery() || queryMethod.isPageQuery();
 
-		Object rawResult = new DefaultQueryExecution(neo4jOperations).execute(
-			preparedQuery, queryMethod.isCollectionLikeQuery() || queryMethod.isPageQuery());
+		Object rawResult;
+		if (usesSplitQueries() && mappedType != null) {
+			rawResult = executeWithSplitQueries(mappedType, getInputProperties(resultProcessor), parameterAccessor,
+				asCollectionQuery);
+		} else {
+			PreparedQuery<?> preparedQuery = prepareQuery(resultProcessor.getReturnedType().getReturnedType(),
+				getInputProperties(resultProcessor), parameterAccessor, null, getMappingFunction(resultProcessor))
+				.withOrigin(queryMethod.getOrigin());
+
+			rawResult = new DefaultQueryExecution(neo4jOperations).execute(preparedQuery, asCollectionQuery);
+		}
 
 		Object processedResult = resultProcessor.processResult(rawResult, OptionalUnwrappingConverter.INSTANCE);
 
@@ -80,14 +90,50 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 			return PageableExecutionUtils.getPage((List<?>) processedResult, parameterAccessor.getPageable(), () -> {
 
 				PreparedQuery<Long> countQuery = prepareQuery(Long.class, Collections.emptyList(), parameterAccessor,
-					Neo4jQueryType.COUNT, null);
+					Neo4jQueryType.COUNT, null).withOrigin(queryMethod.getOrigin() + "#count");
 				return neo4jOperations.toExecutableQuery(countQuery).getRequiredSingleResult();
 			});
 		}
 	}
 
-	protected abstract <T extends Object> PreparedQuery<T> prepareQuery(
-		Class<T> returnedType, List<String> includedProperties, Neo4jParameterAccessor parameterAccessor,
-		@Nullable Neo4jQueryType queryType,
-		@Nullable BiFunction<TypeSystem, Record, ?> mappingFunction);
+	/**
+	 * Executes the query for the root nodes only and loads their relationships with one additional query per
+	 * relationship and level.
+	 */
+	private Object executeWithSplitQueries(Class<?> mappedType, List<String> includedProperties,
+		Neo4jParameterAccessor parameterAccessor, boolean asCollectionQuery) {
+
+		// The id of the root nodes is needed to load their relationships
+		List<String> includedPropertiesAndId = includedProperties;
+		if (!includedProperties.isEmpty()) {
+			includedPropertiesAndId = new ArrayList<>(includedProperties);
+			includedPropertiesAndId.add(
+				mappingContext.getRequiredPersistentEntity(domainType).getRequiredIdProperty().getFieldName());
+		}
+
+		PreparedQuery<Record> rootQuery = prepareQuery(Record.class, includedPropertiesAndId, parameterAccessor, null,
+			(typeSystem, record) -> record).withOrigin(queryMethod.getOrigin());
+		List<Record> rootRecords = neo4jOperations.toExecutableQuery(rootQuery).getResults();
+
+		List<?> result = mappingContext.readWithSplitQueries(mappedType, rootRecords, fetchPlan, includedProperties,
+			this::fetchRelationships);
+		if (asCollectionQuery) {
+			return result;
+		}
+		if (result.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1, result.size());
+		}
+		return result.stream().findFirst();
+	}
+
+	private Collection<Record> fetchRelationships(String cypherQuery, Map<String, Object> parameters) {
+
+		PreparedQuery<Record> preparedQuery = PreparedQuery.queryFor(Record.class)
+			.withCypherQuery(cypherQuery)
+			.withParameters(parameters)
+			.usingMappingFunction((typeSystem, record) -> record)
+			.build()
+			.withOrigin(queryMethod.getOrigin() + "#relationships");
+		return neo4jOperations.toExecutableQuery(preparedQuery).getResults();
+	}
 }
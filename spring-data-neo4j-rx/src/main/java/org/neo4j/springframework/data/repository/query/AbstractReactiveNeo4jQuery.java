@@ -18,18 +18,14 @@
  */
 package org.neo4j.springframework.data.repository.query;
 
-import java.util.List;
-import java.util.function.BiFunction;
 
-import org.neo4j.driver.Record;
-import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.PreparedQuery;
 import org.neo4j.springframework.data.core.ReactiveNeo4jOperations;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.reactivestreams.Publisher;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
-import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -43,6 +39,11 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 
 	protected final ReactiveNeo4jOperations neo4jOperations;
 
+	/**
+	 * Flag, if the result has to be returned as Kotlin {@code Flow}.
+	 */
+	private final boolean flowQuery;
+
 	AbstractReactiveNeo4jQuery(ReactiveNeo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 		Neo4jQueryMethod queryMethod, Neo4jQueryType queryType) {
 
@@ -50,6 +51,8 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 
 		Assert.notNull(neo4jOperations, "The Neo4j operations are required.");
 		this.neo4jOperations = neo4jOperations;
+		this.flowQuery = queryMethod instanceof ReactiveNeo4jQueryMethod
+			&& ((ReactiveNeo4jQueryMethod) queryMethod).isFlowQuery();
 	}
 
 	@Override
@@ -64,16 +67,18 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 		ResultProcessor resultProcessor = queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor);
 
 		PreparedQuery<?> preparedQuery = prepareQuery(resultProcessor.getReturnedType().getReturnedType(),
-			getInputProperties(resultProcessor), parameterAccessor, null, getMappingFunction(resultProcessor));
+			getInputProperties(resultProcessor), parameterAccessor, null, getMappingFunction(resultProcessor))
+			.withOrigin(queryMethod.getOrigin());
 
 		Object rawResult = new Neo4jQueryExecution.ReactiveQueryExecution(neo4jOperations).execute(
 			preparedQuery, queryMethod.isCollectionLikeQuery());
 
-		return resultProcessor.processResult(rawResult, OptionalUnwrappingConverter.INSTANCE);
+		Object processedResult = resultProcessor.processResult(rawResult, OptionalUnwrappingConverter.INSTANCE);
+		if (flowQuery) {
+			// Adapting the publisher here instead of leaving it to the generic conversion lets
+			// the flow demand records in batches aligned with the drivers fetch size.
+			return Neo4jFlows.asFlow((Publisher<Object>) processedResult, Neo4jFlows.DEFAULT_FLOW_BATCH_SIZE);
+		}
+		return processedResult;
 	}
-
-	protected abstract <T extends Object> PreparedQuery<T> prepareQuery(
-		Class<T> returnedType, List<String> includedProperties, Neo4jParameterAccessor parameterAccessor,
-		@Nullable Neo4jQueryType queryType,
-		@Nullable BiFunction<TypeSystem, Record, ?> mappingFunction);
 }
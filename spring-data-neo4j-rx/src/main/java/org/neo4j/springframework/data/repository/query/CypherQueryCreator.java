@@ -43,6 +43,7 @@ import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
 import org.neo4j.springframework.data.core.schema.NodeDescription;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
 import org.neo4j.springframework.data.core.schema.RelationshipProperties;
@@ -104,12 +105,15 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 
 	private final List<String> includedProperties;
 
+	private final FetchPlan fetchPlan;
+
 	private final List<PropertyPathWrapper> propertyPathWrappers;
 
 	CypherQueryCreator(Neo4jMappingContext mappingContext, Class<?> domainType, Neo4jQueryType queryType,
 		PartTree tree,
 		ParametersParameterAccessor actualParameters,
 		List<String> includedProperties,
+		FetchPlan fetchPlan,
 		Function<Object, Object> parameterConversion
 	) {
 		super(tree, actualParameters);
@@ -124,6 +128,7 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 		this.maxResults = tree.isLimiting() ? tree.getMaxResults() : null;
 
 		this.includedProperties = includedProperties;
+		this.fetchPlan = fetchPlan;
 		this.parameterConversion = parameterConversion;
 
 		this.pagingParameter = actualParameters.getPageable();
@@ -289,7 +294,7 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 
 		} else {
 			OngoingMatchAndReturnWithOrder ongoingMatchAndReturnWithOrder =
-				matchAndCondition.returning(cypherGenerator.createReturnStatementForMatch(nodeDescription, includedProperties))
+				matchAndCondition.returning(cypherGenerator.createReturnStatementForMatch(nodeDescription, includedProperties, fetchPlan))
 				.orderBy(
 					Stream.concat(
 						sortItems.stream(),
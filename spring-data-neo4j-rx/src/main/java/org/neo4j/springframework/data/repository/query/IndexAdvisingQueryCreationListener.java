@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.query;
+
+import static org.apiguardian.api.API.Status.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.PreparedQuery;
+import org.neo4j.springframework.data.core.index.IndexAdvisor;
+import org.neo4j.springframework.data.core.index.PropertyPredicate;
+import org.neo4j.springframework.data.core.index.QueryDescription;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.repository.core.support.QueryCreationListener;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
+import org.springframework.util.Assert;
+
+/**
+ * Describes the predicates of derived finder methods and registers them with an {@link IndexAdvisor}.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = INTERNAL, since = "1.1")
+public final class IndexAdvisingQueryCreationListener implements QueryCreationListener<RepositoryQuery> {
+
+	/**
+	 * Predicates that can be served by a schema index as long as they don't ignore the case.
+	 */
+	private static final Set<Part.Type> INDEXABLE_TYPES = EnumSet.of(
+		Part.Type.SIMPLE_PROPERTY, Part.Type.BETWEEN,
+		Part.Type.LESS_THAN, Part.Type.LESS_THAN_EQUAL, Part.Type.GREATER_THAN, Part.Type.GREATER_THAN_EQUAL,
+		Part.Type.BEFORE, Part.Type.AFTER, Part.Type.IN,
+		Part.Type.STARTING_WITH, Part.Type.ENDING_WITH, Part.Type.CONTAINING,
+		Part.Type.IS_NOT_NULL, Part.Type.EXISTS, Part.Type.TRUE, Part.Type.FALSE,
+		Part.Type.NEAR, Part.Type.WITHIN);
+
+	private static final Set<Part.Type> EQUALITY_TYPES = EnumSet
+		.of(Part.Type.SIMPLE_PROPERTY, Part.Type.TRUE, Part.Type.FALSE);
+
+	private final IndexAdvisor indexAdvisor;
+
+	public IndexAdvisingQueryCreationListener(IndexAdvisor indexAdvisor) {
+
+		Assert.notNull(indexAdvisor, "An index advisor is required.");
+		this.indexAdvisor = indexAdvisor;
+	}
+
+	@Override
+	public void onCreation(RepositoryQuery query) {
+
+		if (!(query instanceof Neo4jQuerySupport)) {
+			return;
+		}
+
+		Neo4jQuerySupport neo4jQuery = (Neo4jQuerySupport) query;
+		neo4jQuery.getOptionalPartTree()
+			.flatMap(tree -> describe(neo4jQuery, tree))
+			.ifPresent(indexAdvisor::register);
+	}
+
+	private static Optional<QueryDescription> describe(Neo4jQuerySupport query, PartTree tree) {
+
+		Neo4jPersistentEntity<?> entity = query.mappingContext.getRequiredPersistentEntity(query.domainType);
+
+		List<List<PropertyPredicate>> predicates = new ArrayList<>();
+		for (OrPart orPart : tree) {
+			List<PropertyPredicate> conjunction = new ArrayList<>();
+			boolean idLookup = false;
+			for (Part part : orPart) {
+				PersistentPropertyPath<Neo4jPersistentProperty> path = query.mappingContext
+					.getPersistentPropertyPath(part.getProperty());
+				// Predicates on related nodes are not matched on the label of the queried entity.
+				if (path.getLength() != 1) {
+					continue;
+				}
+
+				Neo4jPersistentProperty property = path.getRequiredLeafProperty();
+				if (property.isInternalIdProperty()) {
+					idLookup = true;
+					break;
+				}
+				conjunction.add(new PropertyPredicate(property.getPropertyName(), part.getType().name(),
+					EQUALITY_TYPES.contains(part.getType()), isIndexable(part)));
+			}
+			if (!idLookup) {
+				predicates.add(conjunction);
+			}
+		}
+
+		if (predicates.isEmpty()) {
+			return Optional.empty();
+		}
+
+		Optional<PreparedQuery<?>> preparedQuery = query.prepareQueryWithoutParameters();
+		String cypher = preparedQuery.map(PreparedQuery::getCypherQuery).orElse(null);
+		Map<String, Object> parameters = preparedQuery.<Map<String, Object>>map(PreparedQuery::getParameters)
+			.orElseGet(Collections::emptyMap);
+
+		return Optional.of(new QueryDescription(query.queryMethod.getOrigin(), entity.getPrimaryLabel(), predicates,
+			cypher, parameters));
+	}
+
+	private static boolean isIndexable(Part part) {
+		return INDEXABLE_TYPES.contains(part.getType()) && part.shouldIgnoreCase() == Part.IgnoreCaseType.NEVER;
+	}
+}
@@ -48,6 +48,21 @@ class Neo4jQueryMethod extends QueryMethod {
 	 */
 	private @Nullable final Query queryAnnotation;
 
+	/**
+	 * Optional fetch plan annotation of the method.
+	 */
+	private @Nullable final UseFetchPlan useFetchPlanAnnotation;
+
+	/**
+	 * The simple name of the repository declaring this method.
+	 */
+	private final String repositoryName;
+
+	/**
+	 * The factory used to create projections of the results of this method.
+	 */
+	private final ProjectionFactory projectionFactory;
+
 	/**
 	 * Creates a new {@link Neo4jQueryMethod} from the given parameters. Looks up the correct query to use for following
 	 * invocations of the method given.
@@ -60,6 +75,23 @@ class Neo4jQueryMethod extends QueryMethod {
 		super(method, metadata, factory);
 
 		this.queryAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+		this.useFetchPlanAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, UseFetchPlan.class);
+		this.repositoryName = metadata.getRepositoryInterface().getSimpleName();
+		this.projectionFactory = factory;
+	}
+
+	/**
+	 * @return The factory used to create projections of the results of this method
+	 */
+	ProjectionFactory getProjectionFactory() {
+		return projectionFactory;
+	}
+
+	/**
+	 * @return The origin of queries executed by this method, consisting of the repository name and the method name.
+	 */
+	String getOrigin() {
+		return this.repositoryName + "." + getName();
 	}
 
 	boolean isCollectionLikeQuery() {
@@ -80,6 +112,13 @@ class Neo4jQueryMethod extends QueryMethod {
 		return Optional.ofNullable(this.queryAnnotation);
 	}
 
+	/**
+	 * @return the {@link UseFetchPlan} annotation that is applied to the method or an empty {@link Optional} if none available.
+	 */
+	Optional<UseFetchPlan> getUseFetchPlanAnnotation() {
+		return Optional.ofNullable(this.useFetchPlanAnnotation);
+	}
+
 	@Override
 	protected Parameters<Neo4jParameters, Neo4jParameter> createParameters(Method method) {
 		return new Neo4jParameters(method);
@@ -18,20 +18,30 @@
  */
 package org.neo4j.springframework.data.repository.query;
 
+import java.beans.PropertyDescriptor;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 
 import org.apache.commons.logging.LogFactory;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.PreparedQuery;
 import org.neo4j.springframework.data.core.convert.Neo4jSimpleTypes;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
 import org.neo4j.springframework.data.repository.query.Neo4jQueryMethod.Neo4jParameters;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.data.domain.Range;
@@ -39,10 +49,14 @@ import org.springframework.data.geo.Box;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Metrics;
+import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -62,6 +76,10 @@ abstract class Neo4jQuerySupport {
 	 * The query type.
 	 */
 	protected final Neo4jQueryType queryType;
+	/**
+	 * The fetch plan for derived queries.
+	 */
+	protected final FetchPlan fetchPlan;
 
 	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(Neo4jQuerySupport.class));
 
@@ -75,45 +93,186 @@ abstract class Neo4jQuerySupport {
 		this.queryMethod = queryMethod;
 		this.domainType = queryMethod.getDomainClass();
 		this.queryType = queryType;
+		this.fetchPlan = queryMethod.getUseFetchPlanAnnotation()
+			.map(useFetchPlan -> resolveFetchPlan(useFetchPlan.value()))
+			.orElseGet(FetchPlan::all);
+	}
+
+	private FetchPlan resolveFetchPlan(String name) {
+
+		Neo4jPersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(this.domainType);
+		return entity.getFetchPlan(name).orElseThrow(() -> new IllegalArgumentException(
+			String.format("No fetch plan named '%s' is declared on %s, used by %s.", name, this.domainType.getName(),
+				this.queryMethod.getOrigin())));
 	}
 
 	protected final Neo4jParameterAccessor getParameterAccessor(Object[] actualParameters) {
 		return new Neo4jParameterAccessor((Neo4jParameters) this.queryMethod.getParameters(), actualParameters);
 	}
 
+	protected abstract <T extends Object> PreparedQuery<T> prepareQuery(
+		Class<T> returnedType, List<String> includedProperties, Neo4jParameterAccessor parameterAccessor,
+		@Nullable Neo4jQueryType overridingQueryType,
+		@Nullable BiFunction<TypeSystem, Record, ?> mappingFunction);
+
+	/**
+	 * @return The part tree of derived queries
+	 */
+	Optional<PartTree> getOptionalPartTree() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Prepares this query with {@literal null} as value for all parameters, so that it can be analysed without
+	 * executing it.
+	 *
+	 * @return The prepared query or an empty optional if the query cannot be prepared without actual values
+	 */
+	Optional<PreparedQuery<?>> prepareQueryWithoutParameters() {
+
+		try {
+			Object[] parameters = new Object[queryMethod.getParameters().getNumberOfParameters()];
+			return Optional.of(prepareQuery(domainType, Collections.emptyList(), getParameterAccessor(parameters),
+				null, null));
+		} catch (RuntimeException e) {
+			log.debug(e, () -> String.format("Could not prepare %s without parameters", queryMethod.getOrigin()));
+			return Optional.empty();
+		}
+	}
+
 	protected final ResultProcessor getResultProcessor(ParameterAccessor parameterAccessor) {
 		return queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor);
 	}
 
 	protected final BiFunction<TypeSystem, Record, ?> getMappingFunction(final ResultProcessor resultProcessor) {
 
+		// Clients automatically selects a single value mapping function if there's no mapped type.
+		// It will thrown an error if the query contains more than one column.
+		final Class<?> mappedType = getMappedType(resultProcessor);
+		if (mappedType == null) {
+			return null;
+		} else if (isCustomQuery() && isDtoProjection(resultProcessor)) {
+			return this.mappingContext.getDtoMappingFunctionFor(mappedType);
+		}
+		return this.mappingContext.getRequiredMappingFunctionFor(mappedType);
+	}
+
+	private static boolean isDtoProjection(ResultProcessor resultProcessor) {
+
+		ReturnedType returnedType = resultProcessor.getReturnedType();
+		return returnedType.isProjecting() && !returnedType.getReturnedType().isInterface();
+	}
+
+	/**
+	 * @return True, if this query is defined by a custom Cypher query. The results of custom queries that are projected
+	 * onto DTOs are mapped with a {@link Neo4jMappingContext#getDtoMappingFunctionFor(Class) DTO mapping function}.
+	 */
+	boolean isCustomQuery() {
+		return false;
+	}
+
+	/**
+	 * @param resultProcessor The result processor of a query execution
+	 * @return The entity type the records of the query are mapped to or {@literal null} for simple types
+	 */
+	@Nullable
+	protected final Class<?> getMappedType(final ResultProcessor resultProcessor) {
+
 		final Class<?> returnedType = resultProcessor.getReturnedType().getReturnedType();
 
-		final BiFunction<TypeSystem, Record, ?> mappingFunction;
+		final Class<?> mappedType;
 		if (Neo4jSimpleTypes.HOLDER.isSimpleType(returnedType)) {
-			// Clients automatically selects a single value mapping function.
-			// It will thrown an error if the query contains more than one column.
-			mappingFunction = null;
+			mappedType = null;
 		} else if (resultProcessor.getReturnedType().isProjecting()) {
 
 			if (returnedType.isInterface()) {
-				mappingFunction = this.mappingContext.getRequiredMappingFunctionFor(domainType);
+				mappedType = domainType;
 			} else if (this.mappingContext.hasPersistentEntityFor(returnedType)) {
-				mappingFunction = this.mappingContext.getRequiredMappingFunctionFor(returnedType);
+				mappedType = returnedType;
 			} else {
 				this.mappingContext.addPersistentEntity(returnedType);
-				mappingFunction = this.mappingContext.getRequiredMappingFunctionFor(returnedType);
+				mappedType = returnedType;
 			}
 		} else {
-			mappingFunction = this.mappingContext.getRequiredMappingFunctionFor(domainType);
+			mappedType = domainType;
 		}
-		return mappingFunction;
+		return mappedType;
 	}
 
+	/**
+	 * @return True, if the relationships of the results of this query are loaded with
+	 * {@link FetchPlan.Strategy#SPLIT_QUERIES split queries}
+	 */
+	boolean usesSplitQueries() {
+		return false;
+	}
+
+	/**
+	 * Computes the properties of the domain type that are needed for the projection of the results. Class based DTOs
+	 * contribute their top level properties. Closed interface projections are inspected recursively: The properties of
+	 * nested projections of related entities are added as paths like {@code actors.name}, so that the related nodes are
+	 * pruned in the query, too.
+	 *
+	 * @param resultProcessor The result processor of a query execution
+	 * @return The paths of the properties to be included, all properties when empty
+	 */
 	protected final List<String> getInputProperties(final ResultProcessor resultProcessor) {
 
 		ReturnedType returnedType = resultProcessor.getReturnedType();
-		return returnedType.isProjecting() ? returnedType.getInputProperties() : Collections.emptyList();
+		if (!returnedType.isProjecting()) {
+			return Collections.emptyList();
+		}
+
+		Class<?> projectionType = returnedType.getReturnedType();
+		if (!projectionType.isInterface()) {
+			return returnedType.getInputProperties();
+		}
+
+		List<String> inputProperties = new ArrayList<>();
+		collectInputProperties(projectionType, this.mappingContext.getRequiredPersistentEntity(domainType), "",
+			new HashSet<>(), inputProperties);
+		return inputProperties;
+	}
+
+	private void collectInputProperties(Class<?> projectionType, Neo4jPersistentEntity<?> entity, String path,
+		Set<Class<?>> projectionsOnPath, List<String> inputProperties) {
+
+		ProjectionInformation projectionInformation = queryMethod.getProjectionFactory()
+			.getProjectionInformation(projectionType);
+		// Open projections may access any property, so the whole entity is required
+		if (!projectionInformation.isClosed()) {
+			if (!path.isEmpty()) {
+				inputProperties.add(path);
+			}
+			return;
+		}
+
+		projectionsOnPath.add(projectionType);
+		for (PropertyDescriptor inputProperty : projectionInformation.getInputProperties()) {
+
+			String pathToProperty = CypherGenerator.pathTo(path, inputProperty.getName());
+			Neo4jPersistentProperty property = entity.getPersistentProperty(inputProperty.getName());
+			if (property == null || !property.isRelationship() || inputProperty.getReadMethod() == null) {
+				inputProperties.add(pathToProperty);
+				continue;
+			}
+
+			TypeInformation<?> nestedType = ClassTypeInformation.fromReturnTypeOf(inputProperty.getReadMethod());
+			while (nestedType.isCollectionLike() || nestedType.isMap()) {
+				nestedType = nestedType.getRequiredActualType();
+			}
+
+			Class<?> targetType = property.getAssociationTargetType();
+			boolean isNestedProjection = nestedType.getType().isInterface()
+				&& !nestedType.getType().isAssignableFrom(targetType);
+			if (isNestedProjection && !projectionsOnPath.contains(nestedType.getType())) {
+				collectInputProperties(nestedType.getType(), this.mappingContext.getRequiredPersistentEntity(targetType),
+					pathToProperty, projectionsOnPath, inputProperties);
+			} else {
+				inputProperties.add(pathToProperty);
+			}
+		}
+		projectionsOnPath.remove(projectionType);
 	}
 
 	/**
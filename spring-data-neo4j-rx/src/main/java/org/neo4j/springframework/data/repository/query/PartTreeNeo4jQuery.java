@@ -37,6 +37,7 @@ import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.Neo4jOperations;
 import org.neo4j.springframework.data.core.PreparedQuery;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -88,6 +89,16 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 		this.tree.flatMap(OrPart::stream).forEach(validator::validatePart);
 	}
 
+	@Override
+	Optional<PartTree> getOptionalPartTree() {
+		return Optional.of(tree);
+	}
+
+	@Override
+	boolean usesSplitQueries() {
+		return fetchPlan.usesSplitQueries();
+	}
+
 	@Override
 	protected <T extends Object> PreparedQuery<T> prepareQuery(
 		Class<T> returnedType, List<String> includedProperties, Neo4jParameterAccessor parameterAccessor,
@@ -97,6 +108,8 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 		CypherQueryCreator queryCreator = new CypherQueryCreator(
 			mappingContext, domainType, Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree)), tree, parameterAccessor,
 			includedProperties,
+			// with split queries, the generated query returns only the root nodes
+			usesSplitQueries() ? FetchPlan.rootOnly() : fetchPlan,
 			this::convertParameter
 		);
 
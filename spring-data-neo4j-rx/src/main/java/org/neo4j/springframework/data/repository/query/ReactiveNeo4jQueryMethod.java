@@ -48,6 +48,13 @@ final class ReactiveNeo4jQueryMethod extends Neo4jQueryMethod {
 	private static final ClassTypeInformation<Page> PAGE_TYPE = ClassTypeInformation.from(Page.class);
 	private static final ClassTypeInformation<Slice> SLICE_TYPE = ClassTypeInformation.from(Slice.class);
 
+	private static final String FLOW_TYPE = "kotlinx.coroutines.flow.Flow";
+
+	/**
+	 * Flag, if the method returns a Kotlin {@code Flow}.
+	 */
+	private final boolean flowQuery;
+
 	/**
 	 * Creates a new {@link ReactiveNeo4jQueryMethod} from the given parameters.
 	 *
@@ -58,6 +65,8 @@ final class ReactiveNeo4jQueryMethod extends Neo4jQueryMethod {
 	ReactiveNeo4jQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
 		super(method, metadata, factory);
 
+		this.flowQuery = FLOW_TYPE.equals(method.getReturnType().getName());
+
 		if (hasParameterOfType(method, Pageable.class)) {
 
 			TypeInformation<?> returnType = ClassTypeInformation.fromReturnTypeOf(method);
@@ -90,4 +99,11 @@ final class ReactiveNeo4jQueryMethod extends Neo4jQueryMethod {
 	public boolean isStreamQuery() {
 		return true;
 	}
+
+	/**
+	 * @return True if the underlying method returns a Kotlin {@code Flow}.
+	 */
+	boolean isFlowQuery() {
+		return flowQuery;
+	}
 }
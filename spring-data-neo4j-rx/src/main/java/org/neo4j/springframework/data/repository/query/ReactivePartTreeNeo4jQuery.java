@@ -63,6 +63,11 @@ final class ReactivePartTreeNeo4jQuery extends AbstractReactiveNeo4jQuery {
 		this.tree.flatMap(OrPart::stream).forEach(validator::validatePart);
 	}
 
+	@Override
+	Optional<PartTree> getOptionalPartTree() {
+		return Optional.of(tree);
+	}
+
 	@Override
 	protected <T extends Object> PreparedQuery<T> prepareQuery(
 		Class<T> returnedType, List<String> includedProperties, Neo4jParameterAccessor parameterAccessor,
@@ -72,6 +77,7 @@ final class ReactivePartTreeNeo4jQuery extends AbstractReactiveNeo4jQuery {
 		CypherQueryCreator queryCreator = new CypherQueryCreator(
 			mappingContext, domainType, Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree)), tree, parameterAccessor,
 			includedProperties,
+			fetchPlan,
 			this::convertParameter
 		);
 
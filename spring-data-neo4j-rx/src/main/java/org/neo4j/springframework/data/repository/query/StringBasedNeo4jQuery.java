@@ -141,6 +141,11 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 			.orElseThrow(() -> new MappingException("Expected @Query annotation to have a value, but it did not."));
 	}
 
+	@Override
+	boolean isCustomQuery() {
+		return true;
+	}
+
 	@Override
 	protected <T extends Object> PreparedQuery<T> prepareQuery(
 		Class<T> returnedType, List<String> includedProperties, Neo4jParameterAccessor parameterAccessor,
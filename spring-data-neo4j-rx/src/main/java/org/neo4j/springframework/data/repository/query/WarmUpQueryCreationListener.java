@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.query;
+
+import static org.apiguardian.api.API.Status.*;
+
+import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.QueryWarmUp;
+import org.springframework.data.repository.core.support.QueryCreationListener;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * Renders derived and string based queries with {@literal null} for all parameters and registers them with a
+ * {@link QueryWarmUp}.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@API(status = INTERNAL, since = "1.1")
+public final class WarmUpQueryCreationListener implements QueryCreationListener<RepositoryQuery> {
+
+	private final QueryWarmUp queryWarmUp;
+
+	public WarmUpQueryCreationListener(QueryWarmUp queryWarmUp) {
+
+		Assert.notNull(queryWarmUp, "A query warm-up is required.");
+		this.queryWarmUp = queryWarmUp;
+	}
+
+	@Override
+	public void onCreation(RepositoryQuery query) {
+
+		if (!(query instanceof Neo4jQuerySupport)) {
+			return;
+		}
+
+		Neo4jQuerySupport neo4jQuery = (Neo4jQuerySupport) query;
+		neo4jQuery.prepareQueryWithoutParameters().ifPresent(preparedQuery -> queryWarmUp
+			.register(neo4jQuery.queryMethod.getOrigin(), preparedQuery.getCypherQuery(), preparedQuery.getParameters()));
+	}
+}
@@ -23,10 +23,17 @@ import static org.neo4j.springframework.data.repository.support.Neo4jRepositoryF
 import java.util.Optional;
 
 import org.neo4j.springframework.data.core.Neo4jOperations;
+import org.neo4j.springframework.data.core.QueryWarmUp;
+import org.neo4j.springframework.data.core.index.IndexAdvisor;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
 import org.neo4j.springframework.data.repository.Neo4jRepository;
+import org.neo4j.springframework.data.repository.query.IndexAdvisingQueryCreationListener;
 import org.neo4j.springframework.data.repository.query.Neo4jQueryLookupStrategy;
+import org.neo4j.springframework.data.repository.query.WarmUpQueryCreationListener;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
@@ -98,4 +105,25 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 		return Optional.of(new Neo4jQueryLookupStrategy(neo4jOperations, mappingContext, evaluationContextProvider));
 	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+
+		super.setBeanFactory(beanFactory);
+
+		Neo4jMetrics metrics = beanFactory.getBeanProvider(Neo4jMetrics.class).getIfUnique(() -> Neo4jMetrics.NOOP);
+		if (metrics != Neo4jMetrics.NOOP) {
+			addRepositoryProxyPostProcessor((factory, repositoryInformation) -> factory.addAdvice(
+				new RepositoryMetricsInterceptor(repositoryInformation.getRepositoryInterface(), metrics)));
+		}
+
+		beanFactory.getBeanProvider(IndexAdvisor.class)
+			.ifUnique(indexAdvisor -> addQueryCreationListener(new IndexAdvisingQueryCreationListener(indexAdvisor)));
+
+		beanFactory.getBeanProvider(QueryWarmUp.class).ifUnique(queryWarmUp -> {
+			addQueryCreationListener(new WarmUpQueryCreationListener(queryWarmUp));
+			addRepositoryProxyPostProcessor((factory, repositoryInformation) -> registerCrudStatements(queryWarmUp,
+				repositoryInformation, mappingContext.getRequiredPersistentEntity(repositoryInformation.getDomainType())));
+		});
+	}
 }
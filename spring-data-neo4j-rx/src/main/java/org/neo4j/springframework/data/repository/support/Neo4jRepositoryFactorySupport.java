@@ -18,6 +18,22 @@
  */
 package org.neo4j.springframework.data.repository.support;
 
+import static org.neo4j.cypherdsl.core.Cypher.*;
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.neo4j.cypherdsl.core.Functions;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.springframework.data.core.QueryWarmUp;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.springframework.data.repository.core.RepositoryInformation;
+
 /**
  * Shared repository factory functionality between imperative and reactive world.
  *
@@ -37,6 +53,43 @@ final class Neo4jRepositoryFactorySupport {
 		throw new IllegalArgumentException(errorMessage);
 	}
 
+	/**
+	 * Renders the statements of the CRUD operations of a repository the same way the templates do and registers them
+	 * for warm-up.
+	 *
+	 * @param queryWarmUp           The warm-up to register the statements with
+	 * @param repositoryInformation The repository
+	 * @param entity                The entity managed by the repository
+	 */
+	static void registerCrudStatements(QueryWarmUp queryWarmUp, RepositoryInformation repositoryInformation,
+		Neo4jPersistentEntity<?> entity) {
+
+		CypherGenerator cypherGenerator = CypherGenerator.INSTANCE;
+		Map<String, Statement> statements = new LinkedHashMap<>();
+		statements.put("count", cypherGenerator.prepareMatchOf(entity)
+			.returning(Functions.count(asterisk())).build());
+		statements.put("findAll", cypherGenerator.prepareMatchOf(entity)
+			.returning(cypherGenerator.createReturnStatementForMatch(entity)).build());
+		statements.put("findById", cypherGenerator
+			.prepareMatchOf(entity, entity.getIdExpression().isEqualTo(parameter(NAME_OF_ID)))
+			.returning(cypherGenerator.createReturnStatementForMatch(entity)).build());
+		statements.put("findAllById", cypherGenerator
+			.prepareMatchOf(entity, entity.getIdExpression().in(parameter(NAME_OF_IDS)))
+			.returning(cypherGenerator.createReturnStatementForMatch(entity)).build());
+		statements.put("save", cypherGenerator.prepareSaveOf(entity, UnaryOperator.identity()));
+		statements.put("saveAll", cypherGenerator.prepareSaveOfMultipleInstancesOf(entity));
+		statements.put("deleteById", cypherGenerator
+			.prepareDeleteOf(entity, entity.getIdExpression().isEqualTo(parameter("id"))));
+		statements.put("deleteAllById", cypherGenerator
+			.prepareDeleteOf(entity, entity.getIdExpression().in(parameter("ids"))));
+		statements.put("deleteAll", cypherGenerator.prepareDeleteOf(entity));
+
+		Renderer renderer = Renderer.getDefaultRenderer();
+		String repositoryName = repositoryInformation.getRepositoryInterface().getSimpleName();
+		statements.forEach((operation, statement) -> queryWarmUp
+			.register(repositoryName + "." + operation, renderer.render(statement), Collections.emptyMap()));
+	}
+
 	private static boolean isCompatibleType(Class<?> repositoryIdType, Class<?> entityIdType) {
 		return isCompatibleLongType(repositoryIdType, entityIdType)
 			|| isCompatibleIntegerType(repositoryIdType, entityIdType);
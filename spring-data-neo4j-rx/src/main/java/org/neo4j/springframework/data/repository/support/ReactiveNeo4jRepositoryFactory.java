@@ -22,11 +22,16 @@ import static org.neo4j.springframework.data.repository.support.Neo4jRepositoryF
 
 import java.util.Optional;
 
+import org.neo4j.springframework.data.core.QueryWarmUp;
 import org.neo4j.springframework.data.core.ReactiveNeo4jOperations;
+import org.neo4j.springframework.data.core.index.IndexAdvisor;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
 import org.neo4j.springframework.data.repository.ReactiveNeo4jRepository;
+import org.neo4j.springframework.data.repository.query.IndexAdvisingQueryCreationListener;
 import org.neo4j.springframework.data.repository.query.ReactiveNeo4jQueryLookupStrategy;
+import org.neo4j.springframework.data.repository.query.WarmUpQueryCreationListener;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ListableBeanFactory;
@@ -108,6 +113,22 @@ final class ReactiveNeo4jRepositoryFactory extends ReactiveRepositoryFactorySupp
 
 		super.setBeanFactory(beanFactory);
 
+		Neo4jMetrics metrics = beanFactory.getBeanProvider(Neo4jMetrics.class).getIfUnique(() -> Neo4jMetrics.NOOP);
+		if (metrics != Neo4jMetrics.NOOP) {
+			// Added first so that the timers see translated exceptions
+			addRepositoryProxyPostProcessor((factory, repositoryInformation) -> factory.addAdvice(
+				new ReactiveRepositoryMetricsInterceptor(repositoryInformation.getRepositoryInterface(), metrics)));
+		}
+
+		beanFactory.getBeanProvider(IndexAdvisor.class)
+			.ifUnique(indexAdvisor -> addQueryCreationListener(new IndexAdvisingQueryCreationListener(indexAdvisor)));
+
+		beanFactory.getBeanProvider(QueryWarmUp.class).ifUnique(queryWarmUp -> {
+			addQueryCreationListener(new WarmUpQueryCreationListener(queryWarmUp));
+			addRepositoryProxyPostProcessor((factory, repositoryInformation) -> registerCrudStatements(queryWarmUp,
+				repositoryInformation, mappingContext.getRequiredPersistentEntity(repositoryInformation.getDomainType())));
+		});
+
 		if (beanFactory instanceof ListableBeanFactory) {
 			addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
 				ReactivePersistenceExceptionTranslationInterceptor advice
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+import org.springframework.lang.Nullable;
+
+/**
+ * Records the duration of each invocation of a reactive repository method with {@link Neo4jMetrics}. If the method
+ * returns a {@link Mono} or {@link Flux}, the duration is measured from subscription until termination or
+ * cancellation. All other results are measured until the method returns.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+final class ReactiveRepositoryMetricsInterceptor implements MethodInterceptor {
+
+	private final Class<?> repositoryInterface;
+
+	private final Neo4jMetrics metrics;
+
+	ReactiveRepositoryMetricsInterceptor(Class<?> repositoryInterface, Neo4jMetrics metrics) {
+		this.repositoryInterface = repositoryInterface;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation mi) throws Throwable {
+
+		Method method = mi.getMethod();
+		Object result;
+		long start = System.nanoTime();
+		try {
+			result = mi.proceed();
+		} catch (Throwable e) {
+			metrics.recordRepositoryInvocation(repositoryInterface, method, System.nanoTime() - start, e);
+			throw e;
+		}
+
+		if (result instanceof Mono) {
+			return Mono.defer(() -> {
+				InvocationTimer timer = new InvocationTimer(method);
+				return ((Mono<?>) result)
+					.doOnSuccess(v -> timer.stop()).doOnError(timer::failed).doOnCancel(timer::stop);
+			});
+		} else if (result instanceof Flux) {
+			return Flux.defer(() -> {
+				InvocationTimer timer = new InvocationTimer(method);
+				return ((Flux<?>) result)
+					.doOnComplete(timer::stop).doOnError(timer::failed).doOnCancel(timer::stop);
+			});
+		} else {
+			metrics.recordRepositoryInvocation(repositoryInterface, method, System.nanoTime() - start, null);
+			return result;
+		}
+	}
+
+	/**
+	 * Measures one subscription. Only the first terminal signal is recorded.
+	 */
+	final class InvocationTimer {
+
+		private final Method method;
+		private final long start = System.nanoTime();
+		private final AtomicBoolean recorded = new AtomicBoolean();
+
+		InvocationTimer(Method method) {
+			this.method = method;
+		}
+
+		void stop() {
+			record(null);
+		}
+
+		void failed(Throwable error) {
+			record(error);
+		}
+
+		private void record(@Nullable Throwable error) {
+
+			if (recorded.compareAndSet(false, true)) {
+				metrics.recordRepositoryInvocation(repositoryInterface, method, System.nanoTime() - start, error);
+			}
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.support;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+
+/**
+ * Records the duration of each invocation of an imperative repository method with {@link Neo4jMetrics}.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+final class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+	private final Class<?> repositoryInterface;
+
+	private final Neo4jMetrics metrics;
+
+	RepositoryMetricsInterceptor(Class<?> repositoryInterface, Neo4jMetrics metrics) {
+		this.repositoryInterface = repositoryInterface;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation mi) throws Throwable {
+
+		long start = System.nanoTime();
+		Throwable error = null;
+		try {
+			return mi.proceed();
+		} catch (Throwable e) {
+			error = e;
+			throw e;
+		} finally {
+			metrics.recordRepositoryInvocation(repositoryInterface, mi.getMethod(), System.nanoTime() - start, error);
+		}
+	}
+}
@@ -24,6 +24,7 @@ import static org.neo4j.springframework.data.repository.query.CypherAdapterUtils
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.StreamSupport;
 
@@ -36,6 +37,7 @@ import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.reactive.ReactiveSortingRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -53,6 +55,21 @@ import org.springframework.util.Assert;
 @API(status = API.Status.STABLE, since = "1.0")
 public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepository<T, ID> {
 
+	/**
+	 * Maximum number of entities of a stream saved with one statement.
+	 */
+	private static final int SAVE_BATCH_SIZE = 1_000;
+
+	/**
+	 * Maximum time to wait for a batch of a stream being filled before it is saved.
+	 */
+	private static final Duration SAVE_BATCH_MAX_WAIT_TIME = Duration.ofMillis(100);
+
+	/**
+	 * Maximum number of batches of a stream saved concurrently.
+	 */
+	private static final int SAVE_BATCH_CONCURRENCY = 1;
+
 	private final ReactiveNeo4jOperations neo4jOperations;
 
 	private final Neo4jEntityInformation<T, ID> entityInformation;
@@ -138,11 +155,18 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 		return this.neo4jOperations.saveAll(entities);
 	}
 
+	/**
+	 * Saves the stream in batches. Doesn't participate in an ongoing transaction, so that each batch is committed on its
+	 * own.
+	 *
+	 * @see ReactiveNeo4jOperations#saveAll(Publisher, int, Duration, int)
+	 */
 	@Override
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
 
-		return Flux.from(entityStream).flatMap(this::save);
+		return this.neo4jOperations
+			.saveAll(entityStream, SAVE_BATCH_SIZE, SAVE_BATCH_MAX_WAIT_TIME, SAVE_BATCH_CONCURRENCY);
 	}
 
 	/*
@@ -19,6 +19,7 @@
 package org.neo4j.springframework.data.core
 
 import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
 import kotlinx.coroutines.reactive.asFlow
 import kotlinx.coroutines.reactive.awaitFirstOrNull
 import kotlinx.coroutines.reactive.awaitSingle
@@ -99,6 +100,16 @@ suspend inline fun <reified T : Any> ReactiveNeo4jClient.RecordFetchSpec<T>.awai
 inline fun <reified T : Any> ReactiveNeo4jClient.RecordFetchSpec<T>.fetchAll(): Flow<T> =
     all().asFlow()
 
+/**
+ * Coroutines [Flow] variant of [ReactiveNeo4jClient.RecordFetchSpec.all] requesting records in batches of [batchSize]
+ * elements. Use the fetch size of the driver to pull one batch of records per request.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+inline fun <reified T : Any> ReactiveNeo4jClient.RecordFetchSpec<T>.fetchAll(batchSize: Int): Flow<T> =
+    all().asFlow().buffer(batchSize)
+
 /**
  * Nullable Coroutines variant of [ReactiveNeo4jClient.RunnableDelegation.run].
  *
@@ -19,6 +19,7 @@
 package org.neo4j.springframework.data.core
 
 import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
 import kotlinx.coroutines.reactive.asFlow
 import kotlinx.coroutines.reactive.awaitFirstOrNull
 
@@ -31,6 +32,16 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
 inline fun <reified T : Any> ReactiveNeo4jOperations.ExecutableQuery<T>.fetchAllResults(): Flow<T> =
     results.asFlow()
 
+/**
+ * Coroutines [Flow] variant of [ReactiveNeo4jOperations.ExecutableQuery.getResults] requesting results in batches of
+ * [batchSize] elements.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+inline fun <reified T : Any> ReactiveNeo4jOperations.ExecutableQuery<T>.fetchAllResults(batchSize: Int): Flow<T> =
+    results.asFlow().buffer(batchSize)
+
 /**
  * Nullable Coroutines variant of [ReactiveNeo4jOperations.ExecutableQuery.getSingleResult].
  *
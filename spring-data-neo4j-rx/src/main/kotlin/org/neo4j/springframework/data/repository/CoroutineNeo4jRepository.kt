@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository
+
+import org.springframework.data.repository.NoRepositoryBean
+import org.springframework.data.repository.kotlin.CoroutineSortingRepository
+
+/**
+ * Neo4j specific [org.springframework.data.repository.Repository] interface for Kotlin Coroutines. All operations are
+ * either suspending functions or return a [kotlinx.coroutines.flow.Flow]. Repositories of this type are backed by the
+ * [org.neo4j.springframework.data.core.ReactiveNeo4jTemplate] and must be enabled with
+ * [org.neo4j.springframework.data.repository.config.EnableReactiveNeo4jRepositories].
+ *
+ * @param <T> type of the domain class to map
+ * @param <ID> identifier type in the domain class
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+@NoRepositoryBean
+interface CoroutineNeo4jRepository<T, ID> : CoroutineSortingRepository<T, ID>
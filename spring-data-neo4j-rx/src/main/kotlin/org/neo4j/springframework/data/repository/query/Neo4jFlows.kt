@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@file:JvmName("Neo4jFlows")
+
+package org.neo4j.springframework.data.repository.query
+
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.reactive.asFlow
+import org.reactivestreams.Publisher
+
+/**
+ * The number of records requested at once by flows returned from repository query methods. It is the same as the
+ * default fetch size of the driver, so that a batch of records demanded by a flow is pulled in one go.
+ */
+internal const val DEFAULT_FLOW_BATCH_SIZE = 1000
+
+/**
+ * Turns the publisher of a repository query method declaring [Flow] as return type into a flow. The flow requests
+ * the records in batches of [batchSize] elements. Records are mapped as they arrive, before they are handed over to
+ * the flow.
+ *
+ * @author Michael J. Simons
+ * @since 1.1
+ */
+internal fun <T : Any> asFlow(publisher: Publisher<T>, batchSize: Int = DEFAULT_FLOW_BATCH_SIZE): Flow<T> =
+    publisher.asFlow().buffer(batchSize)
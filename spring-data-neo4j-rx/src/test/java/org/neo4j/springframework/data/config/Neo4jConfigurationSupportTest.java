@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.springframework.data.core.schema.Node;
+
+/**
+ * @author Michael J. Simons
+ */
+class Neo4jConfigurationSupportTest {
+
+	@Test
+	void shouldScanForEntities() throws ClassNotFoundException {
+
+		Set<Class<?>> entities = new TestConfig()
+			.scanForEntities(Neo4jConfigurationSupportTest.class.getPackage().getName());
+		assertThat(entities).contains(IndexedThing.class, NotIndexedThing.class);
+	}
+
+	@Test
+	void shouldUseComponentIndexIfPresent(@TempDir Path tempDir) throws IOException, ClassNotFoundException {
+
+		Path index = tempDir.resolve("spring.components");
+		Files.write(index, Collections.singletonList(IndexedThing.class.getName() + "=" + Node.class.getName()),
+			StandardCharsets.ISO_8859_1);
+
+		Thread currentThread = Thread.currentThread();
+		ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+		try (IndexProvidingClassLoader classLoader = new IndexProvidingClassLoader(index.toUri().toURL(),
+			originalClassLoader)) {
+			currentThread.setContextClassLoader(classLoader);
+
+			Set<Class<?>> entities = new TestConfig()
+				.scanForEntities(Neo4jConfigurationSupportTest.class.getPackage().getName());
+			assertThat(entities).containsExactly(IndexedThing.class);
+		} finally {
+			currentThread.setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	static class TestConfig extends Neo4jConfigurationSupport {
+	}
+
+	@Node
+	static class IndexedThing {
+	}
+
+	@Node
+	static class NotIndexedThing {
+	}
+
+	static class IndexProvidingClassLoader extends URLClassLoader {
+
+		private final URL index;
+
+		IndexProvidingClassLoader(URL index, ClassLoader parent) {
+			super(new URL[0], parent);
+			this.index = index;
+		}
+
+		@Override
+		public Enumeration<URL> getResources(String name) throws IOException {
+
+			if ("META-INF/spring.components".equals(name)) {
+				return Collections.enumeration(Collections.singletonList(index));
+			}
+			return super.getResources(name);
+		}
+	}
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+
+/**
+ * @author Michael J. Simons
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncNeo4jClientTest {
+
+	@Mock
+	private Driver driver;
+
+	@Mock
+	private AsyncSession session;
+
+	@Mock
+	private AsyncTransaction transaction;
+
+	@Mock
+	private ResultCursor resultCursor;
+
+	@Mock
+	private ResultSummary resultSummary;
+
+	@Mock
+	private TypeSystem typeSystem;
+
+	@Mock
+	private Record record1;
+
+	@Mock
+	private Record record2;
+
+	void prepareMocks() {
+
+		when(driver.defaultTypeSystem()).thenReturn(typeSystem);
+		when(driver.asyncSession(any(SessionConfig.class))).thenReturn(session);
+		when(session.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+	}
+
+	@Test
+	void shouldFetchAllRecordsAndCloseTheSession() throws Exception {
+
+		prepareMocks();
+		when(session.runAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultCursor));
+		when(resultCursor.listAsync(any(Function.class))).then(invocation -> {
+			Function<Record, Object> mappingFunction = invocation.getArgument(0);
+			List<Object> result = new ArrayList<>();
+			for (Record record : Arrays.asList(record1, record2)) {
+				result.add(mappingFunction.apply(record));
+			}
+			return CompletableFuture.completedFuture(result);
+		});
+
+		AsyncNeo4jClient client = AsyncNeo4jClient.create(driver);
+		List<Map<String, Object>> records = client.query("MATCH (n) WHERE n.name = $name RETURN n")
+			.bind("Test").to("name")
+			.fetch().all()
+			.toCompletableFuture().get();
+
+		assertThat(records).hasSize(2);
+
+		InOrder inOrder = inOrder(session, resultCursor, record1, record2);
+		inOrder.verify(session).runAsync(eq("MATCH (n) WHERE n.name = $name RETURN n"), anyMap());
+		inOrder.verify(resultCursor).listAsync(any(Function.class));
+		inOrder.verify(record1).asMap();
+		inOrder.verify(record2).asMap();
+		inOrder.verify(session).closeAsync();
+	}
+
+	@Test
+	void shouldMapSingleValues() throws Exception {
+
+		prepareMocks();
+		when(session.runAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultCursor));
+		when(resultCursor.peekAsync()).thenReturn(CompletableFuture.completedFuture(record1));
+		when(resultCursor.singleAsync()).thenReturn(CompletableFuture.completedFuture(record1));
+		when(record1.size()).thenReturn(1);
+		when(record1.get(0)).thenReturn(Values.value(23L));
+
+		AsyncNeo4jClient client = AsyncNeo4jClient.create(driver);
+		Optional<Long> result = client.query("RETURN 23").fetchAs(Long.class).one().toCompletableFuture().get();
+
+		assertThat(result).hasValue(23L);
+		verify(session).closeAsync();
+	}
+
+	@Test
+	void shouldTranslateExceptions() {
+
+		prepareMocks();
+		CompletableFuture<ResultCursor> failedRun = new CompletableFuture<>();
+		failedRun.completeExceptionally(new ClientException("Neo.ClientError.Statement.SyntaxError", "Invalid input"));
+		when(session.runAsync(anyString(), anyMap())).thenReturn(failedRun);
+
+		AsyncNeo4jClient client = AsyncNeo4jClient.create(driver);
+		CompletionStage<ResultSummary> result = client.query("Hello").run();
+
+		assertThatExceptionOfType(ExecutionException.class)
+			.isThrownBy(() -> result.toCompletableFuture().get())
+			.withCauseInstanceOf(InvalidDataAccessResourceUsageException.class);
+		verify(session).closeAsync();
+	}
+
+	@Nested
+	class UnitOfWorkTest {
+
+		@Test
+		void shouldRunAllQueriesInOneTransaction() throws Exception {
+
+			prepareMocks();
+			when(session.beginTransactionAsync()).thenReturn(CompletableFuture.completedFuture(transaction));
+			when(transaction.runAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultCursor));
+			when(resultCursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(resultSummary));
+			when(transaction.commitAsync()).thenReturn(CompletableFuture.completedFuture(null));
+
+			AsyncNeo4jClient client = AsyncNeo4jClient.create(driver);
+			String result = client.doInUnitOfWork(null, boundClient -> boundClient.query("CREATE (n)").run()
+				.thenCompose(summary -> boundClient.query("CREATE (m)").run())
+				.thenApply(summary -> "done"))
+				.toCompletableFuture().get();
+
+			assertThat(result).isEqualTo("done");
+
+			InOrder inOrder = inOrder(driver, session, transaction, resultCursor);
+			inOrder.verify(driver).asyncSession(any(SessionConfig.class));
+			inOrder.verify(session).beginTransactionAsync();
+			inOrder.verify(transaction).runAsync(eq("CREATE (n)"), anyMap());
+			inOrder.verify(resultCursor).consumeAsync();
+			inOrder.verify(transaction).runAsync(eq("CREATE (m)"), anyMap());
+			inOrder.verify(resultCursor).consumeAsync();
+			inOrder.verify(transaction).commitAsync();
+			inOrder.verify(session).closeAsync();
+			verify(driver, times(1)).asyncSession(any(SessionConfig.class));
+			verify(session, never()).runAsync(anyString(), anyMap());
+		}
+
+		@Test
+		void shouldRollbackOnError() {
+
+			prepareMocks();
+			when(session.beginTransactionAsync()).thenReturn(CompletableFuture.completedFuture(transaction));
+			when(transaction.rollbackAsync()).thenReturn(CompletableFuture.completedFuture(null));
+
+			AsyncNeo4jClient client = AsyncNeo4jClient.create(driver);
+			CompletionStage<Object> result = client.doInUnitOfWork(null, boundClient -> {
+				throw new IllegalStateException("Something went wrong");
+			});
+
+			assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> result.toCompletableFuture().get())
+				.withCauseInstanceOf(IllegalStateException.class);
+			verify(transaction).rollbackAsync();
+			verify(transaction, never()).commitAsync();
+			verify(session).closeAsync();
+		}
+
+		@Test
+		void shouldNotLimitQueriesInsideUnitsOfWork() throws Exception {
+
+			prepareMocks();
+			when(session.beginTransactionAsync()).thenReturn(CompletableFuture.completedFuture(transaction));
+			when(session.runAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultCursor));
+			when(resultCursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(resultSummary));
+			when(transaction.commitAsync()).thenReturn(CompletableFuture.completedFuture(null));
+
+			AsyncNeo4jClient client = AsyncNeo4jClient.create(driver, 1);
+			String result = client.doInUnitOfWork(null, boundClient -> boundClient.query("CREATE (n)")
+				.in("anotherDatabase").run()
+				.thenApply(summary -> "done"))
+				.toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+			assertThat(result).isEqualTo("done");
+			verify(session).runAsync(eq("CREATE (n)"), anyMap());
+			verify(transaction).commitAsync();
+			verify(driver, times(2)).asyncSession(any(SessionConfig.class));
+		}
+	}
+
+	@Nested
+	class QueryExecutionListeners {
+
+		@Test
+		void shouldBeNotifiedBeforeAndAfterExecution() throws Exception {
+
+			prepareMocks();
+			when(session.runAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultCursor));
+			when(resultCursor.listAsync(any(Function.class))).then(invocation -> {
+				Function<Record, Object> mappingFunction = invocation.getArgument(0);
+				List<Object> result = new ArrayList<>();
+				for (Record record : Arrays.asList(record1, record2)) {
+					result.add(mappingFunction.apply(record));
+				}
+				return CompletableFuture.completedFuture(result);
+			});
+			when(resultCursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(resultSummary));
+
+			List<String> events = new ArrayList<>();
+			AsyncNeo4jClient client = AsyncNeo4jClient.with(driver)
+				.withQueryExecutionListener(new QueryExecutionListener() {
+					@Override
+					public void beforeExecute(QueryExecutionContext context) {
+						events.add("before " + context.getCypher() + " " + context.getParameters() + " in "
+							+ context.getDatabaseName());
+					}
+
+					@Override
+					public void afterExecute(QueryExecutionContext context, ResultSummary summary) {
+						events.add("after " + context.getRows() + " " + (summary == resultSummary));
+					}
+				})
+				.build();
+
+			String cypher = "MATCH (n) WHERE n.name = $name RETURN n";
+			client.query(cypher).in("aDatabase").bind("x").to("name").fetch().all().toCompletableFuture().get();
+
+			assertThat(events).containsExactly(
+				"before MATCH (n) WHERE n.name = $name RETURN n {name=x} in aDatabase",
+				"after 2 true");
+			verify(session).closeAsync();
+		}
+
+		@Test
+		void shouldBeNotifiedAboutErrors() {
+
+			prepareMocks();
+			CompletableFuture<ResultCursor> failedRun = new CompletableFuture<>();
+			ClientException error = new ClientException("Neo.ClientError.Statement.SyntaxError", "Invalid input");
+			failedRun.completeExceptionally(error);
+			when(session.runAsync(anyString(), anyMap())).thenReturn(failedRun);
+
+			List<Throwable> errors = new ArrayList<>();
+			AsyncNeo4jClient client = AsyncNeo4jClient.with(driver)
+				.withQueryExecutionListener(new QueryExecutionListener() {
+					@Override
+					public void onError(QueryExecutionContext context, Throwable e) {
+						errors.add(e);
+					}
+				})
+				.build();
+
+			CompletionStage<ResultSummary> result = client.query("Hello").run();
+
+			assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> result.toCompletableFuture().get())
+				.withCauseInstanceOf(InvalidDataAccessResourceUsageException.class);
+			assertThat(errors).hasSize(1).first().isInstanceOf(InvalidDataAccessResourceUsageException.class);
+		}
+	}
+
+	@Nested
+	class InFlightLimiterTest {
+
+		@Test
+		void shouldQueueOperationsExceedingTheLimit() {
+
+			DefaultAsyncNeo4jClient.InFlightLimiter limiter = new DefaultAsyncNeo4jClient.InFlightLimiter(2, Runnable::run);
+			List<CompletableFuture<Integer>> operations = Arrays
+				.asList(new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>());
+			List<Integer> started = new ArrayList<>();
+
+			List<CompletionStage<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < operations.size(); ++i) {
+				int index = i;
+				results.add(limiter.submit(() -> {
+					started.add(index);
+					return operations.get(index);
+				}));
+			}
+
+			assertThat(started).containsExactly(0, 1);
+			assertThat(limiter.getInFlight()).isEqualTo(2);
+
+			operations.get(1).complete(1);
+			assertThat(results.get(1).toCompletableFuture()).isCompletedWithValue(1);
+			assertThat(started).containsExactly(0, 1, 2);
+			assertThat(limiter.getInFlight()).isEqualTo(2);
+
+			operations.get(0).completeExceptionally(new IllegalStateException());
+			operations.get(2).complete(2);
+			assertThat(results.get(0).toCompletableFuture()).isCompletedExceptionally();
+			assertThat(results.get(2).toCompletableFuture()).isCompletedWithValue(2);
+			assertThat(limiter.getInFlight()).isZero();
+		}
+
+		@Test
+		void shouldStartQueuedOperationsOnTheExecutor() {
+
+			List<Runnable> tasks = new ArrayList<>();
+			DefaultAsyncNeo4jClient.InFlightLimiter limiter = new DefaultAsyncNeo4jClient.InFlightLimiter(1, tasks::add);
+			CompletableFuture<Integer> first = new CompletableFuture<>();
+			List<Integer> started = new ArrayList<>();
+
+			limiter.submit(() -> {
+				started.add(0);
+				return first;
+			});
+			CompletionStage<Integer> second = limiter.submit(() -> {
+				started.add(1);
+				return CompletableFuture.completedFuture(1);
+			});
+
+			first.complete(0);
+			assertThat(started).containsExactly(0);
+			assertThat(tasks).hasSize(1);
+
+			tasks.get(0).run();
+			assertThat(started).containsExactly(0, 1);
+			assertThat(second.toCompletableFuture()).isCompletedWithValue(1);
+			assertThat(limiter.getInFlight()).isZero();
+		}
+
+		@Test
+		void shouldStartQueuedOperationsCompletingImmediatelyInALoop() {
+
+			DefaultAsyncNeo4jClient.InFlightLimiter limiter = new DefaultAsyncNeo4jClient.InFlightLimiter(1, Runnable::run);
+			CompletableFuture<Integer> blocking = new CompletableFuture<>();
+			limiter.submit(() -> blocking);
+
+			// Those would be started recursively otherwise, one stack frame per operation
+			List<CompletionStage<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < 100_000; ++i) {
+				int value = i;
+				results.add(limiter.submit(() -> CompletableFuture.completedFuture(value)));
+			}
+
+			blocking.complete(-1);
+			assertThat(results).allSatisfy(result -> assertThat(result.toCompletableFuture()).isDone());
+			assertThat(results.get(99_999).toCompletableFuture()).isCompletedWithValue(99_999);
+			assertThat(limiter.getInFlight()).isZero();
+		}
+
+		@Test
+		void shouldRequirePositiveLimit() {
+
+			assertThatIllegalArgumentException().isThrownBy(() -> new DefaultAsyncNeo4jClient.InFlightLimiter(0, Runnable::run));
+		}
+	}
+}
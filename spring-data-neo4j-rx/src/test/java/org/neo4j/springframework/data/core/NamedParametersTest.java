@@ -99,6 +99,17 @@ class NamedParametersTest {
 		assertThat(new NamedParameters().get()).isEmpty();
 	}
 
+	@Test
+	void shouldNotExposeModifiableParameters() {
+
+		NamedParameters namedParameters = new NamedParameters();
+		namedParameters.add("a", 1);
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> namedParameters.get().put("a", 2));
+		assertThat(namedParameters.get()).containsEntry("a", 1);
+	}
+
 	@Nested
 	class ToString {
 
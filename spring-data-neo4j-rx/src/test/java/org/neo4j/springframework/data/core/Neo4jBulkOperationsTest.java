@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * @author Michael J. Simons
+ */
+@ExtendWith(MockitoExtension.class)
+class Neo4jBulkOperationsTest {
+
+	@Mock
+	private Neo4jTemplate neo4jTemplate;
+
+	@Test
+	void shouldSaveNodesOfEachChunkBeforeItsRelationships() {
+
+		List<String> events = Collections.synchronizedList(new ArrayList<>());
+		when(neo4jTemplate.saveNodes(anyList())).then(invocation -> {
+			List<Integer> chunk = invocation.getArgument(0);
+			events.add("nodes" + chunk.get(0));
+			return chunk;
+		});
+		when(neo4jTemplate.isSavingRelationshipsRepeatable(anyList())).thenReturn(true);
+		doAnswer(invocation -> {
+			List<Integer> chunk = invocation.getArgument(0);
+			return events.add("relationships" + chunk.get(0));
+		}).when(neo4jTemplate).saveRelationships(anyList());
+
+		List<Integer> entities = IntStream.range(0, 25).boxed().collect(Collectors.toList());
+		Neo4jBulkOperations.Progress progress = new Neo4jBulkOperations(neo4jTemplate, 10, 2, 0)
+			.importAll(entities.stream());
+
+		assertThat(progress.getSavedNodes()).isEqualTo(25L);
+		assertThat(progress.getSavedRelationships()).isEqualTo(25L);
+		assertThat(progress.getSavedChunks()).isEqualTo(6L);
+		assertThat(progress.getRetries()).isZero();
+		assertThat(events).hasSize(6);
+		for (int firstEntity = 0; firstEntity < 25; firstEntity += 10) {
+			assertThat(events.indexOf("nodes" + firstEntity)).isLessThan(events.indexOf("relationships" + firstEntity));
+		}
+
+		verify(neo4jTemplate, times(2)).saveNodes(argThat(chunk -> chunk.size() == 10));
+		verify(neo4jTemplate).saveNodes(argThat(chunk -> chunk.size() == 5));
+		verify(neo4jTemplate, times(3)).saveRelationships(anyList());
+	}
+
+	@Test
+	void shouldStartTheNextChunkWithoutWaitingForSlowChunks() {
+
+		CountDownLatch thirdChunkSaved = new CountDownLatch(1);
+		List<Boolean> overtaken = Collections.synchronizedList(new ArrayList<>());
+		when(neo4jTemplate.saveNodes(anyList())).then(invocation -> {
+			List<Integer> chunk = invocation.getArgument(0);
+			if (chunk.get(0) == 0) {
+				overtaken.add(thirdChunkSaved.await(5, TimeUnit.SECONDS));
+			} else if (chunk.get(0) == 20) {
+				thirdChunkSaved.countDown();
+			}
+			return Collections.emptyList();
+		});
+
+		Neo4jBulkOperations.Progress progress = new Neo4jBulkOperations(neo4jTemplate, 10, 2, 0)
+			.importAll(IntStream.range(0, 25).boxed().iterator());
+
+		assertThat(progress.getSavedNodes()).isEqualTo(25L);
+		assertThat(overtaken).containsExactly(true);
+	}
+
+	@Test
+	void shouldPostponeRelationshipsAssigningIdsUntilNoNodesAreSaved() {
+
+		AtomicInteger nodesInFlight = new AtomicInteger();
+		List<Integer> nodesInFlightWhileLinking = Collections.synchronizedList(new ArrayList<>());
+		when(neo4jTemplate.saveNodes(anyList())).then(invocation -> {
+			nodesInFlight.incrementAndGet();
+			try {
+				Thread.sleep(10);
+				return invocation.getArgument(0);
+			} finally {
+				nodesInFlight.decrementAndGet();
+			}
+		});
+		when(neo4jTemplate.isSavingRelationshipsRepeatable(anyList())).thenReturn(false);
+		doAnswer(invocation -> nodesInFlightWhileLinking.add(nodesInFlight.get()))
+			.when(neo4jTemplate).saveRelationships(anyList());
+
+		Neo4jBulkOperations.Progress progress = new Neo4jBulkOperations(neo4jTemplate, 10, 2, 0)
+			.importAll(IntStream.range(0, 55).boxed().iterator());
+
+		assertThat(progress.getSavedNodes()).isEqualTo(55L);
+		assertThat(progress.getSavedRelationships()).isEqualTo(55L);
+		assertThat(nodesInFlightWhileLinking).hasSize(6).containsOnly(0);
+	}
+
+	@Test
+	void shouldSkipRelationshipsIfNothingIsPending() {
+
+		when(neo4jTemplate.saveNodes(anyList())).thenReturn(Collections.emptyList());
+
+		Neo4jBulkOperations.Progress progress = new Neo4jBulkOperations(neo4jTemplate, 10, 2, 0)
+			.importAll(IntStream.range(0, 15).boxed().iterator());
+
+		assertThat(progress.getSavedNodes()).isEqualTo(15L);
+		assertThat(progress.getSavedRelationships()).isZero();
+		verify(neo4jTemplate, never()).saveRelationships(anyList());
+	}
+
+	@Test
+	void shouldRetryChunksFailingWithTransientErrors() {
+
+		when(neo4jTemplate.saveNodes(anyList()))
+			.thenThrow(new TransientDataAccessResourceException("Deadlock"))
+			.thenReturn(Collections.emptyList());
+
+		Neo4jBulkOperations.Progress progress = new Neo4jBulkOperations(neo4jTemplate, 10, 1, 1)
+			.importAll(IntStream.range(0, 5).boxed().iterator());
+
+		assertThat(progress.getSavedNodes()).isEqualTo(5L);
+		assertThat(progress.getRetries()).isEqualTo(1L);
+		verify(neo4jTemplate, times(2)).saveNodes(anyList());
+	}
+
+	@Test
+	void shouldRetryRelationshipsOnlyIfRepeatable() {
+
+		when(neo4jTemplate.saveNodes(anyList())).then(invocation -> invocation.getArgument(0));
+		doThrow(new TransientDataAccessResourceException("Deadlock")).when(neo4jTemplate).saveRelationships(anyList());
+		when(neo4jTemplate.isSavingRelationshipsRepeatable(anyList())).thenReturn(false);
+
+		Neo4jBulkOperations bulkOperations = new Neo4jBulkOperations(neo4jTemplate, 10, 1, 3);
+		assertThatExceptionOfType(TransientDataAccessResourceException.class)
+			.isThrownBy(() -> bulkOperations.importAll(IntStream.range(0, 5).boxed().iterator()));
+
+		verify(neo4jTemplate).saveRelationships(anyList());
+	}
+
+	@Test
+	void shouldNotRetryOtherErrors() {
+
+		when(neo4jTemplate.saveNodes(anyList())).thenThrow(new IllegalArgumentException("Invalid entity"));
+
+		Neo4jBulkOperations bulkOperations = new Neo4jBulkOperations(neo4jTemplate, 10, 1, 3);
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> bulkOperations.importAll(IntStream.range(0, 25).boxed().iterator()))
+			.withMessage("Invalid entity");
+
+		verify(neo4jTemplate).saveNodes(anyList());
+	}
+}
@@ -22,17 +22,26 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.hamcrest.MockitoHamcrest.argThat;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.assertj.core.matcher.AssertionMatcher;
@@ -41,6 +50,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -48,10 +58,13 @@ import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.internal.InternalRecord;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
 
 /**
  * @author Michael J. Simons
@@ -300,6 +313,39 @@ class Neo4jClientTest {
 			verify(session).close();
 		}
 
+		@Test
+		void shouldPreserveOrderWhenMappingInParallel() {
+
+			prepareMocks();
+
+			int numberOfRecords = 3 * DefaultNeo4jClient.PARALLEL_MAPPING_CHUNK_SIZE + 1;
+			Iterator<Record> records = IntStream.range(0, numberOfRecords)
+				.mapToObj(i -> (Record) new InternalRecord(Collections.singletonList("i"), new Value[] { Values.value(i) }))
+				.iterator();
+			when(session.run(anyString(), anyMap())).thenReturn(result);
+			when(result.hasNext()).then(invocation -> records.hasNext());
+			when(result.next()).then(invocation -> records.next());
+
+			Neo4jClient client = Neo4jClient.create(driver);
+
+			Collection<Integer> values = client
+				.query("UNWIND range(0, $n) AS i RETURN i")
+				.bind(numberOfRecords - 1).to("n")
+				.fetchAs(Integer.class).mappedBy((t, r) -> r.get("i").asInt())
+				.mappedInParallel(new ForkJoinPool(4))
+				.all();
+
+			assertThat(values).containsExactlyElementsOf(
+				IntStream.range(0, numberOfRecords).boxed().collect(Collectors.toList()));
+
+			verifyDatabaseSelection(null);
+
+			verify(session).run(eq("UNWIND range(0, $n) AS i RETURN i"), anyMap());
+			verify(result, atLeast(numberOfRecords)).hasNext();
+			verify(result, times(numberOfRecords)).next();
+			verify(session).close();
+		}
+
 		@Test
 		void writing() {
 
@@ -389,6 +435,200 @@ class Neo4jClientTest {
 		verify(session).close();
 	}
 
+	@Nested
+	@DisplayName("Metrics")
+	class Metrics {
+
+		@Mock
+		private Neo4jMetrics metrics;
+
+		@Test
+		void shouldRecordRowsAndSummaryOfQueries() {
+
+			prepareMocks();
+
+			when(session.run(anyString(), anyMap())).thenReturn(result);
+			when(result.stream()).thenReturn(Stream.of(record1, record2));
+			when(result.consume()).thenReturn(resultSummary);
+
+			Neo4jClient client = Neo4jClient.with(driver).withMetrics(metrics).build();
+
+			String cypher = "MATCH (n) RETURN n";
+			Collection<Map<String, Object>> all = client.query(cypher).in("aDatabase").fetch().all();
+			assertThat(all).hasSize(2);
+
+			verifyDatabaseSelection("aDatabase");
+			verify(session).run(eq(cypher), anyMap());
+			verify(result).stream();
+			verify(result).consume();
+			verify(record1).asMap();
+			verify(record2).asMap();
+			verify(session).close();
+			verify(metrics).recordQuery(eq("aDatabase"), anyLong(), anyLong(), eq(2L), eq(resultSummary), isNull());
+		}
+
+		@Test
+		void shouldRecordFailedQueries() {
+
+			prepareMocks();
+
+			IllegalStateException error = new IllegalStateException("Boom");
+			when(session.run(anyString(), anyMap())).thenThrow(error);
+
+			Neo4jClient client = Neo4jClient.with(driver).withMetrics(metrics).build();
+
+			String cypher = "RETURN 1";
+			assertThatIllegalStateException().isThrownBy(() -> client.query(cypher).run());
+
+			verifyDatabaseSelection(null);
+			verify(session).run(eq(cypher), anyMap());
+			verify(session).close();
+			verify(metrics).recordQuery(isNull(), anyLong(), eq(0L), eq(0L), isNull(), eq(error));
+		}
+
+		@Test
+		void shouldNotConsumeResultsWithoutMetrics() {
+
+			prepareMocks();
+
+			when(session.run(anyString(), anyMap())).thenReturn(result);
+			when(result.stream()).thenReturn(Stream.of(record1, record2));
+
+			Neo4jClient client = Neo4jClient.with(driver).build();
+
+			String cypher = "MATCH (n) RETURN n";
+			Optional<Map<String, Object>> first = client.query(cypher).fetch().first();
+			assertThat(first).isPresent();
+
+			verifyDatabaseSelection(null);
+			verify(session).run(eq(cypher), anyMap());
+			verify(result).stream();
+			verify(record1).asMap();
+			verify(session).close();
+			verifyNoInteractions(metrics);
+		}
+
+		@Test
+		void shouldEmitMappingEventsWhenEnabled(@TempDir Path tempDir) throws Exception {
+
+			prepareMocks();
+
+			when(session.run(anyString(), anyMap())).thenReturn(result);
+			when(result.stream()).thenReturn(Stream.of(record1, record2));
+			when(result.consume()).thenReturn(resultSummary);
+			when(record1.size()).thenReturn(1);
+			when(record2.size()).thenReturn(2);
+
+			Neo4jClient client = Neo4jClient.with(driver).build();
+
+			String cypher = "MATCH (n) RETURN n";
+			Path dump = tempDir.resolve("neo4j.jfr");
+			try (Recording recording = new Recording()) {
+				recording.enable("org.neo4j.springframework.data.Mapping");
+				recording.start();
+
+				Collection<String> all = client.query(cypher).fetchAs(String.class).mappedBy((t, r) -> "n").all();
+				assertThat(all).containsExactly("n", "n");
+
+				recording.stop();
+				recording.dump(dump);
+			}
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+			assertThat(events).extracting(event -> event.getClass("entityType").getName())
+				.containsOnly(String.class.getName());
+			assertThat(events).extracting(event -> event.getLong("values")).containsExactly(1L, 2L);
+
+			verifyDatabaseSelection(null);
+			verify(session).run(eq(cypher), anyMap());
+			verify(result).stream();
+			verify(result).consume();
+			verify(record1).size();
+			verify(record2).size();
+			verify(session).close();
+		}
+	}
+
+	@Nested
+	@DisplayName("Query execution listeners")
+	class QueryExecutionListeners {
+
+		@Test
+		void shouldBeNotifiedBeforeAndAfterExecution() {
+
+			prepareMocks();
+
+			when(session.run(anyString(), anyMap())).thenReturn(result);
+			when(result.stream()).thenReturn(Stream.of(record1, record2));
+			when(result.consume()).thenReturn(resultSummary);
+
+			List<String> events = new ArrayList<>();
+			QueryExecutionListener listener = new QueryExecutionListener() {
+				@Override
+				public void beforeExecute(QueryExecutionContext context) {
+					events.add("before " + context.getCypher() + " " + context.getParameters() + " in "
+						+ context.getDatabaseName());
+					context.setAttribute("marker", "x");
+				}
+
+				@Override
+				public void afterExecute(QueryExecutionContext context, ResultSummary summary) {
+					events.add("after " + context.getRows() + " " + context.getAttribute("marker")
+						+ " " + (summary == resultSummary) + " " + (context.getElapsedNanos() >= 0));
+				}
+			};
+			Neo4jClient client = Neo4jClient.with(driver).withQueryExecutionListener(listener).build();
+
+			String cypher = "MATCH (n) WHERE n.name = $name RETURN n";
+			client.query(cypher).in("aDatabase").bind("x").to("name").fetch().all();
+
+			assertThat(events).containsExactly(
+				"before MATCH (n) WHERE n.name = $name RETURN n {name=x} in aDatabase",
+				"after 2 x true true");
+
+			verifyDatabaseSelection("aDatabase");
+			verify(session).run(eq(cypher), anyMap());
+			verify(result).stream();
+			verify(result).consume();
+			verify(record1).asMap();
+			verify(record2).asMap();
+			verify(session).close();
+		}
+
+		@Test
+		void shouldBeNotifiedAboutErrorsAndIsolated() {
+
+			prepareMocks();
+
+			IllegalStateException error = new IllegalStateException("Boom");
+			when(session.run(anyString(), anyMap())).thenThrow(error);
+
+			List<Throwable> errors = new ArrayList<>();
+			Neo4jClient client = Neo4jClient.with(driver)
+				.withQueryExecutionListener(new QueryExecutionListener() {
+					@Override
+					public void beforeExecute(QueryExecutionContext context) {
+						throw new UnsupportedOperationException("Listeners must not break queries");
+					}
+				})
+				.withQueryExecutionListener(new QueryExecutionListener() {
+					@Override
+					public void onError(QueryExecutionContext context, Throwable e) {
+						errors.add(e);
+					}
+				})
+				.build();
+
+			String cypher = "RETURN 1";
+			assertThatIllegalStateException().isThrownBy(() -> client.query(cypher).run());
+			assertThat(errors).containsExactly(error);
+
+			verifyDatabaseSelection(null);
+			verify(session).run(eq(cypher), anyMap());
+			verify(session).close();
+		}
+	}
+
 	static class BikeOwner {
 
 		private final String name;
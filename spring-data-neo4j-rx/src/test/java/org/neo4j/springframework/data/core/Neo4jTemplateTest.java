@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.springframework.data.core.metrics.Neo4jMetrics;
+import org.neo4j.springframework.data.core.schema.GeneratedValue;
+import org.neo4j.springframework.data.core.schema.Id;
+import org.neo4j.springframework.data.core.schema.Node;
+import org.neo4j.springframework.data.core.transaction.Neo4jTransactionManager;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * @author Michael J. Simons
+ */
+@ExtendWith(MockitoExtension.class)
+class Neo4jTemplateTest {
+
+	@Mock
+	private Neo4jClient neo4jClient;
+
+	@Mock
+	private Neo4jMetrics metrics;
+
+	private Neo4jTemplate neo4jTemplate;
+
+	@BeforeEach
+	void createTemplate() {
+
+		lenient().when(neo4jClient.doInUnitOfWork(isNull(), any(Supplier.class))).thenReturn(Collections.emptyList());
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("neo4jMetrics", metrics);
+		neo4jTemplate = new Neo4jTemplate(neo4jClient);
+		neo4jTemplate.setBeanFactory(beanFactory);
+	}
+
+	@Test
+	void shouldNotIterateInstancesToTagMetrics() {
+
+		Iterable<Object> iterableOnlyOnce = mock(Iterable.class);
+		neo4jTemplate.saveAll(iterableOnlyOnce);
+
+		verifyNoInteractions(iterableOnlyOnce);
+		verify(metrics).recordOperation(eq("saveAll"), eq(Object.class), isNull(), anyLong(), isNull());
+	}
+
+	@Test
+	void shouldTagMetricsWithCommonElementType() {
+
+		neo4jTemplate.saveAll(Arrays.asList(1, 2));
+		neo4jTemplate.saveAll(Arrays.asList(1, "2"));
+
+		verify(metrics).recordOperation(eq("saveAll"), eq(Integer.class), isNull(), anyLong(), isNull());
+		verify(metrics).recordOperation(eq("saveAll"), eq(Object.class), isNull(), anyLong(), isNull());
+	}
+
+	@Test
+	void shouldRestoreInternalIdsWhenSavingNodesFails() {
+
+		Neo4jClient failingClient = mock(Neo4jClient.class, RETURNS_DEEP_STUBS);
+		when(failingClient.doInUnitOfWork(isNull(), any(Supplier.class)))
+			.then(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+		when(failingClient.query(any(Supplier.class)).in(any()).bind(any()).with(any()).fetchAs(Long.class).one())
+			.thenReturn(Optional.of(23L))
+			.thenThrow(new TransientDataAccessResourceException("Deadlock"));
+
+		EntityWithInternalId saved = new EntityWithInternalId();
+		EntityWithInternalId failing = new EntityWithInternalId();
+		Neo4jTemplate template = new Neo4jTemplate(failingClient);
+		assertThatExceptionOfType(TransientDataAccessResourceException.class)
+			.isThrownBy(() -> template.saveNodes(Arrays.asList(saved, failing)));
+
+		// Otherwise a retry would update the node that has been rolled back instead of creating it
+		assertThat(saved.id).isNull();
+		assertThat(failing.id).isNull();
+	}
+
+	@Nested
+	class DeleteAllInBatches {
+
+		@Mock
+		private Driver driver;
+
+		@Mock
+		private Session session;
+
+		@Mock
+		private Transaction transaction;
+
+		@Mock(answer = Answers.RETURNS_DEEP_STUBS)
+		private Result result;
+
+		@BeforeEach
+		void prepareMocks() {
+
+			when(driver.session(any(SessionConfig.class))).thenReturn(session);
+			when(transaction.run(anyString(), anyMap())).thenReturn(result);
+			when(result.consume().counters().nodesDeleted()).thenReturn(10, 3);
+		}
+
+		@Test
+		void shouldCommitEachBatchAndPauseWhenOnlySynchronizationIsActive() {
+
+			when(session.beginTransaction()).thenReturn(transaction);
+
+			TransactionTemplate txTemplate = new TransactionTemplate(new Neo4jTransactionManager(driver));
+			txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+			Neo4jTemplate template = new Neo4jTemplate(new DefaultNeo4jClient(driver));
+
+			long start = System.nanoTime();
+			Long deletedNodes = txTemplate
+				.execute(tx -> template.deleteAll(EntityWithInternalId.class, 10, Duration.ofMillis(100)));
+
+			assertThat(deletedNodes).isEqualTo(13L);
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+
+			InOrder inOrder = inOrder(transaction);
+			inOrder.verify(transaction).run(anyString(), anyMap());
+			inOrder.verify(transaction).commit();
+			inOrder.verify(transaction).run(anyString(), anyMap());
+			inOrder.verify(transaction).commit();
+			verify(session, never()).beginTransaction(any(TransactionConfig.class));
+		}
+
+		@Test
+		void shouldNotPauseBetweenBatchesOfABoundNeo4jTransaction() {
+
+			when(session.isOpen()).thenReturn(true);
+			when(session.beginTransaction(any(TransactionConfig.class))).thenReturn(transaction);
+			when(transaction.isOpen()).thenReturn(true);
+
+			TransactionTemplate txTemplate = new TransactionTemplate(new Neo4jTransactionManager(driver));
+			Neo4jTemplate template = new Neo4jTemplate(new DefaultNeo4jClient(driver));
+
+			// The transaction is bound to the thread running the timed operation
+			Long deletedNodes = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> txTemplate
+				.execute(tx -> template.deleteAll(EntityWithInternalId.class, 10, Duration.ofHours(1))));
+
+			assertThat(deletedNodes).isEqualTo(13L);
+			verify(transaction, times(2)).run(anyString(), anyMap());
+			verify(transaction).commit();
+			verify(session, never()).beginTransaction();
+		}
+	}
+
+	@Node
+	static class EntityWithInternalId {
+
+		@Id @GeneratedValue
+		private Long id;
+	}
+}
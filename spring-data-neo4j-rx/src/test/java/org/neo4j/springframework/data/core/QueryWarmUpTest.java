@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.exceptions.ClientException;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * @author Michael J. Simons
+ */
+@ExtendWith(MockitoExtension.class)
+class QueryWarmUpTest {
+
+	@Mock
+	private Driver driver;
+
+	@Mock
+	private Session session;
+
+	@Mock
+	private Result result;
+
+	@BeforeEach
+	void setup() {
+
+		when(driver.session(any(SessionConfig.class))).thenReturn(session);
+	}
+
+	@Test
+	void shouldExplainEachDistinctStatementOnce() {
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+
+		QueryWarmUp queryWarmUp = new QueryWarmUp(driver, null, 2);
+		queryWarmUp.register("ThingRepository.findAll", "MATCH (n:Thing) RETURN n", Collections.emptyMap());
+		queryWarmUp.register("OtherThingRepository.findAll", "MATCH (n:Thing) RETURN n", Collections.emptyMap());
+		queryWarmUp.register("ThingRepository.findByName", "MATCH (n:Thing) WHERE n.name = $name RETURN n",
+			Collections.singletonMap("name", null));
+
+		List<QueryWarmUp.Result> results = queryWarmUp.warmUp();
+
+		assertThat(results).hasSize(2).allMatch(QueryWarmUp.Result::isSuccessful);
+		assertThat(results).extracting(QueryWarmUp.Result::getOrigin)
+			.containsExactlyInAnyOrder("ThingRepository.findAll", "ThingRepository.findByName");
+		verify(session).run("EXPLAIN MATCH (n:Thing) RETURN n", Collections.emptyMap());
+		verify(session).run("EXPLAIN MATCH (n:Thing) WHERE n.name = $name RETURN n",
+			Collections.singletonMap("name", null));
+		verify(session, times(2)).close();
+	}
+
+	@Test
+	void shouldReportFailures() {
+
+		when(session.run(anyString(), anyMap())).thenThrow(new ClientException("Invalid input"));
+
+		QueryWarmUp queryWarmUp = new QueryWarmUp(driver, null, 1);
+		queryWarmUp.register("ThingRepository.findAll", "MATCH (n:Thing) RETURN", Collections.emptyMap());
+
+		List<QueryWarmUp.Result> results = queryWarmUp.warmUp();
+
+		assertThat(results).hasSize(1);
+		assertThat(results.get(0).isSuccessful()).isFalse();
+		assertThat(results.get(0).getFailure()).hasValueSatisfying(e -> assertThat(e).hasMessage("Invalid input"));
+	}
+
+	@Test
+	void shouldWarmUpOnlyOnFirstRefresh() {
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+
+		QueryWarmUp queryWarmUp = new QueryWarmUp(driver, null, 1);
+		queryWarmUp.register("ThingRepository.findAll", "MATCH (n:Thing) RETURN n", Collections.emptyMap());
+
+		ContextRefreshedEvent event = new ContextRefreshedEvent(new GenericApplicationContext());
+		queryWarmUp.onApplicationEvent(event);
+		queryWarmUp.onApplicationEvent(event);
+
+		verify(session).run(anyString(), anyMap());
+	}
+}
@@ -25,13 +25,18 @@ import static org.mockito.hamcrest.MockitoHamcrest.argThat;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,8 +48,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.internal.InternalRecord;
 import org.neo4j.driver.reactive.RxResult;
 import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.driver.reactive.RxTransaction;
@@ -210,6 +217,49 @@ class ReactiveNeo4jClientTest {
 		verify(driver).defaultTypeSystem();
 	}
 
+	@Test
+	void queryExecutionListenersShouldBeNotified() {
+
+		prepareMocks();
+
+		when(transaction.run(anyString(), anyMap())).thenReturn(result);
+		when(transaction.commit()).thenReturn(Mono.empty());
+		when(result.records()).thenReturn(Flux.just(record1, record2));
+		when(result.consume()).thenReturn(Mono.just(resultSummary));
+
+		List<String> events = new ArrayList<>();
+		ReactiveNeo4jClient client = ReactiveNeo4jClient.with(driver)
+			.withQueryExecutionListener(new QueryExecutionListener() {
+				@Override
+				public void beforeExecute(QueryExecutionContext context) {
+					events.add("before " + context.getCypher());
+				}
+
+				@Override
+				public void afterExecute(QueryExecutionContext context, ResultSummary summary) {
+					events.add("after " + context.getRows() + " " + (summary == resultSummary));
+				}
+			})
+			.build();
+
+		String cypher = "MATCH (n) RETURN n";
+		StepVerifier.create(client.query(cypher).fetch().all())
+			.expectNextCount(2L)
+			.verifyComplete();
+
+		assertThat(events).containsExactly("before MATCH (n) RETURN n", "after 2 true");
+
+		verifyDatabaseSelection(null);
+		verify(transaction).run(eq(cypher), anyMap());
+		verify(result).records();
+		verify(result).consume();
+		verify(record1).asMap();
+		verify(record2).asMap();
+		verify(transaction).commit();
+		verify(transaction).rollback();
+		verify(session).close();
+	}
+
 	@Nested
 	@DisplayName("Callback handling should feel good")
 	class CallbackHandlingShouldFeelGood {
@@ -341,6 +391,39 @@ class ReactiveNeo4jClientTest {
 			verify(session).close();
 		}
 
+		@Test
+		void shouldPreserveOrderWhenMappingInParallel() {
+
+			prepareMocks();
+
+			int numberOfRecords = 3 * DefaultNeo4jClient.PARALLEL_MAPPING_CHUNK_SIZE + 1;
+			when(transaction.run(anyString(), anyMap())).thenReturn(result);
+			when(transaction.commit()).thenReturn(Mono.empty());
+			when(result.records()).thenReturn(Flux.range(0, numberOfRecords)
+				.map(i -> new InternalRecord(Collections.singletonList("i"), new Value[] { Values.value(i) })));
+
+			ReactiveNeo4jClient client = ReactiveNeo4jClient.create(driver);
+			Flux<Integer> values = client
+				.query("UNWIND range(0, $n) AS i RETURN i")
+				.bind(numberOfRecords - 1).to("n")
+				.fetchAs(Integer.class).mappedBy((t, r) -> r.get("i").asInt())
+				.mappedInParallel(Schedulers.parallel())
+				.all();
+
+			StepVerifier.create(values.collectList())
+				.assertNext(v -> assertThat(v).containsExactlyElementsOf(
+					IntStream.range(0, numberOfRecords).boxed().collect(Collectors.toList())))
+				.verifyComplete();
+
+			verifyDatabaseSelection(null);
+
+			verify(transaction).run(eq("UNWIND range(0, $n) AS i RETURN i"), anyMap());
+			verify(result).records();
+			verify(transaction).commit();
+			verify(transaction).rollback();
+			verify(session).close();
+		}
+
 		@Test
 		void writing() {
 
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+
+/**
+ * @author Michael J. Simons
+ */
+class ReactiveNeo4jTemplateTest {
+
+	private final List<Integer> batchSizes = new ArrayList<>();
+
+	private ReactiveNeo4jTemplate template;
+
+	@BeforeEach
+	void createTemplateWithSlowSaves() {
+
+		template = spy(new ReactiveNeo4jTemplate(mock(ReactiveNeo4jClient.class), new Neo4jMappingContext(),
+			ReactiveDatabaseSelectionProvider.getDefaultSelectionProvider()));
+		doAnswer(invocation -> {
+			Collection<Integer> batch = invocation.getArgument(0);
+			batchSizes.add(batch.size());
+			return Flux.fromIterable(batch).delaySubscription(Duration.ofMillis(20));
+		}).when(template).saveAll(anyIterable());
+	}
+
+	@Test
+	void shouldBatchFastSourcesWithoutOverflowingSlowSaves() {
+
+		Flux<Integer> fastSource = Flux.range(0, 100).delayElements(Duration.ofMillis(1));
+		StepVerifier.create(template.saveAll(fastSource, 10, Duration.ofMillis(2), 1))
+			.expectNextSequence(IntStream.range(0, 100).boxed().collect(Collectors.toList()))
+			.verifyComplete();
+
+		assertThat(batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 10));
+		assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(100);
+	}
+
+	@Test
+	void shouldSaveIncompleteBatchesAfterMaxWaitTime() {
+
+		Flux<Integer> stalledSource = Flux.just(1, 2).concatWith(Flux.never());
+		StepVerifier.create(template.saveAll(stalledSource, 10, Duration.ofMillis(10), 1))
+			.expectNext(1, 2)
+			.thenCancel()
+			.verify(Duration.ofSeconds(5));
+
+		assertThat(batchSizes).containsExactly(2);
+	}
+
+	@Test
+	void shouldStartTheMaxWaitTimeWithTheFirstInstanceOfEachBatch() {
+
+		// Instances arrive after 90, 150 and 210 milliseconds, the first two belong to the same batch
+		StepVerifier.withVirtualTime(() -> template.saveAll(
+			Flux.just(1, 2, 3).delayElements(Duration.ofMillis(60)).delaySubscription(Duration.ofMillis(30))
+				.concatWith(Flux.never()), 2, Duration.ofMillis(100), 1))
+			.expectSubscription()
+			.expectNoEvent(Duration.ofMillis(169))
+			.thenAwait(Duration.ofMillis(1))
+			.expectNext(1, 2)
+			.expectNoEvent(Duration.ofMillis(159))
+			.thenAwait(Duration.ofMillis(1))
+			.expectNext(3)
+			.thenCancel()
+			.verify(Duration.ofSeconds(5));
+
+		assertThat(batchSizes).containsExactly(2, 1);
+	}
+}
@@ -22,9 +22,11 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Collections;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.AfterEach;
@@ -33,9 +35,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.Transaction;
 import org.neo4j.driver.TransactionConfig;
@@ -44,6 +48,10 @@ import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.driver.reactive.RxTransaction;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.transaction.Neo4jTransactionManager;
+import org.neo4j.springframework.data.core.transaction.ReactiveNeo4jTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
 /**
@@ -144,6 +152,213 @@ class TransactionHandlingTest {
 				verifyNoMoreInteractions(driver, session, transaction);
 			}
 		}
+
+		@Nested
+		class UnitOfWorkTest {
+
+			@Test
+			void shouldShareSessionAndTransaction() {
+
+				when(driver.session(any(SessionConfig.class))).thenReturn(session);
+				when(session.beginTransaction()).thenReturn(transaction);
+
+				DefaultNeo4jClient neo4jClient = new DefaultNeo4jClient(driver);
+				String result = neo4jClient.doInUnitOfWork("aDatabase", () -> {
+					try (DefaultNeo4jClient.AutoCloseableQueryRunner s = neo4jClient.getQueryRunner("aDatabase")) {
+						s.run("CREATE (n:A)");
+					}
+					try (DefaultNeo4jClient.AutoCloseableQueryRunner s = neo4jClient.getQueryRunner("aDatabase")) {
+						s.run("CREATE (n:B)");
+					}
+					return "done";
+				});
+				assertThat(result).isEqualTo("done");
+
+				verify(driver).session(any(SessionConfig.class));
+				verify(session).beginTransaction();
+				verify(transaction, times(2)).run(anyString());
+				verify(transaction).commit();
+				verify(transaction).close();
+				verify(session).close();
+				verifyNoMoreInteractions(driver, session, transaction);
+			}
+
+			@Test
+			void shouldNotCommitOnError() {
+
+				when(driver.session(any(SessionConfig.class))).thenReturn(session);
+				when(session.beginTransaction()).thenReturn(transaction);
+
+				DefaultNeo4jClient neo4jClient = new DefaultNeo4jClient(driver);
+				assertThatExceptionOfType(SomeException.class).isThrownBy(() -> neo4jClient.doInUnitOfWork(null, () -> {
+					try (DefaultNeo4jClient.AutoCloseableQueryRunner s = neo4jClient.getQueryRunner(null)) {
+						s.run("CREATE (n:A)");
+					}
+					throw new SomeException();
+				}));
+
+				verify(driver).session(any(SessionConfig.class));
+				verify(session).beginTransaction();
+				verify(transaction).run(anyString());
+				verify(transaction).close();
+				verify(session).close();
+				verifyNoMoreInteractions(driver, session, transaction);
+			}
+
+			@Test
+			void shouldUseOwnSessionForOtherDatabases() {
+
+				Session otherSession = mock(Session.class);
+				when(driver.session(any(SessionConfig.class))).thenReturn(session, otherSession);
+				when(session.beginTransaction()).thenReturn(transaction);
+
+				DefaultNeo4jClient neo4jClient = new DefaultNeo4jClient(driver);
+				neo4jClient.doInUnitOfWork("aDatabase", () -> {
+					try (DefaultNeo4jClient.AutoCloseableQueryRunner s = neo4jClient.getQueryRunner("anotherDatabase")) {
+						s.run("CREATE (n:A)");
+					}
+					return null;
+				});
+
+				verify(driver, times(2)).session(any(SessionConfig.class));
+				verify(otherSession).run(anyString());
+				verify(otherSession).close();
+				verify(transaction).commit();
+				verify(transaction).close();
+				verify(session).beginTransaction();
+				verify(session).close();
+				verifyNoMoreInteractions(driver, session, otherSession, transaction);
+			}
+
+			@Test
+			void shouldStartUnitOfWorkWhenOnlySynchronizationIsActive() {
+
+				when(driver.session(any(SessionConfig.class))).thenReturn(session);
+				when(session.beginTransaction()).thenReturn(transaction);
+
+				TransactionTemplate txTemplate = new TransactionTemplate(new Neo4jTransactionManager(driver));
+				txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+
+				DefaultNeo4jClient neo4jClient = new DefaultNeo4jClient(driver);
+				txTemplate.execute(tx -> neo4jClient.doInUnitOfWork("aDatabase", () -> {
+					assertThat(neo4jClient.isInUnitOfWork()).isTrue();
+					try (DefaultNeo4jClient.AutoCloseableQueryRunner s = neo4jClient.getQueryRunner("aDatabase")) {
+						s.run("CREATE (n:A)");
+					}
+					return null;
+				}));
+
+				verify(driver).session(any(SessionConfig.class));
+				verify(session).beginTransaction();
+				verify(transaction).run(anyString());
+				verify(transaction).commit();
+				verify(transaction).close();
+				verify(session).close();
+				verifyNoMoreInteractions(driver, session, transaction);
+			}
+
+			@Test
+			void shouldParticipateInOngoingNeo4jTransaction() {
+
+				when(driver.session(any(SessionConfig.class))).thenReturn(session);
+				when(session.isOpen()).thenReturn(true);
+				when(session.beginTransaction(any(TransactionConfig.class))).thenReturn(transaction);
+				when(transaction.isOpen()).thenReturn(true);
+
+				TransactionTemplate txTemplate = new TransactionTemplate(new Neo4jTransactionManager(driver));
+
+				DefaultNeo4jClient neo4jClient = new DefaultNeo4jClient(driver);
+				txTemplate.execute(tx -> neo4jClient.doInUnitOfWork("aDatabase", () -> {
+					assertThat(neo4jClient.isInUnitOfWork()).isTrue();
+					try (DefaultNeo4jClient.AutoCloseableQueryRunner s = neo4jClient.getQueryRunner(null)) {
+						s.run("CREATE (n:A)");
+					}
+					return null;
+				}));
+
+				verify(session, never()).beginTransaction();
+				verify(transaction).run(anyString());
+				verify(transaction).commit();
+			}
+		}
+
+		@Nested
+		class PipelineTest {
+
+			@Mock
+			private Result result1;
+
+			@Mock
+			private Result result2;
+
+			@Test
+			void shouldConsumeStatementsDirectlyWithoutTransaction() {
+
+				when(driver.session(any(SessionConfig.class))).thenReturn(session);
+				when(session.run(anyString(), anyMap())).thenReturn(result1, result2);
+
+				DefaultNeo4jClient neo4jClient = new DefaultNeo4jClient(driver);
+				Neo4jClient.Pipeline pipeline = neo4jClient.pipeline()
+					.add("CREATE (n:A)", Collections.emptyMap());
+				verify(result1).consume();
+
+				pipeline.add("CREATE (n:B)", Collections.emptyMap());
+				verify(result2).consume();
+
+				assertThat(pipeline.sync()).hasSize(2);
+
+				verify(driver, times(2)).session(any(SessionConfig.class));
+				verify(session, times(2)).run(anyString(), anyMap());
+				verify(session, times(2)).close();
+				verifyNoMoreInteractions(driver, session, transaction, result1, result2);
+			}
+
+			@Test
+			void shouldDeferConsumptionInsideTransaction() {
+
+				AtomicBoolean transactionIsOpen = new AtomicBoolean(true);
+
+				when(driver.session(any(SessionConfig.class))).thenReturn(session);
+				when(session.isOpen()).thenReturn(true);
+				when(session.beginTransaction(any(TransactionConfig.class))).thenReturn(transaction);
+				doAnswer(invocation -> {
+					transactionIsOpen.set(false);
+					return null;
+				}).when(transaction).close();
+				when(transaction.isOpen()).thenAnswer(invocation -> transactionIsOpen.get());
+				when(transaction.run(anyString(), anyMap())).thenReturn(result1, result2);
+
+				Neo4jTransactionManager txManager = new Neo4jTransactionManager(driver);
+				TransactionTemplate txTemplate = new TransactionTemplate(txManager);
+
+				DefaultNeo4jClient neo4jClient = new DefaultNeo4jClient(driver);
+				txTemplate.execute(tx -> {
+					Neo4jClient.Pipeline pipeline = neo4jClient.pipeline()
+						.add("CREATE (n:A)", Collections.emptyMap())
+						.add("CREATE (n:B)", Collections.emptyMap());
+
+					verify(transaction, times(2)).run(anyString(), anyMap());
+					verify(result1, never()).consume();
+					verify(result2, never()).consume();
+
+					assertThat(pipeline.sync()).hasSize(2);
+					return null;
+				});
+
+				InOrder inOrder = inOrder(transaction, result1, result2);
+				inOrder.verify(transaction, times(2)).run(anyString(), anyMap());
+				inOrder.verify(result1).consume();
+				inOrder.verify(result2).consume();
+				inOrder.verify(transaction).commit();
+
+				verify(transaction, times(2)).isOpen();
+				verify(transaction).close();
+				verify(session).isOpen();
+				verify(session).lastBookmark();
+				verify(session).close();
+				verifyNoMoreInteractions(driver, session, transaction, result1, result2);
+			}
+		}
 	}
 
 	@Nested
@@ -214,6 +429,102 @@ class TransactionHandlingTest {
 		}
 	}
 
+	@Nested
+	class ReactiveUnitOfWorkTest {
+
+		@Mock
+		private RxSession session;
+
+		@Mock
+		private RxTransaction transaction;
+
+		@Test
+		void shouldShareSessionAndTransaction() {
+
+			when(driver.rxSession(any(SessionConfig.class))).thenReturn(session);
+			when(session.beginTransaction()).thenReturn(Mono.just(transaction));
+			when(transaction.commit()).thenReturn(Mono.empty());
+			when(session.close()).thenReturn(Mono.empty());
+
+			DefaultReactiveNeo4jClient neo4jClient = new DefaultReactiveNeo4jClient(driver);
+
+			Flux<String> sequence = neo4jClient.doInUnitOfWork("aDatabase", () -> Flux.concat(
+				neo4jClient.doInQueryRunnerForMono("aDatabase", runner -> {
+					assertThat(runner).isSameAs(transaction);
+					return Mono.just("1");
+				}),
+				neo4jClient.doInQueryRunnerForMono("aDatabase", runner -> {
+					assertThat(runner).isSameAs(transaction);
+					return Mono.just("2");
+				})));
+
+			StepVerifier.create(sequence)
+				.expectNext("1", "2")
+				.verifyComplete();
+
+			verify(driver).rxSession(any(SessionConfig.class));
+			verify(session).beginTransaction();
+			verify(transaction).commit();
+			verify(session).close();
+			verifyNoMoreInteractions(driver, session, transaction);
+		}
+
+		@Test
+		void shouldRollbackOnError() {
+
+			when(driver.rxSession(any(SessionConfig.class))).thenReturn(session);
+			when(session.beginTransaction()).thenReturn(Mono.just(transaction));
+			when(transaction.rollback()).thenReturn(Mono.empty());
+			when(session.close()).thenReturn(Mono.empty());
+
+			DefaultReactiveNeo4jClient neo4jClient = new DefaultReactiveNeo4jClient(driver);
+
+			Flux<String> sequence = neo4jClient.doInUnitOfWork("aDatabase",
+				() -> neo4jClient.doInQueryRunnerForMono("aDatabase", runner -> Mono.error(new SomeException())));
+
+			StepVerifier.create(sequence)
+				.expectError(SomeException.class)
+				.verify();
+
+			verify(driver).rxSession(any(SessionConfig.class));
+			verify(session).beginTransaction();
+			verify(transaction).rollback();
+			verify(session).close();
+			verifyNoMoreInteractions(driver, session, transaction);
+		}
+
+		@Test
+		void shouldStartUnitOfWorkWhenOnlySynchronizationIsActive() {
+
+			when(driver.rxSession(any(SessionConfig.class))).thenReturn(session);
+			when(session.beginTransaction()).thenReturn(Mono.just(transaction));
+			when(transaction.commit()).thenReturn(Mono.empty());
+			when(session.close()).thenReturn(Mono.empty());
+
+			TransactionalOperator transactionalOperator = TransactionalOperator.create(
+				new ReactiveNeo4jTransactionManager(driver),
+				new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_NOT_SUPPORTED));
+
+			DefaultReactiveNeo4jClient neo4jClient = new DefaultReactiveNeo4jClient(driver);
+			Flux<String> sequence = neo4jClient.doInUnitOfWork("aDatabase",
+				() -> neo4jClient.doInQueryRunnerForMono("aDatabase", runner -> {
+					assertThat(runner).isSameAs(transaction);
+					return Mono.just("1");
+				}))
+				.as(transactionalOperator::transactional);
+
+			StepVerifier.create(sequence)
+				.expectNext("1")
+				.verifyComplete();
+
+			verify(driver).rxSession(any(SessionConfig.class));
+			verify(session).beginTransaction();
+			verify(transaction).commit();
+			verify(session).close();
+			verifyNoMoreInteractions(driver, session, transaction);
+		}
+	}
+
 	private static class SomeException extends RuntimeException {
 	}
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Driver;
+
+/**
+ * @author Michael J. Simons
+ */
+@ExtendWith(MockitoExtension.class)
+class IndexAdvisorTest {
+
+	@Mock
+	private Driver driver;
+
+	@Test
+	void shouldNotAdviseQueriesServedByAnIndex() {
+
+		IndexAdvisor indexAdvisor = new IndexAdvisor(driver, null, false);
+		IndexAdvice advice = indexAdvisor.advise(
+			query(Collections.singletonList(equality("name"))),
+			Collections.singletonList(IndexDescription.indexOn("Person", "name")));
+
+		assertThat(advice.isLabelScan()).isFalse();
+		assertThat(advice.getSuggestedIndexes()).isEmpty();
+	}
+
+	@Test
+	void shouldUseIndexesOnASubsetOfTheProperties() {
+
+		IndexAdvisor indexAdvisor = new IndexAdvisor(driver, null, false);
+		IndexAdvice advice = indexAdvisor.advise(
+			query(Arrays.asList(equality("name"), equality("born"))),
+			Collections.singletonList(IndexDescription.uniqueConstraintOn("Person", "born")));
+
+		assertThat(advice.isLabelScan()).isFalse();
+	}
+
+	@Test
+	void shouldIgnoreIndexesOnOtherLabels() {
+
+		IndexAdvisor indexAdvisor = new IndexAdvisor(driver, null, false);
+		IndexAdvice advice = indexAdvisor.advise(
+			query(Collections.singletonList(equality("name"))),
+			Collections.singletonList(IndexDescription.indexOn("Movie", "name")));
+
+		assertThat(advice.isLabelScan()).isTrue();
+		assertThat(advice.getSuggestedIndexes()).containsExactly(IndexDescription.indexOn("Person", "name"));
+	}
+
+	@Test
+	void shouldSuggestCompositeIndexesForEqualityConjunctions() {
+
+		IndexAdvisor indexAdvisor = new IndexAdvisor(driver, null, false);
+		IndexAdvice advice = indexAdvisor.advise(
+			query(Arrays.asList(equality("name"), range("born"), equality("city"))),
+			Collections.emptyList());
+
+		assertThat(advice.isLabelScan()).isTrue();
+		assertThat(advice.getSuggestedIndexes())
+			.containsExactly(IndexDescription.indexOn("Person", "name", "city"));
+	}
+
+	@Test
+	void shouldSuggestIndexesForEachBranchOfADisjunction() {
+
+		IndexAdvisor indexAdvisor = new IndexAdvisor(driver, null, false);
+		IndexAdvice advice = indexAdvisor.advise(
+			query(Collections.singletonList(range("born")), Collections.singletonList(equality("name"))),
+			Collections.singletonList(IndexDescription.indexOn("Person", "name")));
+
+		assertThat(advice.isLabelScan()).isTrue();
+		assertThat(advice.getSuggestedIndexes()).containsExactly(IndexDescription.indexOn("Person", "born"));
+	}
+
+	@Test
+	void shouldNotSuggestIndexesForPredicatesThatCannotUseThem() {
+
+		IndexAdvisor indexAdvisor = new IndexAdvisor(driver, null, false);
+		IndexAdvice advice = indexAdvisor.advise(
+			query(Collections.singletonList(new PropertyPredicate("name", "LIKE", false, false))),
+			Collections.singletonList(IndexDescription.indexOn("Person", "name")));
+
+		assertThat(advice.isLabelScan()).isTrue();
+		assertThat(advice.getSuggestedIndexes()).isEmpty();
+	}
+
+	@Test
+	void shouldNotTouchTheDatabaseWithoutQueries() {
+
+		IndexAdvisor indexAdvisor = new IndexAdvisor(driver, null, true);
+		assertThat(indexAdvisor.advise()).isEmpty();
+	}
+
+	@SafeVarargs
+	private static QueryDescription query(List<PropertyPredicate>... predicates) {
+		return new QueryDescription("PersonRepository.findSomething", "Person", Arrays.asList(predicates), null,
+			Collections.emptyMap());
+	}
+
+	private static PropertyPredicate equality(String property) {
+		return new PropertyPredicate(property, "SIMPLE_PROPERTY", true, true);
+	}
+
+	private static PropertyPredicate range(String property) {
+		return new PropertyPredicate(property, "GREATER_THAN", false, true);
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.schema.GeneratedValue;
+import org.neo4j.springframework.data.core.schema.Id;
+import org.neo4j.springframework.data.core.schema.Node;
+import org.neo4j.springframework.data.core.support.UUIDStringGenerator;
+
+/**
+ * @author Michael J. Simons
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IndexManagerTest {
+
+	@Mock
+	private Driver driver;
+
+	@Mock
+	private Session session;
+
+	@Mock
+	private Result indexResult;
+
+	@Mock
+	private Result otherResult;
+
+	private Neo4jMappingContext mappingContext;
+
+	@BeforeEach
+	void setup() {
+
+		mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(
+			new HashSet<>(Arrays.asList(Movie.class, Person.class, Award.class, InternalIdEntity.class)));
+		mappingContext.initialize();
+
+		when(driver.session(any(SessionConfig.class))).thenReturn(session);
+		when(session.run(anyString())).thenReturn(otherResult);
+		when(session.run("CALL db.indexes()")).thenReturn(indexResult);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void withExistingIndexes(Record... records) {
+		when(indexResult.list(any(Function.class))).thenAnswer(invocation -> {
+			Function<Record, Object> mapper = invocation.getArgument(0);
+			return Arrays.stream(records).map(mapper).collect(Collectors.toList());
+		});
+	}
+
+	private static Record index40(String label, String property, String uniqueness) {
+		return new InternalRecord(Arrays.asList("labelsOrTypes", "properties", "uniqueness", "entityType", "type"),
+			new Value[] { Values.value(Arrays.asList(label)), Values.value(Arrays.asList(property)),
+				Values.value(uniqueness), Values.value("NODE"), Values.value("BTREE") });
+	}
+
+	private static Record index35(String label, String property, String type) {
+		return new InternalRecord(Arrays.asList("tokenNames", "properties", "type"),
+			new Value[] { Values.value(Arrays.asList(label)), Values.value(Arrays.asList(property)),
+				Values.value(type) });
+	}
+
+	@Test
+	void shouldDeriveUniqueConstraintsForAssignedAndExternallyGeneratedIds() {
+
+		IndexManager indexManager = new IndexManager(driver, mappingContext, IndexManager.Mode.VALIDATE);
+
+		assertThat(indexManager.getRequiredIndexes()).containsExactly(
+			IndexDescription.uniqueConstraintOn("Award Winner", "name"),
+			IndexDescription.uniqueConstraintOn("Movie", "title"),
+			IndexDescription.uniqueConstraintOn("Person", "uuid"));
+	}
+
+	@Test
+	void shouldReadIndexesOf35And40() {
+
+		assertThat(IndexManager.toIndexDescription(index40("Movie", "title", "UNIQUE")))
+			.isEqualTo(IndexDescription.uniqueConstraintOn("Movie", "title"));
+		assertThat(IndexManager.toIndexDescription(index40("Movie", "title", "NONUNIQUE")))
+			.isEqualTo(IndexDescription.indexOn("Movie", "title"));
+		assertThat(IndexManager.toIndexDescription(index35("Movie", "title", "node_unique_property")))
+			.isEqualTo(IndexDescription.uniqueConstraintOn("Movie", "title"));
+		assertThat(IndexManager.toIndexDescription(index35("Movie", "title", "node_label_property")))
+			.isEqualTo(IndexDescription.indexOn("Movie", "title"));
+	}
+
+	@Test
+	void validateShouldFailOnMissingIndexes() {
+
+		withExistingIndexes(index40("Movie", "title", "UNIQUE"), index40("Person", "uuid", "NONUNIQUE"));
+		IndexManager indexManager = new IndexManager(driver, mappingContext, IndexManager.Mode.VALIDATE);
+
+		assertThatIllegalStateException().isThrownBy(indexManager::afterSingletonsInstantiated)
+			.withMessage("Missing indexes: "
+				+ "CREATE CONSTRAINT ON (n:`Award Winner`) ASSERT n.`name` IS UNIQUE; "
+				+ "CREATE CONSTRAINT ON (n:`Person`) ASSERT n.`uuid` IS UNIQUE");
+		verify(session, never()).run(startsWith("CREATE"));
+	}
+
+	@Test
+	void createShouldCreateMissingIndexes() {
+
+		withExistingIndexes(index40("Movie", "title", "UNIQUE"), index40("Person", "uuid", "UNIQUE"));
+		IndexManager indexManager = new IndexManager(driver, mappingContext, IndexManager.Mode.CREATE);
+		indexManager.addRequiredIndexes(Arrays.asList(IndexDescription.indexOn("Movie", "released", "tagline")));
+
+		List<IndexDescription> createdIndexes = indexManager.apply();
+
+		assertThat(createdIndexes).containsExactly(IndexDescription.uniqueConstraintOn("Award Winner", "name"),
+			IndexDescription.indexOn("Movie", "released", "tagline"));
+		verify(session).run("CREATE CONSTRAINT ON (n:`Award Winner`) ASSERT n.`name` IS UNIQUE");
+		verify(session).run("CREATE INDEX ON :`Movie`(`released`, `tagline`)");
+		verify(session).run("CALL db.awaitIndexes()");
+	}
+
+	@Test
+	void noneShouldNotTouchTheDatabase() {
+
+		new IndexManager(driver, mappingContext, IndexManager.Mode.NONE).afterSingletonsInstantiated();
+		verifyNoInteractions(driver);
+	}
+
+	@Test
+	void uniqueIndexesShouldSatisfyPlainIndexes() {
+
+		assertThat(IndexDescription.indexOn("Movie", "title")
+			.isSatisfiedBy(IndexDescription.uniqueConstraintOn("Movie", "title"))).isTrue();
+		assertThat(IndexDescription.uniqueConstraintOn("Movie", "title")
+			.isSatisfiedBy(IndexDescription.indexOn("Movie", "title"))).isFalse();
+	}
+
+	@Node
+	static class Movie {
+		@Id String title;
+	}
+
+	@Node
+	static class Person {
+		@Id @GeneratedValue(UUIDStringGenerator.class) String uuid;
+	}
+
+	@Node("Award Winner")
+	static class Award {
+		@Id String name;
+	}
+
+	@Node
+	static class InternalIdEntity {
+		@Id @GeneratedValue Long id;
+	}
+}
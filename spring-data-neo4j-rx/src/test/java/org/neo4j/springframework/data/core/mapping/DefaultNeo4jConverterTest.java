@@ -19,22 +19,47 @@
 package org.neo4j.springframework.data.core.mapping;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.neo4j.springframework.data.core.schema.Constants.*;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.exceptions.value.Uncoercible;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.internal.value.NodeValue;
+import org.neo4j.driver.internal.value.RelationshipValue;
+import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.springframework.data.core.ReactiveNeo4jClient;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.convert.Neo4jConverter;
+import org.neo4j.springframework.data.core.convert.Neo4jEntityMapper;
+import org.neo4j.springframework.data.core.schema.DynamicLabels;
+import org.neo4j.springframework.data.core.schema.Id;
+import org.neo4j.springframework.data.core.schema.Node;
+import org.neo4j.springframework.data.core.schema.Relationship;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.dao.TypeMismatchDataAccessException;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * @author Michael J. Simons
@@ -80,4 +105,392 @@ class DefaultNeo4jConverterTest {
 				.withRootCauseInstanceOf(ConverterNotFoundException.class);
 		}
 	}
+
+	@Nested
+	class EntityMappers {
+
+		private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+		private final ThingMapper thingMapper = new ThingMapper();
+
+		private DefaultNeo4jConverter converter;
+
+		@BeforeEach
+		void setup() {
+
+			mappingContext.setInitialEntitySet(new HashSet<>(
+				Arrays.asList(Thing.class, ThingWithRelationships.class, ThingWithDynamicLabels.class)));
+			mappingContext.initialize();
+
+			converter = new DefaultNeo4jConverter(new Neo4jConversions(),
+				(NodeDescriptionStore) ReflectionTestUtils.getField(mappingContext, "nodeDescriptionStore"),
+				Arrays.asList(thingMapper, new ThingWithRelationshipsMapper(), new ThingWithDynamicLabelsMapper()));
+			converter.setTypeSystem(InternalTypeSystem.TYPE_SYSTEM);
+		}
+
+		@Test
+		void shouldReadWithEntityMapper() {
+
+			Record record = new InternalRecord(Collections.singletonList("n"), new Value[] {
+				new NodeValue(new InternalNode(1L, Collections.singletonList("Thing"),
+					Collections.singletonMap("name", Values.value("a name"))))
+			});
+
+			Thing thing = converter.read(Thing.class, record);
+			assertThat(thing.name).isEqualTo("a name (mapped)");
+		}
+
+		@Test
+		void shouldWriteWithEntityMapper() {
+
+			Map<String, Object> parameters = new HashMap<>();
+			converter.write(new Thing("a name"), parameters);
+			assertThat(parameters).containsEntry(NAME_OF_ID, Values.value("a name (written)"));
+		}
+
+		@Test
+		void shouldNotReadEntitiesWithRelationshipsWithEntityMapper() {
+
+			Record record = new InternalRecord(Collections.singletonList("n"), new Value[] {
+				new NodeValue(new InternalNode(1L, Collections.singletonList("ThingWithRelationships"),
+					Collections.singletonMap("name", Values.value("a name"))))
+			});
+
+			ThingWithRelationships thing = converter.read(ThingWithRelationships.class, record);
+			assertThat(thing.name).isEqualTo("a name");
+		}
+
+		@Test
+		void shouldNotReadEntitiesWithDynamicLabelsWithEntityMapper() {
+
+			Record record = new InternalRecord(Collections.singletonList("n"), new Value[] {
+				new NodeValue(new InternalNode(1L, Arrays.asList("ThingWithDynamicLabels", "Foo", "Bar"),
+					Collections.singletonMap("name", Values.value("a name"))))
+			});
+
+			ThingWithDynamicLabels thing = converter.read(ThingWithDynamicLabels.class, record);
+			assertThat(thing.name).isEqualTo("a name");
+			assertThat(thing.labels).containsExactlyInAnyOrder("Foo", "Bar");
+		}
+
+		@Test
+		void shouldNotAllowMoreThanOneMapperPerType() {
+
+			assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> new DefaultNeo4jConverter(new Neo4jConversions(), null,
+					Arrays.asList(thingMapper, new ThingMapper())))
+				.withMessageStartingWith("Found more than one entity mapper for");
+		}
+	}
+
+	@Nested
+	class LazyLoading {
+
+		private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+		private final List<List<Object>> requestedIds = new ArrayList<>();
+
+		private DefaultNeo4jConverter converter;
+
+		private final LazyLoadingQueryRunner queryRunner = (cypherQuery, parameters) -> {
+			@SuppressWarnings("unchecked")
+			List<Object> ids = (List<Object>) parameters.get(NAME_OF_IDS);
+			requestedIds.add(ids);
+			List<Record> records = new ArrayList<>();
+			for (Object id : ids) {
+				records.add(new InternalRecord(Arrays.asList(NAME_OF_SOURCE_ID, "n"), new Value[] {
+					Values.value(id), targetNode(id + " target")
+				}));
+			}
+			return records;
+		};
+
+		@BeforeEach
+		void setup() {
+
+			mappingContext.setInitialEntitySet(new HashSet<>(Arrays.asList(LazyOwner.class, LazyTarget.class)));
+			mappingContext.initialize();
+
+			converter = new DefaultNeo4jConverter(new Neo4jConversions(),
+				(NodeDescriptionStore) ReflectionTestUtils.getField(mappingContext, "nodeDescriptionStore"));
+			converter.setTypeSystem(InternalTypeSystem.TYPE_SYSTEM);
+		}
+
+		@Test
+		void shouldLoadLazyRelationshipsOnFirstAccessInOneBatch() {
+
+			converter.setLazyLoadingQueryRunner(queryRunner);
+
+			LazyLoadingBatches batches = new LazyLoadingBatches();
+			LazyOwner owner1 = converter.read(LazyOwner.class, ownerRecord("o1"), batches);
+			LazyOwner owner2 = converter.read(LazyOwner.class, ownerRecord("o2"), batches);
+
+			assertThat(requestedIds).isEmpty();
+			assertThat(LazyRelationships.isInitialized(owner1.targets)).isFalse();
+
+			assertThat(owner1.targets).extracting(t -> t.name).containsExactly("o1 target");
+			assertThat(owner2.targets).extracting(t -> t.name).containsExactly("o2 target");
+
+			assertThat(LazyRelationships.isInitialized(owner1.targets)).isTrue();
+			assertThat(LazyRelationships.unwrap(owner1.targets)).isInstanceOf(ArrayList.class);
+			assertThat(requestedIds).containsExactly(Arrays.asList("o1", "o2"));
+		}
+
+		@Test
+		void shouldFailOnAccessWithoutQueryRunner() {
+
+			LazyOwner owner = converter.read(LazyOwner.class, ownerRecord("o1"));
+
+			assertThat(LazyRelationships.isInitialized(owner.targets)).isFalse();
+			assertThatIllegalStateException().isThrownBy(() -> owner.targets.size())
+				.withMessageContaining("No lazy loading query runner is registered");
+		}
+
+		@Test
+		void shouldRegisterQueryRunnerOnlyOnce() {
+
+			converter.setLazyLoadingQueryRunner(queryRunner);
+			converter.setLazyLoadingQueryRunner(queryRunner);
+
+			assertThatIllegalStateException()
+				.isThrownBy(() -> converter.setLazyLoadingQueryRunner((cypherQuery, parameters) -> new ArrayList<>()))
+				.withMessage("A lazy loading query runner has already been registered with this mapping context.");
+		}
+
+		private Record ownerRecord(String name) {
+			return new InternalRecord(Collections.singletonList("n"), new Value[] {
+				new NodeValue(new InternalNode(1L, Collections.singletonList("LazyOwner"),
+					Collections.singletonMap("name", Values.value(name))))
+			});
+		}
+
+		private Value targetNode(String name) {
+			return new NodeValue(new InternalNode(2L, Collections.singletonList("LazyTarget"),
+				Collections.singletonMap("name", Values.value(name))));
+		}
+	}
+
+	@Nested
+	class Subgraphs {
+
+		private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+		private DefaultNeo4jConverter converter;
+
+		@BeforeEach
+		void setup() {
+
+			mappingContext
+				.setInitialEntitySet(new HashSet<>(Arrays.asList(SubgraphPerson.class, SubgraphCity.class)));
+			mappingContext.initialize();
+
+			converter = new DefaultNeo4jConverter(new Neo4jConversions(),
+				(NodeDescriptionStore) ReflectionTestUtils.getField(mappingContext, "nodeDescriptionStore"));
+			converter.setTypeSystem(InternalTypeSystem.TYPE_SYSTEM);
+		}
+
+		@Test
+		void shouldBuildObjectGraphFromListsOfNodesAndRelationships() {
+
+			Value alice = node(1L, "SubgraphPerson", "Alice");
+			Value bob = node(2L, "SubgraphPerson", "Bob");
+			Value city = node(3L, "SubgraphCity", "Dresden");
+			Record record = new InternalRecord(Arrays.asList("n", NAME_OF_SUBGRAPH_NODES, NAME_OF_SUBGRAPH_RELATIONSHIPS),
+				new Value[] {
+					alice,
+					Values.value(Arrays.asList(alice, bob, city)),
+					Values.value(Arrays.asList(
+						relationship(10L, 1L, 2L, "KNOWS"),
+						relationship(11L, 2L, 1L, "KNOWS"),
+						relationship(12L, 1L, 3L, "LIVES_IN"),
+						relationship(13L, 2L, 3L, "LIVES_IN")
+					))
+				});
+
+			SubgraphPerson person = converter.read(SubgraphPerson.class, record);
+
+			assertThat(person.name).isEqualTo("Alice");
+			assertThat(person.friends).hasSize(1);
+			SubgraphPerson friend = person.friends.get(0);
+			assertThat(friend.name).isEqualTo("Bob");
+			assertThat(friend.friends).containsExactly(person);
+			assertThat(person.city).isNotNull().isSameAs(friend.city);
+			assertThat(person.city.residents).containsExactlyInAnyOrder(person, friend);
+		}
+
+		@Test
+		void shouldMapRootNodeWithoutRelatedNodes() {
+
+			Value alice = node(1L, "SubgraphPerson", "Alice");
+			Record record = new InternalRecord(Arrays.asList("n", NAME_OF_SUBGRAPH_NODES, NAME_OF_SUBGRAPH_RELATIONSHIPS),
+				new Value[] { alice, Values.value(Collections.singletonList(alice)), Values.value(Collections.emptyList()) });
+
+			SubgraphPerson person = converter.read(SubgraphPerson.class, record);
+
+			assertThat(person.name).isEqualTo("Alice");
+			assertThat(person.friends).isEmpty();
+			assertThat(person.city).isNull();
+		}
+
+		private Value node(long id, String label, String name) {
+			return new NodeValue(new InternalNode(id, Collections.singletonList(label),
+				Collections.singletonMap("name", Values.value(name))));
+		}
+
+		private Value relationship(long id, long start, long end, String type) {
+			return new RelationshipValue(new InternalRelationship(id, start, end, type));
+		}
+	}
+
+	@Node
+	static class SubgraphPerson {
+
+		@Id
+		private final String name;
+
+		@Relationship("KNOWS")
+		private List<SubgraphPerson> friends;
+
+		@Relationship("LIVES_IN")
+		private SubgraphCity city;
+
+		SubgraphPerson(String name) {
+			this.name = name;
+		}
+	}
+
+	@Node
+	static class SubgraphCity {
+
+		@Id
+		private final String name;
+
+		@Relationship(type = "LIVES_IN", direction = Relationship.Direction.INCOMING)
+		private List<SubgraphPerson> residents;
+
+		SubgraphCity(String name) {
+			this.name = name;
+		}
+	}
+
+	@Node
+	static class LazyOwner {
+
+		@Id
+		private final String name;
+
+		@Relationship(type = "HAS", fetch = Relationship.Fetch.LAZY)
+		private List<LazyTarget> targets;
+
+		LazyOwner(String name) {
+			this.name = name;
+		}
+	}
+
+	@Node
+	static class LazyTarget {
+
+		@Id
+		private final String name;
+
+		LazyTarget(String name) {
+			this.name = name;
+		}
+
+		String getName() {
+			return name;
+		}
+	}
+
+	@Node
+	static class Thing {
+
+		@Id
+		private final String name;
+
+		Thing(String name) {
+			this.name = name;
+		}
+	}
+
+	@Node
+	static class ThingWithRelationships {
+
+		@Id
+		private final String name;
+
+		private List<Thing> things;
+
+		ThingWithRelationships(String name) {
+			this.name = name;
+		}
+	}
+
+	@Node
+	static class ThingWithDynamicLabels {
+
+		@Id
+		private final String name;
+
+		@DynamicLabels
+		private List<String> labels;
+
+		ThingWithDynamicLabels(String name) {
+			this.name = name;
+		}
+	}
+
+	static class ThingMapper implements Neo4jEntityMapper<Thing> {
+
+		@Override
+		public Class<Thing> getEntityType() {
+			return Thing.class;
+		}
+
+		@Override
+		public Thing read(MapAccessor source, Neo4jConverter converter) {
+			return new Thing(source.get("name").asString() + " (mapped)");
+		}
+
+		@Override
+		public void write(Thing source, Map<String, Object> parameters, Neo4jConverter converter) {
+			parameters.put(NAME_OF_ID, Values.value(source.name + " (written)"));
+		}
+	}
+
+	static class ThingWithRelationshipsMapper implements Neo4jEntityMapper<ThingWithRelationships> {
+
+		@Override
+		public Class<ThingWithRelationships> getEntityType() {
+			return ThingWithRelationships.class;
+		}
+
+		@Override
+		public ThingWithRelationships read(MapAccessor source, Neo4jConverter converter) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void write(ThingWithRelationships source, Map<String, Object> parameters, Neo4jConverter converter) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	static class ThingWithDynamicLabelsMapper implements Neo4jEntityMapper<ThingWithDynamicLabels> {
+
+		@Override
+		public Class<ThingWithDynamicLabels> getEntityType() {
+			return ThingWithDynamicLabels.class;
+		}
+
+		@Override
+		public ThingWithDynamicLabels read(MapAccessor source, Neo4jConverter converter) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void write(ThingWithDynamicLabels source, Map<String, Object> parameters, Neo4jConverter converter) {
+			throw new UnsupportedOperationException();
+		}
+	}
 }
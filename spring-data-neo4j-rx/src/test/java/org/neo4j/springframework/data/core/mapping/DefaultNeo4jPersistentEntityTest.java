@@ -20,20 +20,25 @@ package org.neo4j.springframework.data.core.mapping;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
 import org.neo4j.springframework.data.core.schema.GeneratedValue;
 import org.neo4j.springframework.data.core.schema.Id;
+import org.neo4j.springframework.data.core.schema.NamedFetchPlan;
 import org.neo4j.springframework.data.core.schema.Node;
 import org.neo4j.springframework.data.core.schema.Property;
 import org.neo4j.springframework.data.core.schema.Relationship;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
 import org.neo4j.springframework.data.core.schema.DynamicLabels;
 
 /**
@@ -244,6 +249,107 @@ class DefaultNeo4jPersistentEntityTest {
 		}
 	}
 
+	@Nested
+	class FetchPlans {
+
+		@Test
+		void shouldProvideNamedFetchPlans() {
+
+			Neo4jPersistentEntity<?> entity = new Neo4jMappingContext()
+				.getPersistentEntity(NodeWithFetchPlans.class);
+
+			assertThat(entity.getFetchPlan("list")).hasValue(FetchPlan.rootOnly());
+			assertThat(entity.getFetchPlan("details")).hasValue(FetchPlan.of(2, "relatedTo"));
+			assertThat(entity.getFetchPlan("unknown")).isEmpty();
+		}
+
+		@Test
+		void failsOnDuplicatedFetchPlans() {
+			assertThatIllegalStateException()
+				.isThrownBy(() -> new Neo4jMappingContext().getPersistentEntity(NodeWithDuplicatedFetchPlans.class))
+				.withMessage("Duplicate definition of fetch plan list in entity class "
+					+ "org.neo4j.springframework.data.core.mapping.DefaultNeo4jPersistentEntityTest$NodeWithDuplicatedFetchPlans.");
+		}
+	}
+
+	@Nested
+	class LazyRelationships {
+
+		@Test
+		void shouldAcceptLazyRelationships() {
+
+			Neo4jPersistentEntity<?> entity = new Neo4jMappingContext().getPersistentEntity(NodeWithLazyRelationships.class);
+
+			assertThat(entity.getRelationships()).allMatch(RelationshipDescription::isLazy);
+		}
+
+		@Test
+		void failsOnLazyRelationshipsWithUnsupportedCollectionTypes() {
+			assertThatIllegalStateException()
+				.isThrownBy(() -> new Neo4jMappingContext().getPersistentEntity(NodeWithLazyArrayList.class))
+				.withMessage("Lazy to-many relationships must be declared as List, Set or Collection in class "
+					+ "org.neo4j.springframework.data.core.mapping.DefaultNeo4jPersistentEntityTest$NodeWithLazyArrayList "
+					+ "on field relatedTo.");
+		}
+
+		@Test
+		void failsOnLazyToOneRelationships() {
+			assertThatIllegalStateException()
+				.isThrownBy(() -> new Neo4jMappingContext().getPersistentEntity(NodeWithLazyToOneRelationship.class))
+				.withMessage("Only to-many relationships can be lazy in class "
+					+ "org.neo4j.springframework.data.core.mapping.DefaultNeo4jPersistentEntityTest$NodeWithLazyToOneRelationship "
+					+ "on field favorite.");
+		}
+	}
+
+	@Node
+	private static class NodeWithLazyRelationships {
+
+		@Id @GeneratedValue Long id;
+
+		@Relationship(fetch = Relationship.Fetch.LAZY)
+		Set<SomeOtherNode> relatedTo;
+
+		@Relationship(fetch = Relationship.Fetch.LAZY)
+		List<SomeOtherNode> favorites;
+	}
+
+	@Node
+	private static class NodeWithLazyArrayList {
+
+		@Id @GeneratedValue Long id;
+
+		@Relationship(fetch = Relationship.Fetch.LAZY)
+		ArrayList<SomeOtherNode> relatedTo;
+	}
+
+	@Node
+	private static class NodeWithLazyToOneRelationship {
+
+		@Id @GeneratedValue Long id;
+
+		@Relationship(fetch = Relationship.Fetch.LAZY)
+		SomeOtherNode favorite;
+	}
+
+	@Node
+	@NamedFetchPlan(name = "list", depth = 0)
+	@NamedFetchPlan(name = "details", depth = 2, include = "relatedTo")
+	private static class NodeWithFetchPlans {
+
+		@Id @GeneratedValue Long id;
+
+		List<SomeOtherNode> relatedTo;
+	}
+
+	@Node
+	@NamedFetchPlan(name = "list", depth = 0)
+	@NamedFetchPlan(name = "list", depth = 1)
+	private static class NodeWithDuplicatedFetchPlans {
+
+		@Id @GeneratedValue Long id;
+	}
+
 	@Node
 	private static class SomeOtherNode {
 		@Id Long id;
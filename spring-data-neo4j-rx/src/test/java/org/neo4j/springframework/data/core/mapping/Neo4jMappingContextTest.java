@@ -20,18 +20,30 @@ package org.neo4j.springframework.data.core.mapping;
 
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
+import static org.neo4j.springframework.data.core.schema.Constants.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.internal.value.NodeValue;
 import org.neo4j.driver.internal.value.StringValue;
+import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.schema.FetchPlan;
 import org.neo4j.springframework.data.core.schema.GeneratedValue;
 import org.neo4j.springframework.data.core.schema.GraphPropertyDescription;
 import org.neo4j.springframework.data.core.schema.Id;
@@ -233,6 +245,187 @@ class Neo4jMappingContextTest {
 		assertThat(associations).hasSize(2);
 	}
 
+	@Test
+	void shouldStitchResultsOfSplitQueries() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(new HashSet<>(Arrays.asList(SplitRoot.class, SplitChild.class, SplitLeaf.class)));
+		schema.initialize();
+
+		Map<String, List<Object>> requestedIds = new HashMap<>();
+		BiFunction<String, Map<String, Object>, Collection<Record>> queryRunner = (cypherQuery, parameters) -> {
+			List<Object> ids = (List<Object>) parameters.get(NAME_OF_IDS);
+			if (cypherQuery.contains("`CHILDREN`")) {
+				requestedIds.put("children", ids);
+				return Arrays.asList(relatedNode("r1", "SplitChild", "c1"), relatedNode("r2", "SplitChild", "c1"),
+					relatedNode("r2", "SplitChild", "c2"));
+			} else {
+				requestedIds.put("leaves", ids);
+				return Arrays.asList(relatedNode("c1", "SplitLeaf", "l1"), relatedNode("c2", "SplitLeaf", "l2"));
+			}
+		};
+
+		List<SplitRoot> roots = schema.readWithSplitQueries(SplitRoot.class,
+			Arrays.asList(rootNode("r1"), rootNode("r2")), FetchPlan.all(), emptyList(), queryRunner);
+
+		assertThat(requestedIds).containsOnlyKeys("children", "leaves");
+		assertThat(requestedIds.get("children")).containsExactlyInAnyOrder("r1", "r2");
+		assertThat(requestedIds.get("leaves")).containsExactlyInAnyOrder("c1", "c2");
+
+		assertThat(roots).extracting(root -> root.name).containsExactly("r1", "r2");
+		assertThat(roots.get(0).children).extracting(child -> child.name).containsExactly("c1");
+		assertThat(roots.get(0).children.get(0).leaves).extracting(leaf -> leaf.name).containsExactly("l1");
+		assertThat(roots.get(1).children).extracting(child -> child.name).containsExactly("c1", "c2");
+		assertThat(roots.get(1).children.get(1).leaves).extracting(leaf -> leaf.name).containsExactly("l2");
+	}
+
+	@Test
+	void shouldMapScalarColumnsToDtosByIndex() {
+
+		BiFunction<TypeSystem, Record, ReportRow> mappingFunction = new Neo4jMappingContext()
+			.getDtoMappingFunctionFor(ReportRow.class);
+
+		List<String> keys = Arrays.asList("name", "count");
+		assertThat(mappingFunction.apply(InternalTypeSystem.TYPE_SYSTEM,
+			new InternalRecord(keys, new Value[] { Values.value("a"), Values.value(1L) })))
+			.satisfies(row -> assertThat(row.name).isEqualTo("a"))
+			.satisfies(row -> assertThat(row.count).isEqualTo(1L));
+		assertThat(mappingFunction.apply(InternalTypeSystem.TYPE_SYSTEM,
+			new InternalRecord(keys, new Value[] { Values.NULL, Values.value(2L) })))
+			.satisfies(row -> assertThat(row.name).isNull())
+			.satisfies(row -> assertThat(row.count).isEqualTo(2L));
+
+		// Another result with a different order of columns
+		assertThat(mappingFunction.apply(InternalTypeSystem.TYPE_SYSTEM,
+			new InternalRecord(Arrays.asList("count", "name"), new Value[] { Values.value(3), Values.value("c") })))
+			.satisfies(row -> assertThat(row.name).isEqualTo("c"))
+			.satisfies(row -> assertThat(row.count).isEqualTo(3L));
+	}
+
+	@Test
+	void shouldDelegateRecordsWithNodesToRegularMappingFunction() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(singleton(ReportEntity.class));
+		schema.initialize();
+		((DefaultNeo4jConverter) schema.getConverter()).setTypeSystem(InternalTypeSystem.TYPE_SYSTEM);
+		BiFunction<TypeSystem, Record, ReportEntity> mappingFunction = schema
+			.getDtoMappingFunctionFor(ReportEntity.class);
+
+		Map<String, Value> properties = new HashMap<>();
+		properties.put("name", Values.value("a"));
+		properties.put("count", Values.value(2L));
+		ReportEntity entity = mappingFunction.apply(InternalTypeSystem.TYPE_SYSTEM, new InternalRecord(
+			singletonList("n"), new Value[] { new NodeValue(new InternalNode(1L, singletonList("ReportEntity"), properties)) }));
+
+		assertThat(entity.name).isEqualTo("a");
+		assertThat(entity.count).isEqualTo(2L);
+	}
+
+	@Test
+	void shouldMapDtosNotFullyCoveredByTheirConstructorWithRegularMappingFunction() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		((DefaultNeo4jConverter) schema.getConverter()).setTypeSystem(InternalTypeSystem.TYPE_SYSTEM);
+
+		Map<String, Value> values = new HashMap<>();
+		values.put("name", Values.value("a"));
+		values.put("numberOfThings", Values.value(2L));
+		values.put("comment", Values.value("c"));
+		Record record = new InternalRecord(new ArrayList<>(values.keySet()), values.values().toArray(new Value[0]));
+
+		BiFunction<TypeSystem, Record, PartialReportRow> mappingFunction = schema
+			.getDtoMappingFunctionFor(PartialReportRow.class);
+		assertThat(mappingFunction).isNotInstanceOf(DtoMappingFunction.class);
+
+		PartialReportRow row = mappingFunction.apply(InternalTypeSystem.TYPE_SYSTEM, record);
+		assertThat(row.name).isEqualTo("a");
+		assertThat(row.count).isEqualTo(2L);
+		assertThat(row.comment).isEqualTo("c");
+	}
+
+	private static Record rootNode(String name) {
+
+		Map<String, Object> projection = new HashMap<>();
+		projection.put("name", name);
+		projection.put(NAME_OF_LABELS, singletonList("SplitRoot"));
+		return new InternalRecord(singletonList("n"), new Value[] { Values.value(projection) });
+	}
+
+	private static Record relatedNode(String sourceId, String label, String name) {
+
+		Map<String, Object> projection = new HashMap<>();
+		projection.put("name", name);
+		projection.put(NAME_OF_LABELS, singletonList(label));
+		return new InternalRecord(Arrays.asList(NAME_OF_SOURCE_ID, "n"), new Value[] {
+			Values.value(sourceId), Values.value(projection) });
+	}
+
+	static class ReportRow {
+
+		final String name;
+
+		final long count;
+
+		ReportRow(String name, long count) {
+			this.name = name;
+			this.count = count;
+		}
+	}
+
+	static class PartialReportRow {
+
+		final String name;
+
+		@Property("numberOfThings") final long count;
+
+		String comment;
+
+		PartialReportRow(String name, long count) {
+			this.name = name;
+			this.count = count;
+		}
+
+		void setComment(String comment) {
+			this.comment = comment;
+		}
+	}
+
+	@Node
+	static class ReportEntity {
+
+		@Id final String name;
+
+		final long count;
+
+		ReportEntity(String name, long count) {
+			this.name = name;
+			this.count = count;
+		}
+	}
+
+	@Node
+	static class SplitRoot {
+
+		@Id String name;
+
+		List<SplitChild> children;
+	}
+
+	@Node
+	static class SplitChild {
+
+		@Id String name;
+
+		List<SplitLeaf> leaves;
+	}
+
+	@Node
+	static class SplitLeaf {
+
+		@Id String name;
+	}
+
 	static class DummyIdGenerator implements IdGenerator<Void> {
 
 		@Override
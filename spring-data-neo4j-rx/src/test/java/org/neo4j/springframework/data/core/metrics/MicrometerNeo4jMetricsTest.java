@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
+
+/**
+ * @author Michael J. Simons
+ */
+class MicrometerNeo4jMetricsTest {
+
+	private MeterRegistry meterRegistry;
+
+	private Neo4jMetrics metrics;
+
+	@BeforeEach
+	void setup() {
+
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.metrics = new MicrometerNeo4jMetrics(meterRegistry);
+	}
+
+	@Test
+	void shouldRecordQueries() {
+
+		SummaryCounters counters = mock(SummaryCounters.class);
+		when(counters.containsUpdates()).thenReturn(true);
+		when(counters.nodesCreated()).thenReturn(2);
+		when(counters.propertiesSet()).thenReturn(4);
+		ResultSummary resultSummary = mock(ResultSummary.class);
+		when(resultSummary.counters()).thenReturn(counters);
+
+		metrics.recordQuery(null, 1_000_000L, 500_000L, 2, resultSummary, null);
+		metrics.recordQuery(null, 1_000_000L, 500_000L, 4, resultSummary, null);
+
+		Timer driverTimer = meterRegistry.get("neo4j.client.queries")
+			.tag("database", "default").tag("exception", "none").timer();
+		assertThat(driverTimer.count()).isEqualTo(2L);
+		assertThat(driverTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2.0);
+		assertThat(meterRegistry.get("neo4j.client.mapping").timer().totalTime(TimeUnit.MILLISECONDS))
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("neo4j.client.rows").summary().totalAmount()).isEqualTo(6.0);
+		assertThat(meterRegistry.get("neo4j.client.updates").tag("type", "nodes.created").counter().count())
+			.isEqualTo(4.0);
+		assertThat(meterRegistry.get("neo4j.client.updates").tag("type", "properties.set").counter().count())
+			.isEqualTo(8.0);
+		assertThat(meterRegistry.find("neo4j.client.updates").tag("type", "nodes.deleted").counter()).isNull();
+	}
+
+	@Test
+	void shouldOnlyRecordDriverTimeOfFailedQueries() {
+
+		metrics.recordQuery("aDatabase", 1_000_000L, 0L, 0L, null, new IllegalStateException());
+
+		assertThat(meterRegistry.get("neo4j.client.queries")
+			.tag("database", "aDatabase").tag("exception", "IllegalStateException").timer().count()).isEqualTo(1L);
+		assertThat(meterRegistry.find("neo4j.client.mapping").timer()).isNull();
+		assertThat(meterRegistry.find("neo4j.client.rows").summary()).isNull();
+	}
+
+	@Test
+	void shouldRecordTemplateOperations() {
+
+		metrics.recordOperation("save", String.class, "aDatabase", 1_000_000L, null);
+
+		assertThat(meterRegistry.get("neo4j.template.operations")
+			.tag("operation", "save")
+			.tag("entity", "String")
+			.tag("database", "aDatabase")
+			.tag("exception", "none")
+			.timer().count()).isEqualTo(1L);
+	}
+
+	@Test
+	void shouldRecordRepositoryInvocations() throws NoSuchMethodException {
+
+		metrics.recordRepositoryInvocation(CharSequence.class, CharSequence.class.getMethod("length"), 1_000_000L,
+			new IllegalArgumentException());
+
+		assertThat(meterRegistry.get("neo4j.repository.invocations")
+			.tag("repository", "CharSequence")
+			.tag("method", "length")
+			.tag("exception", "IllegalArgumentException")
+			.timer().count()).isEqualTo(1L);
+	}
+
+	@Test
+	void shouldRegisterMetersOncePerCombinationOfTags() {
+
+		List<String> registrations = new ArrayList<>();
+		meterRegistry.config().meterFilter(new MeterFilter() {
+			@Override
+			public Meter.Id map(Meter.Id id) {
+				registrations.add(id.getName() + id.getTag("database"));
+				return id;
+			}
+		});
+
+		metrics.recordQuery(null, 1_000_000L, 0L, 0L, null, null);
+		metrics.recordQuery("aDatabase", 1_000_000L, 0L, 0L, null, null);
+		metrics.recordQuery(null, 1_000_000L, 0L, 0L, null, null);
+		metrics.recordQuery("aDatabase", 1_000_000L, 0L, 0L, null, null);
+
+		assertThat(registrations).filteredOn(registration -> registration.startsWith("neo4j.client.queries"))
+			.containsExactly("neo4j.client.queriesdefault", "neo4j.client.queriesaDatabase");
+		assertThat(meterRegistry.get("neo4j.client.queries").tag("database", "aDatabase").timer().count())
+			.isEqualTo(2L);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Michael J. Simons
+ */
+class Neo4jFlightRecorderTest {
+
+	@Test
+	void eventsShouldBeDisabledByDefault() {
+
+		assertThat(Neo4jFlightRecorder.isQueryRecordingEnabled()).isFalse();
+		assertThat(Neo4jFlightRecorder.isMappingRecordingEnabled()).isFalse();
+		assertThat(Neo4jFlightRecorder.startQuery("RETURN 1", null)).isSameAs(Neo4jFlightRecorder.Recording.NONE);
+		assertThat(Neo4jFlightRecorder.startMapping()).isSameAs(Neo4jFlightRecorder.MappingRecording.NONE);
+		assertThat(Neo4jFlightRecorder.startTransaction("begin", null)).isSameAs(Neo4jFlightRecorder.Recording.NONE);
+	}
+
+	@Test
+	void shouldEmitEventsWhenEnabled(@TempDir Path tempDir) throws Exception {
+
+		Path dump = tempDir.resolve("neo4j.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.neo4j.springframework.data.Query");
+			recording.enable("org.neo4j.springframework.data.Mapping");
+			recording.enable("org.neo4j.springframework.data.Transaction");
+			recording.start();
+
+			assertThat(Neo4jFlightRecorder.isQueryRecordingEnabled()).isTrue();
+			assertThat(Neo4jFlightRecorder.isMappingRecordingEnabled()).isTrue();
+			Neo4jFlightRecorder.startQuery("RETURN 1", "aDatabase").end(3L, null);
+			Neo4jFlightRecorder.startMapping().end(String.class, 2L, null);
+			Neo4jFlightRecorder.startTransaction("rollback", null).end(new IllegalStateException());
+
+			recording.stop();
+			recording.dump(dump);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+		assertThat(events).hasSize(3);
+
+		RecordedEvent queryEvent = findEvent(events, "org.neo4j.springframework.data.Query");
+		assertThat(queryEvent.getString("cypher")).isEqualTo("RETURN 1");
+		assertThat(queryEvent.getString("database")).isEqualTo("aDatabase");
+		assertThat(queryEvent.getLong("rows")).isEqualTo(3L);
+
+		RecordedEvent mappingEvent = findEvent(events, "org.neo4j.springframework.data.Mapping");
+		assertThat(mappingEvent.getClass("entityType").getName()).isEqualTo(String.class.getName());
+		assertThat(mappingEvent.getLong("values")).isEqualTo(2L);
+
+		RecordedEvent transactionEvent = findEvent(events, "org.neo4j.springframework.data.Transaction");
+		assertThat(transactionEvent.getString("operation")).isEqualTo("rollback");
+		assertThat(transactionEvent.getString("database")).isEqualTo("default");
+		assertThat(transactionEvent.getString("exception")).isEqualTo(IllegalStateException.class.getName());
+
+		Files.deleteIfExists(dump);
+	}
+
+	private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+		return events.stream().filter(e -> e.getEventType().getName().equals(name)).findFirst()
+			.orElseThrow(() -> new AssertionError("No event " + name));
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.summary.ProfiledPlan;
+
+/**
+ * @author Michael J. Simons
+ */
+class QueryPlanSamplerTest {
+
+	@Test
+	void shouldOnlySampleAccordingToRate() {
+
+		String cypher = "MATCH (n) RETURN n";
+
+		assertThat(new QueryPlanSampler(0.0).sample("Repo.findAll", cypher)).isEqualTo(cypher);
+		assertThat(new QueryPlanSampler(1.0).sample("Repo.findAll", cypher))
+			.isEqualTo("PROFILE /* sampled: Repo.findAll */ MATCH (n) RETURN n");
+		assertThat(new QueryPlanSampler(1.0).sample(null, cypher))
+			.isEqualTo("PROFILE /* sampled */ MATCH (n) RETURN n");
+		assertThat(new QueryPlanSampler(1.0).sample("Repo.explain", "EXPLAIN MATCH (n) RETURN n"))
+			.isEqualTo("EXPLAIN MATCH (n) RETURN n");
+	}
+
+	@Test
+	void unwrapShouldRestoreOriginalStatement() {
+
+		String cypher = "MATCH (n) RETURN n";
+		assertThat(QueryPlanSampler.unwrap(QueryPlanSampler.profile("Repo.find*/All", cypher))).isEqualTo(cypher);
+		assertThat(QueryPlanSampler.unwrap(QueryPlanSampler.profile(null, cypher))).isEqualTo(cypher);
+		assertThat(QueryPlanSampler.unwrap(cypher)).isEqualTo(cypher);
+	}
+
+	@Test
+	void shouldComputeShapeWithoutPlanner() {
+
+		ProfiledPlan plan = plan("ProduceResults@neo4j", 0, 1,
+			plan("Filter@neo4j", 10, 1, plan("NodeByLabelScan@neo4j", 100, 100)));
+
+		assertThat(QueryPlanSampler.shapeOf(plan)).isEqualTo("ProduceResults(Filter(NodeByLabelScan))");
+	}
+
+	@Test
+	void shouldDetectChangedPlans() {
+
+		QueryPlanSampler sampler = new QueryPlanSampler(1.0);
+
+		PlanSample first = sampler.record("Repo.findByName",
+			plan("ProduceResults", 0, 1, plan("NodeIndexSeek", 2, 1)));
+		PlanSample second = sampler.record("Repo.findByName",
+			plan("ProduceResults", 0, 1, plan("Filter", 1000, 1, plan("NodeByLabelScan", 1000, 1000))));
+
+		assertThat(first.getRegression()).isEmpty();
+		assertThat(second.getRegression())
+			.hasValue("Plan changed from ProduceResults(NodeIndexSeek) to ProduceResults(Filter(NodeByLabelScan))");
+		assertThat(second.getDbHits()).isEqualTo(2000L);
+		assertThat(sampler.getPlanHistory("Repo.findByName")).containsExactly(first, second);
+	}
+
+	@Test
+	void shouldDetectIncreasedDbHitsPerRow() {
+
+		QueryPlanSampler sampler = new QueryPlanSampler(1.0);
+
+		sampler.record("Repo.findAll", plan("ProduceResults", 0, 10, plan("AllNodesScan", 100, 10)));
+		PlanSample similar = sampler.record("Repo.findAll", plan("ProduceResults", 0, 20, plan("AllNodesScan", 250, 20)));
+		PlanSample regressed = sampler.record("Repo.findAll", plan("ProduceResults", 0, 10, plan("AllNodesScan", 500, 10)));
+
+		assertThat(similar.getRegression()).isEmpty();
+		assertThat(regressed.getRegression()).hasValueSatisfying(v -> assertThat(v).startsWith("Database hits per row"));
+	}
+
+	@Test
+	void shouldKeepLimitedHistory() {
+
+		QueryPlanSampler sampler = new QueryPlanSampler(1.0, 2, 2.0);
+		for (int i = 0; i < 5; ++i) {
+			sampler.record("Repo.findAll", plan("AllNodesScan", i, 1));
+		}
+
+		assertThat(sampler.getOrigins()).containsExactly("Repo.findAll");
+		assertThat(sampler.getPlanHistory("Repo.findAll")).extracting(PlanSample::getDbHits).containsExactly(3L, 4L);
+		assertThat(sampler.getPlanHistory("Repo.unknown")).isEmpty();
+	}
+
+	@Test
+	void shouldEvictLeastRecentlySampledOrigins() {
+
+		QueryPlanSampler sampler = new QueryPlanSampler(1.0, 2, 2.0, 2);
+		sampler.record("MATCH (n:A) RETURN n", plan("NodeByLabelScan", 1, 1));
+		sampler.record("MATCH (n:B) RETURN n", plan("NodeByLabelScan", 1, 1));
+		sampler.getPlanHistory("MATCH (n:A) RETURN n");
+		sampler.record("MATCH (n:C) RETURN n", plan("NodeByLabelScan", 1, 1));
+
+		assertThat(sampler.getOrigins()).containsExactly("MATCH (n:A) RETURN n", "MATCH (n:C) RETURN n");
+		assertThat(sampler.getPlanHistory("MATCH (n:B) RETURN n")).isEmpty();
+	}
+
+	private static ProfiledPlan plan(String operatorType, long dbHits, long records, ProfiledPlan... children) {
+
+		ProfiledPlan plan = mock(ProfiledPlan.class);
+		when(plan.operatorType()).thenReturn(operatorType);
+		when(plan.dbHits()).thenReturn(dbHits);
+		when(plan.records()).thenReturn(records);
+		List<ProfiledPlan> childPlans = children.length == 0 ? Collections.emptyList() : Arrays.asList(children);
+		doReturn(childPlans).when(plan).children();
+		return plan;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Michael J. Simons
+ */
+class QueryStatisticsRegistryTest {
+
+	@Test
+	void fingerprintShouldReplaceLiterals() {
+
+		assertThat(QueryStatisticsRegistry.fingerprint("MATCH (n:`Person 1`)\n  WHERE n.name = 'Test'  AND n.age > 42.5 RETURN n LIMIT 10"))
+			.isEqualTo("MATCH (n:`Person 1`) WHERE n.name = ? AND n.age > ? RETURN n LIMIT ?");
+		assertThat(QueryStatisticsRegistry.fingerprint("MATCH (n1) WHERE n1.x = \"a \\\" b\" RETURN n1, $p1"))
+			.isEqualTo("MATCH (n1) WHERE n1.x = ? RETURN n1, $p1");
+	}
+
+	@Test
+	void shouldAggregateByFingerprint() {
+
+		QueryStatisticsRegistry registry = new QueryStatisticsRegistry();
+		registry.record("MATCH (n) WHERE id(n) = 1 RETURN n", 1_000_000L, 1L, false);
+		registry.record("MATCH (n) WHERE id(n) = 2 RETURN n", 3_000_000L, 1L, false);
+		registry.record("MATCH (n) WHERE id(n) = 3 RETURN n", 2_000_000L, 0L, true);
+		registry.record("RETURN 1", 10_000_000L, 1L, false);
+
+		List<QueryStatistics> statistics = registry.getStatistics();
+		assertThat(statistics).extracting(QueryStatistics::getFingerprint)
+			.containsExactly("RETURN ?", "MATCH (n) WHERE id(n) = ? RETURN n");
+
+		QueryStatistics matchStatistics = statistics.get(1);
+		assertThat(matchStatistics.getCalls()).isEqualTo(3L);
+		assertThat(matchStatistics.getErrors()).isEqualTo(1L);
+		assertThat(matchStatistics.getRows()).isEqualTo(2L);
+		assertThat(matchStatistics.getTotalTime()).isEqualTo(Duration.ofMillis(6));
+		assertThat(matchStatistics.getMeanTime()).isEqualTo(Duration.ofMillis(2));
+		assertThat(matchStatistics.getMaxTime()).isEqualTo(Duration.ofMillis(3));
+
+		QueryStatistics totals = registry.getTotals();
+		assertThat(totals.getCalls()).isEqualTo(4L);
+		assertThat(totals.getTotalTime()).isEqualTo(Duration.ofMillis(16));
+		assertThat(totals.getMaxTime()).isEqualTo(Duration.ofMillis(10));
+
+		registry.reset();
+		assertThat(registry.getStatistics()).isEmpty();
+	}
+
+	@Test
+	void p99ShouldBeWithinBucketPrecision() {
+
+		QueryStatisticsRegistry registry = new QueryStatisticsRegistry();
+		for (int i = 1; i <= 1000; ++i) {
+			registry.record("RETURN 1", i * 1_000L, 1L, false);
+		}
+
+		long p99 = registry.getStatistics().get(0).getP99Time().toNanos();
+		assertThat(p99).isBetween(990_000L, (long) (990_000L * 1.125));
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedEntries() {
+
+		QueryStatisticsRegistry registry = new QueryStatisticsRegistry(16);
+		for (int i = 0; i < 1000; ++i) {
+			registry.record("MATCH (n:L" + i + ") RETURN n", 1L, 1L, false);
+		}
+
+		assertThat(registry.getStatistics()).hasSizeLessThanOrEqualTo(16)
+			.extracting(QueryStatistics::getFingerprint)
+			.contains("MATCH (n:L999) RETURN n");
+	}
+
+	@Test
+	void histogramShouldBeMergeable() {
+
+		LatencyHistogram a = new LatencyHistogram();
+		LatencyHistogram b = new LatencyHistogram();
+		for (long i = 0; i < 100; ++i) {
+			a.record(i);
+			b.record(1_000_000L + i);
+		}
+		a.merge(b);
+
+		assertThat(a.valueAtPercentile(0.25)).isLessThan(100L);
+		assertThat(a.valueAtPercentile(0.75)).isGreaterThanOrEqualTo(1_000_000L);
+		assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(Long.MAX_VALUE))).isPositive();
+	}
+}
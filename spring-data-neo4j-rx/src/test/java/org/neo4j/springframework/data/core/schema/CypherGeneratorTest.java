@@ -27,6 +27,8 @@ import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.Mockito.when;
@@ -156,6 +158,163 @@ class CypherGeneratorTest {
 		Assert.assertEquals(expectedQuery, Renderer.getDefaultRenderer().render(statement));
 	}
 
+	@Test
+	void itShouldProjectAllRelationshipsWithoutFetchPlan() {
+
+		String query = renderMatchOf(FetchPlanRoot.class, FetchPlan.all());
+
+		Assert.assertTrue(query.contains("n_children"));
+		Assert.assertTrue(query.contains("n_children_leaves"));
+		Assert.assertTrue(query.contains("n_other"));
+	}
+
+	@Test
+	void itShouldProjectOnlyRootPropertiesWithRootOnlyFetchPlan() {
+
+		String query = renderMatchOf(FetchPlanRoot.class, FetchPlan.rootOnly());
+
+		Assert.assertEquals("MATCH (n:`FetchPlanRoot`) WITH n RETURN n{.id, .name, __nodeLabels__: labels(n)}", query);
+	}
+
+	@Test
+	void itShouldProjectOnlyIncludedRelationshipsUpToTheDepthOfTheFetchPlan() {
+
+		String query = renderMatchOf(FetchPlanRoot.class, FetchPlan.of(1, "children"));
+
+		Assert.assertTrue(query.contains("n_children"));
+		Assert.assertFalse(query.contains("n_children_leaves"));
+		Assert.assertFalse(query.contains("n_other"));
+
+		query = renderMatchOf(FetchPlanRoot.class, FetchPlan.of(2, "children.leaves"));
+
+		Assert.assertTrue(query.contains("n_children"));
+		Assert.assertTrue(query.contains("n_children_leaves"));
+		Assert.assertFalse(query.contains("n_other"));
+	}
+
+	@Test
+	void itShouldProjectLazyRelationshipsOnlyWhenNamedByFetchPlan() {
+
+		Assert.assertFalse(renderMatchOf(LazyRoot.class, FetchPlan.all()).contains("n_children"));
+		Assert.assertTrue(renderMatchOf(LazyRoot.class, FetchPlan.of(1, "children")).contains("n_children"));
+	}
+
+	@Test
+	void itShouldMatchRelatedNodesOfManySources() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(LazyRoot.class);
+		RelationshipDescription relationshipDescription = persistentEntity.getRelationships().iterator().next();
+
+		String query = Renderer.getDefaultRenderer()
+			.render(CypherGenerator.INSTANCE.prepareMatchOfRelatedNodes(relationshipDescription));
+
+		Assert.assertEquals("MATCH (source:`LazyRoot`)-[__relationship__:`CHILD`]->(n:`FetchPlanChild`) WHERE source.id IN $__ids__ "
+			+ "RETURN source.id AS __sourceId__, n{.id, __nodeLabels__: labels(n), "
+			+ "FetchPlanChild_LEAVES_FetchPlanLeaf: [(n)-[:`LEAVES`]->(n_leaves:`FetchPlanLeaf`) "
+			+ "| n_leaves{.id, __nodeLabels__: labels(n_leaves)}]} AS n", query);
+	}
+
+	@Test
+	void itShouldMatchOnlyRelatedNodesForSplitQueries() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(LazyRoot.class);
+		RelationshipDescription relationshipDescription = persistentEntity.getRelationships().iterator().next();
+
+		String query = Renderer.getDefaultRenderer()
+			.render(CypherGenerator.INSTANCE.prepareMatchOfRelatedNodes(relationshipDescription, FetchPlan.rootOnly()));
+
+		Assert.assertEquals("MATCH (source:`LazyRoot`)-[__relationship__:`CHILD`]->(n:`FetchPlanChild`) "
+			+ "WHERE source.id IN $__ids__ RETURN source.id AS __sourceId__, n{.id, __nodeLabels__: labels(n)} AS n", query);
+	}
+
+	@Test
+	void itShouldPruneNestedProjections() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(FetchPlanRoot.class);
+		Statement statement = CypherGenerator.INSTANCE.prepareMatchOf(persistentEntity)
+			.returning(CypherGenerator.INSTANCE.createReturnStatementForMatch(persistentEntity,
+				Arrays.asList("name", "children.leaves"), FetchPlan.all()))
+			.build();
+
+		Assert.assertEquals("MATCH (n:`FetchPlanRoot`) WITH n RETURN n{.name, __nodeLabels__: labels(n), "
+			+ "FetchPlanRoot_CHILDREN_FetchPlanChild: [(n)-[:`CHILDREN`]->(n_children:`FetchPlanChild`) "
+			+ "| n_children{.id, __nodeLabels__: labels(n_children), "
+			+ "FetchPlanChild_LEAVES_FetchPlanLeaf: [(n_children)-[:`LEAVES`]->(n_children_leaves:`FetchPlanLeaf`) "
+			+ "| n_children_leaves{.id, __nodeLabels__: labels(n_children_leaves)}]}]}",
+			Renderer.getDefaultRenderer().render(statement));
+	}
+
+	@Test
+	void itShouldLoadSubgraphsWithOneQuery() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
+			.getPersistentEntity(MultipleLabelEntity1.class);
+
+		Assert.assertEquals("MATCH (n:`Entity1`:`MultipleLabel`) WHERE n.`id` = $__id__ "
+			+ "OPTIONAL MATCH (n)-[*0..1]-()-[__r__]-(__m__) "
+			+ "WITH n, collect(DISTINCT __r__) AS __relationships__, collect(DISTINCT __m__) AS __ms__ "
+			+ "RETURN n, [n] + [__m__ IN __ms__ WHERE __m__ <> n] AS __nodes__, __relationships__",
+			CypherGenerator.INSTANCE.createSubgraphQuery(persistentEntity, 2));
+		Assert.assertEquals("MATCH (n:`Entity1`:`MultipleLabel`) WHERE n.`id` = $__id__ "
+			+ "RETURN n, [n] AS __nodes__, [] AS __relationships__",
+			CypherGenerator.INSTANCE.createSubgraphQuery(persistentEntity, 0));
+	}
+
+	@Test
+	void itShouldDeleteInBatches() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
+			.getPersistentEntity(MultipleLabelEntity1.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareBatchedDeleteOf(persistentEntity, 1000);
+		Assert.assertEquals("MATCH (n:`Entity1`:`MultipleLabel`) WITH n LIMIT 1000 DETACH DELETE n",
+			Renderer.getDefaultRenderer().render(statement));
+	}
+
+	private static String renderMatchOf(Class<?> type, FetchPlan fetchPlan) {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(type);
+		Statement statement = CypherGenerator.INSTANCE.prepareMatchOf(persistentEntity)
+			.returning(CypherGenerator.INSTANCE.createReturnStatementForMatch(persistentEntity, fetchPlan))
+			.build();
+		return Renderer.getDefaultRenderer().render(statement);
+	}
+
+	@Node
+	private static class FetchPlanRoot {
+
+		@Id private Long id;
+
+		private String name;
+
+		private List<FetchPlanChild> children;
+
+		private FetchPlanLeaf other;
+	}
+
+	@Node
+	private static class LazyRoot {
+
+		@Id private Long id;
+
+		@Relationship(type = "CHILD", fetch = Relationship.Fetch.LAZY)
+		private List<FetchPlanChild> children;
+	}
+
+	@Node
+	private static class FetchPlanChild {
+
+		@Id private Long id;
+
+		private List<FetchPlanLeaf> leaves;
+	}
+
+	@Node
+	private static class FetchPlanLeaf {
+
+		@Id private Long id;
+	}
+
 	@Node
 	private static class Entity1 {
 
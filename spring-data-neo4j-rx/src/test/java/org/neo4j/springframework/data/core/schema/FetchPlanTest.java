@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.schema;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Michael J. Simons
+ */
+class FetchPlanTest {
+
+	@Test
+	void allShouldIncludeEveryPath() {
+
+		assertThat(FetchPlan.all().includes("actors")).isTrue();
+		assertThat(FetchPlan.all().includes("actors.movies.directors")).isTrue();
+	}
+
+	@Test
+	void rootOnlyShouldIncludeNoPath() {
+
+		assertThat(FetchPlan.rootOnly().includes("actors")).isFalse();
+	}
+
+	@Test
+	void depthShouldBeRespected() {
+
+		FetchPlan fetchPlan = FetchPlan.of(1);
+		assertThat(fetchPlan.includes("actors")).isTrue();
+		assertThat(fetchPlan.includes("actors.movies")).isFalse();
+	}
+
+	@Test
+	void includedAssociationsShouldSelectPaths() {
+
+		FetchPlan fetchPlan = FetchPlan.of(3, "actors.movies");
+		assertThat(fetchPlan.includes("actors")).isTrue();
+		assertThat(fetchPlan.includes("actors.movies")).isTrue();
+		assertThat(fetchPlan.includes("actors.movies.directors")).isTrue();
+		assertThat(fetchPlan.includes("directors")).isFalse();
+		assertThat(fetchPlan.includes("actors.awards")).isFalse();
+		assertThat(fetchPlan.includes("actorsAndMore")).isFalse();
+	}
+
+	@Test
+	void strategyShouldDefaultToSingleQuery() {
+
+		FetchPlan fetchPlan = FetchPlan.of(2, "actors");
+		assertThat(fetchPlan.usesSplitQueries()).isFalse();
+
+		FetchPlan splitFetchPlan = fetchPlan.withStrategy(FetchPlan.Strategy.SPLIT_QUERIES);
+		assertThat(splitFetchPlan.usesSplitQueries()).isTrue();
+		assertThat(splitFetchPlan.getIncludedAssociations()).containsExactly("actors");
+		assertThat(splitFetchPlan).isNotEqualTo(fetchPlan);
+		assertThat(splitFetchPlan.withStrategy(FetchPlan.Strategy.SINGLE_QUERY)).isEqualTo(fetchPlan);
+	}
+
+	@Test
+	void negativeDepthShouldNotBeAllowed() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> FetchPlan.of(-1))
+			.withMessage("The depth of a fetch plan must not be negative.");
+	}
+}
@@ -21,6 +21,7 @@ package org.neo4j.springframework.data.integration.imperative;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -287,6 +288,16 @@ class Neo4jOperationsIT {
 		}
 	}
 
+	@Test
+	void deleteAllInBatches() {
+		assertThat(neo4jOperations.deleteAll(PersonWithAllConstructor.class, 1, Duration.ofMillis(10))).isEqualTo(2L);
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (p:PersonWithAllConstructor) return count(p) as count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(0);
+		}
+	}
+
 	@Configuration
 	@EnableTransactionManagement
 	static class Config extends AbstractNeo4jConfig {
@@ -23,8 +23,11 @@ import static org.assertj.core.api.Assertions.*;
 import static org.neo4j.cypherdsl.core.Cypher.*;
 import static org.neo4j.springframework.data.test.Neo4jExtension.*;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -32,6 +35,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -44,6 +49,7 @@ import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.Transaction;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.springframework.data.config.AbstractReactiveNeo4jConfig;
 import org.neo4j.springframework.data.core.ReactiveNeo4jOperations;
 import org.neo4j.cypherdsl.core.Cypher;
@@ -51,13 +57,18 @@ import org.neo4j.cypherdsl.core.Functions;
 import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.springframework.data.integration.shared.PersonWithAllConstructor;
+import org.neo4j.springframework.data.integration.shared.ThingWithAssignedId;
 import org.neo4j.springframework.data.integration.shared.ThingWithGeneratedId;
 import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
 import org.neo4j.springframework.data.test.Neo4jExtension.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 /**
  * @author Gerrit Meier
@@ -288,6 +299,58 @@ class ReactiveNeo4jOperationsIT {
 		}
 	}
 
+	@Test
+	void saveAllInBatches() {
+
+		Flux<ThingWithAssignedId> things = Flux.range(0, 25)
+			.map(i -> {
+				ThingWithAssignedId thing = new ThingWithAssignedId("batched" + i);
+				thing.setName("testThing" + i);
+				return thing;
+			});
+
+		StepVerifier.create(neo4jOperations.saveAll(things, 10, Duration.ofMillis(50), 2).map(ThingWithAssignedId::getTheId))
+			.expectNextSequence(IntStream.range(0, 25).mapToObj(i -> "batched" + i).collect(Collectors.toList()))
+			.verifyComplete();
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run(
+				"MATCH (t:Thing) WHERE t.theId STARTS WITH 'batched' RETURN count(t) AS cnt");
+			assertThat(result.single().get("cnt").asLong()).isEqualTo(25L);
+		}
+	}
+
+	@Test
+	void saveAllInBatchesShouldCommitEachBatchWithoutParticipatingTransaction(
+		@Autowired ReactiveTransactionManager transactionManager) {
+
+		// That's how the repositories save streams
+		TransactionalOperator notSupported = TransactionalOperator.create(transactionManager,
+			new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_NOT_SUPPORTED));
+
+		Flux<ThingWithAssignedId> things = Flux.range(0, 6)
+			.map(i -> {
+				ThingWithAssignedId thing = new ThingWithAssignedId("committed" + i);
+				thing.setName("testThing" + i);
+				return thing;
+			});
+
+		// The first thing of each batch is emitted after that batch has been written, but before it is committed
+		neo4jOperations.saveAll(things, 2, Duration.ofSeconds(1), 1)
+			.index()
+			.filter(indexedThing -> indexedThing.getT1() % 2 == 0)
+			.concatMap(indexedThing -> Flux.usingWhen(
+				Mono.fromSupplier(() -> driver.rxSession(getSessionConfig())),
+				s -> s.run("MATCH (t:Thing) WHERE t.theId STARTS WITH 'committed' RETURN count(t)").records(),
+				RxSession::close
+			))
+			.map(r -> r.get(0).asLong())
+			.as(notSupported::transactional)
+			.as(StepVerifier::create)
+			.expectNext(0L, 2L, 4L)
+			.verifyComplete();
+	}
+
 	@Test
 	void deleteById() {
 		StepVerifier.create(neo4jOperations.deleteById(person1Id, PersonWithAllConstructor.class))
@@ -311,6 +374,18 @@ class ReactiveNeo4jOperationsIT {
 		}
 	}
 
+	@Test
+	void deleteAllInBatches() {
+		StepVerifier.create(neo4jOperations.deleteAll(PersonWithAllConstructor.class, 1, Duration.ofMillis(10)))
+			.expectNext(2L)
+			.verifyComplete();
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (p:PersonWithAllConstructor) return count(p) as count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(0);
+		}
+	}
+
 	@Configuration
 	@EnableTransactionManagement
 	static class Config extends AbstractReactiveNeo4jConfig {
@@ -1351,6 +1351,31 @@ class ReactiveRepositoryIT {
 				.verifyComplete();
 		}
 
+		@Test
+		void saveAllPublisherInBatches(@Autowired ReactivePersonRepository repository) {
+
+			Flux<PersonWithAllConstructor> persons = Flux.range(0, 5).map(i -> new PersonWithAllConstructor(
+				null, "Batched " + i, "Freddie", "Queen", true, 1509L,
+				LocalDate.of(1946, 9, 15), null, Collections.emptyList(), null, null));
+
+			repository.saveAll(persons)
+				.map(PersonWithAllConstructor::getName)
+				.as(StepVerifier::create)
+				.expectNext("Batched 0", "Batched 1", "Batched 2", "Batched 3", "Batched 4")
+				.verifyComplete();
+
+			Flux
+				.usingWhen(
+					Mono.fromSupplier(() -> createRxSession()),
+					s -> s.run("MATCH (n:PersonWithAllConstructor) WHERE n.name STARTS WITH 'Batched' RETURN count(n)")
+						.records(),
+					RxSession::close
+				).map(r -> r.get(0).asLong())
+				.as(StepVerifier::create)
+				.expectNext(5L)
+				.verifyComplete();
+		}
+
 		@Test
 		void saveAllIterable(@Autowired ReactivePersonRepository repository) {
 
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.neo4j.springframework.data.core.Neo4jOperations;
+import org.neo4j.springframework.data.core.index.IndexAdvisor;
+import org.neo4j.springframework.data.core.index.PropertyPredicate;
+import org.neo4j.springframework.data.core.index.QueryDescription;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.schema.GeneratedValue;
+import org.neo4j.springframework.data.core.schema.Id;
+import org.neo4j.springframework.data.core.schema.Node;
+import org.neo4j.springframework.data.core.schema.Property;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * @author Michael J. Simons
+ */
+class IndexAdvisingQueryCreationListenerTest {
+
+	private Neo4jMappingContext mappingContext;
+
+	private IndexAdvisor indexAdvisor;
+
+	private IndexAdvisingQueryCreationListener listener;
+
+	@BeforeEach
+	void setup() {
+
+		mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Collections.singleton(Person.class));
+		mappingContext.initialize();
+
+		indexAdvisor = mock(IndexAdvisor.class);
+		listener = new IndexAdvisingQueryCreationListener(indexAdvisor);
+	}
+
+	@Test
+	void shouldDescribeDerivedQueries() {
+
+		QueryDescription description = describe("findAllByNameAndBornGreaterThanOrCityIgnoreCase", String.class,
+			int.class, String.class);
+
+		assertThat(description.getOrigin())
+			.isEqualTo("PersonRepository.findAllByNameAndBornGreaterThanOrCityIgnoreCase");
+		assertThat(description.getLabel()).isEqualTo("Person");
+		assertThat(description.getPredicates()).hasSize(2);
+
+		List<PropertyPredicate> firstBranch = description.getPredicates().get(0);
+		assertThat(firstBranch).extracting(PropertyPredicate::getProperty).containsExactly("name", "born");
+		assertThat(firstBranch).extracting(PropertyPredicate::isEquality).containsExactly(true, false);
+		assertThat(firstBranch).extracting(PropertyPredicate::isIndexable).containsExactly(true, true);
+
+		List<PropertyPredicate> secondBranch = description.getPredicates().get(1);
+		assertThat(secondBranch).extracting(PropertyPredicate::getProperty).containsExactly("location");
+		assertThat(secondBranch).extracting(PropertyPredicate::isIndexable).containsExactly(false);
+
+		assertThat(description.getOptionalCypher()).hasValueSatisfying(cypher -> assertThat(cypher).contains("Person"));
+	}
+
+	@Test
+	void shouldSkipLookupsByInternalId() {
+
+		listener.onCreation(query("findAllByIdIn", List.class));
+
+		verify(indexAdvisor, never()).register(any());
+	}
+
+	@Test
+	void shouldSkipNonDerivedQueries() {
+
+		listener.onCreation(query("findAllByCustomQuery"));
+
+		verify(indexAdvisor, never()).register(any());
+	}
+
+	private QueryDescription describe(String name, Class<?>... parameters) {
+
+		listener.onCreation(query(name, parameters));
+
+		ArgumentCaptor<QueryDescription> description = ArgumentCaptor.forClass(QueryDescription.class);
+		verify(indexAdvisor).register(description.capture());
+		return description.getValue();
+	}
+
+	private RepositoryQuery query(String name, Class<?>... parameters) {
+
+		Neo4jQueryLookupStrategy lookupStrategy = new Neo4jQueryLookupStrategy(mock(Neo4jOperations.class),
+			mappingContext, QueryMethodEvaluationContextProvider.DEFAULT);
+		return lookupStrategy.resolveQuery(ReflectionUtils.findMethod(PersonRepository.class, name, parameters),
+			new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory(),
+			mock(NamedQueries.class));
+	}
+
+	@Node
+	static class Person {
+
+		@Id @GeneratedValue
+		private Long id;
+
+		private String name;
+
+		private int born;
+
+		@Property("location")
+		private String city;
+	}
+
+	interface PersonRepository extends CrudRepository<Person, Long> {
+
+		List<Person> findAllByNameAndBornGreaterThanOrCityIgnoreCase(String name, int born, String city);
+
+		List<Person> findAllByIdIn(List<Long> ids);
+
+		@Query("MATCH (n:Person) RETURN n")
+		List<Person> findAllByCustomQuery();
+	}
+}
@@ -40,6 +40,7 @@ import org.neo4j.driver.types.Point;
 import org.neo4j.springframework.data.core.Neo4jOperations;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.schema.GeneratedValue;
+import org.neo4j.springframework.data.core.schema.Node;
 import org.neo4j.springframework.data.repository.query.Neo4jQueryMethod.Neo4jParameters;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
@@ -178,6 +179,40 @@ final class RepositoryQueryTest {
 		}
 	}
 
+	@Nested
+	class ProjectionsTest {
+
+		private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+		@Test
+		void shouldIncludePathsOfNestedInterfaceProjections() {
+
+			assertThat(inputPropertiesOf("findAllByTitle")).containsExactly("title", "actors.name");
+		}
+
+		@Test
+		void shouldIncludeWholeRelatedEntitiesWithoutNestedProjection() {
+
+			assertThat(inputPropertiesOf("findOneByTitle")).containsExactly("title", "actors");
+		}
+
+		@Test
+		void shouldIncludeTopLevelPropertiesOfDtos() {
+
+			assertThat(inputPropertiesOf("findByTitle")).containsExactly("title");
+		}
+
+		private List<String> inputPropertiesOf(String name) {
+
+			Neo4jQueryMethod queryMethod = new Neo4jQueryMethod(
+				ReflectionUtils.findMethod(ProjectingRepository.class, name, String.class),
+				new DefaultRepositoryMetadata(ProjectingRepository.class), PROJECTION_FACTORY);
+			Neo4jQuerySupport query = (Neo4jQuerySupport) PartTreeNeo4jQuery
+				.create(mock(Neo4jOperations.class), mappingContext, queryMethod);
+			return query.getInputProperties(queryMethod.getResultProcessor());
+		}
+	}
+
 	@Nested
 	class StringBasedNeo4jQueryTest {
 
@@ -305,6 +340,63 @@ final class RepositoryQueryTest {
 		private String name;
 	}
 
+	@Node
+	static class ProjectedMovie {
+		@Id
+		private String title;
+
+		private String description;
+
+		private List<ProjectedActor> actors;
+	}
+
+	@Node
+	static class ProjectedActor {
+		@Id @GeneratedValue
+		private Long id;
+
+		private String name;
+
+		private Integer born;
+	}
+
+	interface MovieView {
+
+		String getTitle();
+
+		List<ActorView> getActors();
+	}
+
+	interface ActorView {
+
+		String getName();
+	}
+
+	interface MovieWithActors {
+
+		String getTitle();
+
+		List<ProjectedActor> getActors();
+	}
+
+	static class MovieDto {
+
+		private final String title;
+
+		MovieDto(String title) {
+			this.title = title;
+		}
+	}
+
+	interface ProjectingRepository extends CrudRepository<ProjectedMovie, String> {
+
+		List<MovieView> findAllByTitle(String title);
+
+		MovieWithActors findOneByTitle(String title);
+
+		MovieDto findByTitle(String title);
+	}
+
 	interface TestRepository extends CrudRepository<TestEntity, Long> {
 
 		@Query("MATCH (n:Test) WHERE n.name = $name AND n.firstName = :#{#firstName} AND n.fullName = ?#{#name + #firstName} AND p.location = $location return n")
@@ -19,10 +19,22 @@
 package org.neo4j.springframework.data.repository.support;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 import static org.neo4j.springframework.data.repository.support.Neo4jRepositoryFactorySupport.*;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.neo4j.springframework.data.core.QueryWarmUp;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.schema.Id;
+import org.neo4j.springframework.data.core.schema.Node;
+import org.neo4j.springframework.data.repository.Neo4jRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
 
 /**
  * @author Gerrit Meier
@@ -112,4 +124,36 @@ class Neo4jRepositoryFactorySupportTest {
 		}
 
 	}
+
+	@Nested
+	class CrudStatementRegistration {
+
+		@Test
+		void shouldRegisterAllCrudStatements() {
+
+			Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+			Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Thing.class);
+			RepositoryInformation repositoryInformation = mock(RepositoryInformation.class);
+			doReturn(ThingRepository.class).when(repositoryInformation).getRepositoryInterface();
+			QueryWarmUp queryWarmUp = mock(QueryWarmUp.class);
+
+			registerCrudStatements(queryWarmUp, repositoryInformation, entity);
+
+			ArgumentCaptor<String> origins = ArgumentCaptor.forClass(String.class);
+			ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+			verify(queryWarmUp, times(9)).register(origins.capture(), statements.capture(), eq(Collections.emptyMap()));
+			assertThat(origins.getAllValues()).contains("ThingRepository.findById", "ThingRepository.saveAll");
+			assertThat(statements.getAllValues()).allSatisfy(statement -> assertThat(statement).contains("Thing"));
+		}
+	}
+
+	@Node
+	static class Thing {
+
+		@Id
+		private String name;
+	}
+
+	interface ThingRepository extends Neo4jRepository<Thing, String> {
+	}
 }
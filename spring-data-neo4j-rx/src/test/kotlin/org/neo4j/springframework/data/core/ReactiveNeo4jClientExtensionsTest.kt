@@ -181,5 +181,21 @@ class ReactiveNeo4jClientExtensionsTest {
                 recordFetchSpec.all()
             }
         }
+
+        @Test
+        fun `fetchAll with batch size should request records in batches`() {
+
+            val requests = mutableListOf<Long>()
+            every { recordFetchSpec.all() } returns Flux.just("foo", "bar").doOnRequest { requests.add(it) }
+
+            runBlocking {
+                assertThat(recordFetchSpec.fetchAll(500).toList()).contains("foo", "bar")
+            }
+            assertThat(requests).first().isEqualTo(500L)
+
+            verify {
+                recordFetchSpec.all()
+            }
+        }
     }
 }
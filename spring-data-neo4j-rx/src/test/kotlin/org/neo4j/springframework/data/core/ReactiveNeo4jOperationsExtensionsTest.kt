@@ -53,6 +53,22 @@ class ReactiveNeo4jOperationsExtensionsTest {
             }
         }
 
+        @Test
+        fun `fetchAllResults with batch size should request results in batches`() {
+
+            val requests = mutableListOf<Long>()
+            every { executableQuery.results } returns Flux.just("foo", "bar").doOnRequest { requests.add(it) }
+
+            runBlocking {
+                assertThat(executableQuery.fetchAllResults(500).toList()).contains("foo", "bar")
+            }
+            assertThat(requests).first().isEqualTo(500L)
+
+            verify {
+                executableQuery.results
+            }
+        }
+
         @Test
         fun `awaitSingleResultOrNull should return value`() {
             every { executableQuery.singleResult } returns Mono.just("baz")
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.support
+
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.neo4j.springframework.data.core.PreparedQuery
+import org.neo4j.springframework.data.core.ReactiveNeo4jOperations
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext
+import org.neo4j.springframework.data.core.schema.Id
+import org.neo4j.springframework.data.core.schema.Node
+import org.neo4j.springframework.data.repository.CoroutineNeo4jRepository
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+
+/**
+ * @author Michael J. Simons
+ */
+class CoroutineNeo4jRepositoryTest {
+
+    @Node
+    data class CoroutinePerson(@Id val id: String, val name: String)
+
+    interface CoroutinePersonRepository : CoroutineNeo4jRepository<CoroutinePerson, String> {
+
+        fun findAllByName(name: String): Flow<CoroutinePerson>
+    }
+
+    private val neo4jOperations = mockk<ReactiveNeo4jOperations>()
+
+    private val repository = ReactiveNeo4jRepositoryFactory(neo4jOperations, Neo4jMappingContext())
+        .getRepository(CoroutinePersonRepository::class.java)
+
+    @Test
+    fun `suspending CRUD methods should be delegated to the reactive operations`() {
+
+        every { neo4jOperations.findById("1", CoroutinePerson::class.java) } returns
+                Mono.just(CoroutinePerson("1", "Michael"))
+
+        runBlocking {
+            assertThat(repository.findById("1")).isEqualTo(CoroutinePerson("1", "Michael"))
+        }
+
+        verify { neo4jOperations.findById("1", CoroutinePerson::class.java) }
+    }
+
+    @Test
+    fun `flow query methods should request records in batches of the drivers fetch size`() {
+
+        val requests = mutableListOf<Long>()
+        val executableQuery = mockk<ReactiveNeo4jOperations.ExecutableQuery<CoroutinePerson>>()
+        every { executableQuery.results } returns Flux
+            .just(CoroutinePerson("1", "Michael"), CoroutinePerson("2", "Michael"))
+            .doOnRequest { requests.add(it) }
+        every { neo4jOperations.toExecutableQuery(any<PreparedQuery<CoroutinePerson>>()) } returns
+                Mono.just(executableQuery)
+
+        val people = repository.findAllByName("Michael")
+
+        runBlocking {
+            assertThat(people.toList()).extracting("id").containsExactly("1", "2")
+        }
+        assertThat(requests).first().isEqualTo(1000L)
+    }
+}